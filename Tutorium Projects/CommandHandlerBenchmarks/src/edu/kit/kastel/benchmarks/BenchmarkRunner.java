@@ -0,0 +1,37 @@
+package edu.kit.kastel.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The class offering the entry point for running the benchmarks. All JMH command line options are accepted, the
+ * gc profiler is always added so the allocation rate is reported next to the throughput.
+ * @author upgcv
+ */
+public final class BenchmarkRunner {
+    private static final String ALL_BENCHMARKS_REGEX = BenchmarkRunner.class.getPackageName() + ".*";
+
+    private BenchmarkRunner() {
+        //Utility class
+    }
+
+    /**
+     * Runs the benchmarks selected by the command line arguments, or all of them if none are selected.
+     * @param args the JMH command line arguments
+     * @throws CommandLineOptionException if the arguments are not valid JMH options
+     * @throws RunnerException if running the benchmarks fails
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions).addProfiler(GCProfiler.class);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            options.include(ALL_BENCHMARKS_REGEX);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,103 @@
+package edu.kit.kastel.benchmarks;
+
+import edu.kit.kastel.commands.CommandHandler;
+import edu.kit.kastel.commands.LoadCommand;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Benchmark state holding a recorded command log of a session playing competitions, replayed line by line by a
+ * {@link CommandHandler}. Besides the commands of the competitions, the log contains the commands showing the state
+ * and lines that are not commands at all, as users enter them.
+ * @author upgcv
+ */
+@State(Scope.Benchmark)
+public class CommandLogState {
+    private static final String CONFIG_FILE_PREFIX = "benchmark-log-config";
+    private static final String CONFIG_FILE_SUFFIX = ".txt";
+    private static final String SEED = "42";
+    private static final String COMPETITION_LINE = "competition %s %s";
+    private static final String ACTION_LINE = "action %s %s";
+    private static final String[] STATE_LINES = {"show", "show stats", "show actions", "show monsters", "status"};
+    private static final String PASS_LINE = "pass";
+    private static final int MONSTER_COUNT = 2;
+    private static final int EFFECT_DEPTH = 1;
+    private static final int FIRST_MONSTER = 0;
+    private static final int SECOND_MONSTER = 1;
+    private static final int LINES_PER_COMPETITION = 60;
+    private static final int PASS_INTERVAL = 7;
+    private static final int CYCLE_START_INDEX = 0;
+
+    /**
+     * Number of lines in the command log.
+     */
+    @Param({"10000", "100000"})
+    public int lineCount;
+
+    private Path configPath;
+    private byte[] commandLog;
+
+    /**
+     * Writes the config and records the command log of the current parameters.
+     * @throws IOException if the temporary config file cannot be written
+     */
+    @Setup(Level.Trial)
+    public void recordLog() throws IOException {
+        this.configPath = Files.createTempFile(CONFIG_FILE_PREFIX, CONFIG_FILE_SUFFIX);
+        SyntheticConfig.write(this.configPath, MONSTER_COUNT, EFFECT_DEPTH);
+        List<String> monsterNames = SyntheticConfig.monsterNames(MONSTER_COUNT);
+        List<String> actionNames = SyntheticConfig.actionNames(FIRST_MONSTER, MONSTER_COUNT);
+        String competitionLine = COMPETITION_LINE.formatted(monsterNames.get(FIRST_MONSTER),
+                monsterNames.get(SECOND_MONSTER));
+        StringJoiner log = new StringJoiner(System.lineSeparator());
+        for (int line = CYCLE_START_INDEX; line < this.lineCount; line++) {
+            if (line % LINES_PER_COMPETITION == CYCLE_START_INDEX) {
+                log.add(competitionLine);
+            } else if (line % PASS_INTERVAL == CYCLE_START_INDEX) {
+                log.add(PASS_LINE);
+            } else if (line % STATE_LINES.length == CYCLE_START_INDEX) {
+                log.add(ACTION_LINE.formatted(actionNames.get(line % actionNames.size()),
+                        monsterNames.get(line % monsterNames.size())));
+            } else {
+                log.add(STATE_LINES[line % STATE_LINES.length]);
+            }
+        }
+        this.commandLog = log.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Deletes the temporary config file.
+     * @throws IOException if the file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteConfig() throws IOException {
+        Files.deleteIfExists(this.configPath);
+    }
+
+    /**
+     * Creates a seeded command handler that has loaded the config, reads the recorded command log and discards all of
+     * its output.
+     * @return a new command handler ready to replay the log
+     */
+    public CommandHandler createReplayHandler() {
+        PrintStream discardingStream = new PrintStream(OutputStream.nullOutputStream());
+        CommandHandler handler = new CommandHandler(SEED, new ByteArrayInputStream(this.commandLog), discardingStream,
+                discardingStream);
+        new LoadCommand(this.configPath.toString()).execute(handler);
+        return handler;
+    }
+}
@@ -0,0 +1,114 @@
+package edu.kit.kastel.benchmarks;
+
+import edu.kit.kastel.commands.Result;
+import edu.kit.kastel.logistics.Competition;
+import edu.kit.kastel.logistics.Randomizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+
+/**
+ * Benchmarks resolving a single round and playing whole competitions between all monsters of a generated config,
+ * with messages, in silent mode or in silent mode with an event sink that has the events of every turn rendered.
+ * @author upgcv
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompetitionBenchmark {
+    private static final int MAX_ROUNDS = 200;
+
+    /**
+     * The ways the competitions report what happens in them.
+     */
+    public enum OutputMode {
+        /**
+         * Every round builds its messages.
+         */
+        MESSAGES,
+
+        /**
+         * The competitions run in silent mode, their events are never rendered.
+         */
+        SILENT,
+
+        /**
+         * The competitions run in silent mode and render the events of every turn into an attached sink.
+         */
+        SILENT_WITH_SINK
+    }
+
+    /**
+     * Per thread state providing seeds and freshly started competitions.
+     */
+    @State(Scope.Thread)
+    public static class MatchState {
+        /**
+         * The way the competitions report what happens in them.
+         */
+        @Param
+        public OutputMode mode;
+
+        private long renderedLength;
+        private long seed;
+        private SplittableRandom random;
+        private Competition competition;
+
+        /**
+         * Starts a new competition before every single invocation of the round benchmark.
+         * @param config the config the monsters are taken from
+         */
+        @Setup(Level.Invocation)
+        public void startCompetition(ConfigState config) {
+            this.seed++;
+            this.random = new SplittableRandom(this.seed);
+            this.competition = createCompetition(config, this.seed);
+        }
+
+        private Competition createCompetition(ConfigState config, long competitionSeed) {
+            Competition newCompetition = new Competition(config.createMonsters(),
+                    Randomizer.createSplittable(competitionSeed));
+            if (this.mode != OutputMode.MESSAGES) {
+                newCompetition.turnSilentModeOn();
+            }
+            if (this.mode == OutputMode.SILENT_WITH_SINK) {
+                newCompetition.attachEventSink(events -> this.renderedLength += events.length());
+            }
+            newCompetition.start();
+            return newCompetition;
+        }
+    }
+
+    /**
+     * Resolves the first round of a freshly started competition, every monster choosing a random action.
+     * @param state the state holding the started competition
+     * @return the result of the round
+     */
+    @Benchmark
+    public Result resolveRound(MatchState state) {
+        return MatchDriver.playRound(state.competition, state.random);
+    }
+
+    /**
+     * Creates, starts and plays a whole competition until it is decided.
+     * @param config the config the monsters are taken from
+     * @param state the state providing the seeds
+     * @return the number of played rounds
+     */
+    @Benchmark
+    public int playCompetition(ConfigState config, MatchState state) {
+        Competition competition = state.createCompetition(config, state.seed);
+        return MatchDriver.playMatch(competition, new SplittableRandom(state.seed), MAX_ROUNDS);
+    }
+}
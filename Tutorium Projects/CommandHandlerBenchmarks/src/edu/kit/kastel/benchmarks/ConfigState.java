@@ -0,0 +1,113 @@
+package edu.kit.kastel.benchmarks;
+
+import edu.kit.kastel.commands.CommandHandler;
+import edu.kit.kastel.commands.LoadCommand;
+import edu.kit.kastel.commands.Result;
+import edu.kit.kastel.commands.ResultType;
+import edu.kit.kastel.logistics.GameSetup;
+import edu.kit.kastel.objects.monsters.Monster;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Benchmark state holding a generated config, written to a temporary file and loaded once per trial.
+ * @author upgcv
+ */
+@State(Scope.Benchmark)
+public class ConfigState {
+    private static final String CONFIG_FILE_PREFIX = "benchmark-config";
+    private static final String CONFIG_FILE_SUFFIX = ".txt";
+    private static final String LOAD_FAILED_MESSAGE = "Error, the generated config could not be loaded: %s";
+    private static final int CYCLE_START_INDEX = 0;
+
+    /**
+     * Number of monsters in the config, all of them take part in the competitions.
+     */
+    @Param({"2", "8"})
+    public int monsterCount;
+
+    /**
+     * Number of effects every action of the config consists of.
+     */
+    @Param({"1", "4", "16"})
+    public int effectDepth;
+
+    private Path configPath;
+    private GameSetup gameSetup;
+    private List<String> monsterNames;
+
+    /**
+     * Writes and loads the config of the current parameters.
+     * @throws IOException if the temporary config file cannot be written
+     */
+    @Setup(Level.Trial)
+    public void writeConfig() throws IOException {
+        this.configPath = Files.createTempFile(CONFIG_FILE_PREFIX, CONFIG_FILE_SUFFIX);
+        SyntheticConfig.write(this.configPath, this.monsterCount, this.effectDepth);
+        this.monsterNames = SyntheticConfig.monsterNames(this.monsterCount);
+        CommandHandler handler = createHandler();
+        Result result = new LoadCommand(getConfigPath()).execute(handler);
+        if (result.getType() == ResultType.FAILURE || handler.getConfig() == null) {
+            throw new IllegalStateException(LOAD_FAILED_MESSAGE.formatted(result.getMessage()));
+        }
+        this.gameSetup = handler.getConfig();
+    }
+
+    /**
+     * Deletes the temporary config file.
+     * @throws IOException if the file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteConfig() throws IOException {
+        Files.deleteIfExists(this.configPath);
+    }
+
+    /**
+     * Creates a command handler that discards all of its output.
+     * @return a new command handler
+     */
+    public static CommandHandler createHandler() {
+        PrintStream discardingStream = new PrintStream(OutputStream.nullOutputStream());
+        return new CommandHandler("", InputStream.nullInputStream(), discardingStream, discardingStream);
+    }
+
+    /**
+     * Gets the path of the written config.
+     * @return the path as string
+     */
+    public String getConfigPath() {
+        return this.configPath.toString();
+    }
+
+    /**
+     * Gets the loaded config.
+     * @return the game setup of the config
+     */
+    public GameSetup getGameSetup() {
+        return this.gameSetup;
+    }
+
+    /**
+     * Creates fresh copies of all monsters of the config, ready to take part in a competition.
+     * @return the monsters in the order of the config
+     */
+    public Monster[] createMonsters() {
+        Monster[] monsters = new Monster[this.monsterNames.size()];
+        for (int index = CYCLE_START_INDEX; index < monsters.length; index++) {
+            monsters[index] = this.gameSetup.getMonster(this.monsterNames.get(index));
+        }
+        return monsters;
+    }
+}
@@ -0,0 +1,58 @@
+package edu.kit.kastel.benchmarks;
+
+import edu.kit.kastel.logistics.GameSetup;
+import edu.kit.kastel.objects.monsters.Monster;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks copying monsters and whole game setups, which happens whenever a competition is started.
+ * @author upgcv
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CopyBenchmark {
+    private static final int FIRST_MONSTER = 0;
+
+    private Monster monster;
+    private GameSetup gameSetup;
+
+    /**
+     * Takes the monster and setup to copy from the config.
+     * @param config the state holding the loaded config
+     */
+    @Setup(Level.Trial)
+    public void prepare(ConfigState config) {
+        this.gameSetup = config.getGameSetup();
+        this.monster = config.createMonsters()[FIRST_MONSTER];
+    }
+
+    /**
+     * Copies a single monster including all of its actions.
+     * @return the copy
+     */
+    @Benchmark
+    public Monster copyMonster() {
+        return this.monster.copy();
+    }
+
+    /**
+     * Copies the whole game setup.
+     * @return the copy
+     */
+    @Benchmark
+    public GameSetup copyGameSetup() {
+        return this.gameSetup.copy();
+    }
+}
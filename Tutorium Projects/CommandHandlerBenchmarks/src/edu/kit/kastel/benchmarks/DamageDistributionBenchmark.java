@@ -0,0 +1,67 @@
+package edu.kit.kastel.benchmarks;
+
+import edu.kit.kastel.objects.actions.ActionTemplate;
+import edu.kit.kastel.objects.monsters.Monster;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks calculating the exact damage distributions of all actions of a generated config for every matchup of
+ * two of its monsters.
+ * @author upgcv
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DamageDistributionBenchmark {
+    private static final int CYCLE_START_INDEX = 0;
+
+    /**
+     * State holding the monsters of the config.
+     */
+    @State(Scope.Benchmark)
+    public static class MatchupState {
+        private Monster[] monsters;
+
+        /**
+         * Creates the monsters.
+         * @param config the config the monsters are taken from
+         */
+        @Setup(Level.Trial)
+        public void createMonsters(ConfigState config) {
+            this.monsters = config.createMonsters();
+        }
+    }
+
+    /**
+     * Calculates the distributions of all actions of every monster against every other monster.
+     * @param state the state holding the monsters
+     * @param blackhole the blackhole consuming the distributions
+     */
+    @Benchmark
+    public void calculateAllMatchups(MatchupState state, Blackhole blackhole) {
+        for (int userIndex = CYCLE_START_INDEX; userIndex < state.monsters.length; userIndex++) {
+            Monster user = state.monsters[userIndex];
+            for (int targetIndex = CYCLE_START_INDEX; targetIndex < state.monsters.length; targetIndex++) {
+                if (targetIndex == userIndex) {
+                    continue;
+                }
+                for (String actionName : user.getActionNames()) {
+                    ActionTemplate action = user.getActionTemplate(actionName);
+                    Monster target = action.requiresTarget() ? state.monsters[targetIndex] : user;
+                    blackhole.consume(action.calcDamageDistribution(user, target));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package edu.kit.kastel.benchmarks;
+
+import edu.kit.kastel.commands.CommandHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks replaying a recorded command log, every line is dispatched to its command by the {@link CommandHandler}.
+ * @author upgcv
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatchBenchmark {
+
+    /**
+     * Replays the whole command log.
+     * @param commandLog the state holding the recorded command log
+     * @return the command handler after the replay
+     */
+    @Benchmark
+    public CommandHandler replayCommandLog(CommandLogState commandLog) {
+        CommandHandler handler = commandLog.createReplayHandler();
+        handler.handleUserInput();
+        return handler;
+    }
+
+    /**
+     * Replays the whole command log as a script, reading it in blocks and printing the output in blocks.
+     * @param commandLog the state holding the recorded command log
+     * @return the command handler after the replay
+     */
+    @Benchmark
+    public CommandHandler replayScriptedCommandLog(CommandLogState commandLog) {
+        CommandHandler handler = commandLog.createReplayHandler();
+        handler.handleScriptedInput();
+        return handler;
+    }
+}
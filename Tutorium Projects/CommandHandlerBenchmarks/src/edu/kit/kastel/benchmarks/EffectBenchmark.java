@@ -0,0 +1,108 @@
+package edu.kit.kastel.benchmarks;
+
+import edu.kit.kastel.commands.Result;
+import edu.kit.kastel.logistics.Randomizer;
+import edu.kit.kastel.logistics.events.BattleEventBuffer;
+import edu.kit.kastel.objects.Element;
+import edu.kit.kastel.objects.ElementRegistry;
+import edu.kit.kastel.objects.actions.effects.DamageEffect;
+import edu.kit.kastel.objects.actions.effects.EffectOutcome;
+import edu.kit.kastel.objects.actions.effects.ExecutableEffect;
+import edu.kit.kastel.objects.actions.effects.HealingEffect;
+import edu.kit.kastel.objects.actions.effects.StrengthType;
+import edu.kit.kastel.objects.monsters.Monster;
+import edu.kit.kastel.objects.monsters.MonsterTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+
+/**
+ * Benchmarks executing a single damage or healing effect, once with messages and once silently. Run it with the
+ * gc profiler to compare the allocations per effect, the silent variants should not allocate at all.
+ * @author upgcv
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EffectBenchmark {
+    private static final long SEED = 42L;
+    private static final int HEALTH_POINTS = 1000;
+    private static final int ATTACK = 20;
+    private static final int DEFENCE = 15;
+    private static final int SPEED = 12;
+    private static final int STRENGTH = 50;
+    private static final int HEALING_STRENGTH = 10;
+    private static final int SUCCESS_RATE = 100;
+    private static final ElementRegistry ELEMENTS = ElementRegistry.withDefaultElements();
+    private static final Element FIRE = ELEMENTS.getElement("FIRE");
+    private static final Element WATER = ELEMENTS.getElement("WATER");
+
+    private final ExecutableEffect damageEffect = new DamageEffect(FIRE, true, true,
+            STRENGTH, StrengthType.BASE, SUCCESS_RATE);
+    private final ExecutableEffect healingEffect = new HealingEffect(WATER, true, false,
+            HEALING_STRENGTH, StrengthType.REL, SUCCESS_RATE);
+    private final BattleEventBuffer events = new BattleEventBuffer();
+    private final Randomizer randomizer = Randomizer.createSplittable(SEED);
+    private Monster user;
+    private Monster target;
+
+    /**
+     * Creates fresh monsters before every iteration, so the health points of the target do not run out.
+     */
+    @Setup(Level.Iteration)
+    public void createMonsters() {
+        this.user = new MonsterTemplate("Attacker", FIRE, HEALTH_POINTS, ATTACK, DEFENCE, SPEED, List.of())
+                .instantiate();
+        this.target = new MonsterTemplate("Defender", WATER, HEALTH_POINTS, ATTACK, DEFENCE, SPEED, List.of())
+                .instantiate();
+    }
+
+    /**
+     * Executes the damage effect building its messages.
+     * @return the result of the effect
+     */
+    @Benchmark
+    public Result damageWithMessages() {
+        return this.damageEffect.executeEffect(this.user, this.target, this.randomizer);
+    }
+
+    /**
+     * Executes the damage effect silently, recording its events only.
+     * @return the outcome of the effect
+     */
+    @Benchmark
+    public EffectOutcome damageSilently() {
+        this.events.clear();
+        return this.damageEffect.executeSilently(this.user, this.target, this.randomizer, this.events);
+    }
+
+    /**
+     * Executes the healing effect building its messages.
+     * @return the result of the effect
+     */
+    @Benchmark
+    public Result healWithMessages() {
+        return this.healingEffect.executeEffect(this.user, this.target, this.randomizer);
+    }
+
+    /**
+     * Executes the healing effect silently, recording its events only.
+     * @return the outcome of the effect
+     */
+    @Benchmark
+    public EffectOutcome healSilently() {
+        this.events.clear();
+        return this.healingEffect.executeSilently(this.user, this.target, this.randomizer, this.events);
+    }
+}
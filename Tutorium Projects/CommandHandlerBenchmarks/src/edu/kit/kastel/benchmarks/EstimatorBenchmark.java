@@ -0,0 +1,84 @@
+package edu.kit.kastel.benchmarks;
+
+import edu.kit.kastel.logistics.Competition;
+import edu.kit.kastel.logistics.Randomizer;
+import edu.kit.kastel.logistics.tournament.DefaultMatchPolicy;
+import edu.kit.kastel.logistics.tournament.Tournament;
+import edu.kit.kastel.logistics.tournament.WinProbabilityEstimate;
+import edu.kit.kastel.logistics.tournament.WinProbabilityEstimator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Benchmarks estimating the win probabilities of a freshly started competition between all monsters of a generated
+ * config by Monte Carlo rollouts.
+ * @author upgcv
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EstimatorBenchmark {
+    private static final long COMPETITION_SEED = 42;
+    private static final long ESTIMATE_SEED = 7;
+    private static final double HALF_WIDTH = 0.02;
+
+    /**
+     * State holding the executor and the started competition the rollouts copy.
+     */
+    @State(Scope.Benchmark)
+    public static class EstimatorState {
+        /**
+         * Maximum number of rollouts of an estimate.
+         */
+        @Param({"1024", "8192"})
+        public int maxRollouts;
+
+        private ExecutorService executor;
+        private WinProbabilityEstimator estimator;
+        private Competition competition;
+
+        /**
+         * Creates the executor and starts the competition.
+         * @param config the config the monsters are taken from
+         */
+        @Setup(Level.Trial)
+        public void startCompetition(ConfigState config) {
+            this.executor = Tournament.createForkJoinExecutor();
+            this.estimator = new WinProbabilityEstimator(DefaultMatchPolicy.RANDOM, this.executor);
+            this.competition = new Competition(config.createMonsters(), Randomizer.createSplittable(COMPETITION_SEED));
+            this.competition.start();
+        }
+
+        /**
+         * Shuts the executor down.
+         */
+        @TearDown(Level.Trial)
+        public void shutdownExecutor() {
+            this.executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Estimates the win probabilities until the confidence intervals are narrow enough or all rollouts are played.
+     * @param state the state holding the estimator and the competition
+     * @return the estimate
+     * @throws InterruptedException if the benchmark thread is interrupted while waiting for the rollouts
+     */
+    @Benchmark
+    public WinProbabilityEstimate estimateWinProbabilities(EstimatorState state) throws InterruptedException {
+        return state.estimator.estimate(state.competition, state.maxRollouts, HALF_WIDTH, ESTIMATE_SEED);
+    }
+}
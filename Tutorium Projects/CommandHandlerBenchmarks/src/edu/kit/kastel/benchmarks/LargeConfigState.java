@@ -0,0 +1,61 @@
+package edu.kit.kastel.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Benchmark state holding a large generated config written to a temporary file, used to check that loading scales
+ * linearly with the number of lines.
+ * @author upgcv
+ */
+@State(Scope.Benchmark)
+public class LargeConfigState {
+    private static final String CONFIG_FILE_PREFIX = "benchmark-large-config";
+    private static final String CONFIG_FILE_SUFFIX = ".txt";
+    private static final String COMPILED_SETUP_SUFFIX = ".compiled";
+    private static final int EFFECT_DEPTH = 4;
+
+    /**
+     * Number of monsters in the config, the config contains just as many actions.
+     */
+    @Param({"1000", "10000", "100000"})
+    public int entryCount;
+
+    private Path configPath;
+
+    /**
+     * Writes the config of the current parameters.
+     * @throws IOException if the temporary config file cannot be written
+     */
+    @Setup(Level.Trial)
+    public void writeConfig() throws IOException {
+        this.configPath = Files.createTempFile(CONFIG_FILE_PREFIX, CONFIG_FILE_SUFFIX);
+        SyntheticConfig.write(this.configPath, this.entryCount, EFFECT_DEPTH);
+    }
+
+    /**
+     * Deletes the temporary config file and the setup compiled from it.
+     * @throws IOException if a file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteConfig() throws IOException {
+        Files.deleteIfExists(this.configPath);
+        Files.deleteIfExists(Path.of(this.configPath + COMPILED_SETUP_SUFFIX));
+    }
+
+    /**
+     * Gets the path of the written config.
+     * @return the path as string
+     */
+    public String getConfigPath() {
+        return this.configPath.toString();
+    }
+}
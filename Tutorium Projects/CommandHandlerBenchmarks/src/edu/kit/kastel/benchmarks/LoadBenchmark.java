@@ -0,0 +1,60 @@
+package edu.kit.kastel.benchmarks;
+
+import edu.kit.kastel.commands.CommandHandler;
+import edu.kit.kastel.commands.LoadCommand;
+import edu.kit.kastel.commands.LoadOption;
+import edu.kit.kastel.commands.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumSet;
+
+/**
+ * Benchmarks loading a generated config file with the {@link LoadCommand}.
+ * @author upgcv
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LoadBenchmark {
+    private final CommandHandler handler = ConfigState.createHandler();
+
+    /**
+     * Parses the config file and stores the new setup in the command handler.
+     * @param config the state holding the config file
+     * @return the result of the load command
+     */
+    @Benchmark
+    public Result loadConfig(ConfigState config) {
+        return new LoadCommand(config.getConfigPath()).execute(this.handler);
+    }
+
+    /**
+     * Parses a large config file with as many actions as monsters and stores the new setup in the command handler.
+     * @param config the state holding the large config file
+     * @return the result of the load command
+     */
+    @Benchmark
+    public Result loadLargeConfig(LargeConfigState config) {
+        return new LoadCommand(config.getConfigPath()).execute(this.handler);
+    }
+
+    /**
+     * Loads a large config with the compiled option. The first invocation compiles the config, all others read the
+     * compiled setup instead of parsing the config.
+     * @param config the state holding the large config file
+     * @return the result of the load command
+     */
+    @Benchmark
+    public Result loadCompiledLargeConfig(LargeConfigState config) {
+        return new LoadCommand(config.getConfigPath(), EnumSet.of(LoadOption.COMPILED)).execute(this.handler);
+    }
+}
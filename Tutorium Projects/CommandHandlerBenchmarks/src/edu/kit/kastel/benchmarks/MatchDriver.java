@@ -0,0 +1,60 @@
+package edu.kit.kastel.benchmarks;
+
+import edu.kit.kastel.commands.Result;
+import edu.kit.kastel.commands.ResultType;
+import edu.kit.kastel.logistics.Competition;
+import edu.kit.kastel.logistics.tournament.ActionChoice;
+import edu.kit.kastel.logistics.tournament.DefaultMatchPolicy;
+import edu.kit.kastel.logistics.tournament.MatchPolicy;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Utility class driving competitions in the benchmarks the same way a {@link
+ * edu.kit.kastel.logistics.tournament.Tournament} does.
+ * This class is not meant to be instantiated.
+ * @author upgcv
+ */
+public final class MatchDriver {
+    private static final MatchPolicy POLICY = DefaultMatchPolicy.RANDOM;
+
+    private MatchDriver() {
+        //Utility class
+    }
+
+    /**
+     * Lets every remaining monster choose an action until the current round has been resolved.
+     * @param competition the started competition to play
+     * @param random the random generator the actions are chosen with
+     * @return the result of the last decision
+     */
+    public static Result playRound(Competition competition, RandomGenerator random) {
+        int roundNumber = competition.getRoundNumber();
+        Result result = null;
+        while (!competition.isDecided() && competition.getRoundNumber() == roundNumber) {
+            result = decide(competition, random);
+        }
+        return result;
+    }
+
+    /**
+     * Plays the competition until it is decided or the given number of rounds has been reached.
+     * @param competition the started competition to play
+     * @param random the random generator the actions are chosen with
+     * @param maxRounds number of rounds after which the competition is abandoned
+     * @return the number of played rounds
+     */
+    public static int playMatch(Competition competition, RandomGenerator random, int maxRounds) {
+        while (!competition.isDecided() && competition.getRoundNumber() < maxRounds) {
+            decide(competition, random);
+        }
+        return competition.getRoundNumber();
+    }
+
+    private static Result decide(Competition competition, RandomGenerator random) {
+        ActionChoice choice = POLICY.chooseAction(competition, random);
+        Result result = choice.isPass() ? competition.setNextPassAction()
+                : competition.setNextAction(choice.actionName(), choice.targetName());
+        return result.getType() == ResultType.FAILURE ? competition.setNextPassAction() : result;
+    }
+}
@@ -0,0 +1,69 @@
+package edu.kit.kastel.benchmarks;
+
+import edu.kit.kastel.logistics.Randomizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+
+/**
+ * Benchmarks drawing hit decisions and random factors from a randomizer seeded like the command line does and from a
+ * splittable randomizer as used by the simulations.
+ * @author upgcv
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomizerBenchmark {
+    private static final long SEED = 42L;
+    private static final double SUCCESS_RATE = 75.0;
+    private static final double BOTTOM_RANDOM_FACTOR = 0.85;
+    private static final double UPPER_RANDOM_FACTOR = 1.0;
+
+    private final Randomizer seededRandomizer = new Randomizer(SEED);
+    private final Randomizer splittableRandomizer = Randomizer.createSplittable(SEED);
+
+    /**
+     * Draws a wrapped hit decision from the seeded randomizer.
+     * @return the decision
+     */
+    @Benchmark
+    public Optional<Boolean> seededSuccessOrFail() {
+        return this.seededRandomizer.getSuccessOrFail(SUCCESS_RATE);
+    }
+
+    /**
+     * Draws a primitive hit decision from the splittable randomizer.
+     * @return the decision
+     */
+    @Benchmark
+    public boolean splittableSuccess() {
+        return this.splittableRandomizer.nextSuccess(SUCCESS_RATE);
+    }
+
+    /**
+     * Draws a wrapped random factor from the seeded randomizer.
+     * @return the factor
+     */
+    @Benchmark
+    public Optional<Double> seededRandomDouble() {
+        return this.seededRandomizer.getRandomDouble(BOTTOM_RANDOM_FACTOR, UPPER_RANDOM_FACTOR);
+    }
+
+    /**
+     * Draws a primitive random factor from the splittable randomizer.
+     * @return the factor
+     */
+    @Benchmark
+    public double splittableDouble() {
+        return this.splittableRandomizer.nextDouble(BOTTOM_RANDOM_FACTOR, UPPER_RANDOM_FACTOR);
+    }
+}
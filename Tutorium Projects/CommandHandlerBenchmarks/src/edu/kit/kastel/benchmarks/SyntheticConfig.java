@@ -0,0 +1,131 @@
+package edu.kit.kastel.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class generating valid configs of arbitrary size for the benchmarks.
+ * This class is not meant to be instantiated.
+ * @author upgcv
+ */
+public final class SyntheticConfig {
+    private static final String[] EFFECT_LINES = {
+        "damage target base 40 90",
+        "inflictStatChange target DEF -1 70",
+        "heal user rel 10 80",
+        "inflictStatusCondition target BURN 20",
+        "damage target rel 5 100",
+        "inflictStatChange user ATK +1 60"
+    };
+    private static final String[] ELEMENTS = {"NORMAL", "WATER", "FIRE", "EARTH"};
+    private static final String ACTION_HEADER = "action %s %s";
+    private static final String ACTION_END = "end action";
+    private static final String MONSTER_LINE = "monster %s %s %d %d %d %d %s";
+    private static final String ACTION_NAME_PREFIX = "Move";
+    private static final String MONSTER_NAME_PREFIX = "Beast";
+    private static final String NAME_SEPARATOR = " ";
+    private static final char FIRST_NAME_LETTER = 'A';
+    private static final int LETTERS_IN_ALPHABET = 26;
+    private static final int ACTIONS_PER_MONSTER = 4;
+    private static final int BASE_HEALTH = 100;
+    private static final int HEALTH_STEP = 10;
+    private static final int BASE_STAT = 10;
+    private static final int STAT_VARIATION = 5;
+    private static final int CYCLE_START_INDEX = 0;
+    private static final int NO_VALUE_LEFT = 0;
+
+    private SyntheticConfig() {
+        //Utility class
+    }
+
+    /**
+     * Writes a config with the given number of monsters, each owning four actions, line by line to a file. Configs
+     * with hundreds of thousands of actions and monsters are therefore never held in memory as a whole.
+     * @param path the file to write the config to
+     * @param monsterCount number of monsters in the config
+     * @param effectDepth number of effects every action consists of
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, int monsterCount, int effectDepth) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            append(writer, monsterCount, effectDepth);
+        }
+    }
+
+    private static void append(Appendable config, int monsterCount, int effectDepth) throws IOException {
+        int actionCount = Math.max(ACTIONS_PER_MONSTER, monsterCount);
+        for (int action = CYCLE_START_INDEX; action < actionCount; action++) {
+            appendLine(config, ACTION_HEADER.formatted(actionName(action), ELEMENTS[action % ELEMENTS.length]));
+            for (int effect = CYCLE_START_INDEX; effect < effectDepth; effect++) {
+                appendLine(config, EFFECT_LINES[(action + effect) % EFFECT_LINES.length]);
+            }
+            appendLine(config, ACTION_END);
+            appendLine(config, "");
+        }
+        for (int monster = CYCLE_START_INDEX; monster < monsterCount; monster++) {
+            String actions = String.join(NAME_SEPARATOR, actionNames(monster, monsterCount));
+            int variation = monster % STAT_VARIATION;
+            if (monster > CYCLE_START_INDEX) {
+                config.append(System.lineSeparator());
+            }
+            config.append(MONSTER_LINE.formatted(monsterName(monster), ELEMENTS[monster % ELEMENTS.length],
+                    BASE_HEALTH + HEALTH_STEP * variation, BASE_STAT + variation, BASE_STAT + STAT_VARIATION - variation,
+                    BASE_STAT + variation, actions));
+        }
+    }
+
+    private static void appendLine(Appendable config, String line) throws IOException {
+        config.append(line).append(System.lineSeparator());
+    }
+
+    /**
+     * Gets the names of the monsters contained in a generated config.
+     * @param monsterCount number of monsters in the config
+     * @return the names of all monsters in the order of the config
+     */
+    public static List<String> monsterNames(int monsterCount) {
+        List<String> names = new ArrayList<>(monsterCount);
+        for (int monster = CYCLE_START_INDEX; monster < monsterCount; monster++) {
+            names.add(monsterName(monster));
+        }
+        return names;
+    }
+
+    /**
+     * Gets the names of the actions of a monster in a generated config.
+     * @param monsterIndex index of the monster in the config
+     * @param monsterCount number of monsters in the config
+     * @return the names of the actions of the monster in the order of the config
+     */
+    public static List<String> actionNames(int monsterIndex, int monsterCount) {
+        int actionCount = Math.max(ACTIONS_PER_MONSTER, monsterCount);
+        List<String> names = new ArrayList<>(ACTIONS_PER_MONSTER);
+        for (int action = CYCLE_START_INDEX; action < ACTIONS_PER_MONSTER; action++) {
+            names.add(actionName((monsterIndex + action) % actionCount));
+        }
+        return names;
+    }
+
+    private static String monsterName(int index) {
+        return MONSTER_NAME_PREFIX + letters(index);
+    }
+
+    private static String actionName(int index) {
+        return ACTION_NAME_PREFIX + letters(index);
+    }
+
+    //Names in configs must not contain digits, so indices are written with letters only
+    private static String letters(int index) {
+        StringBuilder letters = new StringBuilder();
+        int rest = index;
+        do {
+            letters.insert(CYCLE_START_INDEX, (char) (FIRST_NAME_LETTER + rest % LETTERS_IN_ALPHABET));
+            rest /= LETTERS_IN_ALPHABET;
+        } while (rest > NO_VALUE_LEFT);
+        return letters.toString();
+    }
+}
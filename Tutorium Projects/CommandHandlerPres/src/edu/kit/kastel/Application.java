@@ -19,7 +19,8 @@ private Application() {
     }
     /**
      * The entry point for the application. It is expected to receive a path to source configuration file. An input of
-     * a debug mode or a seed for the randomizer factor are optimal.
+     * a debug mode or a seed for the randomizer factor are optimal. If the input is piped or redirected instead of being
+     * entered in a console, it is processed as a script with the output printed in blocks.
      * @param args the command line arguments
      */
     public static void main(String[] args) {
@@ -30,7 +31,11 @@ public static void main(String[] args) {
         String commandHandlerInputData = args.length == ENTERED_OPTIONAL_ARGUMENT ? args[args.length - SUBTRACT_FOR_CORRECT_BORDER] : "";
         CommandHandler commandHandler = new CommandHandler(commandHandlerInputData, System.in, System.out, System.err);
         commandHandler.handleFirstConfig(args[FIRST_ARRAY_ELEMENT]);
-        commandHandler.handleUserInput();
+        if (System.console() == null) {
+            commandHandler.handleScriptedInput();
+        } else {
+            commandHandler.handleUserInput();
+        }
 
     }
 }
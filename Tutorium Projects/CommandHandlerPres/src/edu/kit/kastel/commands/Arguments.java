@@ -3,6 +3,8 @@
 import edu.kit.kastel.logistics.GameSetup;
 
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * This class represents the arguments of a {@link Command}.
@@ -26,6 +28,7 @@ public class Arguments {
     private static final String TOO_FEW_ARGS = "Error, this act needs at least %d arguments!";
     private static final String INVALID_MONSTER_NAME = "Error, there is no monster named %s!";
     private static final String INVALID_ACTION_NAME_ACTION_COMMAND = "Error, there is no action named %s!";
+    private static final String INVALID_LOAD_OPTION = "Error, %s is not a valid load option!";
     private static final String NUMBER_SEPARATOR_IN_MONSTER_NAMES = "#";
 
     private static final int SUBSTRING_START_FOR_MONSTER_NAME = 0;
@@ -47,7 +50,7 @@ public class Arguments {
     public Arguments(GameSetup gameSetup, String[] input) {
         this.parseIndex = FIRST_ELEMENT_IN_ARR;
         this.inputData = Arrays.copyOf(input, input.length);
-        this.gameSetup = gameSetup.copy();
+        this.gameSetup = gameSetup;
     }
 
     private String retrieveArgument() {
@@ -70,6 +73,24 @@ public String parseSrcPath() throws InvalidArgumentException {
         return srcPath;
     }
 
+    /**
+     * Parses and handles the options following the path of a load command.
+     * @return the options entered, may be empty
+     * @throws InvalidArgumentException if an argument is not a load option
+     */
+    public Set<LoadOption> parseLoadOptions() throws InvalidArgumentException {
+        Set<LoadOption> options = EnumSet.noneOf(LoadOption.class);
+        while (!isExhausted()) {
+            String optionToCheck = retrieveArgument();
+            LoadOption option = LoadOption.getFromStringRepresentation(optionToCheck);
+            if (option == null) {
+                throw new InvalidArgumentException(INVALID_LOAD_OPTION.formatted(optionToCheck));
+            }
+            options.add(option);
+        }
+        return options;
+    }
+
     /**
      * Parses and handles monsters' names entered.
      * @return correct monsters' names array
@@ -78,7 +99,7 @@ public String parseSrcPath() throws InvalidArgumentException {
     public String[] parseMonsterNames() throws InvalidArgumentException {
         while (!isExhausted()) {
             String monsterNameToCheck = retrieveArgument();
-            if (this.gameSetup.getMonster(monsterNameToCheck) == null) {
+            if (!this.gameSetup.containsMonster(monsterNameToCheck)) {
                 throw new InvalidArgumentException(INVALID_MONSTER_NAME.formatted(monsterNameToCheck));
             }
         }
@@ -96,7 +117,7 @@ public String[] parseSetAction() throws InvalidArgumentException {
         }
         int outputDataLength = ONLY_ACTION_NAME_FOR_ACTION_COMMAND;
         String lineToCheck = retrieveArgument();
-        if (this.gameSetup.getAction(lineToCheck) == null) {
+        if (!this.gameSetup.containsAction(lineToCheck)) {
             throw new InvalidArgumentException(INVALID_ACTION_NAME_ACTION_COMMAND.formatted(lineToCheck));
         }
         if (!isExhausted()) {
@@ -106,7 +127,7 @@ public String[] parseSetAction() throws InvalidArgumentException {
                 lineToCheck = lineToCheck.substring(SUBSTRING_START_FOR_MONSTER_NAME,
                         lineToCheck.indexOf(NUMBER_SEPARATOR_IN_MONSTER_NAMES));
             }
-            if (this.gameSetup.getMonster(lineToCheck) == null) {
+            if (!this.gameSetup.containsMonster(lineToCheck)) {
                 throw new InvalidArgumentException(INVALID_MONSTER_NAME.formatted(lineToCheck));
             }
         }
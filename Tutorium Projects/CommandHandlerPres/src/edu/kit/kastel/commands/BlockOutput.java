@@ -0,0 +1,61 @@
+package edu.kit.kastel.commands;
+
+import java.io.PrintStream;
+
+/**
+ * Class collecting the output of a {@link CommandHandler} and printing it in blocks instead of line by line. Errors
+ * are printed right away, the output collected before them is printed first, so output and errors appear in the same
+ * order as if they were printed directly.
+ * @author upgcv
+ */
+final class BlockOutput {
+    private static final int BLOCK_SIZE = 1 << 16;
+    private static final int EMPTY = 0;
+
+    private final PrintStream outputStream;
+    private final PrintStream errorStream;
+    private final StringBuilder pendingOutput;
+
+    /**
+     * Initializes a new block output printing to the given streams.
+     * @param outputStream the stream the output is printed to in blocks
+     * @param errorStream the stream the errors are printed to
+     */
+    BlockOutput(PrintStream outputStream, PrintStream errorStream) {
+        this.outputStream = outputStream;
+        this.errorStream = errorStream;
+        this.pendingOutput = new StringBuilder(BLOCK_SIZE);
+    }
+
+    /**
+     * Collects output, a full block is printed.
+     * @param output the output to collect
+     */
+    void printOutput(String output) {
+        this.pendingOutput.append(output);
+        if (this.pendingOutput.length() >= BLOCK_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Prints an error after all output collected before it.
+     * @param error the error to print
+     */
+    void printError(String error) {
+        flush();
+        this.errorStream.print(error);
+        this.errorStream.flush();
+    }
+
+    /**
+     * Prints all collected output. The buffer is kept for the next block.
+     */
+    void flush() {
+        if (this.pendingOutput.length() > EMPTY) {
+            this.outputStream.append(this.pendingOutput);
+            this.pendingOutput.setLength(EMPTY);
+        }
+        this.outputStream.flush();
+    }
+}
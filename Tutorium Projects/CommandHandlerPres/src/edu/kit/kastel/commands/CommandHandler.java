@@ -4,12 +4,13 @@
 import edu.kit.kastel.logistics.GameSetup;
 import edu.kit.kastel.objects.monsters.Monster;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.PrintStream;
-import java.util.Collection;
 import java.util.EnumSet;
 import java.util.Scanner;
-import java.util.Set;
 
 /**
  * Handles user commands, processes input and output, manages game setup and competition.
@@ -28,19 +29,23 @@ public class CommandHandler {
     private static final String NUMBER_REGEX = "-?[1-9][0-9]*";
     private static final int CYCLE_START_POINT = 0;
     private static final int MIN_MONSTERS_TO_RUN_COMPETITION = 2;
+    private static final int INPUT_BUFFER_SIZE = 1 << 16;
+    private static final KeywordIndex<CommandHandlerKeyword> COMMAND_HANDLER_KEYWORDS
+            = new KeywordIndex<>(EnumSet.allOf(CommandHandlerKeyword.class));
+    private static final KeywordIndex<CompetitionKeyword> COMPETITION_KEYWORDS
+            = new KeywordIndex<>(EnumSet.allOf(CompetitionKeyword.class));
 
     private final boolean toBeDebugged;
     private final boolean isSeedEntered;
     private final PrintStream outputStream;
     private final PrintStream errorStream;
     private final InputStream inputStream;
-    private final Set<CommandHandlerKeyword> commandHandlerKeywords = EnumSet.allOf(CommandHandlerKeyword.class);
-    private final Set<CompetitionKeyword> competitionKeywords = EnumSet.allOf(CompetitionKeyword.class);
 
     private long seed;
     private boolean isProgOn;
     private GameSetup gameSetup;
     private Competition currentCompetition;
+    private BlockOutput blockOutput;
 
 
     /**
@@ -86,21 +91,54 @@ public void handleUserInput() {
         }
     }
 
+    /**
+     * Processes a script of commands from the input stream like {@link #handleUserInput()} does, but reads the input
+     * in large blocks and prints the output in blocks as well. The collected output is printed before an error, once
+     * the input is not ready to be read without blocking, and once the script ends or the application is quit, so the
+     * output and errors appear in the same order as when processing user input.
+     */
+    public void handleScriptedInput() {
+        if (!isProgOn) {
+            return;
+        }
+        this.blockOutput = new BlockOutput(this.outputStream, this.errorStream);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(this.inputStream), INPUT_BUFFER_SIZE)) {
+            while (this.isProgOn) {
+                if (!reader.ready()) {
+                    this.blockOutput.flush();
+                }
+                String nextLine = reader.readLine();
+                if (nextLine == null) {
+                    break;
+                }
+                handleLine(nextLine);
+            }
+        } catch (IOException e) {
+            //a script that cannot be read any further ends, just like user input
+        } finally {
+            this.blockOutput.flush();
+            this.blockOutput = null;
+        }
+    }
+
+    //the line is split into words once, the keywords are found by the first word
     private void handleLine(String nextLine) {
-        if (!findAndExecuteCommand(this.commandHandlerKeywords, this, nextLine)
-                && !findAndExecuteCommand(this.competitionKeywords, currentCompetition, nextLine)
+        String[] words = nextLine.split(Keyword.WORDS_SEPARATOR);
+        if (!findAndExecuteCommand(COMMAND_HANDLER_KEYWORDS, this, nextLine, words)
+                && !findAndExecuteCommand(COMPETITION_KEYWORDS, currentCompetition, nextLine, words)
                 && !(this.isInDebugProcess() && handlePossibleDebugCommand(nextLine))) {
             handleResult(Result.failed(UNKNOWN_COMMAND_MESSAGE));
         }
     }
 
 
-    private <S, T extends Keyword<S>> boolean findAndExecuteCommand(Set<T> keywordsToCheck, S value, String inputLine) {
-        T keyword = retrieveKeyword(keywordsToCheck, inputLine);
+    private <S, T extends Enum<T> & Keyword<S>> boolean findAndExecuteCommand(KeywordIndex<T> keywords, S value,
+                                                                             String inputLine, String[] words) {
+        T keyword = keywords.find(inputLine, words);
         if (keyword == null) {
             return false;
         } else {
-            handleCommand(value, keyword.retrieveCommandArgs(inputLine), keyword);
+            handleCommand(value, keyword.retrieveCommandArgs(words), keyword);
             return true;
         }
     }
@@ -191,6 +229,40 @@ public void setConfig(GameSetup config) {
         this.currentCompetition = null;
     }
 
+    /**
+     * Gets the currently loaded game setup configuration.
+     *
+     * @return a copy of the game setup configuration, or null if no config was loaded yet.
+     */
+    public GameSetup getConfig() {
+        return this.gameSetup == null ? null : this.gameSetup.copy();
+    }
+
+    /**
+     * Prints a line to the output stream while a command is executed, e.g. a line of a config while it is loaded. While
+     * a script is processed, the line is collected into the current block.
+     * @param line the line to print
+     */
+    void printOutputLine(String line) {
+        printOutput(line + System.lineSeparator());
+    }
+
+    private void printOutput(String output) {
+        if (this.blockOutput == null) {
+            this.outputStream.print(output);
+        } else {
+            this.blockOutput.printOutput(output);
+        }
+    }
+
+    private void printError(String error) {
+        if (this.blockOutput == null) {
+            this.errorStream.print(error);
+        } else {
+            this.blockOutput.printError(error);
+        }
+    }
+
     private void handleResult(Result result) {
         String pendingMessage = "";
         if (this.currentCompetition != null && !this.currentCompetition.isDecided()) {
@@ -202,25 +274,17 @@ private void handleResult(Result result) {
         String resultMessage = result.getMessage() + (result.getMessage().isBlank() ? "" : System.lineSeparator());
         switch (result.getType()) {
             case FAILURE:
-                errorStream.print(resultMessage);
-                outputStream.print(pendingMessage);
+                printError(resultMessage);
+                printOutput(pendingMessage);
                 break;
             case SUCCESS:
-                outputStream.print(resultMessage + pendingMessage);
+                printOutput(resultMessage + pendingMessage);
                 break;
             default:
                 break;
         }
     }
 
-    private static <T extends Keyword<?>> T retrieveKeyword(Collection<T> keywords, String inputLine) {
-        for (T keyword : keywords) {
-            if (keyword.matches(inputLine)) {
-                return keyword;
-            }
-        }
-        return null;
-    }
     /**
      * Starts a competition with the given monsters. If there are less than 2 monsters' names provided, the competition
      * does not begin.
@@ -241,7 +305,7 @@ public Result startCompetition(String[] monsters) {
     private Competition makeCompetitionBetween(String[] monsterNames) {
         Monster[] monsters = new Monster[monsterNames.length];
         for (int index = CYCLE_START_POINT; index < monsterNames.length; index++) {
-            if (this.gameSetup.getMonster(monsterNames[index]) == null) {
+            if (!this.gameSetup.containsMonster(monsterNames[index])) {
                 return null;
             }
             monsters[index] = this.gameSetup.getMonster(monsterNames[index]);
@@ -1,6 +1,5 @@
 package edu.kit.kastel.commands;
 
-import java.util.Arrays;
 
 /**
  * This enum represents all keywords for commands handling a {@link CommandHandler}.
@@ -13,7 +12,7 @@ public enum CommandHandlerKeyword implements Keyword<CommandHandler> {
     /**
      * The keyword for {@link LoadCommand load} command.
      */
-    LOAD(arguments -> new LoadCommand(arguments.parseSrcPath())),
+    LOAD(arguments -> new LoadCommand(arguments.parseSrcPath(), arguments.parseLoadOptions())),
 
     /**
      * The keyword for {@link QuitCommand load} command.
@@ -33,17 +32,19 @@ public enum CommandHandlerKeyword implements Keyword<CommandHandler> {
     private static final String ILLEGAL_USE_OF_METHOD_MESSAGE =
             "Error, you must use this method to retrieve command arguments from an input line that matches this command keyword!";
     private static final String WORDS_SEPARATOR_IN_ENUM = "_";
-    private static final String WORDS_SEPARATOR_FOR_UI = " ";
-    private static final int START_CYCLE_INDEX = 0;
     private final CommandProvider<CommandHandler> provider;
+    private final String representation;
+    private final String[] words;
 
     CommandHandlerKeyword(CommandProvider<CommandHandler> provider) {
         this.provider = provider;
+        this.representation = this.name().toLowerCase().replace(WORDS_SEPARATOR_IN_ENUM, WORDS_SEPARATOR);
+        this.words = this.representation.split(WORDS_SEPARATOR);
     }
 
     @Override
     public boolean matches(String command) {
-        return command.startsWith(this.name().toLowerCase().replace(WORDS_SEPARATOR_IN_ENUM, WORDS_SEPARATOR_FOR_UI));
+        return command.startsWith(this.representation);
     }
 
     @Override
@@ -51,13 +52,12 @@ public String[] retrieveCommandArgs(String command) {
         if (!this.matches(command)) {
             throw new IllegalArgumentException(ILLEGAL_USE_OF_METHOD_MESSAGE);
         }
-        int startIndex = START_CYCLE_INDEX;
-        while (startIndex < this.name().split(WORDS_SEPARATOR_IN_ENUM).length
-                && command.split(WORDS_SEPARATOR_FOR_UI)[startIndex]
-                .equals(this.name().toLowerCase().split(WORDS_SEPARATOR_IN_ENUM)[startIndex])) {
-            startIndex++;
-        }
-        return Arrays.copyOfRange(command.split(WORDS_SEPARATOR_FOR_UI), startIndex, command.split(WORDS_SEPARATOR_FOR_UI).length);
+        return retrieveCommandArgs(command.split(WORDS_SEPARATOR));
+    }
+
+    @Override
+    public String[] getWords() {
+        return this.words;
     }
 
     @Override
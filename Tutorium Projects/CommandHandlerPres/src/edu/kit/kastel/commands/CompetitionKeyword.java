@@ -2,7 +2,6 @@
 
 import edu.kit.kastel.logistics.Competition;
 
-import java.util.Arrays;
 /**
  * This enum represents all keywords for commands handling a {@link Competition}.
  *
@@ -37,23 +36,25 @@ public enum CompetitionKeyword implements Keyword<Competition> {
     SHOW_STATS(arguments -> new ShowStatsCommand());
 
     private static final String WORDS_SEPARATOR_IN_ENUM = "_";
-    private static final String WORDS_SEPARATOR_FOR_UI = " ";
     private static final String NOT_MATCHING_MESSAGE = "Error, cannot retrieve arguments if the line does not include the command!";
-    private static final int START_CYCLE_INDEX = 0;
 
 
     private final CommandProvider<Competition> provider;
+    private final String representation;
+    private final String[] words;
 
     CompetitionKeyword(CommandProvider<Competition> provider) {
         this.provider = provider;
+        this.representation = this.name().toLowerCase().replace(WORDS_SEPARATOR_IN_ENUM, WORDS_SEPARATOR);
+        this.words = this.representation.split(WORDS_SEPARATOR);
     }
 
     @Override
     public boolean matches(String command) {
         if (this == SHOW) {
-            return command.equals(this.name().toLowerCase());
+            return command.equals(this.representation);
         }
-        return command.startsWith(this.name().toLowerCase().replace(WORDS_SEPARATOR_IN_ENUM, WORDS_SEPARATOR_FOR_UI));
+        return command.startsWith(this.representation);
     }
 
     @Override
@@ -61,13 +62,12 @@ public String[] retrieveCommandArgs(String command) {
         if (!this.matches(command)) {
             throw new IllegalArgumentException(NOT_MATCHING_MESSAGE);
         }
-        int startIndex = START_CYCLE_INDEX;
-        while (startIndex < this.name().split(WORDS_SEPARATOR_IN_ENUM).length
-                && command.split(WORDS_SEPARATOR_FOR_UI)[startIndex]
-                .equals(this.name().toLowerCase().split(WORDS_SEPARATOR_IN_ENUM)[startIndex])) {
-            startIndex++;
-        }
-        return Arrays.copyOfRange(command.split(WORDS_SEPARATOR_FOR_UI), startIndex, command.split(WORDS_SEPARATOR_FOR_UI).length);
+        return retrieveCommandArgs(command.split(WORDS_SEPARATOR));
+    }
+
+    @Override
+    public String[] getWords() {
+        return this.words;
     }
 
     @Override
@@ -1,5 +1,7 @@
 package edu.kit.kastel.commands;
 
+import java.util.Arrays;
+
 /**
  * This interface represents a keyword that can be used to identify a command.
  * @param <T> the type of the value that is handled by the command
@@ -9,6 +11,16 @@
  */
 public interface Keyword<T> extends CommandProvider<T> {
 
+    /**
+     * Separator between the words of an input line.
+     */
+    String WORDS_SEPARATOR = " ";
+
+    /**
+     * Index of the first word of an input line.
+     */
+    int FIRST_WORD_INDEX = 0;
+
     /**
      * Returns whether the keyword matches the given command.
      *
@@ -23,4 +35,26 @@
      * @return an array with command arguments to be used for the command, being represented by this keyword
      */
     String[] retrieveCommandArgs(String command);
-}
\ No newline at end of file
+
+    /**
+     * Returns the words of this keyword as they are entered by the user.
+     * @return the words in their order, the returned array must not be modified
+     */
+    String[] getWords();
+
+    /**
+     * Returns command arguments made from an input line that was already split into words and matches this keyword.
+     * The leading words equal to the words of this keyword are skipped.
+     * @param words the words of the full input line, split at {@link #WORDS_SEPARATOR}
+     * @return an array with command arguments to be used for the command, being represented by this keyword
+     */
+    default String[] retrieveCommandArgs(String[] words) {
+        String[] keywordWords = getWords();
+        int startIndex = FIRST_WORD_INDEX;
+        while (startIndex < keywordWords.length && startIndex < words.length
+                && words[startIndex].equals(keywordWords[startIndex])) {
+            startIndex++;
+        }
+        return Arrays.copyOfRange(words, startIndex, words.length);
+    }
+}
@@ -0,0 +1,66 @@
+package edu.kit.kastel.commands;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class indexing keywords by their first word in a trie, so an input line is only checked against the keywords whose
+ * first word is a prefix of the first word of the line instead of against all keywords.
+ * @param <T> the type of the indexed keywords
+ * @author upgcv
+ */
+final class KeywordIndex<T extends Enum<T> & Keyword<?>> {
+    private final Node<T> root;
+
+    /**
+     * Builds the index of the given keywords.
+     * @param keywords the keywords to index
+     */
+    KeywordIndex(Collection<T> keywords) {
+        this.root = new Node<>();
+        for (T keyword : keywords) {
+            String firstWord = keyword.getWords()[Keyword.FIRST_WORD_INDEX];
+            Node<T> node = this.root;
+            for (int index = Keyword.FIRST_WORD_INDEX; index < firstWord.length(); index++) {
+                node = node.children.computeIfAbsent(firstWord.charAt(index), letter -> new Node<>());
+            }
+            node.keywords.add(keyword);
+        }
+    }
+
+    /**
+     * Finds the keyword matching the input line. If several keywords match, the first one in their declaration order
+     * is found, just like when checking all keywords in that order.
+     * @param inputLine the full input line
+     * @param words the words of the input line, split at {@link Keyword#WORDS_SEPARATOR}
+     * @return the matching keyword, or null if no keyword matches
+     */
+    T find(String inputLine, String[] words) {
+        if (words.length == Keyword.FIRST_WORD_INDEX) {
+            return null;
+        }
+        String firstWord = words[Keyword.FIRST_WORD_INDEX];
+        T foundKeyword = null;
+        Node<T> node = this.root;
+        for (int index = Keyword.FIRST_WORD_INDEX; index < firstWord.length(); index++) {
+            node = node.children.get(firstWord.charAt(index));
+            if (node == null) {
+                break;
+            }
+            for (T keyword : node.keywords) {
+                if ((foundKeyword == null || keyword.compareTo(foundKeyword) < 0) && keyword.matches(inputLine)) {
+                    foundKeyword = keyword;
+                }
+            }
+        }
+        return foundKeyword;
+    }
+
+    private static final class Node<T> {
+        private final Map<Character, Node<T>> children = new HashMap<>();
+        private final List<T> keywords = new ArrayList<>();
+    }
+}
@@ -1,97 +1,61 @@
 package edu.kit.kastel.commands;
 
 import edu.kit.kastel.logistics.GameSetup;
-import edu.kit.kastel.logistics.initializer.EntityInitializers;
-import edu.kit.kastel.objects.Element;
-import edu.kit.kastel.objects.actions.Action;
-import edu.kit.kastel.objects.actions.effects.Effect;
-import edu.kit.kastel.objects.actions.effects.RepeatEffect;
-import edu.kit.kastel.objects.monsters.Monster;
+import edu.kit.kastel.logistics.initializer.ConfigLexer;
+import edu.kit.kastel.logistics.initializer.ConfigParser;
+import edu.kit.kastel.logistics.initializer.MappedConfigLoader;
+import edu.kit.kastel.logistics.initializer.SetupSnapshot;
+import edu.kit.kastel.objects.ElementRegistry;
 
 import java.io.BufferedReader;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.StringJoiner;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 /**
- * Class representing a load command, which loads new config for the game.
+ * Class representing a load command, which loads new config for the game. The lines of the config are echoed while
+ * they are read unless the command is quiet, a parallel load command memory-maps the config and parses it in chunks.
+ * With the compiled option, a compiled setup next to the config that is newer than it is read instead of parsing the
+ * config, otherwise the parsed config is compiled for the next load.
  * @author upgcv
  */
 public class LoadCommand implements Command<CommandHandler> {
     private static final String IMPOSSIBLE_IN_DEBUG_PROCESS_MESSAGE = "Error, you cannot use this command in debug mode!";
-    private static final String NUMBER_REGEX = "[1-9][0-9]*";
-    private static final String INPUT_LINE_SEPARATOR = " ";
-    private static final String NOT_SPECIFIED_DURATION_TYPE = "random";
     private static final String CONFIG_SUCCESSFUL_LOADED = System.lineSeparator() + "Loaded %d actions, %d monsters.";
-    //Regex checking if it is a valid action first line input
-    private static final String ACTION_FIRST_LINE_REGEX = "\\s*action [A-Za-z]+ (NORMAL|WATER|FIRE|EARTH)\\s*";
-    //Regex checking if it is a valid monster line input
-    private static final String MONSTER_LINE_REGEX =
-            String.format("\\s*monster [A-Za-z]+ (WATER|FIRE|EARTH|NORMAL) %s %s %s %s( [A-Za-z]+){1,4}\\s*",
-                    NUMBER_REGEX, NUMBER_REGEX, NUMBER_REGEX, NUMBER_REGEX);
-    private static final String PERCENTAGE_REGEX = "(100|[0-9]|[1-9][0-9])";
-
-    //All Regexes below are checking if it is a correct effect input line, named after the effects themselves
-    private static final String DAMAGE_EFFECT_LINE_REGEX =
-            String.format("\\s*damage (user|target) (base \\d+|abs \\d+|rel %s) %s\\s*",
-                    PERCENTAGE_REGEX, PERCENTAGE_REGEX);
-    private static final String INFLICT_STAT_CONDITION_EFFECT_LINE_REGEX =
-            String.format("\\s*inflictStatusCondition (user|target) (WET|BURN|SLEEP|QUICKSAND) %s\\s*", PERCENTAGE_REGEX);
-    private static final String INFLICT_STAT_CHANGE_EFFECT_LINE_REGEX =
-            String.format("\\s*inflictStatChange (user|target) (ATK|DEF|SPD|PRC|AGL) (-|\\+|)\\d+ %s\\s*", PERCENTAGE_REGEX);
-    private static final String PROTECT_STAT_EFFECT_LINE_REGEX =
-            String.format("\\s*protectStat (health|stats) (%s|random %s %s) %s\\s*",
-                    NUMBER_REGEX, NUMBER_REGEX, NUMBER_REGEX, PERCENTAGE_REGEX);
-    private static final String HEAL_EFFECT_LINE_REGEX =
-            String.format("\\s*heal (user|target) (base %s|abs %s|rel %s) %s\\s*",
-                    NUMBER_REGEX, NUMBER_REGEX, PERCENTAGE_REGEX, PERCENTAGE_REGEX);
-    private static final String REPEAT_EFFECT_LINE_REGEX =
-            String.format("\\s*repeat (%s|random %s %s)\\s*", NUMBER_REGEX, NUMBER_REGEX, NUMBER_REGEX);
-    private static final String CONTINUE_EFFECT_LINE_REGEX = String.format("\\s*continue %s\\s*", PERCENTAGE_REGEX);
-
-    //Regex checking if it is a non-repeat effect entered in input line
-    private static final String POSSIBLE_NOT_REPEAT_EFFECT_LINE_REGEX =
-            String.format("(%s|%s|%s|%s|%s|%s)", DAMAGE_EFFECT_LINE_REGEX, INFLICT_STAT_CONDITION_EFFECT_LINE_REGEX,
-                    INFLICT_STAT_CHANGE_EFFECT_LINE_REGEX, PROTECT_STAT_EFFECT_LINE_REGEX, HEAL_EFFECT_LINE_REGEX,
-                    CONTINUE_EFFECT_LINE_REGEX);
-    private static final String CLOSE_REPEAT_EFFECT_REGEX = "\\s*end repeat\\s*";
-    private static final String NEXT_ACTION_REGEX = "\\s*end action\\s*";
-    private static final String SEPARATOR_REGEX = " ";
-    private static final String BASE_DMG_REGEX = "b\\d+";
     private static final String INVALID_SRC_PATH_MESSAGE = "Error, no file found at %s!";
     private static final String FAIL_AT_PARSING = "Error, parsing the file was not successful!";
     private static final String INVALID_CFG_MESSAGE = "Error, invalid config!";
-    private static final String NONE_EFFECTS_MESSAGE = "Error, an action must include at least one effect!";
-    private static final String DUPLICATE_ACTIONS_MESSAGE = "Error, a config must not include two actions of the same name!";
-    private static final String DUPLICATE_MONSTERS_MESSAGE = "Error, a config must not include two monsters of the same name!";
-    private static final String INVALID_MONSTER_NAME = "Error, %s is not a valid monster description!";
-    private static final String INVALID_EFFECT_MESSAGE = "Error, %s is not a valid description of an effect!";
-    private static final String INVALID_REPEAT_MESSAGE = "Error, your repeat effect is not of valid description!";
-
-    private static final int START_COUNT_DMG_EFFECTS = 0;
-    private static final int NAME_POSITION = 1;
-    private static final int ELEMENT_POSITION = 2;
-    private static final int RANDOM_KEYWORD_POSITION = 1;
-    private static final int REPEAT_BOTTOM_BORDER_POSITION = 2;
-    private static final int REPEAT_UPPER_BORDER_POSITION = 3;
-    private static final int REPEAT_DURATION_POSITION = 1;
+    private static final String COMPILED_SETUP_SUFFIX = ".compiled";
 
     private final String srcPath;
-    private String invalidCFGMessage = INVALID_CFG_MESSAGE;
-    private int countBaseDMGEffects;
-    private boolean isErrorOccurred;
+    private final Set<LoadOption> options;
 
     /**
-     * Initializes a new load command instance.
+     * Initializes a new load command instance reading the config sequentially and echoing it.
      * @param path path to new config
      */
     public LoadCommand(String path) {
+        this(path, EnumSet.noneOf(LoadOption.class));
+    }
+
+    /**
+     * Initializes a new load command instance.
+     * @param path path to new config
+     * @param options the options changing how the config is loaded
+     */
+    public LoadCommand(String path, Set<LoadOption> options) {
         this.srcPath = path;
-        this.countBaseDMGEffects = START_COUNT_DMG_EFFECTS;
-        this.isErrorOccurred = false;
+        this.options = options.isEmpty() ? EnumSet.noneOf(LoadOption.class) : EnumSet.copyOf(options);
     }
 
 
@@ -100,168 +64,90 @@ public Result execute(CommandHandler handle) {
         if (handle.isInDebugProcess()) {
             return Result.failed(IMPOSSIBLE_IN_DEBUG_PROCESS_MESSAGE);
         }
-        GameSetup writtenConfig = new GameSetup();
-        StringJoiner outputConfig = new StringJoiner(System.lineSeparator());
-        try (BufferedReader bufferedReader = new BufferedReader(new FileReader(this.srcPath))) {
-            String lineToCheck;
-            while ((lineToCheck = bufferedReader.readLine()) != null) {
-                outputConfig.add((lineToCheck));
-                if (lineToCheck.matches(ACTION_FIRST_LINE_REGEX)) {
-                    List<Effect> effects = new ArrayList<>();
-                    String actionName = lineToCheck.trim().split(SEPARATOR_REGEX)[NAME_POSITION];
-                    Element actionElement = Element.valueOf(lineToCheck.trim().split(SEPARATOR_REGEX)[ELEMENT_POSITION]);
-                    lineToCheck = bufferedReader.readLine();
-                    if (lineToCheck == null) {
-                        break;
-                    }
-                    outputConfig.add(lineToCheck);
-                    lineToCheck = processActionEffects(bufferedReader, lineToCheck, actionElement, effects, outputConfig);
-                    if (lineToCheck != null && lineToCheck.matches(NEXT_ACTION_REGEX)) {
-                        if (effects.isEmpty()) {
-                            setNoEffects();
-                        } else if (!writtenConfig.addNewAction(new Action(actionName, actionElement, effects))) {
-                            setDuplicateActions();
-                        }
-                    }
-                } else if (lineToCheck.matches(MONSTER_LINE_REGEX)) {
-                    Monster newMonster = EntityInitializers.initializeMonsterFromInput(lineToCheck, writtenConfig);
-                    if (newMonster == null) {
-                        setInvalidMonsterError(lineToCheck);
-                    } else if (!writtenConfig.addNewMonster(newMonster)) {
-                        setDuplicateMonsters();
-                    }
-                } else {
-                    this.isErrorOccurred = !lineToCheck.isBlank() || this.isErrorOccurred;
-                }
+        Consumer<String> echo = this.options.contains(LoadOption.QUIET) ? line -> { } : handle::printOutputLine;
+        GameSetup writtenConfig;
+        try {
+            writtenConfig = this.options.contains(LoadOption.COMPILED) ? loadCompiled(echo) : null;
+            if (writtenConfig == null) {
+                writtenConfig = loadConfig(echo);
             }
-        } catch (FileNotFoundException e) {
+        } catch (FileNotFoundException | NoSuchFileException e) {
             return Result.failed(INVALID_SRC_PATH_MESSAGE.formatted(this.srcPath));
         } catch (IOException e) {
             return Result.failed(FAIL_AT_PARSING);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.failed(FAIL_AT_PARSING);
         }
-        if (!this.isErrorOccurred) {
+        if (writtenConfig != null) {
             handle.setConfig(writtenConfig);
-            outputConfig.add(CONFIG_SUCCESSFUL_LOADED
+            return Result.success(CONFIG_SUCCESSFUL_LOADED
                     .formatted(writtenConfig.getActionsNumber(), writtenConfig.getMonstersNumber()));
-            return Result.success(outputConfig.toString());
         }
-        outputConfig.add(this.invalidCFGMessage);
-        return Result.success(outputConfig.toString());
+        return Result.success(INVALID_CFG_MESSAGE);
     }
 
-
-    private String processActionEffects(BufferedReader bufferedReader, String firstEffectsLine, Element actionElement,
-                                         List<Effect> effects, StringJoiner outputConfig) throws IOException {
-        String possibleEffect = firstEffectsLine;
-        this.countBaseDMGEffects = START_COUNT_DMG_EFFECTS;
-        while (possibleEffect.matches(POSSIBLE_NOT_REPEAT_EFFECT_LINE_REGEX)
-                || possibleEffect.matches(REPEAT_EFFECT_LINE_REGEX) || possibleEffect.isBlank()) {
-            if (possibleEffect.matches(REPEAT_EFFECT_LINE_REGEX)) {
-                Effect repeatEffect = handleRepeatEffect(actionElement,
-                        possibleEffect, bufferedReader, outputConfig);
-                if (repeatEffect == null) {
-                    setInvalidRepeatEffect();
-                    return null;
-                }
-                effects.add(repeatEffect);
-            } else if (!possibleEffect.isBlank()) {
-                Effect newEffect = EntityInitializers.initializeNotRepeatEffect(actionElement,
-                        countBaseDMGEffects == START_COUNT_DMG_EFFECTS, possibleEffect);
-                if (newEffect == null) {
-                    setInvalidEffect(possibleEffect);
-                    return null;
-                }
-                if (newEffect.getDMGValue().matches(BASE_DMG_REGEX)) {
-                    this.countBaseDMGEffects++;
-                }
-                effects.add(newEffect);
-            }
-            possibleEffect = bufferedReader.readLine();
-            if (possibleEffect == null) {
-                break;
-            }
-            outputConfig.add(possibleEffect);
-        }
-        return possibleEffect;
-    }
-
-    private Effect handleRepeatEffect(Element element, String input, BufferedReader bufferedReader, StringJoiner outputConfig)
-            throws IOException {
-        String newLine = bufferedReader.readLine();
-        List<Effect> repeatEffects = new ArrayList<>();
+    //returns null if the config is not valid, which includes using an element it does not declare
+    private GameSetup loadConfig(Consumer<String> echo) throws IOException, InterruptedException {
+        GameSetup writtenConfig = new GameSetup();
+        ElementRegistry elements = writtenConfig.getElements();
+        List<ConfigParser> parsers = this.options.contains(LoadOption.PARALLEL) ? loadInParallel(echo, elements)
+                : List.of(load(echo, elements));
         boolean isErrorOccurred = false;
-        while (newLine.matches(POSSIBLE_NOT_REPEAT_EFFECT_LINE_REGEX) || newLine.isBlank()) {
-            outputConfig.add(newLine);
-            if (newLine.isBlank()) {
-                continue;
-            }
-            Effect newEffect = EntityInitializers
-                    .initializeNotRepeatEffect(element, this.countBaseDMGEffects == START_COUNT_DMG_EFFECTS, newLine);
-            if (newEffect == null) {
-                isErrorOccurred = true;
-            }
-            if (newEffect != null && newEffect.getDMGValue().matches(BASE_DMG_REGEX)) {
-                this.countBaseDMGEffects++;
-            }
-            repeatEffects.add(newEffect);
-            newLine = bufferedReader.readLine();
+        for (ConfigParser parser : parsers) {
+            isErrorOccurred |= parser.isErrorOccurred() | !parser.applyTo(writtenConfig);
         }
-        outputConfig.add(newLine);
-        if (newLine.matches(CLOSE_REPEAT_EFFECT_REGEX)) {
-            String[] splitInput = input.trim().split(INPUT_LINE_SEPARATOR);
-            if (splitInput[RANDOM_KEYWORD_POSITION].equals(NOT_SPECIFIED_DURATION_TYPE)) {
-                int bottomBorder = Integer.parseInt(splitInput[REPEAT_BOTTOM_BORDER_POSITION]);
-                int upperBorder = Integer.parseInt(splitInput[REPEAT_UPPER_BORDER_POSITION]);
-                if (bottomBorder >= upperBorder || isErrorOccurred) {
-                    return null;
-                }
-                return new RepeatEffect(repeatEffects, bottomBorder, upperBorder);
-            } else {
-                int duration = Integer.parseInt(splitInput[REPEAT_DURATION_POSITION]);
-                if (isErrorOccurred) {
-                    return null;
-                }
-                return new RepeatEffect(repeatEffects, duration);
+        if (isErrorOccurred || !writtenConfig.isEveryElementDeclared() || !elements.buildTables()) {
+            return null;
+        }
+        if (this.options.contains(LoadOption.COMPILED)) {
+            try {
+                SetupSnapshot.write(writtenConfig, compiledPath());
+            } catch (IOException e) {
+                //the config is loaded nonetheless and compiled again by the next load
             }
         }
-        return null;
+        return writtenConfig;
     }
 
-    private void setDuplicateActions() {
-        if (this.invalidCFGMessage.isBlank()) {
-            this.invalidCFGMessage = DUPLICATE_ACTIONS_MESSAGE;
+    //returns null if there is no valid compiled setup newer than the config, the config is echoed as it would be parsed
+    private GameSetup loadCompiled(Consumer<String> echo) throws IOException {
+        Path configPath = Path.of(this.srcPath);
+        Path compiledPath = compiledPath();
+        FileTime configModified = Files.getLastModifiedTime(configPath);
+        if (!Files.isRegularFile(compiledPath) || Files.getLastModifiedTime(compiledPath).compareTo(configModified) <= 0) {
+            return null;
         }
-        this.isErrorOccurred = true;
-    }
-
-    private void setInvalidMonsterError(String monsterName) {
-        if (this.invalidCFGMessage.isBlank()) {
-            this.invalidCFGMessage = INVALID_MONSTER_NAME.formatted(monsterName);
+        GameSetup compiledConfig;
+        try {
+            compiledConfig = SetupSnapshot.read(compiledPath);
+        } catch (IOException e) {
+            return null;
         }
-        this.isErrorOccurred = true;
-    }
-    private void setDuplicateMonsters() {
-        if (this.invalidCFGMessage.isBlank()) {
-            this.invalidCFGMessage = DUPLICATE_MONSTERS_MESSAGE;
+        try (BufferedReader bufferedReader = Files.newBufferedReader(configPath, Charset.defaultCharset())) {
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                echo.accept(line);
+            }
         }
-        this.isErrorOccurred = true;
+        return compiledConfig;
     }
-    private void setInvalidRepeatEffect() {
-        if (this.invalidCFGMessage.isBlank()) {
-            this.invalidCFGMessage = INVALID_REPEAT_MESSAGE;
-        }
-        this.isErrorOccurred = true;
+
+    private Path compiledPath() {
+        return Path.of(this.srcPath + COMPILED_SETUP_SUFFIX);
     }
-    private void setInvalidEffect(String name) {
-        if (this.invalidCFGMessage.isBlank()) {
-            this.invalidCFGMessage = INVALID_EFFECT_MESSAGE.formatted(name);
+
+    private ConfigParser load(Consumer<String> echo, ElementRegistry elements) throws IOException {
+        try (BufferedReader bufferedReader = new BufferedReader(new FileReader(this.srcPath))) {
+            ConfigParser parser = new ConfigParser(new ConfigLexer(bufferedReader, echo), elements);
+            parser.parse();
+            return parser;
         }
-        this.isErrorOccurred = true;
     }
-    private void setNoEffects() {
-        if (this.invalidCFGMessage.isBlank()) {
-            this.invalidCFGMessage = NONE_EFFECTS_MESSAGE;
-        }
-        this.isErrorOccurred = true;
+
+    private List<ConfigParser> loadInParallel(Consumer<String> echo, ElementRegistry elements)
+            throws IOException, InterruptedException {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        return new MappedConfigLoader(Path.of(this.srcPath), pool, pool.getParallelism(), elements).load(echo);
     }
 }
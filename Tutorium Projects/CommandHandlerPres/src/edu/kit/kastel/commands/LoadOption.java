@@ -0,0 +1,38 @@
+package edu.kit.kastel.commands;
+
+/**
+ * This enum represents the options that can follow the path of a {@link LoadCommand load} command.
+ * @author upgcv
+ */
+public enum LoadOption {
+
+    /**
+     * The option to memory-map the config and parse it in parallel chunks, meant for very large configs.
+     */
+    PARALLEL,
+
+    /**
+     * The option to not echo the lines of the config.
+     */
+    QUIET,
+
+    /**
+     * The option to read the compiled setup next to the config instead if it is newer than the config, and to compile
+     * the config otherwise.
+     */
+    COMPILED;
+
+    /**
+     * Method retrieving the option that matches the String representation.
+     * @param possibleOption string representation of an option to be checked
+     * @return the option if the input was valid, null otherwise
+     */
+    public static LoadOption getFromStringRepresentation(String possibleOption) {
+        for (LoadOption option : LoadOption.values()) {
+            if (option.name().toLowerCase().equals(possibleOption)) {
+                return option;
+            }
+        }
+        return null;
+    }
+}
@@ -5,6 +5,11 @@
 
 
 import edu.kit.kastel.logistics.DebugType;
+import edu.kit.kastel.logistics.events.BattleEvent;
+import edu.kit.kastel.logistics.events.BattleEventRenderer;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * The result of a command execution.
@@ -15,9 +20,11 @@
 public final class Result {
 
     private final ResultType type;
-    private final String message;
+    private final List<BattleEvent> events;
+    private final BattleEventRenderer renderer;
     private final String debugMessageLabel;
     private final DebugType typeToDebug;
+    private String message;
 
     private Result(ResultType type, String message) {
         this(type, message, null, "");
@@ -30,6 +37,17 @@ private Result(ResultType type, DebugType typeToDebug, String debugMessageLabel)
     private Result(ResultType type, String message,  DebugType typeToDebug, String debugMessageLabel) {
         this.type = type;
         this.message = message;
+        this.events = List.of();
+        this.renderer = BattleEventRenderer.CONSOLE;
+        this.typeToDebug = typeToDebug;
+        this.debugMessageLabel = debugMessageLabel;
+    }
+
+    private Result(ResultType type, List<BattleEvent> events, BattleEventRenderer renderer, DebugType typeToDebug,
+                   String debugMessageLabel) {
+        this.type = type;
+        this.events = Collections.unmodifiableList(events);
+        this.renderer = renderer;
         this.typeToDebug = typeToDebug;
         this.debugMessageLabel = debugMessageLabel;
     }
@@ -44,13 +62,25 @@ public ResultType getType() {
     }
 
     /**
-     * Returns the message of the result.
+     * Returns the message of the result. If the result carries battle events, they are rendered by its renderer the
+     * first time the message is asked for.
      * @return the message of the result
      */
     public String getMessage() {
+        if (message == null) {
+            message = renderer.render(events);
+        }
         return message;
     }
 
+    /**
+     * Returns the battle events the result carries instead of a message, without rendering them.
+     * @return an unmodifiable list of the events in the order they happened, empty if the result has a plain message
+     */
+    public List<BattleEvent> getEvents() {
+        return events;
+    }
+
     /**
      * Returns the type of info debugging needs right now.
      * @return one of the {@link Result} types if this result has this info, {@code null} otherwise
@@ -102,6 +132,35 @@ public static Result success(String message) {
         return new Result(ResultType.SUCCESS, message);
     }
 
+    /**
+     * Creates a new success result carrying a single battle event, rendered as the console shows it.
+     * @param event the event of the result
+     * @return a new success result
+     */
+    public static Result success(BattleEvent event) {
+        return success(List.of(event), BattleEventRenderer.CONSOLE);
+    }
+
+    /**
+     * Creates a new success result carrying battle events instead of a message. The events are only rendered by the
+     * given renderer if the message is asked for.
+     * @param events the events of the result, not to be changed afterwards
+     * @param renderer the renderer creating the message of the events
+     * @return a new success result
+     */
+    public static Result success(List<BattleEvent> events, BattleEventRenderer renderer) {
+        return new Result(ResultType.SUCCESS, events, renderer, null, "");
+    }
+
+    /**
+     * Creates a new error result carrying a single battle event, rendered as the console shows it.
+     * @param event the event of the result
+     * @return a new error result
+     */
+    public static Result failed(BattleEvent event) {
+        return new Result(ResultType.FAILURE, List.of(event), BattleEventRenderer.CONSOLE, null, "");
+    }
+
     /**
      * Creates a new needs debug result with the given type to debug and debug message label, in other words what is being
      *      decided by the user.
@@ -124,4 +183,17 @@ public static Result needsDebug(DebugType typeToDebug, String debugMessageLabel)
     public static Result needsDebug(DebugType typeToDebug, String debugMessageLabel, String messageToPlace) {
         return new Result(ResultType.NEEDS_DEBUG, messageToPlace, typeToDebug, debugMessageLabel);
     }
+
+    /**
+     * Creates a new needs debug result with the given type to debug and debug message label, carrying the battle
+     *      events that happened before the execution paused instead of a message.
+     * @param typeToDebug {@link DebugType} that is now needed
+     * @param debugMessageLabel string that messages what action/effect is being decided
+     * @param events the events that need to be placed before the user decides next debug value, not to be changed
+     *      afterwards
+     * @return a new needs debug result carrying the events
+     */
+    public static Result needsDebug(DebugType typeToDebug, String debugMessageLabel, List<BattleEvent> events) {
+        return new Result(ResultType.NEEDS_DEBUG, events, BattleEventRenderer.CONSOLE, typeToDebug, debugMessageLabel);
+    }
 }
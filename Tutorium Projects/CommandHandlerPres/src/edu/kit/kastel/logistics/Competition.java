@@ -3,18 +3,24 @@
 import edu.kit.kastel.commands.InvalidArgumentException;
 import edu.kit.kastel.commands.Result;
 import edu.kit.kastel.commands.ResultType;
+import edu.kit.kastel.logistics.events.BattleEvent;
+import edu.kit.kastel.logistics.events.BattleEventBuffer;
+import edu.kit.kastel.logistics.events.BattleEventRenderer;
 import edu.kit.kastel.objects.actions.Action;
 import edu.kit.kastel.objects.actions.StatusCondition;
 import edu.kit.kastel.objects.actions.effects.BurnEffects;
+import edu.kit.kastel.objects.monsters.BattleState;
 import edu.kit.kastel.objects.monsters.CompetitiveMonster;
 import edu.kit.kastel.objects.monsters.Monster;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 /**
  * Class representing a competition that can be started in the application.
  * @author upgcv
@@ -24,35 +30,42 @@ public class Competition {
     private static final String SHOW_HIS_TURN_CHAR = "*";
     private static final String HAS_NO_ACTION_NAME_MESSAGE = "Error, %s has no action named %s!";
     private static final String HAS_NO_MONSTER_NAME_MESSAGE = "Error, there is no monster in the competition named %s!";
-    private static final String ONE_MONSTER_LEFT_ANNOUNCEMENT = System.lineSeparator()
-            + "%s has no opponents left and wins the competition!";
-    private static final String NO_MONSTER_LEFT_ANNOUNCEMENT = System.lineSeparator()
-            + "All monsters have fainted. The competition ends without a winner!";
     private static final String NO_TARGET_FOR_BIG_COMPETITION_MESSAGE
             = "Error, you should have entered the target for the chosen action!";
     private static final String DECIDE_MONSTER_ACTION = System.lineSeparator() + "What should %s do?";
-    private static final String ANNOUNCEMENT_WHOSE_TURN = System.lineSeparator() + "It's %s's turn.";
-    private static final String ANNOUNCEMENT_ACTION_IS_NULL = "%s passes!";
+    private static final String PAUSED_COPY_MESSAGE = "Error, a competition cannot be copied while a turn is paused!";
 
     private static final int CYCLE_FIRST_INDEX = 0;
     private static final int THE_ONLY_MONSTER_ALIVE_INDEX = 0;
     private static final int MIN_MONSTERS_TO_RUN_COMPETITION = 2;
     private static final int COMPETITIVE_INDEX_DIFFERENCE = 1;
     private static final int START_INDEX_COUNT_MULTIPLE_OCCURRENCES = 1;
+    private static final int SINGLE_OCCURRENCE = 1;
     private static final int OFFSET_TO_CHOOSE_OTHER_MONSTER = 1;
 
     private final Randomizer randomizer;
-    private final List<ActionExecData> dataForActions = new ArrayList<>();
-    private final Map<CompetitiveMonster, Action> actionsForThisRound = new HashMap<>();
-    private final Map<String, CompetitiveMonster> monsterMap = new HashMap<>();
-    private final List<CompetitiveMonster> monsters = new ArrayList<>();
+    private final Map<String, Integer> slotsByName = new HashMap<>();
     private final List<CompetitiveMonster> losers = new ArrayList<>();
     private final List<String> monsterNames = new ArrayList<>();
+    private final BattleEventBuffer events = new BattleEventBuffer();
 
+    private BattleState battleState;
+    private TurnScheduler monsters;
+    private CompetitiveMonster[] participants;
+    private Action[] actionsInSlots;
+    private CompetitiveMonster[] targetsInSlots;
+    private int chosenActions;
     private String pendingMessage;
     private int turnIndex;
+    private int roundNumber;
     private DebugCompetitionInfo debugInfo;
     private boolean isDecided;
+    private boolean isSilent;
+    private BattleEventRenderer renderer = BattleEventRenderer.CONSOLE;
+    private TurnStep turnStep;
+    private String[] namesInSlots;
+    private Consumer<String> eventSink;
+    private ObjIntConsumer<String> choiceListener;
     /**
      * Constructs a competition with the given monsters and debug mode flag.
      * @param monsters    an array of participating monsters
@@ -88,41 +101,140 @@ public Competition(Monster[] monsters, long seed) {
      * @param oldCompetition an existing competition whose randomizer should be reused
      */
     public Competition(Monster[] monsters, Competition oldCompetition) {
+        this(monsters, oldCompetition.randomizer);
+    }
+    /**
+     * Constructs a competition with the given monsters, drawing its random values from the given randomizer.
+     * @param monsters   an array of participating monsters
+     * @param randomizer the randomizer to use, e.g. one split off for a single match of a simulation
+     */
+    public Competition(Monster[] monsters, Randomizer randomizer) {
         initializeMonstersCollectionsAndNonFinalAttributes(monsters);
-        this.randomizer = oldCompetition.randomizer;
+        this.randomizer = randomizer;
+    }
+    //copies the battle state and the progress of the round, the monsters of the copy work on the copied battle state
+    private Competition(Competition source, Randomizer randomizer) {
+        this.randomizer = randomizer;
+        this.battleState = source.battleState.copy();
+        Map<CompetitiveMonster, CompetitiveMonster> copiedMonsters = new HashMap<>();
+        this.participants = new CompetitiveMonster[source.participants.length];
+        this.actionsInSlots = new Action[source.actionsInSlots.length];
+        this.targetsInSlots = new CompetitiveMonster[source.targetsInSlots.length];
+        for (CompetitiveMonster monster : source.participants) {
+            int slot = monster.monster().getSlot();
+            this.participants[slot] = new CompetitiveMonster(monster.id(), monster.monster().bindTo(this.battleState, slot));
+            copiedMonsters.put(monster, this.participants[slot]);
+        }
+        for (int slot = CYCLE_FIRST_INDEX; slot < this.participants.length; slot++) {
+            Action action = source.actionsInSlots[slot];
+            this.actionsInSlots[slot] = action == null ? null : action.copy();
+            this.targetsInSlots[slot] = source.targetsInSlots[slot] == null ? null
+                    : this.participants[source.targetsInSlots[slot].monster().getSlot()];
+        }
+        this.chosenActions = source.chosenActions;
+        this.slotsByName.putAll(source.slotsByName);
+        this.monsters = source.monsters.copy(copiedMonsters);
+        for (CompetitiveMonster monster : source.losers) {
+            this.losers.add(copiedMonsters.get(monster));
+        }
+        this.monsterNames.addAll(source.monsterNames);
+        this.namesInSlots = source.namesInSlots.clone();
+        this.pendingMessage = source.pendingMessage;
+        this.turnIndex = source.turnIndex;
+        this.roundNumber = source.roundNumber;
+        this.debugInfo = source.debugInfo;
+        this.isDecided = source.isDecided;
+        this.isSilent = source.isSilent;
+        this.renderer = source.renderer;
+        this.turnStep = source.turnStep;
     }
     private void initializeMonstersCollectionsAndNonFinalAttributes(Monster[] monsters) {
+        this.battleState = new BattleState(monsters.length);
+        List<CompetitiveMonster> monstersById = new ArrayList<>(monsters.length);
         for (int index = CYCLE_FIRST_INDEX; index < monsters.length; index++) {
-            CompetitiveMonster monsterToAdd = new CompetitiveMonster(index + COMPETITIVE_INDEX_DIFFERENCE, monsters[index].copy());
-            this.monsters.add(monsterToAdd);
+            CompetitiveMonster monsterToAdd = new CompetitiveMonster(index + COMPETITIVE_INDEX_DIFFERENCE,
+                    monsters[index].bindTo(this.battleState, index));
+            monstersById.add(monsterToAdd);
             this.monsterNames.add(monsters[index].getName());
         }
-        if (Set.of(this.monsterNames).size() != this.monsters.size()) {
-            renameMultipleNameOccurrences();
-        }
-        for (CompetitiveMonster monster : this.monsters) {
-            monsterMap.put(monster.monster().getName(), monster);
+        this.monsters = new TurnScheduler(monstersById);
+        this.participants = monstersById.toArray(CompetitiveMonster[]::new);
+        this.actionsInSlots = new Action[monsters.length];
+        this.targetsInSlots = new CompetitiveMonster[monsters.length];
+        this.chosenActions = CYCLE_FIRST_INDEX;
+        renameMultipleNameOccurrences();
+        this.namesInSlots = new String[monsters.length];
+        for (CompetitiveMonster monster : this.participants) {
+            this.slotsByName.put(monster.monster().getName(), monster.monster().getSlot());
+            this.namesInSlots[monster.monster().getSlot()] = monster.monster().getName();
         }
         this.isDecided = false;
         this.turnIndex = CYCLE_FIRST_INDEX;
+        this.turnStep = TurnStep.ANNOUNCEMENT;
+        this.roundNumber = CYCLE_FIRST_INDEX;
         this.pendingMessage = "";
         this.debugInfo = new DebugCompetitionInfo(false, null);
     }
+    //every monster whose name occurs more than once gets numbered by the order of the occurrences
     private void renameMultipleNameOccurrences() {
-        for (int index = CYCLE_FIRST_INDEX; index < this.monsterNames.size(); index++) {
-            if (this.monsterNames.lastIndexOf(this.monsterNames.get(index)) != index) {
-                renameAllNameOccurrences(this.monsterNames.get(index));
+        Map<String, Integer> occurrences = new HashMap<>();
+        for (String monsterName : this.monsterNames) {
+            occurrences.merge(monsterName, SINGLE_OCCURRENCE, Integer::sum);
+        }
+        Map<String, Integer> nextNumbers = new HashMap<>();
+        for (CompetitiveMonster monster : this.participants) {
+            String monsterName = this.monsterNames.get(monster.monster().getSlot());
+            if (occurrences.get(monsterName) > SINGLE_OCCURRENCE) {
+                int number = nextNumbers.merge(monsterName, START_INDEX_COUNT_MULTIPLE_OCCURRENCES, Integer::sum);
+                monster.monster().updateMonsterNumber(number);
             }
         }
     }
-    private void renameAllNameOccurrences(String nameToReplace) {
-        int countOfMonster = START_INDEX_COUNT_MULTIPLE_OCCURRENCES;
-        for (int monsterIndex = CYCLE_FIRST_INDEX; monsterIndex < this.monsterNames.size(); monsterIndex++) {
-            if (this.monsterNames.get(monsterIndex).equals(nameToReplace)) {
-                this.monsters.set(monsterIndex, new CompetitiveMonster((monsterIndex + COMPETITIVE_INDEX_DIFFERENCE),
-                        this.monsters.get(monsterIndex).monster().updateMonsterNumberAndCopy(countOfMonster++)));
-            }
+    /**
+     * Turns the silent mode on, if the competition is not debugged. In silent mode actions are executed without
+     * building messages, the results of the rounds only carry the events that happen outside the actions and never
+     * render them.
+     * @see #attachEventSink(Consumer)
+     */
+    public void turnSilentModeOn() {
+        this.isSilent = !this.randomizer.isDebugOn();
+        this.renderer = this.isSilent ? BattleEventRenderer.NONE : this.renderer;
+    }
+    /**
+     * Attaches a sink that receives the rendered events of every turn executed in silent mode, see
+     * {@link edu.kit.kastel.logistics.events.BattleEventType}: whether a status condition ends, damage, healing,
+     * critical hits, effectiveness, failed actions, burning and fainting. Announcements of turns and actions, changes
+     * of statistics, status conditions and protections and the events between rounds are not included. A turn
+     * without any such event is not passed to the sink. Without a sink, the events are never rendered.
+     * @param eventSink the consumer of the rendered events, or {@code null} to detach the current one
+     */
+    public void attachEventSink(Consumer<String> eventSink) {
+        this.eventSink = eventSink;
+    }
+    /**
+     * Attaches a listener that receives every decision of a monster on turn once it is accepted, before it is
+     * executed. It receives the name of the chosen action and the slot of its target, which is the slot of the monster
+     * on turn itself if the action needs no target. A pass is received as the action name {@code null} together with
+     * the slot of the monster on turn.
+     * @param choiceListener the listener of the decisions, or {@code null} to detach the current one
+     */
+    public void attachChoiceListener(ObjIntConsumer<String> choiceListener) {
+        this.choiceListener = choiceListener;
+    }
+    /**
+     * Creates an independent copy of this competition in its current state, e.g. to play it to the end in a
+     * simulation. The copy draws its random values from the given randomizer and does not share any state with this
+     * competition, except for the immutable action definitions. No event sink or choice listener is attached to
+     * the copy.
+     * @param randomizer the randomizer the copy draws its random values from
+     * @return a new competition continuing from the current state of this one
+     * @throws IllegalStateException if a turn of this competition is paused for a value decided by the user
+     */
+    public Competition copyWith(Randomizer randomizer) {
+        if (this.debugInfo.isDebugOn()) {
+            throw new IllegalStateException(PAUSED_COPY_MESSAGE);
         }
+        return new Competition(this, randomizer);
     }
     /**
      * Gets the debug info that is currently needed.
@@ -138,6 +250,82 @@ public DebugCompetitionInfo getDebugInfo() {
     public boolean isDecided() {
         return this.isDecided;
     }
+    /**
+     * Gets the number of rounds that were completely executed in this competition.
+     * @return the number of finished rounds
+     */
+    public int getRoundNumber() {
+        return this.roundNumber;
+    }
+    /**
+     * Gets the Zobrist hash of the battle state of this competition, see {@link BattleState#getZobristHash()}. It only
+     * covers the values of the monsters, not the round number or the actions already chosen in the current round, so
+     * it identifies the state of the competition between two rounds.
+     * @return the 64-bit hash of the battle state
+     */
+    public long getStateHash() {
+        return this.battleState.getZobristHash();
+    }
+    /**
+     * Gets the monster that won this competition.
+     * @return the only monster left if the competition is decided and has a winner, {@code null} otherwise
+     */
+    public CompetitiveMonster getWinner() {
+        return this.isDecided && !this.monsters.isEmpty() ? this.monsters.get(THE_ONLY_MONSTER_ALIVE_INDEX) : null;
+    }
+    /**
+     * Gets the names of all monsters that are still fighting in this competition.
+     * @return a list of names of the monsters that have not fainted yet
+     */
+    public List<String> getCompetitorNames() {
+        List<String> competitorNames = new ArrayList<>(this.monsters.size());
+        for (int index = CYCLE_FIRST_INDEX; index < this.monsters.size(); index++) {
+            competitorNames.add(this.monsters.get(index).monster().getName());
+        }
+        return competitorNames;
+    }
+    /**
+     * Gets the number of monsters that are still fighting in this competition.
+     * @return the number of monsters that have not fainted yet
+     */
+    public int getCompetitorCount() {
+        return this.monsters.size();
+    }
+    /**
+     * Gets the name of a monster that is still fighting by its position, without building the list of all names.
+     * While actions are chosen, the positions are ordered like {@link #getCompetitorNames()}.
+     * @param position the position of the monster among the monsters that have not fainted yet
+     * @return the name of the monster
+     * @throws IndexOutOfBoundsException if there is no monster at the position
+     */
+    public String getCompetitorName(int position) {
+        return this.monsters.get(position).monster().getName();
+    }
+    /**
+     * Gets a monster that is still fighting by its position, ordered like {@link #getCompetitorName(int)}. The monster
+     * is not copied, it is only meant to be read.
+     * @param position the position of the monster among the monsters that have not fainted yet
+     * @return the monster
+     * @throws IndexOutOfBoundsException if there is no monster at the position
+     */
+    public Monster getCompetitor(int position) {
+        return this.monsters.get(position).monster();
+    }
+    /**
+     * Gets the position of the monster whose turn it currently is to choose its action, among the monsters that are
+     * still fighting.
+     * @return the position of the monster on turn
+     */
+    public int getPositionOnTurn() {
+        return this.chosenActions;
+    }
+    /**
+     * Gets the names of all monsters that entered this competition, fainted ones included.
+     * @return an unmodifiable list of the names, ordered by the ids of the monsters
+     */
+    public List<String> getParticipantNames() {
+        return List.of(this.namesInSlots);
+    }
     /**
      * Gets the pending message to be displayed.
      * @return the pending message as a string
@@ -151,24 +339,18 @@ public String getPendingMessage() {
      */
     public String getShowInfo() {
         StringJoiner output = new StringJoiner(System.lineSeparator());
-        List<CompetitiveMonster> allMonstersTogether = new ArrayList<>(this.monsters);
-        allMonstersTogether.addAll(this.losers);
-        allMonstersTogether.sort(CompetitiveMonster.getComparatorForMonsterNumber());
-        for (CompetitiveMonster monster : allMonstersTogether) {
-            output.add(monster.monster().getShowInfo().formatted(monster.id(), charIfMonstersTurn(monster)));
+        CompetitiveMonster monsterOnTurn = this.monsters
+                .get((this.chosenActions + this.turnIndex) % (this.monsters.size() + this.losers.size()));
+        for (CompetitiveMonster monster : this.participants) {
+            output.add(monster.monster().getShowInfo()
+                    .formatted(monster.id(), monster.equals(monsterOnTurn) ? SHOW_HIS_TURN_CHAR : ""));
         }
         return output.toString();
     }
-    private String charIfMonstersTurn(CompetitiveMonster monster) {
-        boolean ifHisTurn = this.monsters
-                .get((this.actionsForThisRound.size() + this.turnIndex) % (this.monsters.size() + this.losers.size()))
-                .equals(monster);
-        return ifHisTurn ? SHOW_HIS_TURN_CHAR : "";
-    }
     private void updatePendingMessage() {
-        if (this.actionsForThisRound.size() < this.monsters.size()) {
+        if (this.chosenActions < this.monsters.size()) {
             this.pendingMessage = DECIDE_MONSTER_ACTION
-                    .formatted(this.monsters.get(this.actionsForThisRound.size()).monster().getName());
+                    .formatted(this.monsters.get(this.chosenActions).monster().getName());
         } else {
             this.pendingMessage = "";
         }
@@ -201,11 +383,11 @@ public void setRandomizerDebugData(double nextRandomDouble) throws InvalidArgume
         this.randomizer.setNextValue(nextRandomDouble);
     }
     /**
-     * Gets the monster whose turn it currently is.
-     * @return a copy of the monster on turn
+     * Gets the monster whose turn it currently is. The monster is not copied, it is only meant to be read.
+     * @return the monster on turn
      */
     public Monster getMonsterOnTurn() {
-        return this.monsters.get(this.actionsForThisRound.size()).monster().copy();
+        return this.monsters.get(this.chosenActions).monster();
     }
     /**
      * Starts the competition.
@@ -217,106 +399,114 @@ public Result start() {
         return Result.success(COMPETITION_STARTED_MESSAGE.formatted(this.monsters.size()));
     }
     private Result handlePhaseZero() {
-        for (CompetitiveMonster monster : this.monsterMap.values()) {
-            if (monster.monster().isDead() && this.monsters.contains(monster)) {
-                this.monsters.remove(monster);
-                this.losers.add(monster);
-            }
-        }
+        this.losers.addAll(this.monsters.removeFainted());
         if (this.monsters.size() < MIN_MONSTERS_TO_RUN_COMPETITION) {
             this.isDecided = true;
             return Result.success(this.monsters.isEmpty()
-                    ? NO_MONSTER_LEFT_ANNOUNCEMENT
-                    : ONE_MONSTER_LEFT_ANNOUNCEMENT.formatted(this.monsters.get(THE_ONLY_MONSTER_ALIVE_INDEX).monster().getName()));
+                    ? new BattleEvent.CompetitionDrawn()
+                    : new BattleEvent.CompetitionWon(this.monsters.get(THE_ONLY_MONSTER_ALIVE_INDEX).monster().getName()));
         }
         this.turnIndex = CYCLE_FIRST_INDEX;
-        this.actionsForThisRound.clear();
-        this.dataForActions.clear();
-        sortAllMonstersBy(false);
+        Arrays.fill(this.actionsInSlots, null);
+        Arrays.fill(this.targetsInSlots, null);
+        this.chosenActions = CYCLE_FIRST_INDEX;
+        this.monsters.orderById();
         updatePendingMessage();
         return Result.success();
     }
-    private void sortAllMonstersBy(boolean sortBySPD) {
-        if (sortBySPD) {
-            this.monsters.sort(CompetitiveMonster.getComparatorForSPDValues());
-            this.losers.sort(CompetitiveMonster.getComparatorForSPDValues());
-        } else {
-            this.monsters.sort(CompetitiveMonster.getComparatorForMonsterNumber());
-            this.losers.sort(CompetitiveMonster.getComparatorForMonsterNumber());
-        }
-    }
     /**
      *  Starts handling the second phase if there is sufficient info from the first phase, handles the first otherwise.
-     * @return result containing info about this iteration of handling the second two phases of the competition.
+     * @return result carrying the events of this iteration of handling the second two phases of the competition,
+     *      rendered as text unless the competition is silent
      */
     public Result handlePhaseOneAndTwo() {
-        if (this.actionsForThisRound.size() < this.monsters.size()) {
+        if (this.chosenActions < this.monsters.size()) {
             updatePendingMessage();
             return Result.success();
         }
-        sortAllMonstersBy(true);
-        StringJoiner resultOfActionsInRound = new StringJoiner(System.lineSeparator());
-        while (this.turnIndex < this.actionsForThisRound.size()) {
+        if (this.turnIndex == CYCLE_FIRST_INDEX && this.turnStep == TurnStep.ANNOUNCEMENT) {
+            this.monsters.orderBySpeed(); //a continued round keeps its order even if a speed changed meanwhile
+        }
+        List<BattleEvent> eventsOfRound = new ArrayList<>();
+        while (this.turnIndex < this.chosenActions) {
             CompetitiveMonster monsterOnTurn = this.monsters.get(turnIndex);
-            if (!monsterOnTurn.monster().isDead()) {
-                if (randomizer.isProcessFirstExecution()) {
-                    resultOfActionsInRound.add(ANNOUNCEMENT_WHOSE_TURN.formatted(monsterOnTurn.monster().getName()));
-                }
-                Result endMonsterConditionResult = monsterOnTurn.monster().tryEndStatCondition(this.randomizer);
-                if (endMonsterConditionResult.getType() == ResultType.NEEDS_DEBUG) {
-                    this.debugInfo = new DebugCompetitionInfo(true, endMonsterConditionResult.getTypeToDebug());
-                    this.pendingMessage = randomizer.getPendingMessage().formatted(endMonsterConditionResult.getDebugMessageLabel());
-                    return Result.success(resultOfActionsInRound.toString());
-                }
-                if (randomizer.isProcessFirstExecution()) {
-                    handleEffectResult(resultOfActionsInRound, endMonsterConditionResult);
-                }
-                if (this.actionsForThisRound.get(monsterOnTurn) == null) {
-                    resultOfActionsInRound.add(ANNOUNCEMENT_ACTION_IS_NULL.formatted(monsterOnTurn.monster().getName()));
-                } else {
-                    Result effectResult = this.actionsForThisRound.get(monsterOnTurn)
-                            .executeAction(monsterOnTurn.monster(), getTargetMonster(monsterOnTurn.id()), this.randomizer);
-                    if (effectResult.getType() == ResultType.NEEDS_DEBUG) {
-                        this.debugInfo = new DebugCompetitionInfo(true, effectResult.getTypeToDebug());
-                        this.pendingMessage = randomizer.getPendingMessage().formatted(effectResult.getDebugMessageLabel());
-                        if (!effectResult.getMessage().isBlank()) { //method handleEffectResult does not use trim() !
-                            resultOfActionsInRound.add(effectResult.getMessage().trim());
-                        }
-                        return Result.success(resultOfActionsInRound.toString());
-                    } else if (randomizer.isProcessFirstExecution()) {
-                        handleEffectResult(resultOfActionsInRound, effectResult);
-                    }
-                }
-                if (monsterOnTurn.monster().getMonsterStatus() == StatusCondition.BURN
-                        && randomizer.isProcessFirstExecution()) {
-                    resultOfActionsInRound.add(BurnEffects.executeEffect(monsterOnTurn.monster()).getMessage());
-                }
+            if (this.isSilent && !monsterOnTurn.monster().isDead()) {
+                executeTurnSilently(monsterOnTurn);
+            } else if (!monsterOnTurn.monster().isDead() && !continueTurn(monsterOnTurn, eventsOfRound)) {
+                return Result.success(eventsOfRound, this.renderer);
             }
             this.randomizer.resetMove();
+            this.turnStep = TurnStep.ANNOUNCEMENT;
             turnIndex++;
         }
         this.debugInfo = new DebugCompetitionInfo(false, null);
-        handleEffectResult(resultOfActionsInRound, handlePostRound());
-        handleEffectResult(resultOfActionsInRound, handlePhaseZero());
-        return Result.success(resultOfActionsInRound.toString());
-    }
-    private Result handlePostRound() {
-        StringJoiner resultEndRound = new StringJoiner(System.lineSeparator());
-        for (CompetitiveMonster monster : this.monsters) {
-            Result nextRound = monster.monster().nextRound();
-            if (!nextRound.getMessage().isBlank()) {
-                resultEndRound.add(nextRound.getMessage());
+        this.roundNumber++;
+        eventsOfRound.addAll(handlePostRound());
+        eventsOfRound.addAll(handlePhaseZero().getEvents());
+        return Result.success(eventsOfRound, this.renderer);
+    }
+    //continues the turn with the step it paused at, returns false if it pauses again for a value decided by the user
+    private boolean continueTurn(CompetitiveMonster monsterOnTurn, List<BattleEvent> eventsOfRound) {
+        Monster monster = monsterOnTurn.monster();
+        if (this.turnStep == TurnStep.ANNOUNCEMENT) {
+            eventsOfRound.add(new BattleEvent.TurnStarted(monster.getName()));
+            this.turnStep = TurnStep.END_CONDITION;
+        }
+        if (this.turnStep == TurnStep.END_CONDITION) {
+            Result endMonsterConditionResult = monster.tryEndStatCondition(this.randomizer);
+            if (endMonsterConditionResult.getType() == ResultType.NEEDS_DEBUG) {
+                pauseForDebugValue(endMonsterConditionResult);
+                return false;
             }
+            eventsOfRound.addAll(endMonsterConditionResult.getEvents());
+            this.randomizer.resetMove();
+            this.turnStep = TurnStep.ACTION;
         }
-        return Result.success(resultEndRound.toString());
-    }
-    private Monster getTargetMonster(int index) {
-        for (ActionExecData data : dataForActions) {
-            if (data.user() != null && data.user().id() == index) {
-                return data.target().monster();
+        Action action = this.actionsInSlots[monster.getSlot()];
+        if (action == null) {
+            eventsOfRound.add(new BattleEvent.Passed(monster.getName()));
+        } else {
+            Result effectResult = action.executeAction(monster, getTargetMonster(monsterOnTurn), this.randomizer);
+            eventsOfRound.addAll(effectResult.getEvents());
+            if (effectResult.getType() == ResultType.NEEDS_DEBUG) {
+                pauseForDebugValue(effectResult);
+                return false;
             }
         }
-        return null;
+        if (monster.getMonsterStatus() == StatusCondition.BURN) {
+            eventsOfRound.addAll(BurnEffects.executeEffect(monster).getEvents());
+        }
+        return true;
+    }
+    private void pauseForDebugValue(Result result) {
+        this.debugInfo = new DebugCompetitionInfo(true, result.getTypeToDebug());
+        this.pendingMessage = this.randomizer.getPendingMessage().formatted(result.getDebugMessageLabel());
+    }
+    private void executeTurnSilently(CompetitiveMonster monsterOnTurn) {
+        Monster monster = monsterOnTurn.monster();
+        monster.tryEndStatConditionSilently(this.randomizer, this.events);
+        Action action = this.actionsInSlots[monster.getSlot()];
+        if (action != null) {
+            action.executeSilently(monster, getTargetMonster(monsterOnTurn), this.randomizer, this.events);
+        }
+        if (monster.getMonsterStatus() == StatusCondition.BURN) {
+            BurnEffects.executeSilently(monster, this.events);
+        }
+        if (this.eventSink != null && !this.events.isEmpty()) {
+            this.eventSink.accept(this.events.render(slot -> this.namesInSlots[slot]));
+        }
+        this.events.clear();
+    }
+    private List<BattleEvent> handlePostRound() {
+        List<BattleEvent> eventsEndRound = new ArrayList<>();
+        for (int index = CYCLE_FIRST_INDEX; index < this.monsters.size(); index++) {
+            eventsEndRound.addAll(this.monsters.get(index).monster().nextRound().getEvents());
+        }
+        return eventsEndRound;
+    }
+    private Monster getTargetMonster(CompetitiveMonster user) {
+        CompetitiveMonster target = this.targetsInSlots[user.monster().getSlot()];
+        return target == null ? null : target.monster();
     }
     /**
      * Determines if an action requires a target.
@@ -325,16 +515,18 @@ private Monster getTargetMonster(int index) {
      */
     public boolean actionNeedsTarget(String actionName) {
         return this.monsters.size() > MIN_MONSTERS_TO_RUN_COMPETITION
-                && this.monsters.get(this.actionsForThisRound.size()).monster().getAction(actionName) != null
-                && this.monsters.get(this.actionsForThisRound.size()).monster().getAction(actionName).requiresTarget();
+                && this.monsters.get(this.chosenActions).monster().getActionTemplate(actionName) != null
+                && this.monsters.get(this.chosenActions).monster().getActionTemplate(actionName).requiresTarget();
     }
     /**
      * Sets the next action to be a pass (no action).
      * @return a Result object representing the outcome of the pass action
      */
     public Result setNextPassAction() {
-        this.actionsForThisRound.put(this.monsters.get(this.actionsForThisRound.size()), null);
-        this.dataForActions.add(new ActionExecData(null, null));
+        if (this.choiceListener != null) {
+            this.choiceListener.accept(null, getMonsterOnTurn().getSlot());
+        }
+        this.chosenActions++;
         updatePendingMessage();
         return handlePhaseOneAndTwo();
     }
@@ -345,31 +537,41 @@ public Result setNextPassAction() {
      * @return a Result object containing the outcome of setting the action
      */
     public Result setNextAction(String actionName, String targetName) {
-        int currentMonsterIndex = this.actionsForThisRound.size();
+        int currentMonsterIndex = this.chosenActions;
         if (this.monsters.get(currentMonsterIndex).monster().getAction(actionName) != null) {
-            Action actionToUse = this.monsters.get(currentMonsterIndex).monster().getAction(actionName).copy();
+            Action actionToUse = this.monsters.get(currentMonsterIndex).monster().getAction(actionName);
             CompetitiveMonster targetMonster = !actionToUse.requiresTarget() ? this.monsters.get(currentMonsterIndex)
-                    : targetName.isBlank() ? getAnotherMonster() : this.monsterMap.get(targetName);
+                    : targetName.isBlank() ? getAnotherMonster() : getParticipant(targetName);
             if (targetMonster == null) {
                 return Result.failed(HAS_NO_MONSTER_NAME_MESSAGE.formatted(targetName));
             }
-            this.dataForActions.add(new ActionExecData(this.monsters.get(currentMonsterIndex), targetMonster));
-            this.actionsForThisRound.put(this.monsters.get(currentMonsterIndex), actionToUse);
+            if (this.choiceListener != null) {
+                this.choiceListener.accept(actionToUse.getName(), targetMonster.monster().getSlot());
+            }
+            int slot = this.monsters.get(currentMonsterIndex).monster().getSlot();
+            this.actionsInSlots[slot] = actionToUse;
+            this.targetsInSlots[slot] = targetMonster;
+            this.chosenActions++;
             updatePendingMessage();
             return handlePhaseOneAndTwo();
         }
         return Result.failed(HAS_NO_ACTION_NAME_MESSAGE
                 .formatted(this.monsters.get(currentMonsterIndex).monster().getName(), actionName));
     }
+    private CompetitiveMonster getParticipant(String monsterName) {
+        Integer slot = this.slotsByName.get(monsterName);
+        return slot == null ? null : this.participants[slot];
+    }
     private CompetitiveMonster getAnotherMonster() {
         if (this.monsters.size() != MIN_MONSTERS_TO_RUN_COMPETITION) {
             throw new IllegalArgumentException(NO_TARGET_FOR_BIG_COMPETITION_MESSAGE);
         }
-        return this.monsters.get((this.actionsForThisRound.size() + OFFSET_TO_CHOOSE_OTHER_MONSTER) % MIN_MONSTERS_TO_RUN_COMPETITION);
+        return this.monsters.get((this.chosenActions + OFFSET_TO_CHOOSE_OTHER_MONSTER) % MIN_MONSTERS_TO_RUN_COMPETITION);
     }
-    private static void handleEffectResult(StringJoiner joiner, Result result) {
-        if (!result.getMessage().isBlank()) {
-            joiner.add(result.getMessage());
-        }
+    //the steps of a turn, a paused turn is continued with the step it paused at
+    private enum TurnStep {
+        ANNOUNCEMENT,
+        END_CONDITION,
+        ACTION
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,97 @@
+package edu.kit.kastel.logistics;
+
+import java.util.Arrays;
+
+/**
+ * Class representing the values of one type the user decided during the current turn in debug mode. The values are
+ * kept in primitive arrays, the history of the turn and the queue of values to replay next, so neither recording nor
+ * replaying a value boxes it. Integers and booleans are stored as doubles, which represent them exactly.
+ * @author upgcv
+ */
+final class DebugValueBuffer {
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final int GROWTH_FACTOR = 2;
+    private static final int START_INDEX = 0;
+    private static final double TRUE_VALUE = 1.0;
+    private static final double FALSE_VALUE = 0.0;
+
+    private double[] values = new double[DEFAULT_CAPACITY];
+    private int size;
+    private double[] queue = new double[DEFAULT_CAPACITY];
+    private int queueStart;
+    private int queueEnd;
+
+    /**
+     * Records the next value of the turn. The value is not replayed before the next {@link #requeue()}.
+     * @param value the value to record
+     */
+    void add(double value) {
+        if (this.size == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.size * GROWTH_FACTOR);
+        }
+        this.values[this.size++] = value;
+    }
+
+    /**
+     * Records the next boolean value of the turn.
+     * @param value the value to record
+     */
+    void add(boolean value) {
+        add(value ? TRUE_VALUE : FALSE_VALUE);
+    }
+
+    /**
+     * Checks if all queued values have been replayed.
+     * @return true if there is no value left to replay, false otherwise
+     */
+    boolean isExhausted() {
+        return this.queueStart == this.queueEnd;
+    }
+
+    /**
+     * Replays the next queued value.
+     * @return the next value
+     */
+    double next() {
+        return this.queue[this.queueStart++];
+    }
+
+    /**
+     * Replays the next queued boolean value.
+     * @return the next value
+     */
+    boolean nextBoolean() {
+        return next() == TRUE_VALUE;
+    }
+
+    /**
+     * Replays the next queued integer value.
+     * @return the next value
+     */
+    int nextInt() {
+        return (int) next();
+    }
+
+    /**
+     * Queues all recorded values for the replay, behind the queued values that have not been replayed yet.
+     */
+    void requeue() {
+        int leftovers = this.queueEnd - this.queueStart;
+        if (leftovers + this.size > this.queue.length) {
+            this.queue = Arrays.copyOf(this.queue, Math.max(this.queue.length * GROWTH_FACTOR, leftovers + this.size));
+        }
+        System.arraycopy(this.queue, this.queueStart, this.queue, START_INDEX, leftovers);
+        System.arraycopy(this.values, START_INDEX, this.queue, leftovers, this.size);
+        this.queueStart = START_INDEX;
+        this.queueEnd = leftovers + this.size;
+    }
+
+    /**
+     * Removes all recorded and queued values, keeping the capacity.
+     */
+    void clear() {
+        this.size = START_INDEX;
+        this.queueStart = START_INDEX;
+        this.queueEnd = START_INDEX;
+    }
+}
@@ -1,53 +1,92 @@
 package edu.kit.kastel.logistics;
 
-import edu.kit.kastel.objects.actions.Action;
+import edu.kit.kastel.objects.ElementRegistry;
+import edu.kit.kastel.objects.actions.ActionTemplate;
 import edu.kit.kastel.objects.monsters.Monster;
+import edu.kit.kastel.objects.monsters.MonsterTemplate;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
 
 /**
- * Represents the setup for a game, managing monsters and actions.
+ * Represents the setup for a game, managing the definitions of monsters and actions and the elements they are of. As
+ * the definitions are immutable, copies share them and the underlying collections are only copied once one of the
+ * sharing setups is modified. The elements are declared while the setup is loaded and shared by all copies.
  * @author upgcv
  */
 public class GameSetup {
-    private final Map<String, Action> mapOfActions;
-    private final List<String> actionNames;
-    private final List<String> monsterNames;
-    private final Map<String, Monster> mapOfMonsters;
+    private final ElementRegistry elements;
+    private Map<String, ActionTemplate> mapOfActions;
+    private List<String> actionNames;
+    private List<String> monsterNames;
+    private Map<String, MonsterTemplate> mapOfMonsters;
+    private boolean isShared;
 
     /**
-     * Constructs a GameSetup instance.
+     * Constructs a GameSetup instance with the default elements.
      */
     public GameSetup() {
+        this(ElementRegistry.withDefaultElements());
+    }
+
+    /**
+     * Constructs a GameSetup instance with the given elements.
+     * @param elements the registry of the elements the actions and monsters of the setup are of
+     */
+    public GameSetup(ElementRegistry elements) {
+        this.elements = elements;
         this.actionNames = new ArrayList<>();
         this.mapOfMonsters = new HashMap<>();
         this.mapOfActions = new HashMap<>();
         this.monsterNames = new ArrayList<>();
+        this.isShared = false;
     }
 
     private GameSetup(GameSetup newGame) {
-        this.actionNames = new ArrayList<>(newGame.actionNames);
-        this.mapOfActions = new HashMap<>();
-        for (String actionName : this.actionNames) {
-            this.mapOfActions.put(actionName, newGame.mapOfActions.get(actionName).copy());
-        }
-        this.monsterNames = new ArrayList<>(newGame.monsterNames);
-        this.mapOfMonsters = new HashMap<>();
-        for (String monsterName : this.monsterNames) {
-            this.mapOfMonsters.put(monsterName, newGame.mapOfMonsters.get(monsterName).copy());
-        }
+        newGame.isShared = true;
+        this.isShared = true;
+        this.elements = newGame.elements;
+        this.actionNames = newGame.actionNames;
+        this.mapOfActions = newGame.mapOfActions;
+        this.monsterNames = newGame.monsterNames;
+        this.mapOfMonsters = newGame.mapOfMonsters;
     }
     /**
-     * Creates a copy of an existing GameSetup instance.
+     * Creates a copy of an existing GameSetup instance. The copy shares all data with this instance until one of them
+     * is modified.
      * @return a new GameSetup instance with the same data.
      */
     public GameSetup copy() {
         return new GameSetup(this);
     }
+    /**
+     * Gets the registry of the elements the actions and monsters of the setup are of.
+     * @return the element registry
+     */
+    public ElementRegistry getElements() {
+        return this.elements;
+    }
+    /**
+     * Checks whether the elements of all actions and monsters are declared in the element registry.
+     * @return true if every element is declared, false otherwise
+     */
+    public boolean isEveryElementDeclared() {
+        for (ActionTemplate action : this.mapOfActions.values()) {
+            if (!this.elements.isDeclared(action.getElement())) {
+                return false;
+            }
+        }
+        for (MonsterTemplate monster : this.mapOfMonsters.values()) {
+            if (!this.elements.isDeclared(monster.element())) {
+                return false;
+            }
+        }
+        return true;
+    }
     /**
      * Returns a string representation of all monsters in the setup.
      * @return a formatted string listing all monsters.
@@ -55,7 +94,7 @@ public GameSetup copy() {
     public String showMonsters() {
         StringJoiner result = new StringJoiner(System.lineSeparator());
         for (String monsterName : monsterNames) {
-            result.add(mapOfMonsters.get(monsterName).showSelf());
+            result.add(mapOfMonsters.get(monsterName).instantiate().showSelf());
         }
         return result.toString();
     }
@@ -64,11 +103,12 @@ public String showMonsters() {
      * @param action the action to add.
      * @return true if the action was successfully added, false if it already exists.
      */
-    public boolean addNewAction(Action action) {
-        if (actionNames.contains(action.getName())) {
+    public boolean addNewAction(ActionTemplate action) {
+        if (mapOfActions.containsKey(action.getName())) {
             return false;
         }
-        mapOfActions.put(action.getName(), action.copy());
+        detachFromCopies();
+        mapOfActions.put(action.getName(), action);
         actionNames.add(action.getName());
         return true;
     }
@@ -87,34 +127,91 @@ public int getMonstersNumber() {
         return this.mapOfMonsters.size();
     }
     /**
-     * Retrieves a copy of an action by its name.
+     * Retrieves the definition of an action by its name.
      * @param actionName the name of the action to retrieve.
-     * @return a copy of the action, or null if it does not exist.
+     * @return the shared definition of the action, or null if it does not exist.
+     */
+    public ActionTemplate getAction(String actionName) {
+        return this.mapOfActions.get(actionName);
+    }
+    /**
+     * Checks whether an action of the given name exists.
+     * @param actionName the name of the action to check.
+     * @return true if the setup contains the action, false otherwise.
+     */
+    public boolean containsAction(String actionName) {
+        return this.mapOfActions.containsKey(actionName);
+    }
+    /**
+     * Retrieves the definitions of all actions in the order they were added.
+     * @return an unmodifiable list of the shared definitions.
      */
-    public Action getAction(String actionName) {
-        Action actionToGet = this.mapOfActions.get(actionName);
-        return actionToGet == null ? null : actionToGet.copy();
+    public List<ActionTemplate> getActions() {
+        List<ActionTemplate> actions = new ArrayList<>(this.actionNames.size());
+        for (String actionName : this.actionNames) {
+            actions.add(this.mapOfActions.get(actionName));
+        }
+        return Collections.unmodifiableList(actions);
+    }
+    /**
+     * Retrieves the definitions of all monsters in the order they were added.
+     * @return an unmodifiable list of the shared definitions.
+     */
+    public List<MonsterTemplate> getMonsterTemplates() {
+        List<MonsterTemplate> monsters = new ArrayList<>(this.monsterNames.size());
+        for (String monsterName : this.monsterNames) {
+            monsters.add(this.mapOfMonsters.get(monsterName));
+        }
+        return Collections.unmodifiableList(monsters);
     }
     /**
-     * Retrieves a copy of a monster by its name.
+     * Retrieves a new monster instance by its name.
      * @param monsterName the name of the monster to retrieve.
-     * @return a copy of the monster, or null if it does not exist.
+     * @return a new monster of the definition, or null if it does not exist.
      */
     public Monster getMonster(String monsterName) {
-        Monster monsterToGet = this.mapOfMonsters.get(monsterName);
-        return monsterToGet == null ? null : monsterToGet.copy();
+        MonsterTemplate monsterToGet = this.mapOfMonsters.get(monsterName);
+        return monsterToGet == null ? null : monsterToGet.instantiate();
+    }
+    /**
+     * Retrieves the definition of a monster by its name.
+     * @param monsterName the name of the monster to retrieve.
+     * @return the shared definition of the monster, or null if it does not exist.
+     */
+    public MonsterTemplate getMonsterTemplate(String monsterName) {
+        return this.mapOfMonsters.get(monsterName);
+    }
+    /**
+     * Checks whether a monster of the given name exists.
+     * @param monsterName the name of the monster to check.
+     * @return true if the setup contains the monster, false otherwise.
+     */
+    public boolean containsMonster(String monsterName) {
+        return this.mapOfMonsters.containsKey(monsterName);
     }
     /**
      * Adds a new monster to the setup if it does not already exist.
      * @param monster the monster to add.
      * @return true if the monster was successfully added, false if it already exists.
      */
-    public boolean addNewMonster(Monster monster) {
-        if (mapOfMonsters.containsKey(monster.getName())) {
+    public boolean addNewMonster(MonsterTemplate monster) {
+        if (mapOfMonsters.containsKey(monster.name())) {
             return false;
         }
-        mapOfMonsters.put(monster.getName(), monster.copy());
-        monsterNames.add(monster.getName());
+        detachFromCopies();
+        mapOfMonsters.put(monster.name(), monster);
+        monsterNames.add(monster.name());
         return true;
     }
+
+    //copies the collections before the first modification, so the setups sharing them are not affected
+    private void detachFromCopies() {
+        if (this.isShared) {
+            this.actionNames = new ArrayList<>(this.actionNames);
+            this.mapOfActions = new HashMap<>(this.mapOfActions);
+            this.monsterNames = new ArrayList<>(this.monsterNames);
+            this.mapOfMonsters = new HashMap<>(this.mapOfMonsters);
+            this.isShared = false;
+        }
+    }
 }
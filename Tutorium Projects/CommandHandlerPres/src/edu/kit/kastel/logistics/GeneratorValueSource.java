@@ -0,0 +1,28 @@
+package edu.kit.kastel.logistics;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Record class representing a source drawing its values from a random generator.
+ * @param generator the generator to draw the values from, it must not be shared with another thread
+ * @author upgcv
+ */
+public record GeneratorValueSource(RandomGenerator generator) implements RandomValueSource {
+    private static final int MAX_PERCENTAGE_RATE = 100;
+    private static final int INTEGER_OFFSET_FOR_UPPER_BOUND = 1;
+
+    @Override
+    public boolean nextSuccess(double successRate) {
+        return this.generator.nextDouble() * MAX_PERCENTAGE_RATE <= successRate;
+    }
+
+    @Override
+    public int nextInt(int firstDigit, int secondDigit) {
+        return this.generator.nextInt(firstDigit, secondDigit + INTEGER_OFFSET_FOR_UPPER_BOUND);
+    }
+
+    @Override
+    public double nextDouble(double firstDigit, double secondDigit) {
+        return this.generator.nextDouble(firstDigit, secondDigit);
+    }
+}
@@ -0,0 +1,33 @@
+package edu.kit.kastel.logistics;
+
+/**
+ * Interface representing where a {@link Randomizer} takes its values from outside the debug mode, e.g. a random
+ * generator, see {@link GeneratorValueSource}, or anything else that hands out the values a competition asks for
+ * in the same order, like a recorded match or an enumeration of all possible outcomes.
+ * @author upgcv
+ */
+public interface RandomValueSource {
+
+    /**
+     * Determines whether a success or failure occurs based on a given success rate.
+     * @param successRate the success rate (between 0 and 100), where 100 is always success
+     * @return true if the hit succeeds, false otherwise
+     */
+    boolean nextSuccess(double successRate);
+
+    /**
+     * Gets the next integer between two specified integers.
+     * @param firstDigit the lower bound (inclusive)
+     * @param secondDigit the upper bound (inclusive)
+     * @return the next integer inbounds
+     */
+    int nextInt(int firstDigit, int secondDigit);
+
+    /**
+     * Gets the next double between two specified doubles.
+     * @param firstDigit the lower bound (inclusive)
+     * @param secondDigit the upper bound (exclusive)
+     * @return the next double inbounds
+     */
+    double nextDouble(double firstDigit, double secondDigit);
+}
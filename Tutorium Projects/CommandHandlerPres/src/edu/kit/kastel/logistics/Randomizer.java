@@ -2,10 +2,10 @@
 
 import edu.kit.kastel.commands.InvalidArgumentException;
 
-import java.util.LinkedList;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * A class that provides randomization methods for various types of values,
@@ -21,27 +21,22 @@ public class Randomizer {
     private static final String QUESTION_INTEGER_SECOND_MESSAGE_PART = ": an integer between %d and %d?";
     private static final String QUESTION_DOUBLE_SECOND_MESSAGE_PART = ": a number between %s and %s?";
     private static final String QUESTION_BOOLEAN_MESSAGE = "Decide %s: yes or no? (y/n)";
+    private static final String NOT_SPLITTABLE_MESSAGE = "Error, this randomizer cannot be split!";
+    private static final String NO_DIRECT_VALUES_IN_DEBUG_MESSAGE = "Error, values of a debugged randomizer are decided by the user!";
 
-    private static final int MAX_PERCENTAGE_RATE = 100;
-    private static final int INTEGER_OFFSET_FOR_UPPER_BOUND = 1;
-
-    private final Queue<Boolean> currentBooleanQueue = new LinkedList<>();
-    private final Queue<Integer> currentIntegerQueue = new LinkedList<>();
-    private final Queue<Double> currentDoubleQueue = new LinkedList<>();
-    private final Queue<Boolean> booleansOnTurn = new LinkedList<>();
-    private final Queue<Integer> integersOnTurn = new LinkedList<>();
-    private final Queue<Double> doublesOnTurn = new LinkedList<>();
+    private final DebugValueBuffer booleansOnTurn = new DebugValueBuffer();
+    private final DebugValueBuffer integersOnTurn = new DebugValueBuffer();
+    private final DebugValueBuffer doublesOnTurn = new DebugValueBuffer();
     private String pendingMessage;
-    private final Random random;
+    private final RandomValueSource source;
     private boolean isDebug;
     private DebugExpectedData expectedData = null;
-    private boolean isFirstBooleanForEndCondition;
 
     /**
      * Constructs a new Randomizer instance with a default random seed.
      */
     public Randomizer() {
-        this.random = new Random();
+        this(new Random());
     }
 
     /**
@@ -49,7 +44,49 @@ public Randomizer() {
      * @param seed the seed value for the random number generator.
      */
     public Randomizer(long seed) {
-        this.random = new Random(seed);
+        this(new Random(seed));
+    }
+
+    /**
+     * Constructs a new Randomizer instance drawing its values from the given generator.
+     * @param generator the generator to draw the values from, it must not be shared with another thread
+     */
+    public Randomizer(RandomGenerator generator) {
+        this(new GeneratorValueSource(generator));
+    }
+
+    /**
+     * Constructs a new Randomizer instance taking its values from the given source. In debug mode the values are
+     * decided by the user instead and the source is not asked for them.
+     * @param source the source to take the values from
+     */
+    public Randomizer(RandomValueSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Creates a randomizer backed by a {@link SplittableRandom}, which does not synchronize on its seed and can be
+     * split into independent randomizers, e.g. one per match of parallel simulations. The same seed always yields the
+     * same values and the same splits, but not the values of {@link #Randomizer(long)}.
+     * @param seed the seed value for the random number generator.
+     * @return a new splittable randomizer
+     */
+    public static Randomizer createSplittable(long seed) {
+        return new Randomizer(new SplittableRandom(seed));
+    }
+
+    /**
+     * Splits off a new randomizer whose values are independent of the values of this one. The new randomizer is
+     * never in debug mode.
+     * @return a new randomizer backed by a generator split off the generator of this randomizer
+     * @throws IllegalStateException if this randomizer is not backed by a splittable generator
+     */
+    public Randomizer split() {
+        if (!(this.source instanceof GeneratorValueSource generatorSource)
+                || !(generatorSource.generator() instanceof RandomGenerator.SplittableGenerator splittableGenerator)) {
+            throw new IllegalStateException(NOT_SPLITTABLE_MESSAGE);
+        }
+        return new Randomizer(splittableGenerator.split());
     }
     /**
      * Determines whether a success or failure occurs based on a given success rate.
@@ -61,14 +98,14 @@ public Randomizer(long seed) {
      */
     public Optional<Boolean> getSuccessOrFail(double successRate) {
         if (isDebug) {
-            if (this.currentBooleanQueue.isEmpty()) {
+            if (this.booleansOnTurn.isExhausted()) {
                 setBooleanPending();
                 return Optional.empty();
             } else {
-                return Optional.of(this.currentBooleanQueue.remove());
+                return Optional.of(this.booleansOnTurn.nextBoolean());
             }
         } else {
-            return Optional.of(random.nextDouble() * MAX_PERCENTAGE_RATE <= successRate);
+            return Optional.of(this.source.nextSuccess(successRate));
         }
     }
     /**
@@ -81,14 +118,14 @@ public Optional<Boolean> getSuccessOrFail(double successRate) {
      */
     public Optional<Integer> getRandomInt(int firstDigit, int secondDigit) {
         if (isDebug) {
-            if (this.currentIntegerQueue.isEmpty()) {
+            if (this.integersOnTurn.isExhausted()) {
                 setIntegerPending(firstDigit, secondDigit);
                 return Optional.empty();
             } else {
-                return Optional.of(this.currentIntegerQueue.remove());
+                return Optional.of(this.integersOnTurn.nextInt());
             }
         } else {
-            return Optional.of(random.nextInt(firstDigit, secondDigit + INTEGER_OFFSET_FOR_UPPER_BOUND));
+            return Optional.of(this.source.nextInt(firstDigit, secondDigit));
         }
     }
     /**
@@ -101,14 +138,62 @@ public Optional<Integer> getRandomInt(int firstDigit, int secondDigit) {
      */
     public Optional<Double> getRandomDouble(double firstDigit, double secondDigit) {
         if (isDebug) {
-            if (this.currentDoubleQueue.isEmpty()) {
+            if (this.doublesOnTurn.isExhausted()) {
                 setDoublePending(firstDigit, secondDigit);
                 return Optional.empty();
             } else {
-                return Optional.of(this.currentDoubleQueue.remove());
+                return Optional.of(this.doublesOnTurn.next());
             }
         } else {
-            return Optional.of(random.nextDouble(firstDigit, secondDigit));
+            return Optional.of(this.source.nextDouble(firstDigit, secondDigit));
+        }
+    }
+
+    /**
+     * Determines whether a success or failure occurs based on a given success rate, without wrapping the outcome.
+     * Draws the same value as {@link #getSuccessOrFail(double)} does outside the debug mode.
+     *
+     * @param successRate the success rate (between 0 and 100).
+     * @return true if the hit succeeds, false otherwise
+     * @throws IllegalStateException if the debug mode is on
+     */
+    public boolean nextSuccess(double successRate) {
+        requireNotDebugged();
+        return this.source.nextSuccess(successRate);
+    }
+
+    /**
+     * Generates a random integer between two specified integers (both inclusive), without wrapping the outcome.
+     * Draws the same value as {@link #getRandomInt(int, int)} does outside the debug mode.
+     *
+     * @param firstDigit the lower bound (inclusive).
+     * @param secondDigit the upper bound (inclusive).
+     * @return the next integer inbounds
+     * @throws IllegalStateException if the debug mode is on
+     */
+    public int nextInt(int firstDigit, int secondDigit) {
+        requireNotDebugged();
+        return this.source.nextInt(firstDigit, secondDigit);
+    }
+
+    /**
+     * Generates a random double between two specified doubles (inclusive of the first, exclusive of the second),
+     * without wrapping the outcome. Draws the same value as {@link #getRandomDouble(double, double)} does outside the
+     * debug mode.
+     *
+     * @param firstDigit the lower bound (inclusive).
+     * @param secondDigit the upper bound (exclusive).
+     * @return the next double inbounds
+     * @throws IllegalStateException if the debug mode is on
+     */
+    public double nextDouble(double firstDigit, double secondDigit) {
+        requireNotDebugged();
+        return this.source.nextDouble(firstDigit, secondDigit);
+    }
+
+    private void requireNotDebugged() {
+        if (this.isDebug) {
+            throw new IllegalStateException(NO_DIRECT_VALUES_IN_DEBUG_MESSAGE);
         }
     }
 
@@ -147,47 +232,20 @@ public String getPendingMessage() {
     }
 
     /**
-     * Resets collected data for the current move to proceed on the next during a debug mode in the {@link Competition}.
+     * Resets collected data once a step of the current move, e.g. a single effect, is completed. Until then, the step
+     * is executed again with all values set for it every time the user sets a new value during the debug mode.
      */
     public void resetMove() {
         this.expectedData = null;
         this.booleansOnTurn.clear();
         this.integersOnTurn.clear();
         this.doublesOnTurn.clear();
-        this.currentBooleanQueue.clear();
-        this.currentIntegerQueue.clear();
-        this.currentDoubleQueue.clear();
-        this.isFirstBooleanForEndCondition = false;
     }
 
-    private void refillCurrentQueues() {
-        this.currentBooleanQueue.addAll(booleansOnTurn);
-        this.currentDoubleQueue.addAll(doublesOnTurn);
-        this.currentIntegerQueue.addAll(integersOnTurn);
-    }
-
-    /**
-     * Indicates if the process that is being processed is being done at the first time during this turn.
-     * @return true if it is the first time, false otherwise
-     */
-    public boolean isProcessFirstExecution() {
-        return this.currentBooleanQueue.isEmpty() && this.currentDoubleQueue.isEmpty() && this.currentIntegerQueue.isEmpty();
-    }
-
-    /**
-     * Sets the first Boolean in the queue responsible for the end condition question.
-     */
-    public void setFirstBooleanForEndCondition() {
-        this.isFirstBooleanForEndCondition = true;
-    }
-
-    /**
-     * Skips the next boolean value if needed for the end condition effect.
-     */
-    public void skipFirstBooleanValue() {
-        if (this.isFirstBooleanForEndCondition) {
-            getSuccessOrFail(MAX_PERCENTAGE_RATE); //to skip the first element for the end condition effect, which executes only once.
-        }
+    private void requeueValuesOnTurn() {
+        this.booleansOnTurn.requeue();
+        this.doublesOnTurn.requeue();
+        this.integersOnTurn.requeue();
     }
 
     private void setBooleanPending() {
@@ -220,7 +278,7 @@ public void setNextValue(boolean nextBoolean) throws InvalidArgumentException {
             throw new InvalidArgumentException(NOT_THIS_TYPE_EXPECTED_MESSAGE);
         }
         this.booleansOnTurn.add(nextBoolean);
-        refillCurrentQueues();
+        requeueValuesOnTurn();
     }
     /**
      * Sets the next Integer value for the competition round in the second phase to proceed. Is usually used to set the data
@@ -238,7 +296,7 @@ public void setNextValue(int nextInteger) throws InvalidArgumentException {
             throw new InvalidArgumentException(INPUT_IS_NOT_BETWEEN_BORDERS_MESSAGE);
         }
         this.integersOnTurn.add(nextInteger);
-        refillCurrentQueues();
+        requeueValuesOnTurn();
     }
 
     /**
@@ -257,6 +315,6 @@ public void setNextValue(double nextDouble) throws InvalidArgumentException {
             throw new InvalidArgumentException(INPUT_IS_NOT_BETWEEN_BORDERS_MESSAGE);
         }
         this.doublesOnTurn.add(nextDouble);
-        refillCurrentQueues();
+        requeueValuesOnTurn();
     }
 }
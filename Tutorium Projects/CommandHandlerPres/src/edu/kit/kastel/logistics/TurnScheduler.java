@@ -0,0 +1,173 @@
+package edu.kit.kastel.logistics;
+
+import edu.kit.kastel.objects.monsters.CompetitiveMonster;
+import edu.kit.kastel.objects.monsters.StatisticOfMonster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Class keeping the monsters of a competition that have not fainted yet in the order they choose their actions, by
+ * their ids, and in the order they execute them, by their effective SPD with ties broken by their ids. Both orders are
+ * kept in arrays that are never sorted from scratch. Fainted monsters are removed by compacting the arrays, and the
+ * speed order is only repaired by moving the monsters whose SPD changed since the last time it was ordered, which
+ * costs linear time in a round without many changes.
+ * @author upgcv
+ */
+final class TurnScheduler {
+    private static final int CYCLE_START_INDEX = 0;
+    private static final int PREVIOUS_INDEX_OFFSET = 1;
+    private static final int NO_MONSTERS = 0;
+    private static final int EQUAL_SPEEDS = 0;
+    private static final double UNKNOWN_SPEED = Double.NaN;
+
+    private final CompetitiveMonster[] byId;
+    private final CompetitiveMonster[] bySpeed;
+    private final double[] speedsInSlots;
+    private int size;
+    private boolean isOrderedBySpeed;
+
+    /**
+     * Creates a scheduler ordered by the ids of the monsters.
+     * @param monstersById the monsters taking part in the competition, in ascending order of their ids
+     */
+    TurnScheduler(List<CompetitiveMonster> monstersById) {
+        this.byId = monstersById.toArray(CompetitiveMonster[]::new);
+        this.bySpeed = this.byId.clone();
+        this.speedsInSlots = new double[this.byId.length];
+        Arrays.fill(this.speedsInSlots, UNKNOWN_SPEED);
+        this.size = this.byId.length;
+        this.isOrderedBySpeed = false;
+    }
+
+    private TurnScheduler(TurnScheduler source, Map<CompetitiveMonster, CompetitiveMonster> copiedMonsters) {
+        this.byId = new CompetitiveMonster[source.byId.length];
+        this.bySpeed = new CompetitiveMonster[source.bySpeed.length];
+        for (int index = CYCLE_START_INDEX; index < source.size; index++) {
+            this.byId[index] = copiedMonsters.get(source.byId[index]);
+            this.bySpeed[index] = copiedMonsters.get(source.bySpeed[index]);
+        }
+        this.speedsInSlots = source.speedsInSlots.clone();
+        this.size = source.size;
+        this.isOrderedBySpeed = source.isOrderedBySpeed;
+    }
+
+    /**
+     * Creates a copy of this scheduler holding the copies of its monsters in the same orders.
+     * @param copiedMonsters map from the monsters of this scheduler to their copies
+     * @return a new, independent scheduler
+     */
+    TurnScheduler copy(Map<CompetitiveMonster, CompetitiveMonster> copiedMonsters) {
+        return new TurnScheduler(this, copiedMonsters);
+    }
+
+    /**
+     * Gets the number of monsters that have not been removed yet.
+     * @return the number of scheduled monsters
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether all monsters have been removed.
+     * @return true if no monster is scheduled, false otherwise
+     */
+    boolean isEmpty() {
+        return this.size == NO_MONSTERS;
+    }
+
+    /**
+     * Gets a monster by its position in the current order.
+     * @param index the position of the monster
+     * @return the monster at the position
+     * @throws IndexOutOfBoundsException if the position is negative or not smaller than the number of scheduled
+     *     monsters
+     */
+    CompetitiveMonster get(int index) {
+        Objects.checkIndex(index, this.size);
+        return this.isOrderedBySpeed ? this.bySpeed[index] : this.byId[index];
+    }
+
+    /**
+     * Switches to the order the monsters choose their actions in, ascending by their ids.
+     */
+    void orderById() {
+        this.isOrderedBySpeed = false;
+    }
+
+    /**
+     * Switches to the order the monsters execute their actions in, descending by their current effective SPD and
+     * ascending by their ids for equal SPD. The order does not change again until this method is called the next
+     * time, even if the SPD of a monster changes meanwhile.
+     */
+    void orderBySpeed() {
+        this.isOrderedBySpeed = true;
+        boolean isSpeedChanged = false;
+        for (int index = CYCLE_START_INDEX; index < this.size; index++) {
+            CompetitiveMonster monster = this.bySpeed[index];
+            double speed = monster.monster().getStatisticEffectiveValue(StatisticOfMonster.SPD);
+            int slot = monster.monster().getSlot();
+            if (Double.compare(speed, this.speedsInSlots[slot]) != EQUAL_SPEEDS) {
+                this.speedsInSlots[slot] = speed;
+                isSpeedChanged = true;
+            }
+        }
+        if (isSpeedChanged) {
+            repairSpeedOrder();
+        }
+    }
+
+    /**
+     * Removes all fainted monsters from both orders, keeping the order of the remaining ones.
+     * @return the removed monsters in the current order
+     */
+    List<CompetitiveMonster> removeFainted() {
+        List<CompetitiveMonster> fainted = new ArrayList<>();
+        for (int index = CYCLE_START_INDEX; index < this.size; index++) {
+            CompetitiveMonster monster = get(index);
+            if (monster.monster().isDead()) {
+                fainted.add(monster);
+            }
+        }
+        if (!fainted.isEmpty()) {
+            int remaining = compactLiving(this.byId);
+            compactLiving(this.bySpeed);
+            this.size = remaining;
+        }
+        return fainted;
+    }
+
+    private int compactLiving(CompetitiveMonster[] order) {
+        int remaining = NO_MONSTERS;
+        for (int index = CYCLE_START_INDEX; index < this.size; index++) {
+            if (!order[index].monster().isDead()) {
+                order[remaining++] = order[index];
+            }
+        }
+        Arrays.fill(order, remaining, this.size, null);
+        return remaining;
+    }
+
+    //insertion sort, so a monster is only moved past the monsters it has to overtake
+    private void repairSpeedOrder() {
+        for (int index = CYCLE_START_INDEX + PREVIOUS_INDEX_OFFSET; index < this.size; index++) {
+            CompetitiveMonster monster = this.bySpeed[index];
+            int position = index;
+            while (position > CYCLE_START_INDEX && isFaster(monster, this.bySpeed[position - PREVIOUS_INDEX_OFFSET])) {
+                this.bySpeed[position] = this.bySpeed[position - PREVIOUS_INDEX_OFFSET];
+                position--;
+            }
+            this.bySpeed[position] = monster;
+        }
+    }
+
+    private boolean isFaster(CompetitiveMonster monster, CompetitiveMonster other) {
+        double speed = this.speedsInSlots[monster.monster().getSlot()];
+        double otherSpeed = this.speedsInSlots[other.monster().getSlot()];
+        return speed > otherSpeed || speed == otherSpeed && monster.id() < other.id();
+    }
+}
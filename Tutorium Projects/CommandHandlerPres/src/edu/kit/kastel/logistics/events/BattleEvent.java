@@ -0,0 +1,308 @@
+package edu.kit.kastel.logistics.events;
+
+import edu.kit.kastel.objects.Effectiveness;
+import edu.kit.kastel.objects.actions.StatusCondition;
+import edu.kit.kastel.objects.monsters.StatisticOfMonster;
+
+/**
+ * Interface representing something that happened in a {@link edu.kit.kastel.logistics.Competition}, carried by a
+ * {@link edu.kit.kastel.commands.Result} instead of its text. Every event only keeps the names and values it is about,
+ * its text is created by a {@link BattleEventRenderer} once somebody needs it.
+ * @author upgcv
+ */
+public sealed interface BattleEvent {
+
+    /**
+     * Describes the event as the single line, or the lines, the console shows for it.
+     * @return the text of the event
+     */
+    String describe();
+
+    /**
+     * Indicates if only one event of the kinds marked like this is kept during a single action.
+     * @return true if a second event of such a kind is dropped within an action, false otherwise
+     */
+    default boolean isOncePerAction() {
+        return false;
+    }
+
+    /**
+     * A monster announces the action it uses.
+     * @param user the name of the monster using the action
+     * @param action the name of the action
+     */
+    record ActionUsed(String user, String action) implements BattleEvent {
+        private static final String MESSAGE = "%s uses %s!";
+
+        @Override
+        public String describe() {
+            return MESSAGE.formatted(this.user, this.action);
+        }
+    }
+
+    /**
+     * The first effect of an action failed or the action had no valid target.
+     * @param user the name of the monster using the action
+     */
+    record ActionFailed(String user) implements BattleEvent {
+        @Override
+        public String describe() {
+            return BattleEventType.ACTION_FAILED.render(this.user, BattleEventType.NO_AMOUNT);
+        }
+    }
+
+    /**
+     * A damage or healing effect hit with a critical factor.
+     * @param target the name of the monster the effect is used on
+     */
+    record CriticalHit(String target) implements BattleEvent {
+        @Override
+        public String describe() {
+            return BattleEventType.CRITICAL_HIT.render(this.target, BattleEventType.NO_AMOUNT);
+        }
+    }
+
+    /**
+     * The element of a damage or healing effect is worth a message against the target. Kept once per action.
+     * @param target the name of the monster the effect is used on
+     * @param effectiveness the effectiveness of the element against the target
+     */
+    record EffectivenessAnnounced(String target, Effectiveness effectiveness) implements BattleEvent {
+        @Override
+        public String describe() {
+            return this.effectiveness.getMessage();
+        }
+
+        @Override
+        public boolean isOncePerAction() {
+            return true;
+        }
+    }
+
+    /**
+     * A monster took damage.
+     * @param target the name of the damaged monster
+     * @param damage the amount of damage
+     */
+    record DamageDealt(String target, int damage) implements BattleEvent {
+        @Override
+        public String describe() {
+            return BattleEventType.DAMAGE.render(this.target, this.damage);
+        }
+    }
+
+    /**
+     * A monster was protected against damage.
+     * @param target the name of the protected monster
+     */
+    record DamageBlocked(String target) implements BattleEvent {
+        @Override
+        public String describe() {
+            return BattleEventType.DAMAGE_BLOCKED.render(this.target, BattleEventType.NO_AMOUNT);
+        }
+    }
+
+    /**
+     * A monster gained back health points.
+     * @param target the name of the healed monster
+     * @param health the amount of health points
+     */
+    record Healed(String target, int health) implements BattleEvent {
+        @Override
+        public String describe() {
+            return BattleEventType.HEAL.render(this.target, this.health);
+        }
+    }
+
+    /**
+     * A monster fainted.
+     * @param target the name of the fainted monster
+     */
+    record Fainted(String target) implements BattleEvent {
+        @Override
+        public String describe() {
+            return BattleEventType.FAINTED.render(this.target, BattleEventType.NO_AMOUNT);
+        }
+    }
+
+    /**
+     * The offset of a statistic of a monster was raised or left unchanged.
+     * @param target the name of the monster
+     * @param statistic the changed statistic
+     */
+    record StatRaised(String target, StatisticOfMonster statistic) implements BattleEvent {
+        private static final String MESSAGE = "%s's %s rises!";
+
+        @Override
+        public String describe() {
+            return MESSAGE.formatted(this.target, this.statistic);
+        }
+    }
+
+    /**
+     * The offset of a statistic of a monster was lowered.
+     * @param target the name of the monster
+     * @param statistic the changed statistic
+     */
+    record StatLowered(String target, StatisticOfMonster statistic) implements BattleEvent {
+        private static final String MESSAGE = "%s's %s decreases...";
+
+        @Override
+        public String describe() {
+            return MESSAGE.formatted(this.target, this.statistic);
+        }
+    }
+
+    /**
+     * A monster was protected against the change of a statistic.
+     * @param target the name of the protected monster
+     */
+    record StatChangeBlocked(String target) implements BattleEvent {
+        private static final String MESSAGE = "%s is protected and is unaffected!";
+
+        @Override
+        public String describe() {
+            return MESSAGE.formatted(this.target);
+        }
+    }
+
+    /**
+     * A monster got a status condition.
+     * @param target the name of the monster
+     * @param condition the new status condition
+     */
+    record StatusInflicted(String target, StatusCondition condition) implements BattleEvent {
+        @Override
+        public String describe() {
+            return this.condition.getGetsStatusMessage().formatted(this.target);
+        }
+    }
+
+    /**
+     * A monster keeps its status condition at the start of its turn.
+     * @param target the name of the monster
+     * @param condition the kept status condition
+     */
+    record StatusPersisted(String target, StatusCondition condition) implements BattleEvent {
+        @Override
+        public String describe() {
+            return BattleEventType.STATUS_PERSISTED.render(this.target, this.condition.ordinal());
+        }
+    }
+
+    /**
+     * A monster lost its status condition at the start of its turn.
+     * @param target the name of the monster
+     * @param condition the lost status condition
+     */
+    record StatusEnded(String target, StatusCondition condition) implements BattleEvent {
+        @Override
+        public String describe() {
+            return BattleEventType.STATUS_ENDED.render(this.target, this.condition.ordinal());
+        }
+    }
+
+    /**
+     * A monster is now protected against damage.
+     * @param target the name of the protected monster
+     */
+    record HealthProtected(String target) implements BattleEvent {
+        private static final String MESSAGE = "%s is now protected against damage!";
+
+        @Override
+        public String describe() {
+            return MESSAGE.formatted(this.target);
+        }
+    }
+
+    /**
+     * A monster is now protected against status changes.
+     * @param target the name of the protected monster
+     */
+    record StatisticsProtected(String target) implements BattleEvent {
+        private static final String MESSAGE = "%s is now protected against status changes!";
+
+        @Override
+        public String describe() {
+            return MESSAGE.formatted(this.target);
+        }
+    }
+
+    /**
+     * The protection of a monster ended with the round.
+     * @param target the name of the monster
+     */
+    record ProtectionFaded(String target) implements BattleEvent {
+        private static final String MESSAGE = "%s's protection fades away...";
+
+        @Override
+        public String describe() {
+            return MESSAGE.formatted(this.target);
+        }
+    }
+
+    /**
+     * A burning monster took damage at the end of its turn.
+     * @param target the name of the burning monster
+     * @param damage the amount of damage
+     */
+    record BurnDamageDealt(String target, int damage) implements BattleEvent {
+        @Override
+        public String describe() {
+            return BattleEventType.BURN_DAMAGE.render(this.target, this.damage);
+        }
+    }
+
+    /**
+     * The turn of a monster starts, preceded by an empty line.
+     * @param monster the name of the monster on turn
+     */
+    record TurnStarted(String monster) implements BattleEvent {
+        private static final String MESSAGE = System.lineSeparator() + "It's %s's turn.";
+
+        @Override
+        public String describe() {
+            return MESSAGE.formatted(this.monster);
+        }
+    }
+
+    /**
+     * A monster passes instead of using an action.
+     * @param monster the name of the passing monster
+     */
+    record Passed(String monster) implements BattleEvent {
+        private static final String MESSAGE = "%s passes!";
+
+        @Override
+        public String describe() {
+            return MESSAGE.formatted(this.monster);
+        }
+    }
+
+    /**
+     * The competition ended with a winner, preceded by an empty line.
+     * @param winner the name of the only monster left
+     */
+    record CompetitionWon(String winner) implements BattleEvent {
+        private static final String MESSAGE = System.lineSeparator()
+                + "%s has no opponents left and wins the competition!";
+
+        @Override
+        public String describe() {
+            return MESSAGE.formatted(this.winner);
+        }
+    }
+
+    /**
+     * The competition ended because all monsters fainted, preceded by an empty line.
+     */
+    record CompetitionDrawn() implements BattleEvent {
+        private static final String MESSAGE = System.lineSeparator()
+                + "All monsters have fainted. The competition ends without a winner!";
+
+        @Override
+        public String describe() {
+            return MESSAGE;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package edu.kit.kastel.logistics.events;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.function.IntFunction;
+
+/**
+ * Class representing a reusable buffer of battle events, stored as parallel arrays. Once the buffer has grown to the
+ * number of events of a turn, recording events does not allocate anymore. Text is only created when the events are
+ * rendered.
+ * @author upgcv
+ */
+public final class BattleEventBuffer {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int GROWTH_FACTOR = 2;
+    private static final int NO_AMOUNT = 0;
+    private static final int CYCLE_START_INDEX = 0;
+
+    private BattleEventType[] types;
+    private int[] subjects;
+    private int[] amounts;
+    private int size;
+    private int actionStart;
+
+    /**
+     * Creates an empty buffer.
+     */
+    public BattleEventBuffer() {
+        this.types = new BattleEventType[DEFAULT_CAPACITY];
+        this.subjects = new int[DEFAULT_CAPACITY];
+        this.amounts = new int[DEFAULT_CAPACITY];
+        this.size = CYCLE_START_INDEX;
+        this.actionStart = CYCLE_START_INDEX;
+    }
+
+    /**
+     * Marks that the following events belong to a new action.
+     * @see BattleEventType#isOncePerAction()
+     */
+    public void markActionStart() {
+        this.actionStart = this.size;
+    }
+
+    /**
+     * Records an event without an amount.
+     * @param type the kind of the event
+     * @param subject the slot of the monster the event is about
+     */
+    public void add(BattleEventType type, int subject) {
+        add(type, subject, NO_AMOUNT);
+    }
+
+    /**
+     * Records an event. Events of a kind that is recorded once per action are dropped if such an event was already
+     * recorded since the last action start.
+     * @param type the kind of the event
+     * @param subject the slot of the monster the event is about
+     * @param amount the amount of damage or healing
+     */
+    public void add(BattleEventType type, int subject, int amount) {
+        if (type.isOncePerAction() && containsOncePerActionEvent()) {
+            return;
+        }
+        if (this.size == this.types.length) {
+            int newCapacity = this.types.length * GROWTH_FACTOR;
+            this.types = Arrays.copyOf(this.types, newCapacity);
+            this.subjects = Arrays.copyOf(this.subjects, newCapacity);
+            this.amounts = Arrays.copyOf(this.amounts, newCapacity);
+        }
+        this.types[this.size] = type;
+        this.subjects[this.size] = subject;
+        this.amounts[this.size] = amount;
+        this.size++;
+    }
+
+    private boolean containsOncePerActionEvent() {
+        for (int index = this.actionStart; index < this.size; index++) {
+            if (this.types[index].isOncePerAction()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of recorded events.
+     * @return the number of events since the last clear
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether no event was recorded.
+     * @return true if the buffer is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return this.size == CYCLE_START_INDEX;
+    }
+
+    /**
+     * Gets the kind of a recorded event.
+     * @param index the index of the event
+     * @return the kind of the event
+     */
+    public BattleEventType getType(int index) {
+        return this.types[index];
+    }
+
+    /**
+     * Gets the subject of a recorded event.
+     * @param index the index of the event
+     * @return the slot of the monster the event is about
+     */
+    public int getSubject(int index) {
+        return this.subjects[index];
+    }
+
+    /**
+     * Gets the amount of a recorded event.
+     * @param index the index of the event
+     * @return the amount of damage or healing, 0 for events without an amount
+     */
+    public int getAmount(int index) {
+        return this.amounts[index];
+    }
+
+    /**
+     * Removes all recorded events, keeping the capacity.
+     */
+    public void clear() {
+        this.size = CYCLE_START_INDEX;
+        this.actionStart = CYCLE_START_INDEX;
+    }
+
+    /**
+     * Renders all recorded events as text, one line per event.
+     * @param subjectNames provides the name of the monster in a slot
+     * @return the text of all events
+     */
+    public String render(IntFunction<String> subjectNames) {
+        StringJoiner output = new StringJoiner(System.lineSeparator());
+        for (int index = CYCLE_START_INDEX; index < this.size; index++) {
+            output.add(this.types[index].render(subjectNames.apply(this.subjects[index]), this.amounts[index]));
+        }
+        return output.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package edu.kit.kastel.logistics.events;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+/**
+ * Enum representing the ways the {@link BattleEvent}s carried by a {@link edu.kit.kastel.commands.Result} are turned
+ * into its message. The message is only rendered once it is asked for.
+ * @author upgcv
+ */
+public enum BattleEventRenderer {
+
+    /**
+     * Renders the exact text the console shows, one event after the other, separated by line separators.
+     */
+    CONSOLE(events -> {
+        StringJoiner output = new StringJoiner(System.lineSeparator());
+        for (BattleEvent event : events) {
+            output.add(event.describe());
+        }
+        return output.toString();
+    }),
+
+    /**
+     * Renders nothing, for simulations nobody reads the messages of.
+     */
+    NONE(events -> "");
+
+    private final Function<List<BattleEvent>, String> renderingProvider;
+
+    BattleEventRenderer(Function<List<BattleEvent>, String> renderingProvider) {
+        this.renderingProvider = renderingProvider;
+    }
+
+    /**
+     * Renders the events as a message.
+     * @param events the events in the order they happened
+     * @return the message of the events
+     */
+    public String render(List<BattleEvent> events) {
+        return this.renderingProvider.apply(events);
+    }
+}
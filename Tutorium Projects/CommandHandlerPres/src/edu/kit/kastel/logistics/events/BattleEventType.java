@@ -0,0 +1,107 @@
+package edu.kit.kastel.logistics.events;
+
+import edu.kit.kastel.objects.actions.StatusCondition;
+
+/**
+ * Enum representing the kinds of events that can be recorded into a {@link BattleEventBuffer} while a
+ * {@link edu.kit.kastel.logistics.Competition} runs silently. Every kind knows how to render itself as text.
+ * @author upgcv
+ */
+public enum BattleEventType {
+
+    /**
+     * The first effect of an action failed or the action had no valid target, the subject is the user.
+     */
+    ACTION_FAILED("The action failed...", false),
+
+    /**
+     * A damage or healing effect hit with a critical factor, the subject is the target.
+     */
+    CRITICAL_HIT("Critical hit!", false),
+
+    /**
+     * The element of a damage or healing effect is very effective against the subject. Recorded once per action.
+     */
+    VERY_EFFECTIVE("It is very effective!", true),
+
+    /**
+     * The element of a damage or healing effect is not very effective against the subject. Recorded once per action.
+     */
+    NOT_VERY_EFFECTIVE("It is not very effective...", true),
+
+    /**
+     * The subject took the amount of damage.
+     */
+    DAMAGE("%s takes %d damage!", false),
+
+    /**
+     * The subject was protected against the damage.
+     */
+    DAMAGE_BLOCKED("%s is protected and takes no damage!", false),
+
+    /**
+     * The subject gained back the amount of health points.
+     */
+    HEAL("%s gains back %d health!", false),
+
+    /**
+     * The subject fainted.
+     */
+    FAINTED("%s faints!", false),
+
+    /**
+     * The subject took the amount of damage from burning at the end of its turn.
+     */
+    BURN_DAMAGE("%s takes %d damage from burning!", false),
+
+    /**
+     * The subject kept its status condition at the start of its turn, the amount is the ordinal of the condition.
+     */
+    STATUS_PERSISTED("", false) {
+        @Override
+        public String render(String subjectName, int amount) {
+            return StatusCondition.values()[amount].getHasStatusMessage().formatted(subjectName);
+        }
+    },
+
+    /**
+     * The subject lost its status condition at the start of its turn, the amount is the ordinal of the condition.
+     */
+    STATUS_ENDED("", false) {
+        @Override
+        public String render(String subjectName, int amount) {
+            return StatusCondition.values()[amount].getLosesStatusMessage().formatted(subjectName);
+        }
+    };
+
+    /**
+     * The amount of events that are not about damage or healing.
+     */
+    public static final int NO_AMOUNT = 0;
+
+    private final String message;
+    private final boolean isOncePerAction;
+
+    BattleEventType(String message, boolean isOncePerAction) {
+        this.message = message;
+        this.isOncePerAction = isOncePerAction;
+    }
+
+    /**
+     * Indicates if only one event of the kinds marked like this is recorded during a single action.
+     * @return true if a second event of such a kind is dropped within an action, false otherwise
+     */
+    public boolean isOncePerAction() {
+        return this.isOncePerAction;
+    }
+
+    /**
+     * Renders an event of this kind as text.
+     * @param subjectName the name of the monster the event is about
+     * @param amount the amount of the event, ignored by kinds without an amount
+     * @return the message describing the event
+     */
+    public String render(String subjectName, int amount) {
+        return this.message.formatted(subjectName, amount);
+    }
+}
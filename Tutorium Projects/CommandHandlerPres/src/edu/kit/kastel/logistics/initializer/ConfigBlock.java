@@ -0,0 +1,40 @@
+package edu.kit.kastel.logistics.initializer;
+
+import edu.kit.kastel.objects.actions.ActionTemplate;
+
+/**
+ * Record class representing a parsed top level block of a config, either a complete action or a single line. A
+ * monster line's actions are resolved and an element or matchup line is declared once the block is added to a game
+ * setup.
+ * @param action the parsed action, or null if the block is a single line
+ * @param line the line describing a monster, an element or a matchup, or null if the block is an action
+ * @author upgcv
+ */
+public record ConfigBlock(ActionTemplate action, ConfigLine line) {
+
+    /**
+     * Creates a block holding a parsed action.
+     * @param action the parsed action
+     * @return the new block
+     */
+    public static ConfigBlock ofAction(ActionTemplate action) {
+        return new ConfigBlock(action, null);
+    }
+
+    /**
+     * Creates a block holding a single line.
+     * @param line the line describing a monster, an element or a matchup
+     * @return the new block
+     */
+    public static ConfigBlock ofLine(ConfigLine line) {
+        return new ConfigBlock(null, line);
+    }
+
+    /**
+     * Checks whether this block holds an action.
+     * @return true if it holds an action, false if it holds a single line
+     */
+    public boolean isAction() {
+        return this.action != null;
+    }
+}
@@ -0,0 +1,60 @@
+package edu.kit.kastel.logistics.initializer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Reads a config line by line and tokenizes every line exactly once. Each line read is passed to an echo, so the
+ * content of the config can be displayed without reading it again.
+ * @author upgcv
+ */
+public class ConfigLexer implements ConfigLineSource {
+    private static final String TOKEN_SEPARATOR = " ";
+    private static final String WHITESPACE_CHARS = " \t\n\u000B\f\r";
+    private static final int NOT_FOUND = -1;
+    private static final int CYCLE_START_INDEX = 0;
+    private static final int LAST_CHAR_OFFSET = 1;
+
+    private final BufferedReader reader;
+    private final Consumer<String> echo;
+
+    /**
+     * Creates a lexer reading from the given reader.
+     * @param reader the reader providing the lines of the config
+     * @param echo receives every line as written in the config once it is read
+     */
+    public ConfigLexer(BufferedReader reader, Consumer<String> echo) {
+        this.reader = reader;
+        this.echo = echo;
+    }
+
+    @Override
+    public ConfigLine nextLine() throws IOException {
+        String text = this.reader.readLine();
+        if (text == null) {
+            return null;
+        }
+        this.echo.accept(text);
+        return tokenize(text);
+    }
+
+    /**
+     * Tokenizes a single line of a config. The words of a line are separated by exactly one space, the line itself
+     * may be surrounded by whitespace.
+     * @param text the line as written in the config
+     * @return the tokenized line
+     */
+    public static ConfigLine tokenize(String text) {
+        int start = CYCLE_START_INDEX;
+        int end = text.length();
+        while (start < end && WHITESPACE_CHARS.indexOf(text.charAt(start)) != NOT_FOUND) {
+            start++;
+        }
+        while (end > start && WHITESPACE_CHARS.indexOf(text.charAt(end - LAST_CHAR_OFFSET)) != NOT_FOUND) {
+            end--;
+        }
+        String[] tokens = text.substring(start, end).split(TOKEN_SEPARATOR);
+        return new ConfigLine(text, tokens, ConfigLineType.classify(tokens));
+    }
+}
@@ -0,0 +1,36 @@
+package edu.kit.kastel.logistics.initializer;
+
+/**
+ * Record class representing a line of a config, tokenized once when it is read.
+ * @param text the line as written in the config
+ * @param tokens the words of the line without the surrounding whitespace
+ * @param type the kind of line, or null if the line is blank or not valid
+ * @author upgcv
+ */
+public record ConfigLine(String text, String[] tokens, ConfigLineType type) {
+
+    /**
+     * Checks whether the line is blank.
+     * @return true if the line only consists of whitespace, false otherwise
+     */
+    public boolean isBlank() {
+        return this.text.isBlank();
+    }
+
+    /**
+     * Checks whether the line is of the given kind.
+     * @param typeToCheck the kind of line to compare with
+     * @return true if the line is of the given kind, false otherwise
+     */
+    public boolean is(ConfigLineType typeToCheck) {
+        return this.type == typeToCheck;
+    }
+
+    /**
+     * Checks whether the line describes an effect, repeat effects included.
+     * @return true if the line describes an effect, false otherwise
+     */
+    public boolean isEffect() {
+        return this.type != null && this.type.isEffect();
+    }
+}
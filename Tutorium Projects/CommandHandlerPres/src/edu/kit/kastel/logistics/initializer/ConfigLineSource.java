@@ -0,0 +1,18 @@
+package edu.kit.kastel.logistics.initializer;
+
+import java.io.IOException;
+
+/**
+ * Interface representing a source providing the tokenized lines of a config one after another.
+ * @author upgcv
+ */
+@FunctionalInterface
+public interface ConfigLineSource {
+
+    /**
+     * Provides the next line of the config.
+     * @return the next line, or null if there are no lines left
+     * @throws IOException if the config cannot be read
+     */
+    ConfigLine nextLine() throws IOException;
+}
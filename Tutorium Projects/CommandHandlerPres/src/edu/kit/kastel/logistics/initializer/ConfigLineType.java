@@ -0,0 +1,280 @@
+package edu.kit.kastel.logistics.initializer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Defines the kinds of lines a config consists of. Each kind is recognized by the first token of a line and checks
+ * the remaining tokens against its syntax without using regular expressions.
+ * @author upgcv
+ */
+public enum ConfigLineType {
+
+    /** Represents a line declaring an element. */
+    ELEMENT("element", null, ConfigLineType::isElementDeclaration),
+
+    /** Represents a line declaring that an element is very effective against another one. */
+    VERY_EFFECTIVE("veryEffective", null, ConfigLineType::isMatchup),
+
+    /** Represents the first line of an action, naming it and its element. */
+    ACTION("action", null, ConfigLineType::isActionHeader),
+
+    /** Represents the line closing an action. */
+    END_ACTION("end", null, ConfigLineType::isActionClosing),
+
+    /** Represents the line closing a repeat effect. */
+    END_REPEAT("end", null, ConfigLineType::isRepeatClosing),
+
+    /** Represents a line describing a monster with its element, base statistics and one to four actions. */
+    MONSTER("monster", null, ConfigLineType::isMonster),
+
+    /** Represents the line of a damage effect. */
+    DAMAGE("damage", EffectConfigName.DAMAGE, tokens -> ConfigLineType.isStrengthEffect(tokens, true)),
+
+    /** Represents the line of an effect inflicting a status condition. */
+    INFLICT_STATUS_CONDITION("inflictStatusCondition", EffectConfigName.INFLICT_STATUS_CONDITION,
+            ConfigLineType::isStatusCondition),
+
+    /** Represents the line of an effect changing a statistic. */
+    INFLICT_STAT_CHANGE("inflictStatChange", EffectConfigName.INFLICT_STAT_CHANGE, ConfigLineType::isStatChange),
+
+    /** Represents the line of an effect protecting the health or the statistics. */
+    PROTECT_STAT("protectStat", EffectConfigName.PROTECT_STAT, ConfigLineType::isProtection),
+
+    /** Represents the line of a healing effect. */
+    HEAL("heal", EffectConfigName.HEAL, tokens -> ConfigLineType.isStrengthEffect(tokens, false)),
+
+    /** Represents the first line of a repeat effect. */
+    REPEAT("repeat", EffectConfigName.REPEAT, ConfigLineType::isRepeatHeader),
+
+    /** Represents the line of an effect continuing the action with some probability. */
+    CONTINUE("continue", EffectConfigName.CONTINUE, ConfigLineType::isContinuation);
+
+    private static final String ACTION_KEYWORD = "action";
+    private static final String REPEAT_KEYWORD = "repeat";
+    private static final String NOT_SPECIFIED_DURATION_TYPE = "random";
+    private static final String RELATIVE_STRENGTH_TYPE = "rel";
+    private static final String FULL_PERCENTAGE = "100";
+    private static final Set<String> MONSTER_TARGETS = Set.of("user", "target");
+    private static final Set<String> STATUS_CONDITIONS = Set.of("WET", "BURN", "SLEEP", "QUICKSAND");
+    private static final Set<String> STATISTICS = Set.of("ATK", "DEF", "SPD", "PRC", "AGL");
+    private static final Set<String> PROTECTION_TARGETS = Set.of("health", "stats");
+    private static final Set<String> DAMAGE_STRENGTH_TYPES = Set.of("base", "abs", "rel");
+    private static final char MIN_UPPER_CASE_LETTER = 'A';
+    private static final char MAX_UPPER_CASE_LETTER = 'Z';
+    private static final char MIN_LOWER_CASE_LETTER = 'a';
+    private static final char MAX_LOWER_CASE_LETTER = 'z';
+    private static final char MIN_DIGIT = '0';
+    private static final char MAX_DIGIT = '9';
+    private static final char MIN_LEADING_DIGIT = '1';
+    private static final char PLUS_SIGN = '+';
+    private static final char MINUS_SIGN = '-';
+    private static final int KEYWORD_POSITION = 0;
+    private static final int FIRST_PARAMETER = 1;
+    private static final int SECOND_PARAMETER = 2;
+    private static final int THIRD_PARAMETER = 3;
+    private static final int FOURTH_PARAMETER = 4;
+    private static final int FIRST_MONSTER_ACTION_PARAMETER = 7;
+    private static final int ELEMENT_LINE_LENGTH = 2;
+    private static final int MATCHUP_LINE_LENGTH = 3;
+    private static final int ACTION_LINE_LENGTH = 3;
+    private static final int END_LINE_LENGTH = 2;
+    private static final int STATUS_CONDITION_LINE_LENGTH = 4;
+    private static final int STAT_CHANGE_LINE_LENGTH = 5;
+    private static final int STRENGTH_EFFECT_LINE_LENGTH = 5;
+    private static final int CONTINUE_LINE_LENGTH = 2;
+    private static final int MAX_MONSTER_ACTIONS = 4;
+    private static final int COUNT_LENGTH = 1;
+    private static final int RANDOM_COUNT_LENGTH = 3;
+    private static final int PERCENTAGE_LENGTH = 1;
+    private static final int SINGLE_DIGIT_LENGTH = 1;
+    private static final int DOUBLE_DIGIT_LENGTH = 2;
+    private static final int CYCLE_START_INDEX = 0;
+    private static final int SECOND_CHAR_INDEX = 1;
+    private static final Map<String, List<ConfigLineType>> TYPES_BY_KEYWORD = new HashMap<>();
+
+    static {
+        for (ConfigLineType type : values()) {
+            TYPES_BY_KEYWORD.computeIfAbsent(type.keyword, keyword -> new ArrayList<>()).add(type);
+        }
+    }
+
+    private final String keyword;
+    private final EffectConfigName effectName;
+    private final Predicate<String[]> syntax;
+
+    ConfigLineType(String keyword, EffectConfigName effectName, Predicate<String[]> syntax) {
+        this.keyword = keyword;
+        this.effectName = effectName;
+        this.syntax = syntax;
+    }
+
+    /**
+     * Finds the kind of line the tokens form, only the kinds sharing the first token are checked.
+     * @param tokens the tokens of a line
+     * @return the kind of line, or null if the tokens do not form any valid line
+     */
+    public static ConfigLineType classify(String[] tokens) {
+        List<ConfigLineType> candidates = TYPES_BY_KEYWORD.get(tokens[KEYWORD_POSITION]);
+        if (candidates == null) {
+            return null;
+        }
+        for (ConfigLineType candidate : candidates) {
+            if (candidate.syntax.test(tokens)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the effect this kind of line describes.
+     * @return the name of the effect, or null if the line does not describe an effect
+     */
+    public EffectConfigName getEffectName() {
+        return this.effectName;
+    }
+
+    /**
+     * Checks whether this kind of line describes an effect, repeat effects included.
+     * @return true if it describes an effect, false otherwise
+     */
+    public boolean isEffect() {
+        return this.effectName != null;
+    }
+
+    private static boolean isElementDeclaration(String[] tokens) {
+        return tokens.length == ELEMENT_LINE_LENGTH && isName(tokens[FIRST_PARAMETER]);
+    }
+
+    private static boolean isMatchup(String[] tokens) {
+        return tokens.length == MATCHUP_LINE_LENGTH && isName(tokens[FIRST_PARAMETER])
+                && isName(tokens[SECOND_PARAMETER]);
+    }
+
+    //the element is only known to be declared once the whole config is added to a game setup
+    private static boolean isActionHeader(String[] tokens) {
+        return tokens.length == ACTION_LINE_LENGTH && isName(tokens[FIRST_PARAMETER])
+                && isName(tokens[SECOND_PARAMETER]);
+    }
+
+    private static boolean isActionClosing(String[] tokens) {
+        return tokens.length == END_LINE_LENGTH && tokens[FIRST_PARAMETER].equals(ACTION_KEYWORD);
+    }
+
+    private static boolean isRepeatClosing(String[] tokens) {
+        return tokens.length == END_LINE_LENGTH && tokens[FIRST_PARAMETER].equals(REPEAT_KEYWORD);
+    }
+
+    private static boolean isStatusCondition(String[] tokens) {
+        return tokens.length == STATUS_CONDITION_LINE_LENGTH && MONSTER_TARGETS.contains(tokens[FIRST_PARAMETER])
+                && STATUS_CONDITIONS.contains(tokens[SECOND_PARAMETER]) && isPercentage(tokens[THIRD_PARAMETER]);
+    }
+
+    private static boolean isStatChange(String[] tokens) {
+        return tokens.length == STAT_CHANGE_LINE_LENGTH && MONSTER_TARGETS.contains(tokens[FIRST_PARAMETER])
+                && STATISTICS.contains(tokens[SECOND_PARAMETER]) && isSignedDigits(tokens[THIRD_PARAMETER])
+                && isPercentage(tokens[FOURTH_PARAMETER]);
+    }
+
+    private static boolean isRepeatHeader(String[] tokens) {
+        return isCount(tokens, FIRST_PARAMETER, tokens.length);
+    }
+
+    private static boolean isContinuation(String[] tokens) {
+        return tokens.length == CONTINUE_LINE_LENGTH && isPercentage(tokens[FIRST_PARAMETER]);
+    }
+
+    private static boolean isMonster(String[] tokens) {
+        if (tokens.length <= FIRST_MONSTER_ACTION_PARAMETER
+                || tokens.length > FIRST_MONSTER_ACTION_PARAMETER + MAX_MONSTER_ACTIONS
+                || !isName(tokens[FIRST_PARAMETER]) || !isName(tokens[SECOND_PARAMETER])) {
+            return false;
+        }
+        for (int index = THIRD_PARAMETER; index < tokens.length; index++) {
+            if (index < FIRST_MONSTER_ACTION_PARAMETER ? !isNumber(tokens[index]) : !isName(tokens[index])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //damage allows any digits for base and abs strength, healing only positive numbers
+    private static boolean isStrengthEffect(String[] tokens, boolean isDamage) {
+        if (tokens.length != STRENGTH_EFFECT_LINE_LENGTH || !MONSTER_TARGETS.contains(tokens[FIRST_PARAMETER])
+                || !DAMAGE_STRENGTH_TYPES.contains(tokens[SECOND_PARAMETER])
+                || !isPercentage(tokens[FOURTH_PARAMETER])) {
+            return false;
+        }
+        String strength = tokens[THIRD_PARAMETER];
+        if (tokens[SECOND_PARAMETER].equals(RELATIVE_STRENGTH_TYPE)) {
+            return isPercentage(strength);
+        }
+        return isDamage ? isDigits(strength, CYCLE_START_INDEX) : isNumber(strength);
+    }
+
+    private static boolean isProtection(String[] tokens) {
+        return tokens.length > SECOND_PARAMETER && PROTECTION_TARGETS.contains(tokens[FIRST_PARAMETER])
+                && isCount(tokens, SECOND_PARAMETER, tokens.length - PERCENTAGE_LENGTH)
+                && isPercentage(tokens[tokens.length - PERCENTAGE_LENGTH]);
+    }
+
+    //a count is either a single number or the keyword random followed by two numbers, within [from, to)
+    private static boolean isCount(String[] tokens, int from, int to) {
+        int length = to - from;
+        if (length == COUNT_LENGTH) {
+            return isNumber(tokens[from]);
+        }
+        return length == RANDOM_COUNT_LENGTH && tokens[from].equals(NOT_SPECIFIED_DURATION_TYPE)
+                && isNumber(tokens[from + FIRST_PARAMETER]) && isNumber(tokens[from + SECOND_PARAMETER]);
+    }
+
+    private static boolean isName(String token) {
+        if (token.isEmpty()) {
+            return false;
+        }
+        for (int index = CYCLE_START_INDEX; index < token.length(); index++) {
+            char letter = token.charAt(index);
+            if ((letter < MIN_UPPER_CASE_LETTER || letter > MAX_UPPER_CASE_LETTER)
+                    && (letter < MIN_LOWER_CASE_LETTER || letter > MAX_LOWER_CASE_LETTER)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //a positive number without leading zeros
+    private static boolean isNumber(String token) {
+        return !token.isEmpty() && token.charAt(CYCLE_START_INDEX) >= MIN_LEADING_DIGIT
+                && isDigits(token, CYCLE_START_INDEX);
+    }
+
+    //a number between 0 and 100 without leading zeros
+    private static boolean isPercentage(String token) {
+        return token.length() == SINGLE_DIGIT_LENGTH && isDigits(token, CYCLE_START_INDEX)
+                || token.length() == DOUBLE_DIGIT_LENGTH && isNumber(token)
+                || token.equals(FULL_PERCENTAGE);
+    }
+
+    private static boolean isSignedDigits(String token) {
+        boolean isSigned = !token.isEmpty()
+                && (token.charAt(CYCLE_START_INDEX) == PLUS_SIGN || token.charAt(CYCLE_START_INDEX) == MINUS_SIGN);
+        return isDigits(token, isSigned ? SECOND_CHAR_INDEX : CYCLE_START_INDEX);
+    }
+
+    private static boolean isDigits(String token, int from) {
+        if (token.length() <= from) {
+            return false;
+        }
+        for (int index = from; index < token.length(); index++) {
+            if (token.charAt(index) < MIN_DIGIT || token.charAt(index) > MAX_DIGIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,217 @@
+package edu.kit.kastel.logistics.initializer;
+
+import edu.kit.kastel.logistics.GameSetup;
+import edu.kit.kastel.objects.Element;
+import edu.kit.kastel.objects.ElementRegistry;
+import edu.kit.kastel.objects.actions.ActionTemplate;
+import edu.kit.kastel.objects.actions.effects.Effect;
+import edu.kit.kastel.objects.actions.effects.RepeatEffect;
+import edu.kit.kastel.objects.monsters.MonsterTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class parsing the lines of a config into its top level blocks. The blocks do not depend on each other until they
+ * are added to a game setup, so parts of a config may be parsed independently. Elements are looked up in the registry
+ * of that game setup while parsing, whether they are declared is only known once all parsers are applied.
+ * @author upgcv
+ */
+public class ConfigParser {
+    private static final String NOT_SPECIFIED_DURATION_TYPE = "random";
+    private static final String BASE_STRENGTH_TYPE = "base";
+
+    private static final int START_COUNT_DMG_EFFECTS = 0;
+    private static final int NAME_POSITION = 1;
+    private static final int ELEMENT_POSITION = 2;
+    private static final int DECLARED_ELEMENT_POSITION = 1;
+    private static final int MATCHUP_USER_POSITION = 1;
+    private static final int MATCHUP_TARGET_POSITION = 2;
+    private static final int STRENGTH_TYPE_POSITION = 2;
+    private static final int RANDOM_KEYWORD_POSITION = 1;
+    private static final int REPEAT_BOTTOM_BORDER_POSITION = 2;
+    private static final int REPEAT_UPPER_BORDER_POSITION = 3;
+    private static final int REPEAT_DURATION_POSITION = 1;
+
+    private final ConfigLineSource source;
+    private final ElementRegistry elements;
+    private final List<ConfigBlock> blocks;
+    private int countBaseDMGEffects;
+    private boolean isErrorOccurred;
+    private boolean isEndingInAction;
+
+    /**
+     * Initializes a new parser reading from the given source.
+     * @param source the source providing the lines to parse
+     * @param elements the registry of the game setup the blocks are added to
+     */
+    public ConfigParser(ConfigLineSource source, ElementRegistry elements) {
+        this.source = source;
+        this.elements = elements;
+        this.blocks = new ArrayList<>();
+        this.countBaseDMGEffects = START_COUNT_DMG_EFFECTS;
+        this.isErrorOccurred = false;
+        this.isEndingInAction = false;
+    }
+
+    /**
+     * Parses all lines of the source. An action whose closing line is missing is dropped together with the line
+     * ending it.
+     * @throws IOException if the source cannot be read
+     */
+    public void parse() throws IOException {
+        ConfigLine lineToCheck;
+        while ((lineToCheck = this.source.nextLine()) != null) {
+            if (lineToCheck.is(ConfigLineType.ACTION)) {
+                List<Effect> effects = new ArrayList<>();
+                String actionName = lineToCheck.tokens()[NAME_POSITION];
+                Element actionElement = this.elements.getElement(lineToCheck.tokens()[ELEMENT_POSITION]);
+                lineToCheck = nextLineInAction();
+                if (lineToCheck == null) {
+                    break;
+                }
+                lineToCheck = processActionEffects(lineToCheck, actionElement, effects);
+                if (lineToCheck != null && lineToCheck.is(ConfigLineType.END_ACTION)) {
+                    if (effects.isEmpty()) {
+                        this.isErrorOccurred = true;
+                    } else {
+                        this.blocks.add(ConfigBlock.ofAction(new ActionTemplate(actionName, actionElement, effects)));
+                    }
+                }
+            } else if (lineToCheck.is(ConfigLineType.MONSTER) || lineToCheck.is(ConfigLineType.ELEMENT)
+                    || lineToCheck.is(ConfigLineType.VERY_EFFECTIVE)) {
+                this.blocks.add(ConfigBlock.ofLine(lineToCheck));
+            } else {
+                this.isErrorOccurred = !lineToCheck.isBlank() || this.isErrorOccurred;
+            }
+        }
+    }
+
+    /**
+     * Adds all parsed blocks in their order to the game setup, the actions of a monster must be added before it. The
+     * game setup must be the one whose element registry the parser was created with, its tables have to be built
+     * again once all parsers are applied.
+     * @param gameSetup the game setup to add the blocks to
+     * @return true if all blocks were added, false if a block is a duplicate or a monster is not valid
+     */
+    public boolean applyTo(GameSetup gameSetup) {
+        boolean isEveryBlockAdded = true;
+        for (ConfigBlock block : this.blocks) {
+            if (block.isAction()) {
+                isEveryBlockAdded &= gameSetup.addNewAction(block.action());
+            } else {
+                isEveryBlockAdded &= applyLine(block.line(), gameSetup);
+            }
+        }
+        return isEveryBlockAdded;
+    }
+
+    /**
+     * Returns whether a line that is not valid was found while parsing.
+     * @return true if the parsed lines are not a valid config, false otherwise
+     */
+    public boolean isErrorOccurred() {
+        return this.isErrorOccurred;
+    }
+
+    /**
+     * Returns whether the source ended within an action. Followed by further lines, the first of them would have
+     * closed that action without being parsed on its own.
+     * @return true if the source ended within an action, false otherwise
+     */
+    public boolean isEndingInAction() {
+        return this.isEndingInAction;
+    }
+
+    private boolean applyLine(ConfigLine line, GameSetup gameSetup) {
+        String[] tokens = line.tokens();
+        if (line.is(ConfigLineType.ELEMENT)) {
+            return gameSetup.getElements().declare(tokens[DECLARED_ELEMENT_POSITION]);
+        }
+        if (line.is(ConfigLineType.VERY_EFFECTIVE)) {
+            return gameSetup.getElements().addVeryEffective(tokens[MATCHUP_USER_POSITION], tokens[MATCHUP_TARGET_POSITION]);
+        }
+        MonsterTemplate newMonster = EntityInitializers.initializeMonsterFromInput(line, gameSetup);
+        return newMonster != null && gameSetup.addNewMonster(newMonster);
+    }
+
+    private ConfigLine nextLineInAction() throws IOException {
+        ConfigLine nextLine = this.source.nextLine();
+        this.isEndingInAction = nextLine == null;
+        return nextLine;
+    }
+
+    private ConfigLine processActionEffects(ConfigLine firstEffectsLine, Element actionElement, List<Effect> effects)
+            throws IOException {
+        ConfigLine possibleEffect = firstEffectsLine;
+        this.countBaseDMGEffects = START_COUNT_DMG_EFFECTS;
+        while (possibleEffect.isEffect() || possibleEffect.isBlank()) {
+            if (possibleEffect.is(ConfigLineType.REPEAT)) {
+                Effect repeatEffect = handleRepeatEffect(actionElement, possibleEffect);
+                if (repeatEffect == null) {
+                    this.isErrorOccurred = true;
+                    return null;
+                }
+                effects.add(repeatEffect);
+            } else if (!possibleEffect.isBlank()) {
+                Effect newEffect = EntityInitializers.initializeNotRepeatEffect(actionElement,
+                        countBaseDMGEffects == START_COUNT_DMG_EFFECTS, possibleEffect);
+                if (newEffect == null) {
+                    this.isErrorOccurred = true;
+                    return null;
+                }
+                countIfBaseDamage(possibleEffect);
+                effects.add(newEffect);
+            }
+            possibleEffect = nextLineInAction();
+            if (possibleEffect == null) {
+                break;
+            }
+        }
+        return possibleEffect;
+    }
+
+    //a repeat effect that is not closed before the end of the config is not valid
+    private Effect handleRepeatEffect(Element element, ConfigLine input) throws IOException {
+        ConfigLine newLine = nextLineInAction();
+        List<Effect> repeatEffects = new ArrayList<>();
+        boolean isErrorOccurred = false;
+        while (newLine != null && (newLine.isEffect() && !newLine.is(ConfigLineType.REPEAT) || newLine.isBlank())) {
+            if (!newLine.isBlank()) {
+                Effect newEffect = EntityInitializers
+                        .initializeNotRepeatEffect(element, this.countBaseDMGEffects == START_COUNT_DMG_EFFECTS, newLine);
+                if (newEffect == null) {
+                    isErrorOccurred = true;
+                } else {
+                    countIfBaseDamage(newLine);
+                }
+                repeatEffects.add(newEffect);
+            }
+            newLine = nextLineInAction();
+        }
+        if (newLine == null || !newLine.is(ConfigLineType.END_REPEAT)) {
+            return null;
+        }
+        String[] splitInput = input.tokens();
+        if (splitInput[RANDOM_KEYWORD_POSITION].equals(NOT_SPECIFIED_DURATION_TYPE)) {
+            int bottomBorder = Integer.parseInt(splitInput[REPEAT_BOTTOM_BORDER_POSITION]);
+            int upperBorder = Integer.parseInt(splitInput[REPEAT_UPPER_BORDER_POSITION]);
+            if (bottomBorder >= upperBorder || isErrorOccurred) {
+                return null;
+            }
+            return new RepeatEffect(repeatEffects, bottomBorder, upperBorder);
+        }
+        int duration = Integer.parseInt(splitInput[REPEAT_DURATION_POSITION]);
+        if (isErrorOccurred) {
+            return null;
+        }
+        return new RepeatEffect(repeatEffects, duration);
+    }
+
+    private void countIfBaseDamage(ConfigLine effectLine) {
+        if (effectLine.is(ConfigLineType.DAMAGE) && effectLine.tokens()[STRENGTH_TYPE_POSITION].equals(BASE_STRENGTH_TYPE)) {
+            this.countBaseDMGEffects++;
+        }
+    }
+}
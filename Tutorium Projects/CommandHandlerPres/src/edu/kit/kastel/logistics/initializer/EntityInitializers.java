@@ -3,6 +3,7 @@
 import edu.kit.kastel.logistics.GameSetup;
 import edu.kit.kastel.objects.Element;
 
+import edu.kit.kastel.objects.actions.ActionTemplate;
 import edu.kit.kastel.objects.actions.StatusCondition;
 import edu.kit.kastel.objects.actions.effects.ContinueEffect;
 import edu.kit.kastel.objects.actions.effects.DamageEffect;
@@ -13,10 +14,11 @@
 import edu.kit.kastel.objects.actions.effects.StatChangeEffect;
 import edu.kit.kastel.objects.actions.effects.StateConditionEffect;
 import edu.kit.kastel.objects.actions.effects.StrengthType;
-import edu.kit.kastel.objects.monsters.Monster;
+import edu.kit.kastel.objects.monsters.MonsterTemplate;
 import edu.kit.kastel.objects.monsters.StatisticOfMonster;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Utility class for initializing entities like effects and monsters from input data.
@@ -25,7 +27,6 @@
  */
 public final class EntityInitializers {
     private static final String ILLEGAL_EFFECT_TO_CREATE_MESSAGE = "Error, this method does not support creating Repeat effect!";
-    private static final String INPUT_LINE_SEPARATOR = " ";
     private static final String REQUIRES_MONSTER_LINE_REGEX = "target";
     private static final String NOT_SPECIFIED_DURATION_TYPE = "random";
 
@@ -41,7 +42,6 @@ public final class EntityInitializers {
     private static final int PROTECT_STAT_BOTTOM_BORDER_POSITION = 3;
     private static final int PROTECT_STAT_UPPER_BORDER_POSITION = 4;
     private static final int USER_TARGET_POSITION = 1;
-    private static final int EFFECT_NAME_POSITION = 0;
     private static final int IS_HP_TO_PROTECT_TARGET_POSITION = 1;
     private static final int HIT_RATE_CONTINUE_POSITION = 1;
     private static final int STATUS_CONDITION_POSITION = 2;
@@ -59,22 +59,20 @@ private EntityInitializers() {
         //utility class
     }
     /**
-     * Initializes an effect based on the provided input. It does not support creating Repeat effects.
+     * Initializes an effect based on the provided config line. It does not support creating Repeat effects.
      *
      * @param element the element associated with the effect.
      * @param isFirstOfDamageType a flag indicating whether this is the first effect.
-     * @param input the input string representing the effect details.
-     * @return an initialized effect based on the input, or null if the input is invalid.
-     * @throws IllegalArgumentException if the input is for a Repeat effect.
+     * @param line the tokenized config line of the effect, its syntax must already be valid.
+     * @return an initialized effect based on the line, or null if the line is invalid.
+     * @throws IllegalArgumentException if the line is for a Repeat effect.
      */
-    public static Effect initializeNotRepeatEffect(Element element, boolean isFirstOfDamageType, String input) {
-        EffectConfigName effectName = EffectConfigName
-                .getFromStringRepresentation(input.trim().split(INPUT_LINE_SEPARATOR)[EFFECT_NAME_POSITION]);
-        if (effectName == null) {
+    public static Effect initializeNotRepeatEffect(Element element, boolean isFirstOfDamageType, ConfigLine line) {
+        if (!line.isEffect()) {
             return null;
         }
-        String[] splitInput = input.trim().split(INPUT_LINE_SEPARATOR);
-        return switch (effectName) {
+        String[] splitInput = line.tokens();
+        return switch (line.type().getEffectName()) {
             case DAMAGE -> initializeDamageOrHealingEffect(element, splitInput, isFirstOfDamageType, true);
             case INFLICT_STATUS_CONDITION -> initializeInflictStatusCondEffect(splitInput);
             case INFLICT_STAT_CHANGE -> initializeInflictStatusChange(splitInput);
@@ -85,28 +83,31 @@ public static Effect initializeNotRepeatEffect(Element element, boolean isFirstO
         };
     }
     /**
-     * Initializes a monster from a string input and updates the provided game setup configuration.
+     * Initializes the definition of a monster from a config line, its actions are taken from the provided game setup
+     * configuration.
      *
-     * @param inputLine the input string containing the monster details.
-     * @param configToUpdate the game setup configuration to update with the monster's actions.
-     * @return the initialized monster, or null if the monster couldn't be created or its actions couldn't be added.
+     * @param line the tokenized config line containing the monster details, its syntax must already be valid.
+     * @param configToUpdate the game setup configuration containing the monster's actions and element.
+     * @return the initialized monster definition, or null if the monster couldn't be created or its actions couldn't
+     *     be added.
      */
-    public static Monster initializeMonsterFromInput(String inputLine, GameSetup configToUpdate) {
-        String[] splitInputLine = inputLine.trim().split(INPUT_LINE_SEPARATOR);
+    public static MonsterTemplate initializeMonsterFromInput(ConfigLine line, GameSetup configToUpdate) {
+        String[] splitInputLine = line.tokens();
         String monsterName = splitInputLine[MONSTER_NAME_POSITION];
-        Element element = Element.valueOf(splitInputLine[MONSTER_ELEMENT_POSITION]);
+        Element element = configToUpdate.getElements().getElement(splitInputLine[MONSTER_ELEMENT_POSITION]);
         int maxHealth = Integer.parseInt(splitInputLine[MAX_HEALTH_VALUE_POSITION]);
         int baseAttack = Integer.parseInt(splitInputLine[ATK_VALUE_POSITION]);
         int baseDefence = Integer.parseInt(splitInputLine[DEF_VALUE_POSITION]);
         int baseSpeed = Integer.parseInt(splitInputLine[SPD_VALUE_POSITION]);
-        Monster newMonster = new Monster(monsterName, element, maxHealth, baseAttack, baseDefence, baseSpeed);
-        String[] actions = Arrays.copyOfRange(splitInputLine, FIRST_ACTION_OF_MONSTER_POSITION, splitInputLine.length);
-        for (String action : actions) {
-            if (configToUpdate.getAction(action) == null || !newMonster.addAction(configToUpdate.getAction(action))) {
+        List<ActionTemplate> monsterActions = new ArrayList<>(splitInputLine.length - FIRST_ACTION_OF_MONSTER_POSITION);
+        for (int index = FIRST_ACTION_OF_MONSTER_POSITION; index < splitInputLine.length; index++) {
+            ActionTemplate actionToAdd = configToUpdate.getAction(splitInputLine[index]);
+            if (actionToAdd == null || monsterActions.contains(actionToAdd)) {
                 return null;
             }
+            monsterActions.add(actionToAdd);
         }
-        return newMonster;
+        return new MonsterTemplate(monsterName, element, maxHealth, baseAttack, baseDefence, baseSpeed, monsterActions);
     }
 
     private static Effect initializeDamageOrHealingEffect(Element element, String[] params, boolean isFirstEffect, boolean isDMGToCreate) {
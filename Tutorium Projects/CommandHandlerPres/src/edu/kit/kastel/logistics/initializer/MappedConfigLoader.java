@@ -0,0 +1,214 @@
+package edu.kit.kastel.logistics.initializer;
+
+import edu.kit.kastel.objects.ElementRegistry;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Class loading very large configs by memory-mapping the file and parsing it in parallel. The file is split into
+ * chunks starting at action or monster lines, every chunk is tokenized and parsed on its own without holding its
+ * lines in memory. If a chunk ends within an action, the first line of the next chunk closes that action, so the next
+ * chunk is parsed again without it. The parsers are returned in the order of the file and resolve the monsters'
+ * actions once they are applied.
+ * Files of up to 2 GB in an ASCII compatible encoding are supported.
+ * @author upgcv
+ */
+public class MappedConfigLoader {
+    private static final String FILE_TOO_LARGE_MESSAGE = "Error, the config %s is too large to be mapped!";
+    private static final String PARSING_FAILED_MESSAGE = "Error, parsing a part of the config failed!";
+    private static final byte[][] BLOCK_KEYWORDS = {"action ".getBytes(), "monster ".getBytes()};
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+    private static final int MIN_CHUNK_COUNT = 1;
+    private static final int FILE_START = 0;
+    private static final int CYCLE_START_INDEX = 0;
+    private static final int INITIAL_LINE_CAPACITY = 128;
+    private static final int PREVIOUS_INDEX_OFFSET = 1;
+    private static final int NEXT_CHUNK_OFFSET = 1;
+    private static final int NEXT_BYTE_OFFSET = 1;
+
+    private final Path path;
+    private final ExecutorService executor;
+    private final int chunkCount;
+    private final ElementRegistry elements;
+
+    /**
+     * Initializes a new loader.
+     * @param path the path of the config file
+     * @param executor the executor the chunks are parsed on
+     * @param chunkCount the maximum number of chunks the file is split into, small files are split into fewer chunks
+     * @param elements the registry of the game setup the chunks are added to, shared by all chunks
+     */
+    public MappedConfigLoader(Path path, ExecutorService executor, int chunkCount, ElementRegistry elements) {
+        this.path = path;
+        this.executor = executor;
+        this.chunkCount = Math.max(MIN_CHUNK_COUNT, chunkCount);
+        this.elements = elements;
+    }
+
+    /**
+     * Maps and parses the config file. Every line is passed to the echo in the order of the file once all chunks
+     * are parsed, the lines are decoded again for this instead of being kept.
+     * @param echo receives every line as written in the config
+     * @return the parsers of all chunks in the order of the file
+     * @throws IOException if the file cannot be read or is too large
+     * @throws InterruptedException if the current thread is interrupted while waiting for the chunks
+     */
+    public List<ConfigParser> load(Consumer<String> echo) throws IOException, InterruptedException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(FILE_TOO_LARGE_MESSAGE.formatted(this.path));
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, FILE_START, channel.size());
+        }
+        List<Integer> chunkStarts = findChunkStarts(buffer);
+        chunkStarts.add(buffer.limit());
+        List<Future<ConfigParser>> futures = new ArrayList<>(chunkStarts.size());
+        for (int chunk = CYCLE_START_INDEX; chunk + NEXT_CHUNK_OFFSET < chunkStarts.size(); chunk++) {
+            int start = chunkStarts.get(chunk);
+            int end = chunkStarts.get(chunk + NEXT_CHUNK_OFFSET);
+            futures.add(this.executor.submit(() -> parse(new ChunkSource(buffer, start, end))));
+        }
+        List<ConfigParser> parsers = new ArrayList<>(futures.size());
+        for (int chunk = CYCLE_START_INDEX; chunk < futures.size(); chunk++) {
+            ConfigParser parser = await(futures.get(chunk));
+            if (chunk > CYCLE_START_INDEX && parsers.get(chunk - PREVIOUS_INDEX_OFFSET).isEndingInAction()) {
+                ChunkSource withoutFirstLine = new ChunkSource(buffer, chunkStarts.get(chunk),
+                        chunkStarts.get(chunk + NEXT_CHUNK_OFFSET));
+                withoutFirstLine.skipLine();
+                parser = parse(withoutFirstLine);
+            }
+            parsers.add(parser);
+        }
+        ChunkSource wholeFile = new ChunkSource(buffer, FILE_START, buffer.limit());
+        String line;
+        while ((line = wholeFile.nextText()) != null) {
+            echo.accept(line);
+        }
+        return parsers;
+    }
+
+    //every chunk but the first starts at a line beginning with an action or monster keyword
+    private List<Integer> findChunkStarts(MappedByteBuffer buffer) {
+        int size = buffer.limit();
+        long chunks = Math.min(this.chunkCount, Math.max(MIN_CHUNK_COUNT, size / MIN_CHUNK_SIZE));
+        List<Integer> chunkStarts = new ArrayList<>();
+        chunkStarts.add(FILE_START);
+        for (long chunk = MIN_CHUNK_COUNT; chunk < chunks; chunk++) {
+            int target = Math.max((int) (size * chunk / chunks), chunkStarts.get(chunkStarts.size() - PREVIOUS_INDEX_OFFSET));
+            int lineStart = nextLineStart(buffer, target);
+            while (lineStart < size && !startsWithBlockKeyword(buffer, lineStart)) {
+                lineStart = nextLineStart(buffer, lineStart);
+            }
+            if (lineStart >= size) {
+                break;
+            }
+            chunkStarts.add(lineStart);
+        }
+        return chunkStarts;
+    }
+
+    //a carriage return directly followed by a line feed ends a single line
+    private static int nextLineStart(MappedByteBuffer buffer, int from) {
+        int index = from;
+        while (index < buffer.limit()) {
+            byte current = buffer.get(index++);
+            if (current == LINE_FEED) {
+                return index;
+            }
+            if (current == CARRIAGE_RETURN) {
+                return index < buffer.limit() && buffer.get(index) == LINE_FEED ? index + NEXT_BYTE_OFFSET : index;
+            }
+        }
+        return index;
+    }
+
+    private static boolean startsWithBlockKeyword(MappedByteBuffer buffer, int lineStart) {
+        for (byte[] keyword : BLOCK_KEYWORDS) {
+            int index = CYCLE_START_INDEX;
+            while (index < keyword.length && lineStart + index < buffer.limit()
+                    && buffer.get(lineStart + index) == keyword[index]) {
+                index++;
+            }
+            if (index == keyword.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ConfigParser parse(ChunkSource source) throws IOException {
+        ConfigParser parser = new ConfigParser(source, this.elements);
+        parser.parse();
+        return parser;
+    }
+
+    private static <T> T await(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(PARSING_FAILED_MESSAGE, e.getCause());
+        }
+    }
+
+    //decodes and tokenizes the lines of a chunk while they are read, like a BufferedReader does
+    private static final class ChunkSource implements ConfigLineSource {
+        private final MappedByteBuffer buffer;
+        private final int end;
+        private final Charset charset;
+        private byte[] lineBytes;
+        private int position;
+
+        private ChunkSource(MappedByteBuffer buffer, int start, int end) {
+            this.buffer = buffer;
+            this.position = start;
+            this.end = end;
+            this.charset = Charset.defaultCharset();
+            this.lineBytes = new byte[INITIAL_LINE_CAPACITY];
+        }
+
+        @Override
+        public ConfigLine nextLine() {
+            String text = nextText();
+            return text == null ? null : ConfigLexer.tokenize(text);
+        }
+
+        private String nextText() {
+            if (this.position >= this.end) {
+                return null;
+            }
+            int lineEnd = this.position;
+            while (lineEnd < this.end && this.buffer.get(lineEnd) != LINE_FEED
+                    && this.buffer.get(lineEnd) != CARRIAGE_RETURN) {
+                lineEnd++;
+            }
+            int length = lineEnd - this.position;
+            if (this.lineBytes.length < length) {
+                this.lineBytes = new byte[length];
+            }
+            this.buffer.get(this.position, this.lineBytes, CYCLE_START_INDEX, length);
+            this.position = nextLineStart(this.buffer, lineEnd);
+            return new String(this.lineBytes, CYCLE_START_INDEX, length, this.charset);
+        }
+
+        private void skipLine() {
+            this.position = nextLineStart(this.buffer, this.position);
+        }
+    }
+}
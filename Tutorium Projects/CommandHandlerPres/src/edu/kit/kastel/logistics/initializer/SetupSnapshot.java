@@ -0,0 +1,254 @@
+package edu.kit.kastel.logistics.initializer;
+
+import edu.kit.kastel.logistics.GameSetup;
+import edu.kit.kastel.objects.Element;
+import edu.kit.kastel.objects.ElementRegistry;
+import edu.kit.kastel.objects.actions.ActionTemplate;
+import edu.kit.kastel.objects.actions.effects.EffectCode;
+import edu.kit.kastel.objects.monsters.MonsterTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class writing a game setup into a compiled binary snapshot and reading it back with a single memory-mapped
+ * read, without parsing a config again. A snapshot consists of a header, a table of the interned names and action
+ * infos, the declared elements with their matchups, the actions with their effects compiled into {@link EffectCode}
+ * and a table of the monsters' statistics referring to their actions by index. Elements are referred to by the order
+ * they were declared in. All values are big-endian integers, names are stored as UTF-8.
+ * @author upgcv
+ */
+public final class SetupSnapshot {
+    private static final String CORRUPT_SNAPSHOT_MESSAGE = "Error, %s is not a valid compiled setup!";
+    private static final String SNAPSHOT_TOO_LARGE_MESSAGE = "Error, the compiled setup %s is too large to be mapped!";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int MAGIC_NUMBER = 0x4B435331;
+    private static final int FORMAT_VERSION = 2;
+    private static final int FILE_START = 0;
+    private static final int CYCLE_START_INDEX = 0;
+
+    private SetupSnapshot() {
+        //Utility class
+    }
+
+    /**
+     * Writes the game setup into a snapshot. The snapshot is written next to the target first and replaces it once it
+     * is complete, so a reader never sees a partly written snapshot.
+     * @param gameSetup the game setup to write
+     * @param path the path of the snapshot
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(GameSetup gameSetup, Path path) throws IOException {
+        Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+            writeSetup(gameSetup, output);
+        }
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Computes a fingerprint of the game setup from the SHA-256 digest of its snapshot, e.g. to check that a recorded
+     * match is replayed with the setup it was played with. Setups with equal snapshots have equal fingerprints.
+     * @param gameSetup the game setup to fingerprint
+     * @return the first eight bytes of the digest as a big-endian long
+     */
+    public static long fingerprint(GameSetup gameSetup) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (DataOutputStream output = new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(),
+                digest))) {
+            writeSetup(gameSetup, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+
+    //interns all names first, so the elements, actions and monsters only refer to them by index
+    private static void writeSetup(GameSetup gameSetup, DataOutputStream output) throws IOException {
+        List<Element> elements = gameSetup.getElements().getDeclaredElements();
+        List<ElementRegistry.Matchup> matchups = gameSetup.getElements().getMatchups();
+        List<ActionTemplate> actions = gameSetup.getActions();
+        List<MonsterTemplate> monsters = gameSetup.getMonsterTemplates();
+        Map<String, Integer> names = new LinkedHashMap<>();
+        Map<Element, Integer> elementIndices = new IdentityHashMap<>();
+        Map<ActionTemplate, Integer> actionIndices = new IdentityHashMap<>();
+        for (Element element : elements) {
+            names.putIfAbsent(element.getName(), names.size());
+            elementIndices.put(element, elementIndices.size());
+        }
+        for (ActionTemplate action : actions) {
+            names.putIfAbsent(action.getName(), names.size());
+            names.putIfAbsent(action.getActionInfo(), names.size());
+            actionIndices.put(action, actionIndices.size());
+        }
+        for (MonsterTemplate monster : monsters) {
+            names.putIfAbsent(monster.name(), names.size());
+        }
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(names.size());
+        for (String name : names.keySet()) {
+            byte[] encodedName = name.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(encodedName.length);
+            output.write(encodedName);
+        }
+        output.writeInt(elements.size());
+        for (Element element : elements) {
+            output.writeInt(names.get(element.getName()));
+        }
+        output.writeInt(matchups.size());
+        for (ElementRegistry.Matchup matchup : matchups) {
+            output.writeInt(elementIndices.get(matchup.user()));
+            output.writeInt(elementIndices.get(matchup.target()));
+        }
+        output.writeInt(actions.size());
+        for (ActionTemplate action : actions) {
+            output.writeInt(names.get(action.getName()));
+            output.writeInt(elementIndices.get(action.getElement()));
+            output.writeInt(names.get(action.getActionInfo()));
+            writeInts(output, action.compileEffects());
+        }
+        output.writeInt(monsters.size());
+        for (MonsterTemplate monster : monsters) {
+            output.writeInt(names.get(monster.name()));
+            output.writeInt(elementIndices.get(monster.element()));
+            output.writeInt(monster.healthPoints());
+            output.writeInt(monster.attack());
+            output.writeInt(monster.defence());
+            output.writeInt(monster.speed());
+            output.writeInt(monster.actions().size());
+            for (ActionTemplate action : monster.actions()) {
+                output.writeInt(actionIndices.get(action));
+            }
+        }
+    }
+
+    /**
+     * Reads a game setup from a snapshot.
+     * @param path the path of the snapshot
+     * @return the game setup of the snapshot
+     * @throws IOException if the snapshot cannot be read or is not valid
+     */
+    public static GameSetup read(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(SNAPSHOT_TOO_LARGE_MESSAGE.formatted(path));
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, FILE_START, channel.size());
+        }
+        try {
+            GameSetup gameSetup = readSetup(buffer);
+            if (gameSetup == null || buffer.hasRemaining()) {
+                throw new IOException(CORRUPT_SNAPSHOT_MESSAGE.formatted(path));
+            }
+            return gameSetup;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException
+                | IllegalArgumentException e) {
+            throw new IOException(CORRUPT_SNAPSHOT_MESSAGE.formatted(path), e);
+        }
+    }
+
+    //returns null if the header does not match, a name or matchup is defined twice or an element is not declared
+    private static GameSetup readSetup(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC_NUMBER || buffer.getInt() != FORMAT_VERSION) {
+            return null;
+        }
+        String[] names = new String[buffer.getInt()];
+        for (int index = CYCLE_START_INDEX; index < names.length; index++) {
+            byte[] encodedName = new byte[buffer.getInt()];
+            buffer.get(encodedName);
+            names[index] = new String(encodedName, StandardCharsets.UTF_8);
+        }
+        ElementRegistry registry = new ElementRegistry();
+        Element[] elements = new Element[buffer.getInt()];
+        for (int index = CYCLE_START_INDEX; index < elements.length; index++) {
+            String name = names[buffer.getInt()];
+            if (!registry.declare(name)) {
+                return null;
+            }
+            elements[index] = registry.getElement(name);
+        }
+        int matchupCount = buffer.getInt();
+        for (int matchup = CYCLE_START_INDEX; matchup < matchupCount; matchup++) {
+            String user = elements[buffer.getInt()].getName();
+            String target = elements[buffer.getInt()].getName();
+            if (!registry.addVeryEffective(user, target)) {
+                return null;
+            }
+        }
+        if (!registry.buildTables()) {
+            return null;
+        }
+        GameSetup gameSetup = new GameSetup(registry);
+        ActionTemplate[] actions = new ActionTemplate[buffer.getInt()];
+        for (int index = CYCLE_START_INDEX; index < actions.length; index++) {
+            String name = names[buffer.getInt()];
+            Element element = elements[buffer.getInt()];
+            String actionInfo = names[buffer.getInt()];
+            actions[index] = new ActionTemplate(name, element, EffectCode.decode(element, readInts(buffer)), actionInfo);
+            if (!gameSetup.addNewAction(actions[index])) {
+                return null;
+            }
+        }
+        int monsterCount = buffer.getInt();
+        for (int monster = CYCLE_START_INDEX; monster < monsterCount; monster++) {
+            String name = names[buffer.getInt()];
+            Element element = elements[buffer.getInt()];
+            int healthPoints = buffer.getInt();
+            int attack = buffer.getInt();
+            int defence = buffer.getInt();
+            int speed = buffer.getInt();
+            List<ActionTemplate> monsterActions = new ArrayList<>();
+            for (int actionIndex : readInts(buffer)) {
+                monsterActions.add(actions[actionIndex]);
+            }
+            if (!gameSetup.addNewMonster(new MonsterTemplate(name, element, healthPoints, attack, defence, speed,
+                    monsterActions))) {
+                return null;
+            }
+        }
+        return gameSetup;
+    }
+
+    //writes the length followed by the values
+    private static void writeInts(DataOutputStream output, int[] values) throws IOException {
+        output.writeInt(values.length);
+        for (int value : values) {
+            output.writeInt(value);
+        }
+    }
+
+    private static int[] readInts(ByteBuffer buffer) {
+        int[] values = new int[buffer.getInt()];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+        return values;
+    }
+}
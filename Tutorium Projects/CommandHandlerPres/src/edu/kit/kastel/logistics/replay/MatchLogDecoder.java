@@ -0,0 +1,153 @@
+package edu.kit.kastel.logistics.replay;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * Class reading the entries of recorded matches from a buffer, in the encoding of {@link MatchLogEncoder}. Reading
+ * past the end of the buffer throws a {@link java.nio.BufferUnderflowException}, any other invalid entry an
+ * {@link IllegalStateException}.
+ * @author upgcv
+ */
+final class MatchLogDecoder {
+    private static final String CORRUPT_ENTRY_MESSAGE = "Error, the log contains an invalid entry!";
+    private static final String UNEXPECTED_ENTRY_MESSAGE = "Error, the log recorded %s where %s was expected!";
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final long VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUATION_FLAG = 0x80;
+    private static final int NO_FLAG = 0;
+    private static final long EMPTY = 0;
+    private static final int FIRST_SHIFT = 0;
+    private static final MatchLogTag[] TAGS = MatchLogTag.values();
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates a new decoder reading from the current position of the buffer.
+     * @param buffer the buffer holding the recorded matches
+     */
+    MatchLogDecoder(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Checks whether there are bytes left to read.
+     * @return true if the buffer has bytes left, false otherwise
+     */
+    boolean hasRemaining() {
+        return this.buffer.hasRemaining();
+    }
+
+    /**
+     * Gets the position of the next byte to read.
+     * @return the position in the buffer
+     */
+    int position() {
+        return this.buffer.position();
+    }
+
+    /**
+     * Computes the CRC-32C checksum of the bytes read since the given position.
+     * @param start the position to start at
+     * @return the checksum
+     */
+    int checksum(int start) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(this.buffer.duplicate().position(start).limit(this.buffer.position()));
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Reads the tag of the next entry.
+     * @return the tag
+     */
+    MatchLogTag readTag() {
+        int ordinal = Byte.toUnsignedInt(this.buffer.get());
+        if (ordinal >= TAGS.length) {
+            throw new IllegalStateException(CORRUPT_ENTRY_MESSAGE);
+        }
+        return TAGS[ordinal];
+    }
+
+    /**
+     * Reads the tag of the next entry, which has to be one of two tags.
+     * @param firstTag the first tag expected
+     * @param secondTag the second tag expected
+     * @return the tag, one of the expected ones
+     * @throws IllegalStateException if the tag is another one
+     */
+    MatchLogTag readTag(MatchLogTag firstTag, MatchLogTag secondTag) {
+        MatchLogTag tag = readTag();
+        if (tag != firstTag && tag != secondTag) {
+            throw new IllegalStateException(UNEXPECTED_ENTRY_MESSAGE.formatted(tag, firstTag));
+        }
+        return tag;
+    }
+
+    /**
+     * Reads the tag of the next entry, which has to be the given one.
+     * @param expectedTag the tag expected
+     * @throws IllegalStateException if the tag is another one
+     */
+    void expectTag(MatchLogTag expectedTag) {
+        readTag(expectedTag, expectedTag);
+    }
+
+    /**
+     * Reads a varint.
+     * @return the non-negative value
+     */
+    long readVarLong() {
+        long value = EMPTY;
+        int shift = FIRST_SHIFT;
+        int nextByte;
+        do {
+            if (shift >= Long.SIZE) {
+                throw new IllegalStateException(CORRUPT_ENTRY_MESSAGE);
+            }
+            nextByte = this.buffer.get();
+            value |= (nextByte & VARINT_PAYLOAD_MASK) << shift;
+            shift += VARINT_PAYLOAD_BITS;
+        } while ((nextByte & VARINT_CONTINUATION_FLAG) != NO_FLAG);
+        return value;
+    }
+
+    /**
+     * Reads a varint that has to fit into an int.
+     * @return the non-negative value
+     */
+    int readVarInt() {
+        long value = readVarLong();
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalStateException(CORRUPT_ENTRY_MESSAGE);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads an int of four bytes.
+     * @return the value
+     */
+    int readFixedInt() {
+        return this.buffer.getInt();
+    }
+
+    /**
+     * Reads a long of eight bytes.
+     * @return the value
+     */
+    long readFixedLong() {
+        return this.buffer.getLong();
+    }
+
+    /**
+     * Reads a string of a varint length and its UTF-8 encoding.
+     * @return the string
+     */
+    String readString() {
+        byte[] encodedValue = new byte[readVarInt()];
+        this.buffer.get(encodedValue);
+        return new String(encodedValue, StandardCharsets.UTF_8);
+    }
+}
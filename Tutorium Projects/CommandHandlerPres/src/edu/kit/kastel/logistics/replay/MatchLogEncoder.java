@@ -0,0 +1,110 @@
+package edu.kit.kastel.logistics.replay;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Class collecting the bytes of a recorded match in memory, so the match can be appended to a log at once. Counts and
+ * indices are written as unsigned varints of seven bits per byte, least significant group first, with the highest bit
+ * set on every byte but the last. Fixed-size values are written big-endian.
+ * @author upgcv
+ */
+final class MatchLogEncoder {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int GROWTH_FACTOR = 2;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final long VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUATION_FLAG = 0x80;
+    private static final int LAST_BYTE_SHIFT = 0;
+    private static final int EMPTY = 0;
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    /**
+     * Writes the tag of an entry.
+     * @param tag the tag to write
+     */
+    void writeTag(MatchLogTag tag) {
+        writeByte(tag.ordinal());
+    }
+
+    /**
+     * Writes a non-negative value as a varint.
+     * @param value the value to write
+     */
+    void writeVarLong(long value) {
+        long remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD_MASK) != EMPTY) {
+            writeByte((int) (remaining & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION_FLAG);
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        writeByte((int) remaining);
+    }
+
+    /**
+     * Writes an int as four bytes.
+     * @param value the value to write
+     */
+    void writeFixedInt(int value) {
+        for (int shift = Integer.SIZE - Byte.SIZE; shift >= LAST_BYTE_SHIFT; shift -= Byte.SIZE) {
+            writeByte(value >>> shift);
+        }
+    }
+
+    /**
+     * Writes a long as eight bytes.
+     * @param value the value to write
+     */
+    void writeFixedLong(long value) {
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= LAST_BYTE_SHIFT; shift -= Byte.SIZE) {
+            writeByte((int) (value >>> shift));
+        }
+    }
+
+    /**
+     * Writes a string as the varint length of its UTF-8 encoding followed by the encoding.
+     * @param value the string to write
+     */
+    void writeString(String value) {
+        byte[] encodedValue = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(encodedValue.length);
+        ensureCapacity(encodedValue.length);
+        System.arraycopy(encodedValue, EMPTY, this.bytes, this.length, encodedValue.length);
+        this.length += encodedValue.length;
+    }
+
+    /**
+     * Computes the CRC-32C checksum of all bytes collected so far.
+     * @return the checksum
+     */
+    int checksum() {
+        CRC32C checksum = new CRC32C();
+        checksum.update(this.bytes, EMPTY, this.length);
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Writes all bytes collected so far to a stream.
+     * @param output the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    void writeTo(OutputStream output) throws IOException {
+        output.write(this.bytes, EMPTY, this.length);
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(Byte.BYTES);
+        this.bytes[this.length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int additionalBytes) {
+        if (this.length + additionalBytes > this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * GROWTH_FACTOR,
+                    this.length + additionalBytes));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package edu.kit.kastel.logistics.replay;
+
+import edu.kit.kastel.commands.ResultType;
+import edu.kit.kastel.logistics.Competition;
+import edu.kit.kastel.logistics.GameSetup;
+import edu.kit.kastel.logistics.Randomizer;
+import edu.kit.kastel.logistics.initializer.SetupSnapshot;
+import edu.kit.kastel.objects.monsters.CompetitiveMonster;
+import edu.kit.kastel.objects.monsters.Monster;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class replaying the matches of a log written by a {@link MatchLogWriter}, one after another. Every match is played
+ * by a new silent competition, which reads the recorded random values instead of drawing them and is driven by the
+ * recorded decisions, so no console is involved and nothing but the log is read. A match that takes another course
+ * than the recorded one, e.g. because the rules changed since it was recorded, ends its replay with an error, just
+ * like a match whose bytes do not match its checksum.
+ * @author upgcv
+ */
+public final class MatchLogReader {
+    private static final String CORRUPT_LOG_MESSAGE = "Error, match %d of the log cannot be replayed!";
+    private static final String OTHER_SETUP_MESSAGE = "Error, match %d of the log was recorded with another setup!";
+    private static final String UNKNOWN_MONSTER_MESSAGE = "Error, match %d of the log has an unknown monster %s!";
+    private static final String LOG_TOO_LARGE_MESSAGE = "Error, the log %s is too large to be mapped!";
+    private static final String UNEXPECTED_ENTRY_MESSAGE = "Error, the log recorded %s where a decision was expected!";
+    private static final String REJECTED_ACTION_MESSAGE = "Error, the competition rejected the recorded action %s!";
+    private static final int FILE_START = 0;
+    private static final int CYCLE_START_INDEX = 0;
+
+    private final GameSetup gameSetup;
+    private final long setupFingerprint;
+    private final MatchLogDecoder decoder;
+    private int matchIndex;
+
+    /**
+     * Creates a new reader replaying the matches from the current position of a buffer.
+     * @param gameSetup the game setup the matches were recorded with
+     * @param buffer the buffer holding the log
+     */
+    public MatchLogReader(GameSetup gameSetup, ByteBuffer buffer) {
+        this.gameSetup = gameSetup;
+        this.setupFingerprint = SetupSnapshot.fingerprint(gameSetup);
+        this.decoder = new MatchLogDecoder(buffer);
+    }
+
+    /**
+     * Creates a new reader replaying the matches of a file, which is read with a single memory-mapped read.
+     * @param gameSetup the game setup the matches were recorded with
+     * @param path the path of the log
+     * @return the new reader
+     * @throws IOException if the file cannot be read
+     */
+    public static MatchLogReader open(GameSetup gameSetup, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(LOG_TOO_LARGE_MESSAGE.formatted(path));
+            }
+            return new MatchLogReader(gameSetup, channel.map(FileChannel.MapMode.READ_ONLY, FILE_START,
+                    channel.size()));
+        }
+    }
+
+    /**
+     * Checks whether there is another match left to replay.
+     * @return true if the log has bytes left, false otherwise
+     */
+    public boolean hasNextMatch() {
+        return this.decoder.hasRemaining();
+    }
+
+    /**
+     * Replays the next match of the log to its recorded end.
+     * @return the end of the replayed match
+     * @throws IOException if the match is not valid, was recorded with another setup or takes another course than the
+     *     recorded one, the rest of the log cannot be replayed after that
+     */
+    public ReplayedMatch replayNextMatch() throws IOException {
+        int currentMatch = this.matchIndex++;
+        try {
+            return replayMatch(currentMatch);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalStateException
+                | IllegalArgumentException e) {
+            throw new IOException(CORRUPT_LOG_MESSAGE.formatted(currentMatch), e);
+        }
+    }
+
+    //the checksum is only known at the end, a corrupted match is reported once its replay ends or fails
+    private ReplayedMatch replayMatch(int currentMatch) throws IOException {
+        int start = this.decoder.position();
+        if (this.decoder.readFixedInt() != MatchLogWriter.MAGIC_NUMBER
+                || this.decoder.readVarLong() != MatchLogWriter.FORMAT_VERSION) {
+            throw new IOException(CORRUPT_LOG_MESSAGE.formatted(currentMatch));
+        }
+        if (this.decoder.readFixedLong() != this.setupFingerprint) {
+            throw new IOException(OTHER_SETUP_MESSAGE.formatted(currentMatch));
+        }
+        List<String> monsterNames = new ArrayList<>();
+        Monster[] monsters = new Monster[this.decoder.readVarInt()];
+        for (int index = CYCLE_START_INDEX; index < monsters.length; index++) {
+            monsterNames.add(this.decoder.readString());
+            if (!this.gameSetup.containsMonster(monsterNames.get(index))) {
+                throw new IOException(UNKNOWN_MONSTER_MESSAGE.formatted(currentMatch, monsterNames.get(index)));
+            }
+            monsters[index] = this.gameSetup.getMonster(monsterNames.get(index));
+        }
+        Competition competition = new Competition(monsters, new Randomizer(new ReplayValueSource(this.decoder)));
+        competition.turnSilentModeOn();
+        competition.start();
+        for (MatchLogTag tag = this.decoder.readTag(); tag != MatchLogTag.END; tag = this.decoder.readTag()) {
+            switch (tag) {
+                case ACTION -> replayAction(competition);
+                case PASS -> competition.setNextPassAction();
+                default -> throw new IllegalStateException(UNEXPECTED_ENTRY_MESSAGE.formatted(tag));
+            }
+        }
+        if (this.decoder.checksum(start) != this.decoder.readFixedInt()) {
+            throw new IOException(CORRUPT_LOG_MESSAGE.formatted(currentMatch));
+        }
+        CompetitiveMonster winner = competition.getWinner();
+        return new ReplayedMatch(List.copyOf(monsterNames), winner == null ? ReplayedMatch.NO_WINNER
+                : winner.monster().getSlot(), competition.getRoundNumber(), competition.getStateHash());
+    }
+
+    //the target is named explicitly, the competition ignores it for an action without a target
+    private void replayAction(Competition competition) {
+        String actionName = competition.getMonsterOnTurn().getActionNames().get(this.decoder.readVarInt());
+        String targetName = competition.getParticipantNames().get(this.decoder.readVarInt());
+        if (competition.setNextAction(actionName, targetName).getType() == ResultType.FAILURE) {
+            throw new IllegalStateException(REJECTED_ACTION_MESSAGE.formatted(actionName));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package edu.kit.kastel.logistics.replay;
+
+/**
+ * Represents the kinds of entries of a recorded match, each one written as a single byte holding its ordinal and
+ * followed by its payload, if it has one.
+ * @author upgcv
+ */
+enum MatchLogTag {
+
+    /** Action chosen by the monster on turn, followed by the index of the action and the slot of its target. */
+    ACTION,
+
+    /** Pass chosen by the monster on turn, without payload. */
+    PASS,
+
+    /** Hit roll that succeeded, without payload. */
+    SUCCESS,
+
+    /** Hit roll that failed, without payload. */
+    FAILURE,
+
+    /** Random integer, followed by its distance to the lower bound it was drawn with. */
+    INTEGER,
+
+    /** Random double, followed by its eight bytes. */
+    DOUBLE,
+
+    /** End of the match, followed by the CRC-32C checksum of all bytes of the match up to and including this tag. */
+    END
+}
@@ -0,0 +1,124 @@
+package edu.kit.kastel.logistics.replay;
+
+import edu.kit.kastel.logistics.Competition;
+import edu.kit.kastel.logistics.GameSetup;
+import edu.kit.kastel.logistics.GeneratorValueSource;
+import edu.kit.kastel.logistics.Randomizer;
+import edu.kit.kastel.logistics.initializer.SetupSnapshot;
+import edu.kit.kastel.objects.monsters.Monster;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.random.RandomGenerator;
+
+/**
+ * Class recording matches into an append-only binary log, one after another, so they can be replayed by a
+ * {@link MatchLogReader} without their seeds or commands. Every match starts with a header holding a magic number,
+ * the format version, the fingerprint of the game setup, see {@link SetupSnapshot#fingerprint(GameSetup)}, and the
+ * names of its monsters. It is followed by every decision of a monster on turn and every random value the competition
+ * consumed, in the order they happened, and ends with an end tag and a checksum of the match. A match is collected
+ * in memory and only appended once it ends, so a log never holds a partly recorded match, unless writing it failed.
+ * @author upgcv
+ */
+public final class MatchLogWriter implements Closeable {
+    static final int MAGIC_NUMBER = 0x4B434D4C;
+    static final int FORMAT_VERSION = 1;
+    private static final String MATCH_RUNNING_MESSAGE = "Error, the previous match has not ended yet!";
+    private static final String NO_MATCH_MESSAGE = "Error, no match is recorded right now!";
+
+    private final OutputStream output;
+    private final long setupFingerprint;
+    private MatchLogEncoder encoder;
+    private Competition recordedCompetition;
+
+    /**
+     * Creates a new writer appending the matches to a stream.
+     * @param gameSetup the game setup all recorded matches are played with
+     * @param output the stream to append the matches to
+     */
+    public MatchLogWriter(GameSetup gameSetup, OutputStream output) {
+        this.output = output;
+        this.setupFingerprint = SetupSnapshot.fingerprint(gameSetup);
+    }
+
+    /**
+     * Creates a new writer appending the matches to a file, which is created if it does not exist yet.
+     * @param gameSetup the game setup all recorded matches are played with
+     * @param path the path of the log
+     * @return the new writer, which has to be closed
+     * @throws IOException if the file cannot be opened
+     */
+    public static MatchLogWriter append(GameSetup gameSetup, Path path) throws IOException {
+        return new MatchLogWriter(gameSetup, new BufferedOutputStream(Files.newOutputStream(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)));
+    }
+
+    /**
+     * Starts recording a new match, which is played by the returned competition. The competition still has to be
+     * started and can be driven like any other one, all decisions and random values are recorded on the way.
+     * @param monsters the monsters of the match, taken from the game setup of this writer
+     * @param generator the generator the random values of the match are drawn from
+     * @return the competition to play the match with, it cannot be debugged
+     * @throws IllegalStateException if the previous match has not ended yet
+     */
+    public Competition startMatch(Monster[] monsters, RandomGenerator generator) {
+        if (this.recordedCompetition != null) {
+            throw new IllegalStateException(MATCH_RUNNING_MESSAGE);
+        }
+        //a competition played on after its match ended only writes to its own encoder
+        this.encoder = new MatchLogEncoder();
+        this.encoder.writeFixedInt(MAGIC_NUMBER);
+        this.encoder.writeVarLong(FORMAT_VERSION);
+        this.encoder.writeFixedLong(this.setupFingerprint);
+        this.encoder.writeVarLong(monsters.length);
+        for (Monster monster : monsters) {
+            this.encoder.writeString(monster.getName());
+        }
+        this.recordedCompetition = new Competition(monsters, new Randomizer(
+                new RecordingValueSource(new GeneratorValueSource(generator), this.encoder)));
+        this.recordedCompetition.attachChoiceListener(this::recordChoice);
+        return this.recordedCompetition;
+    }
+
+    /**
+     * Ends the recorded match, whether it is decided or not, and appends it to the log.
+     * @throws IOException if the match cannot be written
+     * @throws IllegalStateException if no match is recorded right now
+     */
+    public void endMatch() throws IOException {
+        if (this.recordedCompetition == null) {
+            throw new IllegalStateException(NO_MATCH_MESSAGE);
+        }
+        this.recordedCompetition.attachChoiceListener(null);
+        this.recordedCompetition = null;
+        this.encoder.writeTag(MatchLogTag.END);
+        this.encoder.writeFixedInt(this.encoder.checksum());
+        this.encoder.writeTo(this.output);
+        this.output.flush();
+    }
+
+    /**
+     * Closes the log. A match that has not ended yet is not written.
+     * @throws IOException if the log cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        this.output.close();
+    }
+
+    //the monster on turn is still the one deciding, so its actions give the index
+    private void recordChoice(String actionName, int targetSlot) {
+        if (actionName == null) {
+            this.encoder.writeTag(MatchLogTag.PASS);
+            return;
+        }
+        this.encoder.writeTag(MatchLogTag.ACTION);
+        this.encoder.writeVarLong(this.recordedCompetition.getMonsterOnTurn().getActionNames().indexOf(actionName));
+        this.encoder.writeVarLong(targetSlot);
+    }
+}
@@ -0,0 +1,47 @@
+package edu.kit.kastel.logistics.replay;
+
+import edu.kit.kastel.logistics.RandomValueSource;
+
+/**
+ * Class representing a source that takes its values from another source and records every value it hands out, so
+ * the match can be replayed by a {@link ReplayValueSource} without the other source.
+ * @author upgcv
+ */
+final class RecordingValueSource implements RandomValueSource {
+    private final RandomValueSource source;
+    private final MatchLogEncoder encoder;
+
+    /**
+     * Creates a new recording source.
+     * @param source the source to take the values from
+     * @param encoder the encoder the values are recorded with
+     */
+    RecordingValueSource(RandomValueSource source, MatchLogEncoder encoder) {
+        this.source = source;
+        this.encoder = encoder;
+    }
+
+    @Override
+    public boolean nextSuccess(double successRate) {
+        boolean isSuccess = this.source.nextSuccess(successRate);
+        this.encoder.writeTag(isSuccess ? MatchLogTag.SUCCESS : MatchLogTag.FAILURE);
+        return isSuccess;
+    }
+
+    //the distance to the lower bound is small and never negative, so it fits into a single byte most of the time
+    @Override
+    public int nextInt(int firstDigit, int secondDigit) {
+        int value = this.source.nextInt(firstDigit, secondDigit);
+        this.encoder.writeTag(MatchLogTag.INTEGER);
+        this.encoder.writeVarLong((long) value - firstDigit);
+        return value;
+    }
+
+    @Override
+    public double nextDouble(double firstDigit, double secondDigit) {
+        double value = this.source.nextDouble(firstDigit, secondDigit);
+        this.encoder.writeTag(MatchLogTag.DOUBLE);
+        this.encoder.writeFixedLong(Double.doubleToRawLongBits(value));
+        return value;
+    }
+}
@@ -0,0 +1,44 @@
+package edu.kit.kastel.logistics.replay;
+
+import edu.kit.kastel.logistics.RandomValueSource;
+
+/**
+ * Class representing a source that does not draw its values, but reads the values a {@link RecordingValueSource}
+ * recorded, in the same order. A value of another kind or out of the bounds asked for means that the match takes
+ * another course than the recorded one, e.g. because the setup or the rules changed since.
+ * @author upgcv
+ */
+final class ReplayValueSource implements RandomValueSource {
+    private static final String OUT_OF_BOUNDS_MESSAGE = "Error, the log recorded %d where a value up to %d was drawn!";
+
+    private final MatchLogDecoder decoder;
+
+    /**
+     * Creates a new replaying source.
+     * @param decoder the decoder to read the recorded values from
+     */
+    ReplayValueSource(MatchLogDecoder decoder) {
+        this.decoder = decoder;
+    }
+
+    @Override
+    public boolean nextSuccess(double successRate) {
+        return this.decoder.readTag(MatchLogTag.SUCCESS, MatchLogTag.FAILURE) == MatchLogTag.SUCCESS;
+    }
+
+    @Override
+    public int nextInt(int firstDigit, int secondDigit) {
+        this.decoder.expectTag(MatchLogTag.INTEGER);
+        long value = firstDigit + this.decoder.readVarLong();
+        if (value > secondDigit) {
+            throw new IllegalStateException(OUT_OF_BOUNDS_MESSAGE.formatted(value, secondDigit));
+        }
+        return (int) value;
+    }
+
+    @Override
+    public double nextDouble(double firstDigit, double secondDigit) {
+        this.decoder.expectTag(MatchLogTag.DOUBLE);
+        return Double.longBitsToDouble(this.decoder.readFixedLong());
+    }
+}
@@ -0,0 +1,21 @@
+package edu.kit.kastel.logistics.replay;
+
+import java.util.List;
+
+/**
+ * Record class representing the end of a replayed match, to compare it with the end of the recorded one or of another
+ * replay, e.g. while bisecting a change of the rules.
+ * @param monsterNames names of the monsters of the match, in the order they entered it
+ * @param winnerSlot index of the winner in the monster names, {@link #NO_WINNER} if the match is drawn or undecided
+ * @param rounds number of rounds that were played
+ * @param stateHash hash of the battle state the match ended with, see
+ *     {@link edu.kit.kastel.logistics.Competition#getStateHash()}
+ * @author upgcv
+ */
+public record ReplayedMatch(List<String> monsterNames, int winnerSlot, int rounds, long stateHash) {
+
+    /**
+     * Value of the winner slot if no monster won the match.
+     */
+    public static final int NO_WINNER = -1;
+}
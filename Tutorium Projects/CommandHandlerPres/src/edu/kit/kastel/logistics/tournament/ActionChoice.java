@@ -0,0 +1,55 @@
+package edu.kit.kastel.logistics.tournament;
+
+import edu.kit.kastel.logistics.Competition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Record class representing the decision a {@link MatchPolicy} made for the monster on turn.
+ * @param actionName name of the action to use, {@code null} if the monster passes
+ * @param targetName name of the target monster, an empty string if the target is chosen automatically
+ * @author upgcv
+ */
+public record ActionChoice(String actionName, String targetName) {
+    private static final ActionChoice PASS = new ActionChoice(null, "");
+    private static final int CYCLE_START_INDEX = 0;
+
+    /**
+     * Gets the choice representing a pass.
+     * @return the pass choice
+     */
+    public static ActionChoice pass() {
+        return PASS;
+    }
+
+    /**
+     * Indicates if this choice is a pass.
+     * @return true if the monster on turn passes, false otherwise
+     */
+    public boolean isPass() {
+        return this.actionName == null;
+    }
+
+    /**
+     * Lists all decisions the monster on turn can make: every action on every possible target, followed by a pass.
+     * @param competition the running competition, which is waiting for the next action
+     * @return the decisions in the order of the actions and of the positions of the targets
+     */
+    public static List<ActionChoice> listChoices(Competition competition) {
+        List<ActionChoice> choices = new ArrayList<>();
+        for (String actionName : competition.getMonsterOnTurn().getActionNames()) {
+            if (!competition.actionNeedsTarget(actionName)) {
+                choices.add(new ActionChoice(actionName, ""));
+                continue;
+            }
+            for (int position = CYCLE_START_INDEX; position < competition.getCompetitorCount(); position++) {
+                if (position != competition.getPositionOnTurn()) {
+                    choices.add(new ActionChoice(actionName, competition.getCompetitorName(position)));
+                }
+            }
+        }
+        choices.add(PASS);
+        return choices;
+    }
+}
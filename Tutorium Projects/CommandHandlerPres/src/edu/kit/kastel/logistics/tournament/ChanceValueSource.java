@@ -0,0 +1,128 @@
+package edu.kit.kastel.logistics.tournament;
+
+import edu.kit.kastel.logistics.RandomValueSource;
+import edu.kit.kastel.logistics.Randomizer;
+
+import java.util.Arrays;
+
+/**
+ * Class representing a source of a {@link Randomizer} that does not draw its values, but enumerates them. Every value
+ * a step of a competition asks for is a chance node whose branches are its possible outcomes with their known
+ * probabilities: a hit roll succeeds or fails, an integer is one of its bounds or a value between them, and a double
+ * falls into one of a fixed number of equally likely intervals, represented by its midpoint. The step is replayed once
+ * per path through these chance nodes, in depth-first order, and the probability of the current path is the product
+ * of the probabilities of its branches.
+ * @author upgcv
+ */
+final class ChanceValueSource implements RandomValueSource {
+    private static final double MAX_PERCENTAGE_RATE = 100.0;
+    private static final double CERTAIN_PROBABILITY = 1.0;
+    private static final double NO_PROBABILITY = 0.0;
+    private static final double HALF_INTERVAL = 0.5;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int GROWTH_FACTOR = 2;
+    private static final int PATH_START = 0;
+    private static final int FIRST_BRANCH = 0;
+    private static final int NEXT_BRANCH_OFFSET = 1;
+    private static final int SUCCESS_BRANCH = 0;
+    private static final int HIT_ROLL_BRANCHES = 2;
+    private static final int INTEGER_OFFSET_FOR_UPPER_BOUND = 1;
+
+    private final int doubleIntervals;
+    private int[] chosenBranches = new int[INITIAL_CAPACITY];
+    private int[] branchCounts = new int[INITIAL_CAPACITY];
+    private int pathLength;
+    private int cursor;
+    private double pathProbability;
+
+    /**
+     * Creates a new enumerating source.
+     * @param doubleIntervals the number of equally likely intervals the range of a double is split into
+     */
+    ChanceValueSource(int doubleIntervals) {
+        this.doubleIntervals = doubleIntervals;
+    }
+
+    /**
+     * Starts enumerating the paths of a new step, beginning with the first branch of every chance node.
+     */
+    void startEnumeration() {
+        this.pathLength = PATH_START;
+        startPath();
+    }
+
+    /**
+     * Starts the replay of the current path.
+     */
+    void startPath() {
+        this.cursor = PATH_START;
+        this.pathProbability = CERTAIN_PROBABILITY;
+    }
+
+    /**
+     * Gets the probability of the path replayed since it was started.
+     * @return the product of the probabilities of all branches taken
+     */
+    double getPathProbability() {
+        return this.pathProbability;
+    }
+
+    /**
+     * Moves to the next path in depth-first order, taking the next branch of the deepest chance node that has one left.
+     * The chance nodes behind it are forgotten, as they depend on the branches taken before.
+     * @return true if there is a next path, false if all paths were enumerated
+     */
+    boolean nextPath() {
+        this.pathLength = this.cursor;
+        while (this.pathLength > PATH_START) {
+            int last = this.pathLength - NEXT_BRANCH_OFFSET;
+            if (this.chosenBranches[last] + NEXT_BRANCH_OFFSET < this.branchCounts[last]) {
+                this.chosenBranches[last]++;
+                startPath();
+                return true;
+            }
+            this.pathLength--;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean nextSuccess(double successRate) {
+        double probability = Math.max(Math.min(successRate / MAX_PERCENTAGE_RATE, CERTAIN_PROBABILITY), NO_PROBABILITY);
+        if (probability == CERTAIN_PROBABILITY || probability == NO_PROBABILITY) {
+            return probability == CERTAIN_PROBABILITY;
+        }
+        boolean isSuccess = takeBranch(HIT_ROLL_BRANCHES) == SUCCESS_BRANCH;
+        this.pathProbability *= isSuccess ? probability : CERTAIN_PROBABILITY - probability;
+        return isSuccess;
+    }
+
+    @Override
+    public int nextInt(int firstDigit, int secondDigit) {
+        int values = secondDigit + INTEGER_OFFSET_FOR_UPPER_BOUND - firstDigit;
+        int value = firstDigit + takeBranch(values);
+        this.pathProbability /= values;
+        return value;
+    }
+
+    @Override
+    public double nextDouble(double firstDigit, double secondDigit) {
+        int interval = takeBranch(this.doubleIntervals);
+        this.pathProbability /= this.doubleIntervals;
+        return firstDigit + (interval + HALF_INTERVAL) * (secondDigit - firstDigit) / this.doubleIntervals;
+    }
+
+    //replays the branch of a known chance node, a new chance node starts with its first branch
+    private int takeBranch(int branches) {
+        if (this.cursor == this.pathLength) {
+            if (this.pathLength == this.chosenBranches.length) {
+                this.chosenBranches = Arrays.copyOf(this.chosenBranches, this.pathLength * GROWTH_FACTOR);
+                this.branchCounts = Arrays.copyOf(this.branchCounts, this.pathLength * GROWTH_FACTOR);
+            }
+            this.chosenBranches[this.pathLength] = FIRST_BRANCH;
+            this.branchCounts[this.pathLength] = branches;
+            this.pathLength++;
+        }
+        return this.chosenBranches[this.cursor++];
+    }
+}
@@ -0,0 +1,57 @@
+package edu.kit.kastel.logistics.tournament;
+
+import edu.kit.kastel.logistics.Competition;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Enum representing the policies that are available without writing an own {@link MatchPolicy}.
+ * @author upgcv
+ */
+public enum DefaultMatchPolicy implements MatchPolicy {
+
+    /**
+     * Every monster passes on every turn.
+     */
+    PASS((competition, random) -> ActionChoice.pass()),
+
+    /**
+     * Every monster uses one of its actions chosen uniformly at random on an opponent chosen uniformly at random.
+     */
+    RANDOM(DefaultMatchPolicy::chooseRandomAction);
+
+    private static final int NO_OTHER_COMPETITOR = 1;
+    private static final int OWN_POSITION_OFFSET = 1;
+
+    private final MatchPolicy policy;
+
+    DefaultMatchPolicy(MatchPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    public ActionChoice chooseAction(Competition competition, RandomGenerator random) {
+        return this.policy.chooseAction(competition, random);
+    }
+
+    private static ActionChoice chooseRandomAction(Competition competition, RandomGenerator random) {
+        List<String> actionNames = competition.getMonsterOnTurn().getActionNames();
+        if (actionNames.isEmpty()) {
+            return ActionChoice.pass();
+        }
+        String actionName = actionNames.get(random.nextInt(actionNames.size()));
+        if (!competition.actionNeedsTarget(actionName)) {
+            return new ActionChoice(actionName, "");
+        }
+        int opponents = competition.getCompetitorCount() - OWN_POSITION_OFFSET;
+        if (opponents < NO_OTHER_COMPETITOR) {
+            return ActionChoice.pass();
+        }
+        //the opponents are all competitors except the monster on turn, the ones behind it are shifted by one
+        int opponent = random.nextInt(opponents);
+        int ownPosition = competition.getPositionOnTurn();
+        return new ActionChoice(actionName,
+                competition.getCompetitorName(opponent < ownPosition ? opponent : opponent + OWN_POSITION_OFFSET));
+    }
+}
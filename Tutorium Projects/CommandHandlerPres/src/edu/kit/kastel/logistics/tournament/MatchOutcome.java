@@ -0,0 +1,24 @@
+package edu.kit.kastel.logistics.tournament;
+
+/**
+ * Record class representing the outcome of a single headless match.
+ * @param matchupIndex index of the played matchup in the list given to the {@link Tournament}
+ * @param winnerSlot index of the winner in the monster names of the matchup, {@link #NO_WINNER} if the match is a draw
+ * @param rounds number of rounds that were played
+ * @author upgcv
+ */
+public record MatchOutcome(int matchupIndex, int winnerSlot, int rounds) {
+
+    /**
+     * Value of the winner slot if no monster won the match.
+     */
+    public static final int NO_WINNER = -1;
+
+    /**
+     * Indicates if this match ended without a winner, either because all monsters fainted or the round limit was hit.
+     * @return true if there is no winner, false otherwise
+     */
+    public boolean isDraw() {
+        return this.winnerSlot == NO_WINNER;
+    }
+}
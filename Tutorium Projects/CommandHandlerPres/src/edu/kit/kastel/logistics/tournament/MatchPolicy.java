@@ -0,0 +1,20 @@
+package edu.kit.kastel.logistics.tournament;
+
+import edu.kit.kastel.logistics.Competition;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Interface for a policy deciding which action the monster on turn uses in a headless match.
+ * @author upgcv
+ */
+public interface MatchPolicy {
+
+    /**
+     * Decides the next action of the monster whose turn it currently is.
+     * @param competition the running competition, which is waiting for the next action
+     * @param random the random generator of this match, so that decisions stay reproducible for a seed
+     * @return the decision for the monster on turn
+     */
+    ActionChoice chooseAction(Competition competition, RandomGenerator random);
+}
@@ -0,0 +1,28 @@
+package edu.kit.kastel.logistics.tournament;
+
+import java.util.List;
+
+/**
+ * Record class representing the monsters that fight against each other in one match of a {@link Tournament}.
+ * @param monsterNames names of the participating monsters as defined in the game setup
+ * @author upgcv
+ */
+public record Matchup(List<String> monsterNames) {
+
+    /**
+     * Creates a new matchup with an unmodifiable copy of the given monster names.
+     * @param monsterNames names of the participating monsters as defined in the game setup
+     */
+    public Matchup {
+        monsterNames = List.copyOf(monsterNames);
+    }
+
+    /**
+     * Creates a new matchup of the given monsters.
+     * @param monsterNames names of the participating monsters as defined in the game setup
+     * @return the new matchup
+     */
+    public static Matchup of(String... monsterNames) {
+        return new Matchup(List.of(monsterNames));
+    }
+}
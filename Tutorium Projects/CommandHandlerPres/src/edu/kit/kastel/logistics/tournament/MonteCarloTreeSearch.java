@@ -0,0 +1,285 @@
+package edu.kit.kastel.logistics.tournament;
+
+import edu.kit.kastel.logistics.Competition;
+import edu.kit.kastel.logistics.Randomizer;
+import edu.kit.kastel.objects.monsters.CompetitiveMonster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Class deciding the action of the monster on turn by Monte Carlo tree search with the UCT selection rule. The trees
+ * are searched in parallel, each one on its own task of an executor with its own generator split off a common seed,
+ * and the visits of their roots are summed up, so the decision is the one visited most often. The trees only store
+ * the sequence of decisions leading to a node: every iteration plays a new copy of the competition from the root
+ * silently, drawing new random values for every round, selects decisions known to the tree, adds one new decision and
+ * plays the rest of the competition by a rollout policy. Every monster prefers the decisions that let itself win, so
+ * competitions of more than two monsters need no assumption about alliances.
+ * <p>
+ * The search stops after the given number of iterations, or earlier if its time budget is used up. Without a time
+ * budget, the decision only depends on the state, the seed and the number of trees, not on the executor. The executor
+ * should not run the match that asks for the decision, as that one waits for the trees.
+ * @author upgcv
+ */
+public class MonteCarloTreeSearch implements MatchPolicy {
+    private static final String INVALID_TREE_NUMBER_MESSAGE = "Error, at least one tree has to be searched!";
+    private static final String INVALID_ITERATION_NUMBER_MESSAGE = "Error, at least one iteration has to be played!";
+    private static final String INVALID_BUDGET_MESSAGE = "Error, the time budget must not be negative!";
+    private static final String INTERRUPTED_MESSAGE = "Error, the search was interrupted!";
+    private static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+    private static final double WIN_REWARD = 1;
+    private static final double NO_REWARD = 0;
+    private static final int DEFAULT_MAX_ROUNDS = 1000;
+    private static final int MIN_TREES = 1;
+    private static final int MIN_ITERATIONS = 1;
+    private static final long NO_TIME_BUDGET = 0;
+    private static final int NO_VISITS = 0;
+    private static final int LESS_THAN_NO_VISITS = -1;
+    private static final int EXTRA_ITERATION = 1;
+    private static final int NO_EXTRA_ITERATION = 0;
+    private static final int ROOT_NODES = 1;
+    private static final int CYCLE_START_INDEX = 0;
+
+    private final MatchPolicy rolloutPolicy;
+    private final ExecutorService executor;
+    private final int trees;
+    private final int maxIterations;
+    private final long timeBudgetNanos;
+    private final int maxRounds;
+    private final double exploration;
+
+    /**
+     * Creates a new tree search.
+     * @param rolloutPolicy the policy deciding all actions once an iteration left the tree
+     * @param executor the executor the trees are searched on
+     * @param trees the number of trees searched in parallel
+     * @param maxIterations the number of iterations played by all trees together
+     * @param timeBudgetMillis the time in milliseconds a decision may take, 0 for no limit
+     * @param maxRounds the number of further rounds after which an iteration is counted as undecided
+     * @param exploration the factor weighting the exploration term of the UCT selection rule
+     * @throws IllegalArgumentException if there are no trees, no iterations or a negative time budget
+     */
+    public MonteCarloTreeSearch(MatchPolicy rolloutPolicy, ExecutorService executor, int trees, int maxIterations,
+                                long timeBudgetMillis, int maxRounds, double exploration) {
+        if (trees < MIN_TREES) {
+            throw new IllegalArgumentException(INVALID_TREE_NUMBER_MESSAGE);
+        }
+        if (maxIterations < MIN_ITERATIONS) {
+            throw new IllegalArgumentException(INVALID_ITERATION_NUMBER_MESSAGE);
+        }
+        if (timeBudgetMillis < NO_TIME_BUDGET) {
+            throw new IllegalArgumentException(INVALID_BUDGET_MESSAGE);
+        }
+        this.rolloutPolicy = rolloutPolicy;
+        this.executor = executor;
+        this.trees = trees;
+        this.maxIterations = maxIterations;
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        this.maxRounds = maxRounds;
+        this.exploration = exploration;
+    }
+
+    /**
+     * Creates a new tree search playing random rollouts, with a default round limit and exploration factor.
+     * @param executor the executor the trees are searched on
+     * @param trees the number of trees searched in parallel
+     * @param maxIterations the number of iterations played by all trees together
+     * @param timeBudgetMillis the time in milliseconds a decision may take, 0 for no limit
+     * @throws IllegalArgumentException if there are no trees, no iterations or a negative time budget
+     */
+    public MonteCarloTreeSearch(ExecutorService executor, int trees, int maxIterations, long timeBudgetMillis) {
+        this(DefaultMatchPolicy.RANDOM, executor, trees, maxIterations, timeBudgetMillis, DEFAULT_MAX_ROUNDS,
+                DEFAULT_EXPLORATION);
+    }
+
+    /**
+     * Decides the next action of the monster whose turn it currently is, searching with a seed drawn from the given
+     * generator.
+     * @param competition the running competition, which is waiting for the next action
+     * @param random the random generator of this match, so that decisions stay reproducible for a seed
+     * @return the decision visited most often
+     * @throws IllegalStateException if the current thread is interrupted while waiting for the trees, or if a turn of
+     *     the competition is paused for a value decided by the user
+     */
+    @Override
+    public ActionChoice chooseAction(Competition competition, RandomGenerator random) {
+        try {
+            return search(competition, random.nextLong()).choice();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(INTERRUPTED_MESSAGE, e);
+        }
+    }
+
+    /**
+     * Searches the decision of the monster whose turn it currently is. The competition is only copied and not changed.
+     * @param competition the running competition, which is waiting for the next action
+     * @param seed the seed the generators of all trees are split off from
+     * @return the decision together with the numbers describing the search
+     * @throws InterruptedException if the current thread is interrupted while waiting for the trees
+     * @throws IllegalStateException if a turn of the competition is paused for a value decided by the user
+     */
+    public TreeSearchResult search(Competition competition, long seed) throws InterruptedException {
+        long startTime = System.nanoTime();
+        long deadline = this.timeBudgetNanos == NO_TIME_BUDGET ? Long.MAX_VALUE : startTime + this.timeBudgetNanos;
+        SplittableRandom rootGenerator = new SplittableRandom(seed);
+        List<Future<Tree>> futures = new ArrayList<>(this.trees);
+        for (int index = CYCLE_START_INDEX; index < this.trees; index++) {
+            //the remainder of the iterations is spread over the first trees
+            int treeIterations = this.maxIterations / this.trees
+                    + (index < this.maxIterations % this.trees ? EXTRA_ITERATION : NO_EXTRA_ITERATION);
+            SplittableRandom treeGenerator = rootGenerator.split();
+            Tree tree = new Tree(competition, treeGenerator);
+            futures.add(this.executor.submit(() -> tree.grow(treeIterations, deadline)));
+        }
+        Map<ActionChoice, Integer> visitsByChoice = new LinkedHashMap<>();
+        for (ActionChoice choice : ActionChoice.listChoices(competition)) {
+            visitsByChoice.put(choice, NO_VISITS);
+        }
+        long iterations = NO_VISITS;
+        long treeSize = NO_VISITS;
+        for (Future<Tree> future : futures) {
+            Tree tree = Tournament.awaitOutcome(future);
+            for (Map.Entry<ActionChoice, Node> child : tree.rootNode.children.entrySet()) {
+                visitsByChoice.merge(child.getKey(), child.getValue().visits, Integer::sum);
+            }
+            iterations += tree.iterations;
+            treeSize += tree.size;
+        }
+        ActionChoice bestChoice = ActionChoice.pass();
+        int bestVisits = LESS_THAN_NO_VISITS;
+        for (Map.Entry<ActionChoice, Integer> entry : visitsByChoice.entrySet()) {
+            if (entry.getValue() > bestVisits) {
+                bestVisits = entry.getValue();
+                bestChoice = entry.getKey();
+            }
+        }
+        return new TreeSearchResult(bestChoice, Collections.unmodifiableMap(visitsByChoice), iterations, treeSize,
+                System.nanoTime() - startTime);
+    }
+
+    //a single tree, only touched by the task searching it
+    private final class Tree {
+        private final Competition root;
+        private final SplittableRandom generator;
+        private final Randomizer randomizer;
+        private final Node rootNode;
+        private final int lastRound;
+        private long iterations;
+        private long size;
+
+        //the root is copied by the searching thread, so the trees never touch the running competition
+        private Tree(Competition competition, SplittableRandom generator) {
+            this.generator = generator;
+            this.randomizer = new Randomizer(generator);
+            this.root = competition.copyWith(this.randomizer);
+            this.root.turnSilentModeOn();
+            this.rootNode = new Node(competition.getParticipantNames().size());
+            this.lastRound = competition.getRoundNumber() + MonteCarloTreeSearch.this.maxRounds;
+            this.size = ROOT_NODES;
+        }
+
+        private Tree grow(int maxIterations, long deadline) {
+            while (this.iterations < maxIterations && System.nanoTime() < deadline) {
+                iterate();
+                this.iterations++;
+            }
+            return this;
+        }
+
+        //selects known decisions, adds the first unknown one, plays the rest by the rollout policy
+        private void iterate() {
+            Competition state = this.root.copyWith(this.randomizer);
+            List<Node> path = new ArrayList<>();
+            Node node = this.rootNode;
+            path.add(node);
+            boolean isExpanded = false;
+            while (!isExpanded && !state.isDecided() && state.getRoundNumber() < this.lastRound) {
+                List<ActionChoice> choices = ActionChoice.listChoices(state);
+                int chooserSlot = state.getMonsterOnTurn().getSlot();
+                ActionChoice choice = pickUnknownChoice(node, choices);
+                isExpanded = choice != null;
+                if (isExpanded) {
+                    node.children.put(choice, new Node(node.rewardSums.length));
+                    this.size++;
+                } else {
+                    choice = selectChoice(node, choices, chooserSlot);
+                }
+                node = node.children.get(choice);
+                path.add(node);
+                Tournament.applyChoice(state, choice);
+            }
+            Tournament.playUntilDecided(state, MonteCarloTreeSearch.this.rolloutPolicy, this.generator,
+                    this.lastRound);
+            double[] rewards = collectRewards(state, node.rewardSums.length);
+            for (Node visitedNode : path) {
+                visitedNode.visits++;
+                for (int slot = CYCLE_START_INDEX; slot < rewards.length; slot++) {
+                    visitedNode.rewardSums[slot] += rewards[slot];
+                }
+            }
+        }
+
+        //the same decisions may lead to states offering other choices, as random values are drawn anew
+        private ActionChoice pickUnknownChoice(Node node, List<ActionChoice> choices) {
+            List<ActionChoice> unknownChoices = new ArrayList<>();
+            for (ActionChoice choice : choices) {
+                if (!node.children.containsKey(choice)) {
+                    unknownChoices.add(choice);
+                }
+            }
+            return unknownChoices.isEmpty() ? null : unknownChoices.get(this.generator.nextInt(unknownChoices.size()));
+        }
+
+        private ActionChoice selectChoice(Node node, List<ActionChoice> choices, int chooserSlot) {
+            double logVisits = Math.log(node.visits);
+            ActionChoice bestChoice = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (ActionChoice choice : choices) {
+                Node child = node.children.get(choice);
+                double value = child.rewardSums[chooserSlot] / child.visits
+                        + MonteCarloTreeSearch.this.exploration * Math.sqrt(logVisits / child.visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    bestChoice = choice;
+                }
+            }
+            return bestChoice;
+        }
+    }
+
+    //the winner gets the whole reward, the monsters left in an undecided competition share it
+    private static double[] collectRewards(Competition state, int participants) {
+        double[] rewards = new double[participants];
+        CompetitiveMonster winner = state.getWinner();
+        if (winner != null) {
+            rewards[winner.monster().getSlot()] = WIN_REWARD;
+        } else if (!state.isDecided()) {
+            for (int position = CYCLE_START_INDEX; position < state.getCompetitorCount(); position++) {
+                rewards[state.getCompetitor(position).getSlot()] = WIN_REWARD / state.getCompetitorCount();
+            }
+        }
+        return rewards;
+    }
+
+    //the rewards are summed up for every participant, each chooser reads its own sum
+    private static final class Node {
+        private final Map<ActionChoice, Node> children = new HashMap<>();
+        private final double[] rewardSums;
+        private int visits;
+
+        private Node(int participants) {
+            this.rewardSums = new double[participants];
+            this.visits = NO_VISITS;
+        }
+    }
+}
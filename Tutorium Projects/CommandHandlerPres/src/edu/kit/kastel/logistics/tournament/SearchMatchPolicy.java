@@ -0,0 +1,292 @@
+package edu.kit.kastel.logistics.tournament;
+
+import edu.kit.kastel.logistics.Competition;
+import edu.kit.kastel.logistics.Randomizer;
+import edu.kit.kastel.objects.monsters.CompetitiveMonster;
+import edu.kit.kastel.objects.monsters.Monster;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Class representing a policy that searches for the best response of the monster on turn by expectiminimax with
+ * alpha-beta pruning. Every monster choosing an action is a decision node offering all its actions on all possible
+ * targets and a pass. The monster on turn maximizes the value of the competition for itself, all other monsters are
+ * assumed to minimize it. The execution of a round is a chance node whose branches are all outcomes of the random
+ * values drawn in it, enumerated with their known probabilities by a {@link ChanceValueSource}, see there for how a
+ * random factor is treated. Chance nodes are cut off as soon as the outcomes left cannot change the decision anymore.
+ * <p>
+ * The nodes are copies of the competition made by {@link Competition#copyWith}, which only copy the flat battle state
+ * and rebind the monsters to it, and are executed silently. The search deepens iteratively, one decision at a time,
+ * until the maximum depth is reached or the time budget of the decision is used up. An interrupted iteration only
+ * counts with the choices it completed, which beat the best choice of the previous iteration if they are preferred, as
+ * that one is tried first. A round reached again by other decisions or other random values is not searched again, as
+ * its value is kept in a {@link TranspositionTable} under the hash of its battle state for the rest of the decision.
+ * A state the search stops at is valued by the health of the monster on turn compared to its strongest opponent. The
+ * policy keeps no state between decisions, so it can decide for many competitions concurrently.
+ * @author upgcv
+ */
+public class SearchMatchPolicy implements MatchPolicy {
+    private static final String INVALID_DEPTH_MESSAGE = "Error, the search has to look at least one decision ahead!";
+    private static final String INVALID_BUDGET_MESSAGE = "Error, the time budget has to be positive!";
+    private static final String INVALID_INTERVALS_MESSAGE = "Error, a random factor needs at least one interval!";
+    private static final double WIN_VALUE = 1.0;
+    private static final double LOSS_VALUE = -1.0;
+    private static final double DRAW_VALUE = 0.0;
+    private static final double HEURISTIC_WEIGHT = 0.5;
+    private static final double CERTAIN_PROBABILITY = 1.0;
+    private static final double NO_HEALTH = 0.0;
+    private static final int DEFAULT_MAX_DEPTH = 16;
+    private static final int TRANSPOSITION_TABLE_CAPACITY = 1 << 14;
+    private static final int DEFAULT_DOUBLE_INTERVALS = 1;
+    private static final int MIN_DEPTH = 1;
+    private static final int MIN_DOUBLE_INTERVALS = 1;
+    private static final int NO_TIME_BUDGET = 0;
+    private static final int ROOT_PLY = 0;
+    private static final int NEXT_PLY_OFFSET = 1;
+    private static final int LAST_POSITION_OFFSET = 1;
+    private static final int SINGLE_CHOICE = 1;
+    private static final int FIRST_CHOICE_INDEX = 0;
+    private static final int CYCLE_START_INDEX = 0;
+
+    private final int maxDepth;
+    private final long timeBudgetNanos;
+    private final int doubleIntervals;
+
+    /**
+     * Creates a new search policy.
+     * @param maxDepth the maximum number of decisions the search looks ahead
+     * @param timeBudgetMillis the time in milliseconds a single decision may take
+     * @param doubleIntervals the number of equally likely values a random factor is split into
+     * @throws IllegalArgumentException if one of the values is not positive
+     */
+    public SearchMatchPolicy(int maxDepth, long timeBudgetMillis, int doubleIntervals) {
+        if (maxDepth < MIN_DEPTH) {
+            throw new IllegalArgumentException(INVALID_DEPTH_MESSAGE);
+        }
+        if (timeBudgetMillis <= NO_TIME_BUDGET) {
+            throw new IllegalArgumentException(INVALID_BUDGET_MESSAGE);
+        }
+        if (doubleIntervals < MIN_DOUBLE_INTERVALS) {
+            throw new IllegalArgumentException(INVALID_INTERVALS_MESSAGE);
+        }
+        this.maxDepth = maxDepth;
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        this.doubleIntervals = doubleIntervals;
+    }
+
+    /**
+     * Creates a new search policy with a default maximum depth, representing every random factor by its mean.
+     * @param timeBudgetMillis the time in milliseconds a single decision may take
+     * @throws IllegalArgumentException if the time budget is not positive
+     */
+    public SearchMatchPolicy(long timeBudgetMillis) {
+        this(DEFAULT_MAX_DEPTH, timeBudgetMillis, DEFAULT_DOUBLE_INTERVALS);
+    }
+
+    /**
+     * Decides the next action of the monster whose turn it currently is. The competition is only copied and not
+     * changed. The decision does not depend on the random generator, but on the time budget, unless the maximum depth
+     * is reached before the budget is used up.
+     * @param competition the running competition, which is waiting for the next action
+     * @param random the random generator of this match, not used by this policy
+     * @return the best decision found for the monster on turn
+     * @throws IllegalStateException if a turn of the competition is paused for a value decided by the user
+     */
+    @Override
+    public ActionChoice chooseAction(Competition competition, RandomGenerator random) {
+        return new Search(competition, System.nanoTime() + this.timeBudgetNanos).findBestChoice();
+    }
+
+    //the state of a single decision, every ply of the search enumerates its chance nodes with its own source
+    private final class Search {
+        private final Competition root;
+        private final int rootSlot;
+        private final long deadline;
+        private final ChanceValueSource[] sources;
+        private final Randomizer[] randomizers;
+        private final TranspositionTable<Double> transpositions;
+        private boolean isInterrupted;
+
+        private Search(Competition root, long deadline) {
+            this.root = root;
+            this.rootSlot = root.getMonsterOnTurn().getSlot();
+            this.deadline = deadline;
+            this.transpositions = new TranspositionTable<>(TRANSPOSITION_TABLE_CAPACITY);
+            this.sources = new ChanceValueSource[SearchMatchPolicy.this.maxDepth];
+            this.randomizers = new Randomizer[SearchMatchPolicy.this.maxDepth];
+            for (int ply = CYCLE_START_INDEX; ply < this.sources.length; ply++) {
+                this.sources[ply] = new ChanceValueSource(SearchMatchPolicy.this.doubleIntervals);
+                this.randomizers[ply] = new Randomizer(this.sources[ply]);
+            }
+        }
+
+        //the best choice of an iteration is tried first by the next one, so it prunes the most
+        private ActionChoice findBestChoice() {
+            List<ActionChoice> choices = ActionChoice.listChoices(this.root);
+            ActionChoice bestChoice = choices.get(FIRST_CHOICE_INDEX);
+            if (choices.size() == SINGLE_CHOICE) {
+                return bestChoice;
+            }
+            for (int depth = MIN_DEPTH; depth <= SearchMatchPolicy.this.maxDepth; depth++) {
+                double bestValue = Double.NEGATIVE_INFINITY;
+                ActionChoice bestChoiceOfDepth = bestChoice;
+                for (ActionChoice choice : choices) {
+                    double value = evaluateChoice(this.root, choice, depth, ROOT_PLY, bestValue, WIN_VALUE);
+                    if (this.isInterrupted) {
+                        return bestChoiceOfDepth;
+                    }
+                    if (value > bestValue) {
+                        bestValue = value;
+                        bestChoiceOfDepth = choice;
+                    }
+                }
+                bestChoice = bestChoiceOfDepth;
+                choices.remove(bestChoice);
+                choices.add(FIRST_CHOICE_INDEX, bestChoice);
+                if (bestValue == WIN_VALUE || bestValue == LOSS_VALUE) {
+                    break;
+                }
+            }
+            return bestChoice;
+        }
+
+        private double search(Competition state, int depth, int ply, double alpha, double beta) {
+            Monster rootMonster = findRootMonster(state);
+            if (state.isDecided() || rootMonster == null) {
+                return valueOfEnd(state);
+            }
+            if (depth < MIN_DEPTH) {
+                return valueOfHealth(state, rootMonster);
+            }
+            boolean isMaximizing = state.getMonsterOnTurn().getSlot() == this.rootSlot;
+            double bestValue = isMaximizing ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            double currentAlpha = alpha;
+            double currentBeta = beta;
+            for (ActionChoice choice : ActionChoice.listChoices(state)) {
+                double value = evaluateChoice(state, choice, depth, ply, currentAlpha, currentBeta);
+                if (this.isInterrupted) {
+                    return DRAW_VALUE;
+                }
+                if (isMaximizing) {
+                    bestValue = Math.max(bestValue, value);
+                    currentAlpha = Math.max(currentAlpha, value);
+                } else {
+                    bestValue = Math.min(bestValue, value);
+                    currentBeta = Math.min(currentBeta, value);
+                }
+                if (currentAlpha >= currentBeta) {
+                    break;
+                }
+            }
+            return bestValue;
+        }
+
+        //the choice of the last monster of a round executes the round, the other choices are only recorded
+        private double evaluateChoice(Competition state, ActionChoice choice, int depth, int ply, double alpha,
+                                      double beta) {
+            if (isTimeUp()) {
+                return DRAW_VALUE;
+            }
+            if (state.getPositionOnTurn() == state.getCompetitorCount() - LAST_POSITION_OFFSET) {
+                return expectRound(state, choice, depth, ply, alpha, beta);
+            }
+            Competition next = copy(state, ply);
+            Tournament.applyChoice(next, choice);
+            return search(next, depth - NEXT_PLY_OFFSET, ply + NEXT_PLY_OFFSET, alpha, beta);
+        }
+
+        //the outcomes left can at most add their probability times the best or the worst value
+        private double expectRound(Competition state, ActionChoice choice, int depth, int ply, double alpha,
+                                   double beta) {
+            ChanceValueSource source = this.sources[ply];
+            source.startEnumeration();
+            double expectedValue = DRAW_VALUE;
+            double remainingProbability = CERTAIN_PROBABILITY;
+            do {
+                if (isTimeUp()) {
+                    return DRAW_VALUE;
+                }
+                Competition outcome = copy(state, ply);
+                source.startPath();
+                Tournament.applyChoice(outcome, choice);
+                double probability = source.getPathProbability();
+                expectedValue += probability * searchRound(outcome, depth - NEXT_PLY_OFFSET, ply + NEXT_PLY_OFFSET);
+                if (this.isInterrupted) {
+                    return DRAW_VALUE;
+                }
+                remainingProbability -= probability;
+                double upperBound = expectedValue + remainingProbability * WIN_VALUE;
+                double lowerBound = expectedValue + remainingProbability * LOSS_VALUE;
+                if (upperBound <= alpha) {
+                    return upperBound;
+                }
+                if (lowerBound >= beta) {
+                    return lowerBound;
+                }
+            } while (source.nextPath());
+            return expectedValue;
+        }
+
+        //no action is chosen at the start of a round, so the battle state identifies it for the monsters of this search
+        private double searchRound(Competition state, int depth, int ply) {
+            long hash = state.getStateHash();
+            Optional<Double> storedValue = this.transpositions.get(hash, depth);
+            if (storedValue.isPresent()) {
+                return storedValue.get();
+            }
+            double value = search(state, depth, ply, LOSS_VALUE, WIN_VALUE);
+            if (!this.isInterrupted) {
+                this.transpositions.put(hash, depth, value);
+            }
+            return value;
+        }
+
+        private boolean isTimeUp() {
+            this.isInterrupted = this.isInterrupted || System.nanoTime() > this.deadline;
+            return this.isInterrupted;
+        }
+
+        private Competition copy(Competition state, int ply) {
+            Competition copy = state.copyWith(this.randomizers[ply]);
+            copy.turnSilentModeOn();
+            return copy;
+        }
+
+        private Monster findRootMonster(Competition state) {
+            for (int position = CYCLE_START_INDEX; position < state.getCompetitorCount(); position++) {
+                if (state.getCompetitor(position).getSlot() == this.rootSlot) {
+                    return state.getCompetitor(position);
+                }
+            }
+            return null;
+        }
+
+        //a monster that fainted has lost, even if the competition goes on without it
+        private double valueOfEnd(Competition state) {
+            CompetitiveMonster winner = state.getWinner();
+            if (state.isDecided() && winner == null) {
+                return DRAW_VALUE;
+            }
+            return winner != null && winner.monster().getSlot() == this.rootSlot ? WIN_VALUE : LOSS_VALUE;
+        }
+
+        //weighted below the value of an end, so a certain win or loss always dominates
+        private double valueOfHealth(Competition state, Monster rootMonster) {
+            double strongestOpponentHealth = NO_HEALTH;
+            for (int position = CYCLE_START_INDEX; position < state.getCompetitorCount(); position++) {
+                Monster competitor = state.getCompetitor(position);
+                if (competitor.getSlot() != this.rootSlot) {
+                    strongestOpponentHealth = Math.max(strongestOpponentHealth, healthShare(competitor));
+                }
+            }
+            return HEURISTIC_WEIGHT * (healthShare(rootMonster) - strongestOpponentHealth);
+        }
+    }
+
+    private static double healthShare(Monster monster) {
+        return (double) monster.getHPValue() / monster.getBaseHPValue();
+    }
+}
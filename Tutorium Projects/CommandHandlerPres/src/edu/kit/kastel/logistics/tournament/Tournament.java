@@ -0,0 +1,184 @@
+package edu.kit.kastel.logistics.tournament;
+
+import edu.kit.kastel.commands.Result;
+import edu.kit.kastel.commands.ResultType;
+import edu.kit.kastel.logistics.Competition;
+import edu.kit.kastel.logistics.GameSetup;
+import edu.kit.kastel.logistics.Randomizer;
+import edu.kit.kastel.objects.monsters.CompetitiveMonster;
+import edu.kit.kastel.objects.monsters.Monster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+
+/**
+ * Class running many {@link Competition competitions} without any console interaction. Every match gets its own
+ * competition with its own randomizer split off a common generator, so matches can be executed concurrently on any
+ * executor, e.g. a {@link ForkJoinPool} or an executor using virtual threads, without contending for a seed.
+ * @author upgcv
+ */
+public class Tournament {
+    private static final String UNKNOWN_MONSTER_MESSAGE = "Error, there is no monster named %s!";
+    private static final String TOO_FEW_MONSTERS_MESSAGE = "Error, a match needs at least %d monsters!";
+    private static final String INVALID_MATCH_NUMBER_MESSAGE = "Error, every matchup needs to be played at least once!";
+    private static final String MATCH_FAILED_MESSAGE = "Error, a match could not be finished!";
+    private static final int DEFAULT_MAX_ROUNDS = 1000;
+    private static final int MIN_MONSTERS_TO_RUN_COMPETITION = 2;
+    private static final int MIN_MATCHES_PER_MATCHUP = 1;
+    private static final int COMPETITIVE_INDEX_DIFFERENCE = 1;
+    private static final int CYCLE_START_INDEX = 0;
+
+    private final GameSetup gameSetup;
+    private final MatchPolicy policy;
+    private final ExecutorService executor;
+    private final int maxRounds;
+
+    /**
+     * Creates a new tournament that ends undecided matches after the given number of rounds as a draw.
+     * @param gameSetup the setup containing all monsters that may take part
+     * @param policy the policy deciding the actions of all monsters
+     * @param executor the executor the matches are run on
+     * @param maxRounds the number of rounds after which a match is declared a draw
+     */
+    public Tournament(GameSetup gameSetup, MatchPolicy policy, ExecutorService executor, int maxRounds) {
+        this.gameSetup = gameSetup;
+        this.policy = policy;
+        this.executor = executor;
+        this.maxRounds = maxRounds;
+    }
+
+    /**
+     * Creates a new tournament that ends undecided matches after a default number of rounds as a draw.
+     * @param gameSetup the setup containing all monsters that may take part
+     * @param policy the policy deciding the actions of all monsters
+     * @param executor the executor the matches are run on
+     */
+    public Tournament(GameSetup gameSetup, MatchPolicy policy, ExecutorService executor) {
+        this(gameSetup, policy, executor, DEFAULT_MAX_ROUNDS);
+    }
+
+    /**
+     * Creates an executor using the fork-join framework with one worker per available processor.
+     * @return a new executor to run the matches with
+     */
+    public static ExecutorService createForkJoinExecutor() {
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Plays every matchup the given number of times and aggregates the outcomes. The outcome of every match only depends
+     * on the seed, the matchup and the policy, so the result is reproducible regardless of the executor used.
+     * @param matchups the matchups to play
+     * @param matchesPerMatchup how often every matchup is played
+     * @param seed the seed all match generators are split off from
+     * @return the aggregated result of all matches
+     * @throws InterruptedException if the current thread is interrupted while waiting for the matches
+     * @throws IllegalArgumentException if a matchup is not valid for the game setup
+     */
+    public TournamentResult run(List<Matchup> matchups, int matchesPerMatchup, long seed) throws InterruptedException {
+        if (matchesPerMatchup < MIN_MATCHES_PER_MATCHUP) {
+            throw new IllegalArgumentException(INVALID_MATCH_NUMBER_MESSAGE);
+        }
+        for (Matchup matchup : matchups) {
+            checkMatchup(matchup);
+        }
+        SplittableRandom rootGenerator = new SplittableRandom(seed);
+        long startTime = System.nanoTime();
+        List<Future<MatchOutcome>> futures = new ArrayList<>(matchups.size() * matchesPerMatchup);
+        for (int matchupIndex = CYCLE_START_INDEX; matchupIndex < matchups.size(); matchupIndex++) {
+            for (int match = CYCLE_START_INDEX; match < matchesPerMatchup; match++) {
+                int finalMatchupIndex = matchupIndex;
+                Randomizer competitionRandomizer = new Randomizer(rootGenerator.split());
+                RandomGenerator policyRandom = rootGenerator.split();
+                futures.add(this.executor.submit(() -> playMatch(finalMatchupIndex, matchups.get(finalMatchupIndex),
+                        competitionRandomizer, policyRandom)));
+            }
+        }
+        List<MatchOutcome> outcomes = new ArrayList<>(futures.size());
+        for (Future<MatchOutcome> future : futures) {
+            outcomes.add(awaitOutcome(future));
+        }
+        TournamentResult result = new TournamentResult(matchups, System.nanoTime() - startTime);
+        for (MatchOutcome outcome : outcomes) {
+            result.addOutcome(outcome);
+        }
+        return result;
+    }
+
+    private void checkMatchup(Matchup matchup) {
+        if (matchup.monsterNames().size() < MIN_MONSTERS_TO_RUN_COMPETITION) {
+            throw new IllegalArgumentException(TOO_FEW_MONSTERS_MESSAGE.formatted(MIN_MONSTERS_TO_RUN_COMPETITION));
+        }
+        for (String monsterName : matchup.monsterNames()) {
+            if (!this.gameSetup.containsMonster(monsterName)) {
+                throw new IllegalArgumentException(UNKNOWN_MONSTER_MESSAGE.formatted(monsterName));
+            }
+        }
+    }
+
+    private MatchOutcome playMatch(int matchupIndex, Matchup matchup, Randomizer competitionRandomizer,
+                                   RandomGenerator random) {
+        Monster[] monsters = new Monster[matchup.monsterNames().size()];
+        for (int index = CYCLE_START_INDEX; index < monsters.length; index++) {
+            monsters[index] = this.gameSetup.getMonster(matchup.monsterNames().get(index));
+        }
+        Competition competition = new Competition(monsters, competitionRandomizer);
+        competition.turnSilentModeOn();
+        competition.start();
+        playUntilDecided(competition, this.policy, random, this.maxRounds);
+        CompetitiveMonster winner = competition.getWinner();
+        return new MatchOutcome(matchupIndex, winner == null ? MatchOutcome.NO_WINNER
+                : winner.id() - COMPETITIVE_INDEX_DIFFERENCE, competition.getRoundNumber());
+    }
+
+    /**
+     * Lets the policy decide all actions of a competition until it is decided or the given round is reached. An action
+     * the competition rejects is replaced by a pass.
+     * @param competition the running competition
+     * @param policy the policy deciding the actions of all monsters
+     * @param random the random generator of the policy
+     * @param lastRound the round number after which the competition is left undecided
+     */
+    static void playUntilDecided(Competition competition, MatchPolicy policy, RandomGenerator random, int lastRound) {
+        while (!competition.isDecided() && competition.getRoundNumber() < lastRound) {
+            applyChoice(competition, policy.chooseAction(competition, random));
+        }
+    }
+
+    /**
+     * Sets the decision of a policy as the next action of the competition. An action the competition rejects is
+     * replaced by a pass.
+     * @param competition the running competition, which is waiting for the next action
+     * @param choice the decision for the monster on turn
+     * @return the result of the action that was set
+     */
+    static Result applyChoice(Competition competition, ActionChoice choice) {
+        Result result = choice.isPass() ? competition.setNextPassAction()
+                : competition.setNextAction(choice.actionName(), choice.targetName());
+        return result.getType() == ResultType.FAILURE ? competition.setNextPassAction() : result;
+    }
+
+    /**
+     * Waits for the outcome of a match or of another task run on the executor, rethrowing what the task threw.
+     * @param future the future of the task
+     * @param <T> the type of the outcome
+     * @return the outcome of the task
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    static <T> T awaitOutcome(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(MATCH_FAILED_MESSAGE, e.getCause());
+        }
+    }
+}
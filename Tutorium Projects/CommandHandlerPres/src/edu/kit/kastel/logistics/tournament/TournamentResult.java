@@ -0,0 +1,136 @@
+package edu.kit.kastel.logistics.tournament;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class representing the aggregated results of a {@link Tournament} run: win/loss/draw tables per monster and per
+ * matchup as well as throughput numbers.
+ * @author upgcv
+ */
+public class TournamentResult {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final int CYCLE_START_INDEX = 0;
+    private static final int NO_VALUE = 0;
+
+    private final List<Matchup> matchups;
+    private final int[][] winsPerSlot;
+    private final int[] drawsPerMatchup;
+    private final int[] matchesPerMatchup;
+    private final Map<String, int[]> monsterTally = new LinkedHashMap<>();
+    private final long elapsedNanos;
+    private long totalRounds;
+    private int totalMatches;
+
+    /**
+     * Creates an empty result for the given matchups.
+     * @param matchups the matchups that were played
+     * @param elapsedNanos wall clock time the whole tournament took in nanoseconds
+     */
+    TournamentResult(List<Matchup> matchups, long elapsedNanos) {
+        this.matchups = List.copyOf(matchups);
+        this.elapsedNanos = elapsedNanos;
+        this.winsPerSlot = new int[matchups.size()][];
+        this.drawsPerMatchup = new int[matchups.size()];
+        this.matchesPerMatchup = new int[matchups.size()];
+        for (int index = CYCLE_START_INDEX; index < matchups.size(); index++) {
+            this.winsPerSlot[index] = new int[matchups.get(index).monsterNames().size()];
+        }
+    }
+
+    /**
+     * Adds the outcome of a single match to the tables.
+     * @param outcome the outcome to add
+     */
+    void addOutcome(MatchOutcome outcome) {
+        int matchupIndex = outcome.matchupIndex();
+        List<String> monsterNames = this.matchups.get(matchupIndex).monsterNames();
+        this.matchesPerMatchup[matchupIndex]++;
+        this.totalMatches++;
+        this.totalRounds += outcome.rounds();
+        if (outcome.isDraw()) {
+            this.drawsPerMatchup[matchupIndex]++;
+        } else {
+            this.winsPerSlot[matchupIndex][outcome.winnerSlot()]++;
+        }
+        for (int slot = CYCLE_START_INDEX; slot < monsterNames.size(); slot++) {
+            int[] tally = this.monsterTally.computeIfAbsent(monsterNames.get(slot), name -> new int[Tally.values().length]);
+            Tally column = outcome.isDraw() ? Tally.DRAW : outcome.winnerSlot() == slot ? Tally.WIN : Tally.LOSS;
+            tally[column.ordinal()]++;
+        }
+    }
+
+    /**
+     * Gets the aggregated records of every monster over all matchups it took part in.
+     * @return an unmodifiable map from the monster names to their records
+     */
+    public Map<String, WinLossRecord> getMonsterRecords() {
+        Map<String, WinLossRecord> records = new LinkedHashMap<>();
+        for (Map.Entry<String, int[]> entry : this.monsterTally.entrySet()) {
+            int[] tally = entry.getValue();
+            records.put(entry.getKey(), new WinLossRecord(tally[Tally.WIN.ordinal()], tally[Tally.LOSS.ordinal()],
+                    tally[Tally.DRAW.ordinal()]));
+        }
+        return Collections.unmodifiableMap(records);
+    }
+
+    /**
+     * Gets the record of a single participant of a matchup.
+     * @param matchupIndex index of the matchup in the list given to the tournament
+     * @param slot index of the participant in the monster names of the matchup
+     * @return the record of the participant in this matchup
+     */
+    public WinLossRecord getMatchupRecord(int matchupIndex, int slot) {
+        int wins = this.winsPerSlot[matchupIndex][slot];
+        int draws = this.drawsPerMatchup[matchupIndex];
+        return new WinLossRecord(wins, this.matchesPerMatchup[matchupIndex] - wins - draws, draws);
+    }
+
+    /**
+     * Gets the played matchups.
+     * @return an unmodifiable list of the matchups
+     */
+    public List<Matchup> getMatchups() {
+        return this.matchups;
+    }
+
+    /**
+     * Gets the number of matches that were played.
+     * @return the total number of matches
+     */
+    public int getTotalMatches() {
+        return this.totalMatches;
+    }
+
+    /**
+     * Gets the mean number of rounds a match lasted.
+     * @return the average number of rounds, 0 if no match was played
+     */
+    public double getAverageRounds() {
+        return this.totalMatches == NO_VALUE ? NO_VALUE : (double) this.totalRounds / this.totalMatches;
+    }
+
+    /**
+     * Gets the wall clock time the tournament took.
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * Gets the throughput of the tournament.
+     * @return the number of finished matches per second
+     */
+    public double getMatchesPerSecond() {
+        return this.elapsedNanos == NO_VALUE ? NO_VALUE : this.totalMatches * NANOS_PER_SECOND / this.elapsedNanos;
+    }
+
+    private enum Tally {
+        WIN,
+        LOSS,
+        DRAW
+    }
+}
@@ -0,0 +1,122 @@
+package edu.kit.kastel.logistics.tournament;
+
+import edu.kit.kastel.logistics.Competition;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Class representing a bounded transposition table, mapping the hash of a state, see
+ * {@link Competition#getStateHash()}, to a value a search found for it and the depth it searched the state with.
+ * Every hash has exactly one place in the table, chosen by its low bits, and the full hash is kept to recognize
+ * another state in the same place. A new entry replaces the old one in its place if that one was searched less deep
+ * or belongs to an older generation, so the deepest results of the current search survive. The entries are
+ * immutable and exchanged by compare-and-set, so any number of threads can use the table without locking.
+ * @param <V> the type of the values stored for the states
+ * @author upgcv
+ */
+public final class TranspositionTable<V> {
+    private static final String INVALID_CAPACITY_MESSAGE = "Error, the capacity has to be between 1 and %d!";
+    private static final int MIN_CAPACITY = 1;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int FIRST_GENERATION = 0;
+    private static final int UPPER_HALF_SHIFT = 32;
+    private static final int INDEX_MASK_OFFSET = 1;
+    private static final int DOUBLING_SHIFT = 1;
+    private static final int CYCLE_START_INDEX = 0;
+
+    private final AtomicReferenceArray<Entry<V>> entries;
+    private final int indexMask;
+    private final AtomicInteger generation = new AtomicInteger(FIRST_GENERATION);
+
+    /**
+     * Creates a new empty transposition table.
+     * @param minCapacity the number of entries the table has to hold at least, rounded up to the next power of two
+     * @throws IllegalArgumentException if the capacity is not positive or larger than the largest power of two of an
+     *     int
+     */
+    public TranspositionTable(int minCapacity) {
+        if (minCapacity < MIN_CAPACITY || minCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(INVALID_CAPACITY_MESSAGE.formatted(MAX_CAPACITY));
+        }
+        int capacity = Integer.highestOneBit(minCapacity);
+        if (capacity < minCapacity) {
+            capacity <<= DOUBLING_SHIFT;
+        }
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.indexMask = capacity - INDEX_MASK_OFFSET;
+    }
+
+    /**
+     * Gets the number of entries the table can hold.
+     * @return the capacity of the table, a power of two
+     */
+    public int capacity() {
+        return this.entries.length();
+    }
+
+    /**
+     * Gets the value stored for a state, if it was searched at least as deep as needed.
+     * @param hash the hash of the state
+     * @param minDepth the depth the state has to be searched with at least
+     * @return the stored value, or an empty optional if the state is not stored or was searched less deep
+     */
+    public Optional<V> get(long hash, int minDepth) {
+        Entry<V> entry = this.entries.get(indexOf(hash));
+        if (entry == null || entry.hash() != hash || entry.depth() < minDepth) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    /**
+     * Stores the value of a state, if the entry in its place may be replaced.
+     * @param hash the hash of the state
+     * @param depth the depth the state was searched with
+     * @param value the value found for the state
+     * @return true if the value was stored, false if the entry in its place was kept
+     */
+    public boolean put(long hash, int depth, V value) {
+        int index = indexOf(hash);
+        Entry<V> newEntry = new Entry<>(hash, depth, this.generation.get(), value);
+        Entry<V> oldEntry = this.entries.get(index);
+        while (oldEntry == null || isReplacedBy(oldEntry, newEntry)) {
+            if (this.entries.compareAndSet(index, oldEntry, newEntry)) {
+                return true;
+            }
+            oldEntry = this.entries.get(index);
+        }
+        return false;
+    }
+
+    /**
+     * Starts a new generation, so all entries stored before may be replaced by any new one. A search that reuses the
+     * table for a new decision should start one, as the old entries are less likely to be needed again.
+     */
+    public void startGeneration() {
+        this.generation.incrementAndGet();
+    }
+
+    /**
+     * Removes all entries from the table.
+     */
+    public void clear() {
+        for (int index = CYCLE_START_INDEX; index < this.entries.length(); index++) {
+            this.entries.set(index, null);
+        }
+    }
+
+    //the low bits of a Zobrist hash are as random as the high ones, folding them in only guards other hashes
+    private int indexOf(long hash) {
+        return (int) (hash ^ (hash >>> UPPER_HALF_SHIFT)) & this.indexMask;
+    }
+
+    private static <V> boolean isReplacedBy(Entry<V> oldEntry, Entry<V> newEntry) {
+        return oldEntry.generation() != newEntry.generation() || oldEntry.depth() <= newEntry.depth();
+    }
+
+    //immutable, so a thread reading an entry always sees a hash together with its own value
+    private record Entry<V>(long hash, int depth, int generation, V value) {
+    }
+}
@@ -0,0 +1,31 @@
+package edu.kit.kastel.logistics.tournament;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Record class representing the decision a {@link MonteCarloTreeSearch} made, together with the numbers describing
+ * the search that led to it.
+ * @param choice the decision for the monster on turn, the one visited most often at the roots of all trees
+ * @param visitsByChoice unmodifiable map from all decisions the monster on turn could make to the number of iterations
+ *     that started with them, summed over all trees and in the order of {@link ActionChoice#listChoices}
+ * @param iterations number of iterations played by all trees
+ * @param treeSize number of nodes of all trees, their roots included
+ * @param elapsedNanos wall-clock time the search took in nanoseconds
+ * @author upgcv
+ */
+public record TreeSearchResult(ActionChoice choice, Map<ActionChoice, Integer> visitsByChoice, long iterations,
+                               long treeSize, long elapsedNanos) {
+    private static final double NO_RATE = 0;
+    private static final long NO_TIME = 0;
+    private static final long ONE_SECOND = 1;
+
+    /**
+     * Gets the number of iterations played per second of wall-clock time, by all trees together.
+     * @return the iteration rate, 0 if no time was measured
+     */
+    public double iterationsPerSecond() {
+        return this.elapsedNanos <= NO_TIME ? NO_RATE
+                : (double) this.iterations * TimeUnit.SECONDS.toNanos(ONE_SECOND) / this.elapsedNanos;
+    }
+}
@@ -0,0 +1,28 @@
+package edu.kit.kastel.logistics.tournament;
+
+/**
+ * Record class representing the aggregated results of a monster in a {@link Tournament}.
+ * @param wins number of matches the monster won
+ * @param losses number of matches another monster won
+ * @param draws number of matches without any winner
+ * @author upgcv
+ */
+public record WinLossRecord(int wins, int losses, int draws) {
+    private static final int NO_MATCHES = 0;
+
+    /**
+     * Gets the number of matches this record is made of.
+     * @return the total number of matches
+     */
+    public int matches() {
+        return this.wins + this.losses + this.draws;
+    }
+
+    /**
+     * Gets the share of won matches.
+     * @return the win rate between 0 and 1, 0 if no match was played
+     */
+    public double winRate() {
+        return matches() == NO_MATCHES ? NO_MATCHES : (double) this.wins / matches();
+    }
+}
@@ -0,0 +1,28 @@
+package edu.kit.kastel.logistics.tournament;
+
+import java.util.Map;
+
+/**
+ * Record class representing the win probabilities a {@link WinProbabilityEstimator} estimated for a competition state.
+ * @param winProbabilities unmodifiable map from the names of all participants to their estimated win probabilities,
+ *     ordered by the ids of the monsters
+ * @param drawProbability estimated probability that the competition ends without a winner or is not decided within
+ *     the round limit
+ * @param expectedRemainingRounds mean number of rounds the rollouts lasted from the estimated state on
+ * @param rollouts number of rollouts the estimate is made of
+ * @param halfWidth largest half-width of the confidence intervals of all probabilities
+ * @author upgcv
+ */
+public record WinProbabilityEstimate(Map<String, Double> winProbabilities, double drawProbability,
+                                     double expectedRemainingRounds, int rollouts, double halfWidth) {
+    private static final double NO_PROBABILITY = 0;
+
+    /**
+     * Gets the estimated win probability of a participant.
+     * @param monsterName the name of the monster in the competition
+     * @return the estimated probability between 0 and 1, 0 if the monster did not take part
+     */
+    public double winProbabilityOf(String monsterName) {
+        return this.winProbabilities.getOrDefault(monsterName, NO_PROBABILITY);
+    }
+}
@@ -0,0 +1,143 @@
+package edu.kit.kastel.logistics.tournament;
+
+import edu.kit.kastel.logistics.Competition;
+import edu.kit.kastel.logistics.Randomizer;
+import edu.kit.kastel.objects.monsters.CompetitiveMonster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+
+/**
+ * Class estimating the probability of every monster to win a running {@link Competition} by Monte Carlo rollouts.
+ * Every rollout plays an independent copy of the competition silently to the end, deciding the actions by a
+ * {@link MatchPolicy}, with its own randomizer split off a common generator. The rollouts are run on an executor in
+ * batches until the 95% Wilson confidence intervals of all probabilities are narrow enough or a maximum number of
+ * rollouts is reached. The estimate only depends on the state, the seed and the batch size, not on the executor.
+ * @author upgcv
+ */
+public class WinProbabilityEstimator {
+    private static final String INVALID_ROLLOUT_NUMBER_MESSAGE = "Error, at least one rollout has to be played!";
+    private static final String INVALID_HALF_WIDTH_MESSAGE = "Error, the half-width has to be positive!";
+    private static final double CONFIDENCE_QUANTILE = 1.959964;
+    private static final double CERTAINTY = 1;
+    private static final double NO_WIDTH = 0;
+    private static final double QUARTER = 0.25;
+    private static final int DEFAULT_MAX_ROUNDS = 1000;
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final int MIN_ROLLOUTS = 1;
+    private static final int NO_ROLLOUTS = 0;
+    private static final int ESTIMATED_STATE_INDEX = 0;
+    private static final int COMPETITIVE_INDEX_DIFFERENCE = 1;
+    private static final int CYCLE_START_INDEX = 0;
+
+    private final MatchPolicy policy;
+    private final ExecutorService executor;
+    private final int maxRounds;
+    private final int batchSize;
+
+    /**
+     * Creates a new estimator.
+     * @param policy the policy deciding the actions of all monsters in the rollouts
+     * @param executor the executor the rollouts are run on
+     * @param maxRounds the number of further rounds after which a rollout is counted as a draw
+     * @param batchSize the number of rollouts played before the confidence intervals are checked again
+     */
+    public WinProbabilityEstimator(MatchPolicy policy, ExecutorService executor, int maxRounds, int batchSize) {
+        this.policy = policy;
+        this.executor = executor;
+        this.maxRounds = maxRounds;
+        this.batchSize = Math.max(MIN_ROLLOUTS, batchSize);
+    }
+
+    /**
+     * Creates a new estimator with a default round limit and batch size.
+     * @param policy the policy deciding the actions of all monsters in the rollouts
+     * @param executor the executor the rollouts are run on
+     */
+    public WinProbabilityEstimator(MatchPolicy policy, ExecutorService executor) {
+        this(policy, executor, DEFAULT_MAX_ROUNDS, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Estimates the win probabilities from the current state of the competition, which is only copied and not changed.
+     * The competition must be waiting for the next action, either of a monster or of the user.
+     * @param competition the competition to estimate
+     * @param maxRollouts the number of rollouts after which the estimate is returned in any case
+     * @param halfWidth the half-width all confidence intervals need to fall below to stop early
+     * @param seed the seed all rollout generators are split off from
+     * @return the estimated win probabilities
+     * @throws InterruptedException if the current thread is interrupted while waiting for the rollouts
+     * @throws IllegalArgumentException if the maximum number of rollouts or the half-width is not positive
+     * @throws IllegalStateException if a turn of the competition is paused for a value decided by the user
+     */
+    public WinProbabilityEstimate estimate(Competition competition, int maxRollouts, double halfWidth, long seed)
+            throws InterruptedException {
+        if (maxRollouts < MIN_ROLLOUTS) {
+            throw new IllegalArgumentException(INVALID_ROLLOUT_NUMBER_MESSAGE);
+        }
+        if (halfWidth <= NO_WIDTH) {
+            throw new IllegalArgumentException(INVALID_HALF_WIDTH_MESSAGE);
+        }
+        List<String> participantNames = competition.getParticipantNames();
+        int[] wins = new int[participantNames.size()];
+        int draws = NO_ROLLOUTS;
+        long totalRounds = NO_ROLLOUTS;
+        int rollouts = NO_ROLLOUTS;
+        double currentHalfWidth = Double.POSITIVE_INFINITY;
+        SplittableRandom rootGenerator = new SplittableRandom(seed);
+        while (rollouts < maxRollouts && currentHalfWidth > halfWidth) {
+            int batch = Math.min(this.batchSize, maxRollouts - rollouts);
+            List<Future<MatchOutcome>> futures = new ArrayList<>(batch);
+            for (int rollout = CYCLE_START_INDEX; rollout < batch; rollout++) {
+                Competition copy = competition.copyWith(new Randomizer(rootGenerator.split()));
+                RandomGenerator policyRandom = rootGenerator.split();
+                futures.add(this.executor.submit(() -> playRollout(copy, policyRandom)));
+            }
+            for (Future<MatchOutcome> future : futures) {
+                MatchOutcome outcome = Tournament.awaitOutcome(future);
+                if (outcome.isDraw()) {
+                    draws++;
+                } else {
+                    wins[outcome.winnerSlot()]++;
+                }
+                totalRounds += outcome.rounds();
+            }
+            rollouts += batch;
+            currentHalfWidth = wilsonHalfWidth(draws, rollouts);
+            for (int win : wins) {
+                currentHalfWidth = Math.max(currentHalfWidth, wilsonHalfWidth(win, rollouts));
+            }
+        }
+        Map<String, Double> winProbabilities = new LinkedHashMap<>();
+        for (int slot = CYCLE_START_INDEX; slot < wins.length; slot++) {
+            winProbabilities.put(participantNames.get(slot), (double) wins[slot] / rollouts);
+        }
+        return new WinProbabilityEstimate(Collections.unmodifiableMap(winProbabilities), (double) draws / rollouts,
+                (double) totalRounds / rollouts, rollouts, currentHalfWidth);
+    }
+
+    //plays the copy silently to the end, the rounds are counted from the estimated state on
+    private MatchOutcome playRollout(Competition copy, RandomGenerator policyRandom) {
+        int startRound = copy.getRoundNumber();
+        copy.turnSilentModeOn();
+        Tournament.playUntilDecided(copy, this.policy, policyRandom, startRound + this.maxRounds);
+        CompetitiveMonster winner = copy.getWinner();
+        return new MatchOutcome(ESTIMATED_STATE_INDEX, winner == null ? MatchOutcome.NO_WINNER
+                : winner.id() - COMPETITIVE_INDEX_DIFFERENCE, copy.getRoundNumber() - startRound);
+    }
+
+    //unlike the normal approximation, the Wilson interval does not collapse for probabilities of 0 or 1
+    private static double wilsonHalfWidth(int successes, int trials) {
+        double squaredQuantile = CONFIDENCE_QUANTILE * CONFIDENCE_QUANTILE;
+        double rate = (double) successes / trials;
+        double variance = rate * (CERTAINTY - rate) / trials + squaredQuantile * QUARTER / ((double) trials * trials);
+        return CONFIDENCE_QUANTILE * Math.sqrt(variance) / (CERTAINTY + squaredQuantile / trials);
+    }
+}
@@ -0,0 +1,56 @@
+package edu.kit.kastel.objects;
+
+/**
+ * Enum representing the categories of effectiveness an element can have against another one.
+ * Each category has the factor it modifies the strength of an effect with and the message announcing it.
+ * @author upgcv
+ */
+public enum Effectiveness {
+
+    /**
+     * The element is weak against the other one and halves the strength.
+     */
+    NOT_VERY_EFFECTIVE(0.5, "It is not very effective..."),
+
+    /**
+     * The element neither is strong nor weak against the other one.
+     */
+    NORMAL(1.0, ""),
+
+    /**
+     * The element is strong against the other one and doubles the strength.
+     */
+    VERY_EFFECTIVE(2.0, "It is very effective!");
+
+    private final double factor;
+    private final String message;
+
+    Effectiveness(double factor, String message) {
+        this.factor = factor;
+        this.message = message;
+    }
+
+    /**
+     * Gets the factor this category modifies the strength of an effect with.
+     * @return the factor
+     */
+    public double getFactor() {
+        return this.factor;
+    }
+
+    /**
+     * Gets the message announcing this category.
+     * @return the message, or an empty String if this category is not announced
+     */
+    public String getMessage() {
+        return this.message;
+    }
+
+    /**
+     * Checks whether this category is announced when an effect is executed.
+     * @return true if it has a message, false otherwise
+     */
+    public boolean isAnnounced() {
+        return !this.message.isEmpty();
+    }
+}
@@ -1,68 +1,71 @@
 package edu.kit.kastel.objects;
 
 /**
- * Enum representing different elements in the game.
- * Each element has effectiveness relationships with other elements
- * that determine how effective their interactions are in combat.
+ * Class representing an element in the game. Elements are not shared between game setups, every element belongs to
+ * the {@link ElementRegistry} of one setup, which knows its effectiveness relationships with the other elements of
+ * that setup and determines how effective their interactions are in combat.
  * @author upgcv
  */
-public enum Element {
+public final class Element {
+    private final String name;
+    private final int index;
+    private final ElementRegistry registry;
 
     /**
-     * Represents the normal element with no special strengths or weaknesses.
+     * Creates a new element, only its registry creates elements.
+     * @param name the name of the element
+     * @param index the index of the element within the tables of its registry
+     * @param registry the registry the element belongs to
      */
-    NORMAL,
-
-    /**
-     * Represents the fire element, effective against earth but weak to water.
-     */
-    FIRE,
-
-    /**
-     * Represents the water element, effective against fire but weak to earth.
-     */
-    WATER,
+    Element(String name, int index, ElementRegistry registry) {
+        this.name = name;
+        this.index = index;
+        this.registry = registry;
+    }
 
     /**
-     * Represents the earth element, effective against water but weak to fire.
+     * Determines the effectiveness category of one element against another.
+     *
+     * @param user the element using the attack or action.
+     * @param target the element being targeted by the attack or action, it must belong to the same registry.
+     * @return the category of the effectiveness
      */
-    EARTH;
-
-    private static final double NORMAL_MODIFICATION = 1.0;
-    private static final double EFFECTIVE_MODIFICATION = 2.0;
-    private static final double NOT_EFFECTIVE_MODIFICATION = 0.5;
-    private static final int START_CYCLE_POINT = 0;
-
-    private static final Element[][] VERY_EFFECTIVE_AGAINST
-            = new Element[][] {{WATER, FIRE}, {FIRE, EARTH}, {EARTH, WATER}};
+    public static Effectiveness getEffectiveness(Element user, Element target) {
+        return user.registry.getEffectiveness(user.index, target.index);
+    }
 
     /**
      * Determines the effectiveness of one element against another.
      *
      * @param user the element using the attack or action.
-     * @param target the element being targeted by the attack or action.
+     * @param target the element being targeted by the attack or action, it must belong to the same registry.
      * @return a double representing the effectiveness modifier:
      *         - 2.0 for very effective
      *         - 1.0 for normal effectiveness
      *         - 0.5 for not effective
      */
     public static double getEffectivenessGrade(Element user, Element target) {
-        if (user.equals(NORMAL) || target.equals(NORMAL) || user.equals(target)) {
-            return NORMAL_MODIFICATION;
-        }
-        Element[] inputCouple = new Element[] {user, target};
-        for (Element[] elementCouple : VERY_EFFECTIVE_AGAINST) {
-            boolean isTheCouple = true;
-            for (int i = START_CYCLE_POINT; i < elementCouple.length; i++) {
-                if (!elementCouple[i].equals(inputCouple[i])) {
-                    isTheCouple = false;
-                    break;
-                }
-            }
-            if (isTheCouple) {
-                return EFFECTIVE_MODIFICATION;
-            }
-        }
-        return NOT_EFFECTIVE_MODIFICATION;
+        return user.registry.getEffectivenessGrade(user.index, target.index);
+    }
+
+    /**
+     * Gets the name of the element as written in a config.
+     * @return the name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the index of the element within the tables of its registry.
+     * @return the index
+     */
+    int getIndex() {
+        return this.index;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
     }
 }
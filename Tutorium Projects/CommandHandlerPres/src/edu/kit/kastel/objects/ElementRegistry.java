@@ -0,0 +1,190 @@
+package edu.kit.kastel.objects;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class representing the elements of one game setup and their matchups. An element is very effective against the
+ * elements its matchups name, which are not very effective back, every other pair of elements is normal.
+ * Elements may be looked up by name before they are declared, e.g. while parts of a config are parsed in parallel,
+ * the effectiveness tables indexed by the elements are only built once all elements of the matchups are declared.
+ * @author upgcv
+ */
+public final class ElementRegistry {
+    private static final List<String> DEFAULT_ELEMENTS = List.of("NORMAL", "FIRE", "WATER", "EARTH");
+
+    //every couple names an element and the one it is very effective against
+    private static final String[][] DEFAULT_VERY_EFFECTIVE_AGAINST
+            = new String[][] {{"WATER", "FIRE"}, {"FIRE", "EARTH"}, {"EARTH", "WATER"}};
+
+    private static final int USER_INDEX = 0;
+    private static final int TARGET_INDEX = 1;
+    private static final int CYCLE_START_INDEX = 0;
+
+    private final Map<String, Element> elementsByName;
+    private final AtomicInteger nextIndex;
+    private final List<Element> declaredElements;
+    private final Set<Element> declaredElementSet;
+    private final List<Matchup> matchups;
+    private Effectiveness[][] effectivenessTable;
+    private double[][] effectivenessMatrix;
+
+    /**
+     * Creates a new registry without any elements.
+     */
+    public ElementRegistry() {
+        this.elementsByName = new ConcurrentHashMap<>();
+        this.nextIndex = new AtomicInteger(CYCLE_START_INDEX);
+        this.declaredElements = new ArrayList<>();
+        this.declaredElementSet = new HashSet<>();
+        this.matchups = new ArrayList<>();
+        this.effectivenessTable = new Effectiveness[CYCLE_START_INDEX][];
+        this.effectivenessMatrix = new double[CYCLE_START_INDEX][];
+    }
+
+    /**
+     * Creates a new registry declaring the default elements NORMAL, FIRE, WATER and EARTH, where water is very
+     * effective against fire, fire against earth and earth against water. Its tables are already built.
+     * @return the new registry
+     */
+    public static ElementRegistry withDefaultElements() {
+        ElementRegistry registry = new ElementRegistry();
+        for (String name : DEFAULT_ELEMENTS) {
+            registry.declare(name);
+        }
+        for (String[] elementCouple : DEFAULT_VERY_EFFECTIVE_AGAINST) {
+            registry.addVeryEffective(elementCouple[USER_INDEX], elementCouple[TARGET_INDEX]);
+        }
+        registry.buildTables();
+        return registry;
+    }
+
+    /**
+     * Gets the element of the given name, which is created if it is not known yet. It may be used before it is
+     * declared, whether it is declared is checked once it is added to a game setup. This method may be called by
+     * several threads at once.
+     * @param name the name of the element
+     * @return the only element of this registry with the name
+     */
+    public Element getElement(String name) {
+        return this.elementsByName.computeIfAbsent(name,
+                newName -> new Element(newName, this.nextIndex.getAndIncrement(), this));
+    }
+
+    /**
+     * Declares the element of the given name.
+     * @param name the name of the element
+     * @return true if the element was declared, false if it already is
+     */
+    public boolean declare(String name) {
+        Element element = getElement(name);
+        if (!this.declaredElementSet.add(element)) {
+            return false;
+        }
+        this.declaredElements.add(element);
+        return true;
+    }
+
+    /**
+     * Checks whether the element is declared.
+     * @param element the element to check
+     * @return true if it is declared, false if it was only looked up so far
+     */
+    public boolean isDeclared(Element element) {
+        return this.declaredElementSet.contains(element);
+    }
+
+    /**
+     * Adds a matchup, making the user very effective against the target and the target not very effective back.
+     * @param user the name of the element that is very effective
+     * @param target the name of the element it is very effective against
+     * @return true if the matchup was added, false if both are the same element or already have a matchup
+     */
+    public boolean addVeryEffective(String user, String target) {
+        Matchup newMatchup = new Matchup(getElement(user), getElement(target));
+        if (newMatchup.user() == newMatchup.target()) {
+            return false;
+        }
+        for (Matchup matchup : this.matchups) {
+            if (matchup.user() == newMatchup.user() && matchup.target() == newMatchup.target()
+                    || matchup.user() == newMatchup.target() && matchup.target() == newMatchup.user()) {
+                return false;
+            }
+        }
+        this.matchups.add(newMatchup);
+        return true;
+    }
+
+    /**
+     * Builds the tables of the effectiveness between all elements from the matchups, so looking it up takes constant
+     * time. Declarations and matchups added afterwards are only looked up once the tables are built again.
+     * @return true if the tables were built, false if a matchup names an element that is not declared
+     */
+    public boolean buildTables() {
+        for (Matchup matchup : this.matchups) {
+            if (!isDeclared(matchup.user()) || !isDeclared(matchup.target())) {
+                return false;
+            }
+        }
+        int elementCount = this.nextIndex.get();
+        Effectiveness[][] table = new Effectiveness[elementCount][elementCount];
+        for (Effectiveness[] row : table) {
+            Arrays.fill(row, Effectiveness.NORMAL);
+        }
+        for (Matchup matchup : this.matchups) {
+            int user = matchup.user().getIndex();
+            int target = matchup.target().getIndex();
+            table[user][target] = Effectiveness.VERY_EFFECTIVE;
+            table[target][user] = Effectiveness.NOT_VERY_EFFECTIVE;
+        }
+        double[][] matrix = new double[elementCount][elementCount];
+        for (int user = CYCLE_START_INDEX; user < elementCount; user++) {
+            for (int target = CYCLE_START_INDEX; target < elementCount; target++) {
+                matrix[user][target] = table[user][target].getFactor();
+            }
+        }
+        this.effectivenessTable = table;
+        this.effectivenessMatrix = matrix;
+        return true;
+    }
+
+    /**
+     * Gets all declared elements in the order they were declared.
+     * @return an unmodifiable list of the elements
+     */
+    public List<Element> getDeclaredElements() {
+        return Collections.unmodifiableList(this.declaredElements);
+    }
+
+    /**
+     * Gets all matchups in the order they were added.
+     * @return an unmodifiable list of the matchups
+     */
+    public List<Matchup> getMatchups() {
+        return Collections.unmodifiableList(this.matchups);
+    }
+
+    Effectiveness getEffectiveness(int user, int target) {
+        return this.effectivenessTable[user][target];
+    }
+
+    double getEffectivenessGrade(int user, int target) {
+        return this.effectivenessMatrix[user][target];
+    }
+
+    /**
+     * Record class representing an element being very effective against another one.
+     * @param user the element that is very effective
+     * @param target the element it is very effective against
+     * @author upgcv
+     */
+    public record Matchup(Element user, Element target) {
+    }
+}
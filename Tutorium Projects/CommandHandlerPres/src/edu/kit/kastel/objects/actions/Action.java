@@ -3,17 +3,21 @@
 import edu.kit.kastel.commands.Result;
 import edu.kit.kastel.commands.ResultType;
 import edu.kit.kastel.logistics.DebugType;
+import edu.kit.kastel.logistics.events.BattleEvent;
+import edu.kit.kastel.logistics.events.BattleEventBuffer;
+import edu.kit.kastel.logistics.events.BattleEventRenderer;
+import edu.kit.kastel.logistics.events.BattleEventType;
 import edu.kit.kastel.objects.Element;
 import edu.kit.kastel.objects.actions.effects.Effect;
-import edu.kit.kastel.objects.actions.effects.ExecutableEffect;
+import edu.kit.kastel.objects.actions.effects.EffectCode;
+import edu.kit.kastel.objects.actions.effects.EffectInterpreter;
+import edu.kit.kastel.objects.actions.effects.EffectOutcome;
+import edu.kit.kastel.objects.actions.effects.EffectProgram;
 import edu.kit.kastel.objects.monsters.Monster;
 import edu.kit.kastel.logistics.Randomizer;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
-import java.util.StringJoiner;
 
 /**
  * This class represents an action that can be performed by a monster.
@@ -23,22 +27,20 @@
  */
 public class Action {
     private static final String DEBUG_QUESTION_FOR_NUMBER_OF_REPEATS = "repeat count";
-    private static final String HIT_NOT_SUCCESSFUL_MESSAGE = "The action failed...";
     private static final String SHOW_ACTION_INFO = "%s: ELEMENT %s, Damage %s, HitRate %s";
     private static final String NO_DMG_REGEX = "--";
-    private static final String ANNOUNCEMENT_WHAT_IS_BEING_DONE = "%s uses %s!";
-    private static final String EFFECTIVE_AGAINST_MONSTER = "It is very effective!";
-    private static final String NOT_EFFECTIVE_AGAINST_MONSTER = "It is not very effective...";
-    private static final String CONTAINS_EFFECTIVENESS_INFO_REGEX = "(.|" + System.lineSeparator()
-            + ")*(It is very effective!|It is not very effective\\.\\.\\.)(.|" + System.lineSeparator() + ")*";
 
     private static final int FIRST_EFFECT_IN_QUEUE = 0;
 
     private final String name;
     private final Element element;
     private final List<Effect> effects;
-    private StringJoiner messageJoiner;
+    private final EffectProgram program;
+    private final EffectInterpreter interpreter;
+    private List<BattleEvent> actionEvents;
+    private boolean isOncePerActionEventAdded;
     private boolean isUsingMessageDisplayed;
+    private boolean isFirstEffectExecuted;
 
 
     /**
@@ -55,88 +57,156 @@ public Action(String name, Element element, List<Effect> effects) {
         for (Effect effect : effects) {
             this.effects.add(effect.copyEffect());
         }
+        this.program = EffectProgram.compile(element, this.effects);
+        this.interpreter = new EffectInterpreter(this.program);
     }
+
+    //the effects and the compiled program never change, so copies share them
     private Action(Action oldAction) {
-        this(oldAction.getName(), oldAction.element, oldAction.effects);
-        this.isUsingMessageDisplayed = oldAction.isUsingMessageDisplayed;
-        this.messageJoiner = oldAction.messageJoiner;
+        this.name = oldAction.name;
+        this.element = oldAction.element;
+        this.effects = oldAction.effects;
+        this.program = oldAction.program;
+        this.interpreter = new EffectInterpreter(this.program);
     }
     /**
-     * Executes the action, applying its effects to the target monster.
+     * Executes the action, applying its effects to the target monster. If an effect needs a value decided by the user
+     * in debug mode, the execution pauses and the next call resumes it with the effect that paused, the effects
+     * executed before are not executed again.
      *
      * @param user The monster performing the action.
      * @param target The monster receiving the action.
      * @param randomizer The randomizer for probability-based effects.
-     * @return A Result containing the outcome of the action.
+     * @return A Result carrying the events of the action, or the events since the last call if it is paused.
      */
     public Result executeAction(Monster user, Monster target, Randomizer randomizer) {
-        if (randomizer.isProcessFirstExecution()) {
+        this.actionEvents = new ArrayList<>();
+        this.isOncePerActionEventAdded = false;
+        if (!this.interpreter.isRunning()) {
+            if (!this.interpreter.drawRepeatCounts(randomizer)) {
+                return Result.needsDebug(DebugType.INTEGER, DEBUG_QUESTION_FOR_NUMBER_OF_REPEATS);
+            }
+            randomizer.resetMove();
             this.isUsingMessageDisplayed = false;
+            if (user.getMonsterStatus() == StatusCondition.SLEEP) {
+                addUsingActionEvent(user);
+                return Result.success(this.actionEvents, BattleEventRenderer.CONSOLE);
+            }
+            if (target == null || target.isDead()) {
+                return failAction(user);
+            }
+            this.interpreter.start();
+            this.isFirstEffectExecuted = false;
         }
-        Queue<ExecutableEffect> effectQueue = new LinkedList<>();
-        for (Effect effect : this.effects) {
-            Queue<ExecutableEffect> nextQueueToAdd = effect.provideQueueOfSelf(randomizer);
-            if (nextQueueToAdd == null) {
-                return Result.needsDebug(DebugType.INTEGER, DEBUG_QUESTION_FOR_NUMBER_OF_REPEATS);
+        if (!this.isFirstEffectExecuted) {
+            Result firstEffectResult = this.interpreter.currentEffect().executeEffect(user, target, randomizer);
+            if (firstEffectResult.getType().equals(ResultType.NEEDS_DEBUG)) {
+                addUsingActionEvent(user);
+                this.actionEvents.addAll(firstEffectResult.getEvents());
+                return Result.needsDebug(firstEffectResult.getTypeToDebug(), firstEffectResult.getDebugMessageLabel(),
+                        this.actionEvents);
+            }
+            completeEffect(randomizer);
+            this.isFirstEffectExecuted = true;
+            if (firstEffectResult.getType().equals(ResultType.FAILURE)) {
+                this.interpreter.stop();
+                return failAction(user);
+            }
+            addUsingActionEvent(user);
+            addEffectEvents(firstEffectResult);
+        }
+        while (this.interpreter.isRunning()) {
+            Result effectResult = this.interpreter.currentEffect().executeEffect(user, target, randomizer);
+            if (effectResult.getType() == ResultType.NEEDS_DEBUG) {
+                addEffectEvents(effectResult);
+                return Result.needsDebug(effectResult.getTypeToDebug(), effectResult.getDebugMessageLabel(),
+                        this.actionEvents);
+            }
+            completeEffect(randomizer);
+            if (effectResult.getType() == ResultType.SUCCESS) {
+                addEffectEvents(effectResult);
             }
-            effectQueue.addAll(nextQueueToAdd);
         }
+        return Result.success(this.actionEvents, BattleEventRenderer.CONSOLE);
+    }
+
+    private Result failAction(Monster user) {
+        addUsingActionEvent(user);
+        this.actionEvents.add(new BattleEvent.ActionFailed(user.getName()));
+        return Result.success(this.actionEvents, BattleEventRenderer.CONSOLE);
+    }
+
+    //the values drawn by the completed effect are never replayed again
+    private void completeEffect(Randomizer randomizer) {
+        this.interpreter.advance();
+        randomizer.resetMove();
+    }
+
+    /**
+     * Executes the action like {@link #executeAction(Monster, Monster, Randomizer)} does, but without building
+     * messages. The outcome of the effects is recorded into the event buffer instead. The randomizer must not be
+     * in debug mode.
+     *
+     * @param user The monster performing the action.
+     * @param target The monster receiving the action.
+     * @param randomizer The randomizer for probability-based effects.
+     * @param events The buffer to record the events of this action into.
+     * @return {@link EffectOutcome#FAILURE} if the action failed, {@link EffectOutcome#SUCCESS} otherwise
+     */
+    public EffectOutcome executeSilently(Monster user, Monster target, Randomizer randomizer, BattleEventBuffer events) {
+        this.interpreter.drawRepeatCountsSilently(randomizer);
         if (user.getMonsterStatus() == StatusCondition.SLEEP) {
-            return Result.success(getUsingActionMessage(user).trim());
+            return EffectOutcome.SUCCESS;
         }
         if (target == null || target.isDead()) {
-            return Result.success(getUsingActionMessage(user) + HIT_NOT_SUCCESSFUL_MESSAGE);
-        }
-        Result firstEffectResult = effectQueue.remove().executeEffect(user, target, randomizer);
-        if (firstEffectResult.getType().equals(ResultType.NEEDS_DEBUG)) {
-            return Result.needsDebug(firstEffectResult.getTypeToDebug(), firstEffectResult.getDebugMessageLabel(),
-                    firstEffectResult.getMessage().isBlank()
-                            ? getUsingActionMessage(user).trim()
-                            : (getUsingActionMessage(user) + firstEffectResult.getMessage()));
+            events.add(BattleEventType.ACTION_FAILED, user.getSlot());
+            return EffectOutcome.FAILURE;
         }
-        if (firstEffectResult.getType().equals(ResultType.FAILURE)) {
-            return Result.success(getUsingActionMessage(user) + HIT_NOT_SUCCESSFUL_MESSAGE);
-        }
-        this.messageJoiner = new StringJoiner(System.lineSeparator());
-        addInfoToJoiner(getUsingActionMessage(user).trim(), randomizer);
-        addInfoToJoiner(firstEffectResult.getMessage(), randomizer);
-        while (!effectQueue.isEmpty()) {
-            Result effectResult = effectQueue.poll().executeEffect(user, target, randomizer);
-            if (effectResult.getType() == ResultType.SUCCESS) {
-                addInfoToJoiner(effectResult.getMessage(), randomizer);
-            } else if (effectResult.getType() == ResultType.NEEDS_DEBUG) {
-                addInfoToJoiner(effectResult.getMessage(), randomizer);
-                return Result.needsDebug(effectResult.getTypeToDebug(), effectResult.getDebugMessageLabel(), this.messageJoiner.toString());
+        events.markActionStart();
+        boolean isFirstEffect = true;
+        for (this.interpreter.start(); this.interpreter.isRunning(); this.interpreter.advance()) {
+            EffectOutcome outcome = this.interpreter.currentEffect().executeSilently(user, target, randomizer, events);
+            if (isFirstEffect && outcome == EffectOutcome.FAILURE) {
+                this.interpreter.stop();
+                events.add(BattleEventType.ACTION_FAILED, user.getSlot());
+                return EffectOutcome.FAILURE;
             }
+            isFirstEffect = false;
         }
-        return Result.success(this.messageJoiner.toString());
+        return EffectOutcome.SUCCESS;
+    }
+
+    /**
+     * Calculates the exact distribution of the health points the target loses if the user executed this action now,
+     * following every possible course of the silent execution instead of drawing random values. Neither the monsters
+     * nor this action are changed.
+     *
+     * @param user The monster performing the action.
+     * @param target The monster receiving the action, the user itself if the action does not need a target.
+     * @return The distribution of the health points the target loses, healing counting as a negative loss.
+     */
+    public DamageDistribution calcDamageDistribution(Monster user, Monster target) {
+        return DamageDistributionCalculator.calculate(this.effects, user, target);
     }
 
-    //adds message to joiner if it is not blank and deletes effectiveness messages if they happen to appear multiple times.
-    private void addInfoToJoiner(String info, Randomizer randomizer) {
-        if (randomizer.isProcessFirstExecution()) {
-            if (info.matches(CONTAINS_EFFECTIVENESS_INFO_REGEX)
-                    && this.messageJoiner.toString().matches(CONTAINS_EFFECTIVENESS_INFO_REGEX)) {
-                List<String> splitInfo = new ArrayList<>(List.of(info.split(System.lineSeparator())));
-                splitInfo.remove(EFFECTIVE_AGAINST_MONSTER);
-                splitInfo.remove(NOT_EFFECTIVE_AGAINST_MONSTER);
-                StringJoiner joiner = new StringJoiner(System.lineSeparator());
-                for (String message : splitInfo) {
-                    joiner.add(message);
-                }
-                this.messageJoiner.add(joiner + (info.endsWith(System.lineSeparator()) ? System.lineSeparator() : ""));
-            } else if (!info.isBlank()) {
-                this.messageJoiner.add(info);
+    //adds the events of an effect, an effectiveness is only announced once since the last call paused
+    private void addEffectEvents(Result effectResult) {
+        boolean isOncePerActionEventAdded = this.isOncePerActionEventAdded;
+        for (BattleEvent event : effectResult.getEvents()) {
+            if (!event.isOncePerAction()) {
+                this.actionEvents.add(event);
+            } else if (!isOncePerActionEventAdded) {
+                this.actionEvents.add(event);
+                this.isOncePerActionEventAdded = true;
             }
         }
     }
 
-    private String getUsingActionMessage(Monster user) {
+    private void addUsingActionEvent(Monster user) {
         if (!this.isUsingMessageDisplayed) {
             this.isUsingMessageDisplayed = true;
-            return ANNOUNCEMENT_WHAT_IS_BEING_DONE.formatted(user.getName(), this.getName()) + System.lineSeparator();
+            this.actionEvents.add(new BattleEvent.ActionUsed(user.getName(), this.getName()));
         }
-        return "";
     }
 
     /**
@@ -189,4 +259,22 @@ public String getName() {
         return this.name;
     }
 
+    /**
+     * Retrieves the element of the action.
+     *
+     * @return The element of the action.
+     */
+    public Element getElement() {
+        return this.element;
+    }
+
+    /**
+     * Compiles the effects of the action into opcodes and operands, see {@link EffectCode}.
+     *
+     * @return The compiled effects in their order.
+     */
+    public int[] compileEffects() {
+        return EffectCode.compile(this.effects);
+    }
+
 }
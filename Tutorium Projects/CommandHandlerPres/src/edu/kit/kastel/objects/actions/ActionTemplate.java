@@ -0,0 +1,113 @@
+package edu.kit.kastel.objects.actions;
+
+import edu.kit.kastel.objects.Element;
+import edu.kit.kastel.objects.actions.effects.Effect;
+import edu.kit.kastel.objects.monsters.Monster;
+
+import java.util.List;
+
+/**
+ * This class represents the immutable definition of an action as written in a config. It can be shared between any
+ * number of monsters and competitions, every execution works on its own {@link Action} instance.
+ *
+ * @author upgcv
+ */
+public final class ActionTemplate {
+    private final Action prototype;
+    private final boolean requiresTarget;
+    private final String actionInfo;
+
+    /**
+     * Constructs an ActionTemplate with a name, element, and list of effects.
+     *
+     * @param name The name of the action.
+     * @param element The element type of the action.
+     * @param effects The list of effects associated with the action, they are copied.
+     */
+    public ActionTemplate(String name, Element element, List<Effect> effects) {
+        this.prototype = new Action(name, element, effects);
+        this.requiresTarget = this.prototype.requiresTarget();
+        this.actionInfo = this.prototype.getActionInfo();
+    }
+
+    /**
+     * Constructs an ActionTemplate whose information was already created before, e.g. by a compiled setup.
+     *
+     * @param name The name of the action.
+     * @param element The element type of the action.
+     * @param effects The list of effects associated with the action, they are copied.
+     * @param actionInfo The information about the action as provided by {@link #getActionInfo()}.
+     */
+    public ActionTemplate(String name, Element element, List<Effect> effects, String actionInfo) {
+        this.prototype = new Action(name, element, effects);
+        this.requiresTarget = this.prototype.requiresTarget();
+        this.actionInfo = actionInfo;
+    }
+
+    /**
+     * Creates a new executable action of this definition.
+     *
+     * @return A new Action object with its own effects.
+     */
+    public Action instantiate() {
+        return this.prototype.copy();
+    }
+
+    /**
+     * Retrieves the name of the action.
+     *
+     * @return The name of the action.
+     */
+    public String getName() {
+        return this.prototype.getName();
+    }
+
+    /**
+     * Retrieves the element of the action.
+     *
+     * @return The element of the action.
+     */
+    public Element getElement() {
+        return this.prototype.getElement();
+    }
+
+    /**
+     * Compiles the effects of the action into opcodes and operands, see
+     * {@link edu.kit.kastel.objects.actions.effects.EffectCode}.
+     *
+     * @return The compiled effects in their order.
+     */
+    public int[] compileEffects() {
+        return this.prototype.compileEffects();
+    }
+
+    /**
+     * Calculates the exact distribution of the health points the target loses if the user executed this action now,
+     * see {@link Action#calcDamageDistribution(Monster, Monster)}.
+     *
+     * @param user The monster performing the action.
+     * @param target The monster receiving the action, the user itself if the action does not need a target.
+     * @return The distribution of the health points the target loses, healing counting as a negative loss.
+     */
+    public DamageDistribution calcDamageDistribution(Monster user, Monster target) {
+        return this.prototype.calcDamageDistribution(user, target);
+    }
+
+    /**
+     * Determines if the action requires a target to be executed.
+     *
+     * @return True if at least one effect requires a target, false otherwise.
+     */
+    public boolean requiresTarget() {
+        return this.requiresTarget;
+    }
+
+    /**
+     * Retrieves information about the action.
+     *
+     * @return A formatted string containing the action's name, element, damage, and hit rate.
+     */
+    public String getActionInfo() {
+        return this.actionInfo;
+    }
+}
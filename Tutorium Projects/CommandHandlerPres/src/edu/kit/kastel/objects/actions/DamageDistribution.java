@@ -0,0 +1,78 @@
+package edu.kit.kastel.objects.actions;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * Class representing the exact distribution of the health points a monster loses by a single execution of an
+ * {@link Action}, together with the probability that it faints.
+ * @author upgcv
+ */
+public final class DamageDistribution {
+    private static final double NO_PROBABILITY = 0.0;
+
+    private final NavigableMap<Integer, Double> probabilities;
+    private final double knockOutProbability;
+    private final double mean;
+    private final double variance;
+
+    /**
+     * Creates a new distribution.
+     * @param probabilities map from the lost health points to their probabilities, healing counting as negative loss
+     * @param knockOutProbability probability that the monster has fainted after the action
+     */
+    DamageDistribution(NavigableMap<Integer, Double> probabilities, double knockOutProbability) {
+        this.probabilities = Collections.unmodifiableNavigableMap(probabilities);
+        this.knockOutProbability = knockOutProbability;
+        double sum = NO_PROBABILITY;
+        double squaredSum = NO_PROBABILITY;
+        for (Map.Entry<Integer, Double> entry : probabilities.entrySet()) {
+            sum += entry.getKey() * entry.getValue();
+            squaredSum += (double) entry.getKey() * entry.getKey() * entry.getValue();
+        }
+        this.mean = sum;
+        this.variance = Math.max(NO_PROBABILITY, squaredSum - sum * sum);
+    }
+
+    /**
+     * Gets the probabilities of all possible numbers of lost health points.
+     * @return an unmodifiable map from the lost health points to their probabilities, in ascending order
+     */
+    public NavigableMap<Integer, Double> getProbabilities() {
+        return this.probabilities;
+    }
+
+    /**
+     * Gets the probability that the monster loses exactly the given health points.
+     * @param damage the number of lost health points
+     * @return the probability between 0 and 1
+     */
+    public double probabilityOf(int damage) {
+        return this.probabilities.getOrDefault(damage, NO_PROBABILITY);
+    }
+
+    /**
+     * Gets the expected number of lost health points.
+     * @return the mean of the distribution
+     */
+    public double getMean() {
+        return this.mean;
+    }
+
+    /**
+     * Gets the variance of the lost health points.
+     * @return the variance of the distribution
+     */
+    public double getVariance() {
+        return this.variance;
+    }
+
+    /**
+     * Gets the probability that the monster has fainted after the action, considering its health points before.
+     * @return the probability between 0 and 1
+     */
+    public double getKnockOutProbability() {
+        return this.knockOutProbability;
+    }
+}
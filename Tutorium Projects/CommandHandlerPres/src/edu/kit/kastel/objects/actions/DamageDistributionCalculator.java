@@ -0,0 +1,193 @@
+package edu.kit.kastel.objects.actions;
+
+import edu.kit.kastel.logistics.Randomizer;
+import edu.kit.kastel.logistics.events.BattleEventBuffer;
+import edu.kit.kastel.objects.actions.effects.Effect;
+import edu.kit.kastel.objects.actions.effects.EffectOutcome;
+import edu.kit.kastel.objects.actions.effects.ExecutableEffect;
+import edu.kit.kastel.objects.actions.effects.StrengthDefinedEffect;
+import edu.kit.kastel.objects.monsters.BattleState;
+import edu.kit.kastel.objects.monsters.Monster;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Class calculating the exact distribution of the damage an action deals by following every possible course of its
+ * silent execution. Every course works on its own copy of the battle state of the user and the target, so changes of
+ * statistics, status conditions and protections are considered by the effects executed after them. Courses reaching
+ * the same state are merged, so their number only grows with the number of distinct states. The critical hit and the
+ * uniform random factor of damage and healing effects are not drawn, but split into all values they can lead to.
+ * @author upgcv
+ */
+final class DamageDistributionCalculator {
+    private static final int USER_SLOT = 0;
+    private static final int TARGET_SLOT = 1;
+    private static final int SELF_TARGETED_STATE_SIZE = 1;
+    private static final int STATE_SIZE = 2;
+    private static final int NO_EXECUTIONS = 0;
+    private static final double CERTAIN_PROBABILITY = 1.0;
+    private static final double NO_PROBABILITY = 0.0;
+
+    private final Map<Course, Double> finishedCourses = new HashMap<>();
+    private final Randomizer succeedingRandomizer = new Randomizer(new LowestValueGenerator());
+    private final BattleEventBuffer discardedEvents = new BattleEventBuffer();
+
+    /**
+     * Calculates the distribution of the health points the target loses by the effects, without changing the monsters.
+     * @param effects the effects of the action in their order
+     * @param user the monster using the action
+     * @param target the monster the action is used on, the user itself if the action does not need a target
+     * @return the distribution of the lost health points of the target
+     */
+    static DamageDistribution calculate(List<Effect> effects, Monster user, Monster target) {
+        DamageDistributionCalculator calculator = new DamageDistributionCalculator();
+        Course start = Course.start(user, target);
+        int startHealthPoints = start.target.getHPValue();
+        if (start.user.getMonsterStatus() == StatusCondition.SLEEP || start.target.isDead()) {
+            calculator.finishedCourses.put(start, CERTAIN_PROBABILITY);
+        } else {
+            Map<Course, Double> runningCourses = Map.of(start, CERTAIN_PROBABILITY);
+            for (Effect effect : effects) {
+                runningCourses = calculator.executeRepeatedly(runningCourses, effect);
+            }
+            mergeAll(calculator.finishedCourses, runningCourses, CERTAIN_PROBABILITY);
+        }
+        NavigableMap<Integer, Double> probabilities = new TreeMap<>();
+        double knockOutProbability = NO_PROBABILITY;
+        for (Map.Entry<Course, Double> entry : calculator.finishedCourses.entrySet()) {
+            Monster finalTarget = entry.getKey().target;
+            probabilities.merge(startHealthPoints - finalTarget.getHPValue(), entry.getValue(), Double::sum);
+            knockOutProbability += finalTarget.isDead() ? entry.getValue() : NO_PROBABILITY;
+        }
+        return new DamageDistribution(probabilities, knockOutProbability);
+    }
+
+    //the courses of a repeat count continue the courses of the next lower one
+    private Map<Course, Double> executeRepeatedly(Map<Course, Double> courses, Effect effect) {
+        List<ExecutableEffect> executableEffects = effect.provideExecutableEffects();
+        List<Integer> repeatCounts = effect.getPossibleRepeatCounts();
+        double repeatCountProbability = CERTAIN_PROBABILITY / repeatCounts.size();
+        Map<Course, Double> repeatedCourses = new HashMap<>();
+        Map<Course, Double> currentCourses = courses;
+        int executions = NO_EXECUTIONS;
+        for (int repeatCount : repeatCounts) {
+            while (executions < repeatCount) {
+                for (ExecutableEffect executableEffect : executableEffects) {
+                    currentCourses = execute(currentCourses, executableEffect);
+                }
+                executions++;
+            }
+            mergeAll(repeatedCourses, currentCourses, repeatCountProbability);
+        }
+        return repeatedCourses;
+    }
+
+    private Map<Course, Double> execute(Map<Course, Double> courses, ExecutableEffect executableEffect) {
+        Map<Course, Double> nextCourses = new HashMap<>();
+        for (Map.Entry<Course, Double> entry : courses.entrySet()) {
+            Course course = entry.getKey();
+            double successProbability = executableEffect.calcSuccessProbability(course.user, course.target);
+            if (successProbability < CERTAIN_PROBABILITY) {
+                fail(nextCourses, course, entry.getValue() * (CERTAIN_PROBABILITY - successProbability));
+            }
+            if (successProbability <= NO_PROBABILITY) {
+                continue;
+            }
+            double probability = entry.getValue() * successProbability;
+            if (executableEffect instanceof StrengthDefinedEffect strengthEffect) {
+                for (Map.Entry<Integer, Double> strength
+                        : strengthEffect.calcStrengthDistribution(course.user, course.target).entrySet()) {
+                    Course nextCourse = course.copy();
+                    strengthEffect.inflictStrengthValue(nextCourse.user, nextCourse.target, strength.getKey());
+                    nextCourses.merge(nextCourse.continued(), probability * strength.getValue(), Double::sum);
+                }
+            } else {
+                Course nextCourse = course.copy();
+                EffectOutcome outcome = executableEffect.executeSilently(nextCourse.user, nextCourse.target,
+                        this.succeedingRandomizer, this.discardedEvents);
+                this.discardedEvents.clear();
+                if (outcome == EffectOutcome.FAILURE) {
+                    fail(nextCourses, nextCourse, probability);
+                } else {
+                    nextCourses.merge(nextCourse.continued(), probability, Double::sum);
+                }
+            }
+        }
+        return nextCourses;
+    }
+
+    //the action ends if its first effect fails
+    private void fail(Map<Course, Double> nextCourses, Course course, double probability) {
+        if (course.isFirstEffect) {
+            this.finishedCourses.merge(course, probability, Double::sum);
+        } else {
+            nextCourses.merge(course, probability, Double::sum);
+        }
+    }
+
+    private static void mergeAll(Map<Course, Double> target, Map<Course, Double> source, double factor) {
+        for (Map.Entry<Course, Double> entry : source.entrySet()) {
+            target.merge(entry.getKey(), entry.getValue() * factor, Double::sum);
+        }
+    }
+
+    //a course is identified by its state and whether its first effect is still to be executed
+    private static final class Course {
+        private final BattleState state;
+        private final Monster user;
+        private final Monster target;
+        private final boolean isFirstEffect;
+
+        private Course(BattleState state, Monster user, Monster target, boolean isFirstEffect) {
+            this.state = state;
+            this.user = user;
+            this.target = target;
+            this.isFirstEffect = isFirstEffect;
+        }
+
+        private static Course start(Monster user, Monster target) {
+            boolean isSelfTargeted = user == target;
+            BattleState state = new BattleState(isSelfTargeted ? SELF_TARGETED_STATE_SIZE : STATE_SIZE);
+            Monster boundUser = user.bindTo(state, USER_SLOT);
+            return new Course(state, boundUser, isSelfTargeted ? boundUser : target.bindTo(state, TARGET_SLOT), true);
+        }
+
+        private Course copy() {
+            boolean isSelfTargeted = this.user == this.target;
+            BattleState copiedState = new BattleState(this.state.size());
+            Monster copiedUser = this.user.bindTo(copiedState, USER_SLOT);
+            return new Course(copiedState, copiedUser,
+                    isSelfTargeted ? copiedUser : this.target.bindTo(copiedState, TARGET_SLOT), this.isFirstEffect);
+        }
+
+        private Course continued() {
+            return this.isFirstEffect ? new Course(this.state, this.user, this.target, false) : this;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Course otherCourse && this.isFirstEffect == otherCourse.isFirstEffect
+                    && this.state.equals(otherCourse.state);
+        }
+
+        @Override
+        public int hashCode() {
+            return Boolean.hashCode(this.isFirstEffect) ^ this.state.hashCode();
+        }
+    }
+
+    //draws the lowest value of every range, so every hit roll succeeds
+    private static final class LowestValueGenerator implements RandomGenerator {
+        private static final long LOWEST_VALUE = 0L;
+
+        @Override
+        public long nextLong() {
+            return LOWEST_VALUE;
+        }
+    }
+}
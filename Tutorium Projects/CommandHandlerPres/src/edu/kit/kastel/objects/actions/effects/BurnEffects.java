@@ -1,16 +1,20 @@
 package edu.kit.kastel.objects.actions.effects;
 
 import edu.kit.kastel.commands.Result;
+import edu.kit.kastel.logistics.events.BattleEvent;
+import edu.kit.kastel.logistics.events.BattleEventBuffer;
+import edu.kit.kastel.logistics.events.BattleEventRenderer;
+import edu.kit.kastel.logistics.events.BattleEventType;
 import edu.kit.kastel.objects.monsters.Monster;
 
+import java.util.List;
+
 /**
  * Class representing burn effect on the end of a monster's turn, if it is caught on fire.
  *
  * @author upgcv
  */
 public final class BurnEffects {
-    private static final String MONSTER_FAINTED = System.lineSeparator() + "%s faints!";
-    private static final String TAKES_DMG_FROM_BURNING = "%s takes %d damage from burning!";
     private static final double FACTOR_TO_GET_DMG_VALUE = 0.1;
 
     private BurnEffects() {
@@ -20,13 +24,28 @@ private BurnEffects() {
     /**
      * Executes a simple burn effect that deals damage to suffering monster at the end of a round.
      * @param user whom to damage
-     * @return Success result with a message about the damage inflicted
+     * @return Success result carrying the events about the damage inflicted
      */
     public static Result executeEffect(Monster user) {
         int burningDMG = (int) Math.ceil(user.getBaseHPValue() * FACTOR_TO_GET_DMG_VALUE);
-        user.dealDamage(burningDMG, true, true);
-        String ifMonsterFainted = user.isDead() ? MONSTER_FAINTED.formatted(user.getName()) : "";
-        return Result.success(TAKES_DMG_FROM_BURNING.formatted(user.getName(), burningDMG) + ifMonsterFainted);
+        user.dealDamage(burningDMG, true);
+        BattleEvent burnDamage = new BattleEvent.BurnDamageDealt(user.getName(), burningDMG);
+        return Result.success(user.isDead() ? List.of(burnDamage, new BattleEvent.Fainted(user.getName()))
+                : List.of(burnDamage), BattleEventRenderer.CONSOLE);
+    }
+
+    /**
+     * Executes the burn effect without creating a result, recording its events into a buffer instead.
+     * @param user whom to damage
+     * @param events the buffer to record the damage inflicted into
+     */
+    public static void executeSilently(Monster user, BattleEventBuffer events) {
+        int burningDMG = (int) Math.ceil(user.getBaseHPValue() * FACTOR_TO_GET_DMG_VALUE);
+        user.dealDamageSilently(burningDMG, true);
+        events.add(BattleEventType.BURN_DAMAGE, user.getSlot(), burningDMG);
+        if (user.isDead()) {
+            events.add(BattleEventType.FAINTED, user.getSlot());
+        }
     }
 
 
@@ -6,10 +6,8 @@
 import edu.kit.kastel.logistics.Randomizer;
 import edu.kit.kastel.objects.monsters.StatisticOfMonster;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Queue;
 
 /**
  * Class representing a continue effect.
@@ -30,8 +28,8 @@ public ContinueEffect(int successRate) {
     }
 
     @Override
-    public Queue<ExecutableEffect> provideQueueOfSelf(Randomizer randomizer) {
-        return new LinkedList<>(List.of(this.copyExecutableEffect()));
+    public List<ExecutableEffect> provideExecutableEffects() {
+        return List.of(this.copyExecutableEffect());
     }
 
     @Override
@@ -46,6 +44,12 @@ public Result executeEffect(Monster user, Monster target, Randomizer randomizer)
         return Result.success();
     }
 
+    @Override
+    public double calcSuccessProbability(Monster user, Monster target) {
+        return ExecutableEffect.toSuccessProbability(this.successRate
+                * user.getStatisticEffectiveValue(StatisticOfMonster.PRC));
+    }
+
     @Override
     public boolean requiresTarget() {
         return false;
@@ -61,6 +65,11 @@ public String getHitRateValue() {
         return String.valueOf(successRate);
     }
 
+    @Override
+    public void compileInto(EffectCode code) {
+        code.add(EffectOpcode.CONTINUE, this.successRate);
+    }
+
     @Override
     public Effect copyEffect() {
         return new ContinueEffect(this.successRate);
@@ -2,22 +2,24 @@
 
 import edu.kit.kastel.commands.Result;
 import edu.kit.kastel.logistics.DebugType;
+import edu.kit.kastel.logistics.events.BattleEvent;
+import edu.kit.kastel.logistics.events.BattleEventBuffer;
+import edu.kit.kastel.logistics.events.BattleEventRenderer;
+import edu.kit.kastel.logistics.events.BattleEventType;
 import edu.kit.kastel.objects.Element;
 import edu.kit.kastel.objects.monsters.Monster;
 import edu.kit.kastel.logistics.Randomizer;
 import edu.kit.kastel.objects.monsters.StatisticOfMonster;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Queue;
 
 /**
  * Class representing a DamageEffect of the Application.
  * @author upgcv
  */
 public class DamageEffect extends StrengthDefinedEffect {
-    private static final String MONSTER_FAINTED_MESSAGE = "%s faints!";
     private static final String DEBUG_NAME_OF_HIT_RATE = "attack hit";
     private static final String DEBUG_NAME_OF_CRITICAL_FACTOR = "critical hit";
     private static final String DEBUG_NAME_OF_RANDOM_FACTOR = "random factor";
@@ -42,8 +44,8 @@ public DamageEffect(Element element, boolean isFirstStrengthEffect, boolean requ
     }
 
     @Override
-    public Queue<ExecutableEffect> provideQueueOfSelf(Randomizer randomizer) {
-        return new LinkedList<>(List.of(this.copyExecutableEffect()));
+    public List<ExecutableEffect> provideExecutableEffects() {
+        return List.of(this.copyExecutableEffect());
     }
 
     @Override
@@ -63,36 +65,56 @@ public Result executeEffect(Monster user, Monster possibleTarget, Randomizer ran
         int totalDamage;
         Optional<Double> possibleTotalDMGValue = calcStrengthValue(user, target, randomizer);
         if (possibleTotalDMGValue.isEmpty()) {
-            String infoToAdd = (randomizer.expectedValueType() == DebugType.DOUBLE)
-                    ? givePossibleCriticalHitMessage() : givePossibleEffectivenessMessage(target);
             return Result.needsDebug((randomizer.expectedValueType() == DebugType.DOUBLE) ? DebugType.DOUBLE : DebugType.BOOLEAN,
                     (randomizer.expectedValueType() == DebugType.DOUBLE) ? DEBUG_NAME_OF_RANDOM_FACTOR : DEBUG_NAME_OF_CRITICAL_FACTOR,
-                    infoToAdd);
+                    givePausedEvents(target, this.isFirstStrengthEffectInAction, randomizer));
         } else {
             totalDamage = (int) Math.ceil(possibleTotalDMGValue.get());
         }
-        String ifFirstDmgOrCriticalHitHappened = randomizer.isDebugOn() ? ""
-                : givePossibleEffectivenessMessage(target) + givePossibleCriticalHitMessage();
+        List<BattleEvent> events = new ArrayList<>();
+        addCompletedStrengthEvents(target, this.isFirstStrengthEffectInAction, randomizer, events);
+        events.addAll(target.dealDamage(totalDamage, user.equals(target)).getEvents());
+        if (target.isDead()) {
+            events.add(new BattleEvent.Fainted(target.getName()));
+        }
+        return Result.success(events, BattleEventRenderer.CONSOLE);
+    }
 
-        Result damageResult = target.dealDamage(totalDamage, user.equals(target), randomizer.isProcessFirstExecution());
+    @Override
+    public EffectOutcome executeSilently(Monster user, Monster possibleTarget, Randomizer randomizer,
+                                         BattleEventBuffer events) {
+        if (user.isDead()) {
+            return EffectOutcome.FAILURE;
+        }
+        Monster target = super.requiresTarget ? possibleTarget : user;
+        double userTargetInteraction =  user.getStatisticEffectiveValue(StatisticOfMonster.PRC)
+                / (super.requiresTarget ? target.getStatisticEffectiveValue(StatisticOfMonster.AGL) : TARGET_NOT_NEEDED_FACTOR);
+        if (!randomizer.nextSuccess(super.successRate * userTargetInteraction)) {
+            return EffectOutcome.FAILURE;
+        }
+        addEffectivenessEvent(target, this.isFirstStrengthEffectInAction, events);
+        int totalDamage = (int) Math.ceil(calcStrengthValueSilently(user, target, randomizer, events));
+        if (!target.dealDamageSilently(totalDamage, user.equals(target))) {
+            events.add(BattleEventType.DAMAGE_BLOCKED, target.getSlot());
+            return EffectOutcome.SUCCESS;
+        }
+        events.add(BattleEventType.DAMAGE, target.getSlot(), totalDamage);
         if (target.isDead()) {
-            return Result.success(ifFirstDmgOrCriticalHitHappened + damageResult.getMessage()
-                    + System.lineSeparator() + (MONSTER_FAINTED_MESSAGE.formatted(target.getName())));
+            events.add(BattleEventType.FAINTED, target.getSlot());
         }
-        return Result.success(ifFirstDmgOrCriticalHitHappened + damageResult.getMessage());
+        return EffectOutcome.SUCCESS;
     }
 
-    private String givePossibleCriticalHitMessage() {
-        String stringToReturn = super.directHitMessage.isEmpty() ? "" : super.directHitMessage + System.lineSeparator();
-        super.directHitMessage = "";
-        return stringToReturn;
+    @Override
+    public double calcSuccessProbability(Monster user, Monster possibleTarget) {
+        return user.isDead() ? ExecutableEffect.toSuccessProbability(IMPOSSIBLE_SUCCESS_RATE)
+                : super.calcSuccessProbability(user, possibleTarget);
     }
 
-    private String givePossibleEffectivenessMessage(Monster target) {
-        return (super.strengthType == StrengthType.BASE) && isFirstStrengthEffectInAction
-                && !getEffectivenessMessage(Element.getEffectivenessGrade(this.element, target.element)).isBlank()
-                ? getEffectivenessMessage(Element.getEffectivenessGrade(this.element, target.element)) + System.lineSeparator()
-                : "";
+    @Override
+    public void inflictStrengthValue(Monster user, Monster possibleTarget, int strengthValue) {
+        Monster target = super.requiresTarget ? possibleTarget : user;
+        target.dealDamageSilently(strengthValue, user.equals(target));
     }
 
     @Override
@@ -100,6 +122,12 @@ public String getDMGValue() {
         return this.strengthType.getDmgPrefix() + super.strength;
     }
 
+    @Override
+    public void compileInto(EffectCode code) {
+        code.add(EffectOpcode.DAMAGE, EffectCode.flag(this.isFirstStrengthEffectInAction),
+                EffectCode.flag(super.requiresTarget), super.strength, super.strengthType.ordinal(), super.successRate);
+    }
+
     @Override
     public Effect copyEffect() {
         return new DamageEffect(super.element, this.isFirstStrengthEffectInAction, super.requiresTarget,
@@ -2,7 +2,8 @@
 
 import edu.kit.kastel.logistics.Randomizer;
 
-import java.util.Queue;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Interface for an effect that can be used in an action in this application.
@@ -11,11 +12,45 @@
 public interface Effect {
 
     /**
-     * Method that provides a Queue object with all subExecutableEffects this effect contains.
+     * Number of times an effect without own repeats is executed.
+     */
+    int SINGLE_EXECUTION = 1;
+
+    /**
+     * Method that provides the executable effects this effect contains, each of them once and without drawing the
+     * number of repeats. Used to compile an {@link EffectProgram}.
+     * @return list of all subExecutableEffects of a single execution
+     */
+    List<ExecutableEffect> provideExecutableEffects();
+
+    /**
+     * Provides how many times the executable effects of this effect are to be executed. In debug mode the number may
+     * have to be decided by the user first.
+     * @param randomizer the randomizer to get number of repeats with
+     * @return the number of repeats, empty if the randomizer waits for a value decided by the user
+     */
+    default Optional<Integer> provideRepeatCount(Randomizer randomizer) {
+        return Optional.of(SINGLE_EXECUTION);
+    }
+
+    /**
+     * Draws how many times the executable effects of this effect are to be executed. Must not be used with a
+     * randomizer in debug mode.
      * @param randomizer the randomizer to get number of repeats with
-     * @return queue of all subExecutableEffects
+     * @return the number of repeats
+     */
+    default int drawRepeatCount(Randomizer randomizer) {
+        return SINGLE_EXECUTION;
+    }
+
+    /**
+     * Provides all numbers of repeats {@link #drawRepeatCount(Randomizer)} may draw, each of them is drawn with the same
+     * probability.
+     * @return the possible numbers of repeats in ascending order
      */
-    Queue<ExecutableEffect> provideQueueOfSelf(Randomizer randomizer);
+    default List<Integer> getPossibleRepeatCounts() {
+        return List.of(SINGLE_EXECUTION);
+    }
 
     /**
      * Method that provides an indicator if this effect needs a target to be used on.
@@ -35,6 +70,12 @@ public interface Effect {
      */
     String getHitRateValue();
 
+    /**
+     * Appends the opcode and the operands of this effect to the code, nested effects included.
+     * @param code the code to append this effect to
+     */
+    void compileInto(EffectCode code);
+
     /**
      * Provides a copy of this effect.
      * @return a new instance of an effect identical to used one
@@ -0,0 +1,140 @@
+package edu.kit.kastel.objects.actions.effects;
+
+import edu.kit.kastel.objects.Element;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class holding effects compiled into a flat sequence of {@link EffectOpcode opcodes}, each followed by its integer
+ * operands. The effects nested into a repeat effect directly follow its opcode and operands.
+ * @author upgcv
+ */
+public final class EffectCode {
+
+    /**
+     * Operand representing a set flag.
+     */
+    public static final int TRUE_OPERAND = 1;
+
+    /**
+     * Operand representing a flag that is not set.
+     */
+    public static final int FALSE_OPERAND = 0;
+
+    private static final String WRONG_OPERAND_COUNT_MESSAGE = "Error, %s expects %d operands but got %d!";
+    private static final String MALFORMED_CODE_MESSAGE = "Error, the effect code ends within an effect!";
+    private static final String UNKNOWN_OPCODE_MESSAGE = "Error, %d is not an effect opcode!";
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int GROWTH_FACTOR = 2;
+    private static final int OPCODE_LENGTH = 1;
+    private static final int CODE_START = 0;
+    private static final int NESTED_COUNT_OFFSET = 1;
+
+    private int[] words;
+    private int size;
+
+    /**
+     * Initializes an empty effect code.
+     */
+    public EffectCode() {
+        this.words = new int[INITIAL_CAPACITY];
+        this.size = CODE_START;
+    }
+
+    /**
+     * Appends an opcode together with its operands.
+     * @param opcode the opcode of the effect
+     * @param operands the operands of the effect
+     * @throws IllegalArgumentException if the number of operands does not match the opcode
+     */
+    public void add(EffectOpcode opcode, int... operands) {
+        if (operands.length != opcode.getOperandCount()) {
+            throw new IllegalArgumentException(WRONG_OPERAND_COUNT_MESSAGE
+                    .formatted(opcode, opcode.getOperandCount(), operands.length));
+        }
+        ensureCapacity(OPCODE_LENGTH + operands.length);
+        this.words[this.size++] = opcode.ordinal();
+        System.arraycopy(operands, CODE_START, this.words, this.size, operands.length);
+        this.size += operands.length;
+    }
+
+    /**
+     * Converts a flag into its operand.
+     * @param flag the flag to convert
+     * @return {@link #TRUE_OPERAND} if the flag is set, {@link #FALSE_OPERAND} otherwise
+     */
+    public static int flag(boolean flag) {
+        return flag ? TRUE_OPERAND : FALSE_OPERAND;
+    }
+
+    /**
+     * Provides the compiled effects.
+     * @return a copy of the opcodes and operands appended so far
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(this.words, this.size);
+    }
+
+    /**
+     * Compiles the effects in their order.
+     * @param effects the effects to compile
+     * @return the opcodes and operands of the effects
+     */
+    public static int[] compile(List<Effect> effects) {
+        EffectCode code = new EffectCode();
+        for (Effect effect : effects) {
+            effect.compileInto(code);
+        }
+        return code.toArray();
+    }
+
+    /**
+     * Creates the effects of compiled effect code.
+     * @param element the element of the action the effects belong to
+     * @param code the opcodes and operands of the effects
+     * @return the effects in their order
+     * @throws IllegalArgumentException if the code is malformed
+     */
+    public static List<Effect> decode(Element element, int[] code) {
+        List<Effect> effects = new ArrayList<>();
+        int position = CODE_START;
+        while (position < code.length) {
+            position = decodeEffect(element, code, position, effects);
+        }
+        return effects;
+    }
+
+    //returns the position following the decoded effect and the effects nested into it
+    private static int decodeEffect(Element element, int[] code, int position, List<Effect> effects) {
+        if (code[position] < CODE_START || code[position] >= EffectOpcode.values().length) {
+            throw new IllegalArgumentException(UNKNOWN_OPCODE_MESSAGE.formatted(code[position]));
+        }
+        EffectOpcode opcode = EffectOpcode.values()[code[position]];
+        int operandsStart = position + OPCODE_LENGTH;
+        int operandsEnd = operandsStart + opcode.getOperandCount();
+        if (operandsEnd > code.length) {
+            throw new IllegalArgumentException(MALFORMED_CODE_MESSAGE);
+        }
+        int[] operands = Arrays.copyOfRange(code, operandsStart, operandsEnd);
+        List<Effect> nestedEffects = new ArrayList<>();
+        int nextPosition = operandsEnd;
+        if (opcode.isNesting()) {
+            for (int nested = CODE_START; nested < code[operandsEnd - NESTED_COUNT_OFFSET]; nested++) {
+                if (nextPosition >= code.length) {
+                    throw new IllegalArgumentException(MALFORMED_CODE_MESSAGE);
+                }
+                nextPosition = decodeEffect(element, code, nextPosition, nestedEffects);
+            }
+        }
+        effects.add(opcode.createEffect(element, operands, nestedEffects));
+        return nextPosition;
+    }
+
+    private void ensureCapacity(int additionalWords) {
+        if (this.size + additionalWords > this.words.length) {
+            this.words = Arrays.copyOf(this.words, Math.max(this.words.length * GROWTH_FACTOR, this.size + additionalWords));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package edu.kit.kastel.objects.actions.effects;
+
+import edu.kit.kastel.objects.Element;
+
+import java.util.List;
+
+/**
+ * Functional interface creating an effect from its compiled operands, see {@link EffectOpcode}.
+ * @author upgcv
+ */
+@FunctionalInterface
+public interface EffectFactory {
+
+    /**
+     * Creates the effect described by the operands.
+     * @param element the element of the action the effect belongs to
+     * @param operands the operands following the opcode of the effect
+     * @param nestedEffects the effects nested into the effect, empty unless the opcode is nesting
+     * @return the created effect
+     */
+    Effect create(Element element, int[] operands, List<Effect> nestedEffects);
+}
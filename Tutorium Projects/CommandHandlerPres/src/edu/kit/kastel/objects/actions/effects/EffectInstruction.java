@@ -0,0 +1,47 @@
+package edu.kit.kastel.objects.actions.effects;
+
+/**
+ * Enum representing the instructions of an {@link EffectProgram}. Every instruction is followed by a fixed number of
+ * integer operands, jump targets are absolute positions within the program.
+ * @author upgcv
+ */
+enum EffectInstruction {
+
+    /**
+     * Determines how many times a loop is executed, by the repeat effect the loop was compiled from: counter.
+     */
+    COUNT(1),
+
+    /**
+     * Starts a loop by loading its count, jumps behind the loop if the count is zero: counter, position behind the
+     * loop.
+     */
+    LOOP(2),
+
+    /**
+     * Ends an iteration of a loop, jumps back to its first instruction if iterations are left: counter, position of the
+     * first instruction of the loop.
+     */
+    END_LOOP(2),
+
+    /**
+     * Executes an effect: index of the executable effect.
+     */
+    EXECUTE(1);
+
+    private static final int OPCODE_LENGTH = 1;
+
+    private final int operandCount;
+
+    EffectInstruction(int operandCount) {
+        this.operandCount = operandCount;
+    }
+
+    /**
+     * Gets the number of words of this instruction, its opcode included.
+     * @return the length of the instruction
+     */
+    int getLength() {
+        return OPCODE_LENGTH + this.operandCount;
+    }
+}
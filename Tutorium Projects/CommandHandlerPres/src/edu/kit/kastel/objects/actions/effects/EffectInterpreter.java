@@ -0,0 +1,141 @@
+package edu.kit.kastel.objects.actions.effects;
+
+import edu.kit.kastel.logistics.Randomizer;
+
+import java.util.Optional;
+
+/**
+ * Class executing an {@link EffectProgram} for a single action. It keeps its own copies of the executable effects and
+ * its position within the program, so an execution paused for a value decided by the user in debug mode continues
+ * with the effect that paused. Neither effects nor queues are created while an action is executed.
+ * @author upgcv
+ */
+public final class EffectInterpreter {
+    private static final int PROGRAM_START = 0;
+    private static final int FIRST_OPERAND_OFFSET = 1;
+    private static final int SECOND_OPERAND_OFFSET = 2;
+    private static final int NO_REPEATS = 0;
+
+    private final EffectProgram program;
+    private final ExecutableEffect[] executableEffects;
+    private final int[] drawnCounts;
+    private final int[] remainingCounts;
+    private int position;
+    private boolean isRunning;
+
+    /**
+     * Creates an interpreter of a program that is not running.
+     * @param program the program to execute
+     */
+    public EffectInterpreter(EffectProgram program) {
+        this.program = program;
+        this.executableEffects = program.copyExecutableEffects();
+        this.drawnCounts = new int[program.getCounterCount()];
+        this.remainingCounts = new int[program.getCounterCount()];
+        this.isRunning = false;
+    }
+
+    /**
+     * Executes the prologue of the program, determining the count of every loop. If a count is not decided yet, the
+     * next call executes the prologue from its start again.
+     * @param randomizer the randomizer to get the numbers of repeats with
+     * @return true if all counts were determined, false if the randomizer waits for a value decided by the user
+     */
+    public boolean drawRepeatCounts(Randomizer randomizer) {
+        for (int prologue = PROGRAM_START; prologue < this.program.getBodyStart();
+             prologue += EffectInstruction.COUNT.getLength()) {
+            int counter = this.program.wordAt(prologue + FIRST_OPERAND_OFFSET);
+            Optional<Integer> count = this.program.getRepeatEffect(counter).provideRepeatCount(randomizer);
+            if (count.isEmpty()) {
+                return false;
+            }
+            this.drawnCounts[counter] = count.get();
+        }
+        return true;
+    }
+
+    /**
+     * Executes the prologue of the program like {@link #drawRepeatCounts(Randomizer)} does. Must not be used with a
+     * randomizer in debug mode.
+     * @param randomizer the randomizer to get the numbers of repeats with
+     */
+    public void drawRepeatCountsSilently(Randomizer randomizer) {
+        for (int prologue = PROGRAM_START; prologue < this.program.getBodyStart();
+             prologue += EffectInstruction.COUNT.getLength()) {
+            int counter = this.program.wordAt(prologue + FIRST_OPERAND_OFFSET);
+            this.drawnCounts[counter] = this.program.getRepeatEffect(counter).drawRepeatCount(randomizer);
+        }
+    }
+
+    /**
+     * Starts the body of the program with the counts drawn last and moves to its first effect. The executable effects
+     * forget what they kept from their last execution.
+     */
+    public void start() {
+        for (ExecutableEffect executableEffect : this.executableEffects) {
+            executableEffect.resetExecution();
+        }
+        this.position = this.program.getBodyStart();
+        this.isRunning = true;
+        moveToEffect();
+    }
+
+    /**
+     * Checks whether an effect of the program is left to be executed.
+     * @return true if the program is running, false if it completed, was stopped or never started
+     */
+    public boolean isRunning() {
+        return this.isRunning;
+    }
+
+    /**
+     * Gets the effect to execute next. Must only be used while the program is running.
+     * @return the current executable effect
+     */
+    public ExecutableEffect currentEffect() {
+        return this.executableEffects[this.program.wordAt(this.position + FIRST_OPERAND_OFFSET)];
+    }
+
+    /**
+     * Completes the current effect and moves to the next one, the program stops running if none is left.
+     */
+    public void advance() {
+        this.position += EffectInstruction.EXECUTE.getLength();
+        moveToEffect();
+    }
+
+    /**
+     * Stops the program, leaving the effects that are not executed yet.
+     */
+    public void stop() {
+        this.isRunning = false;
+    }
+
+    //executes loop instructions until an effect is reached or the program ends
+    private void moveToEffect() {
+        while (this.position < this.program.getLength()) {
+            EffectInstruction instruction = this.program.instructionAt(this.position);
+            switch (instruction) {
+                case EXECUTE -> {
+                    return;
+                }
+                case LOOP -> {
+                    int counter = this.program.wordAt(this.position + FIRST_OPERAND_OFFSET);
+                    this.remainingCounts[counter] = this.drawnCounts[counter];
+                    this.position = this.remainingCounts[counter] > NO_REPEATS
+                            ? this.position + instruction.getLength()
+                            : this.program.wordAt(this.position + SECOND_OPERAND_OFFSET);
+                }
+                case END_LOOP -> {
+                    int counter = this.program.wordAt(this.position + FIRST_OPERAND_OFFSET);
+                    this.remainingCounts[counter]--;
+                    this.position = this.remainingCounts[counter] > NO_REPEATS
+                            ? this.program.wordAt(this.position + SECOND_OPERAND_OFFSET)
+                            : this.position + instruction.getLength();
+                }
+                default -> this.position += instruction.getLength();
+            }
+        }
+        this.isRunning = false;
+    }
+}
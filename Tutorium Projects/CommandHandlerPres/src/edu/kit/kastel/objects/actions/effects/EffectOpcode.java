@@ -0,0 +1,150 @@
+package edu.kit.kastel.objects.actions.effects;
+
+import edu.kit.kastel.objects.Element;
+import edu.kit.kastel.objects.actions.StatusCondition;
+import edu.kit.kastel.objects.monsters.StatisticOfMonster;
+
+import java.util.List;
+
+/**
+ * Enum representing the opcodes of compiled effects. Every opcode is followed by a fixed number of integer operands,
+ * enums are stored by their ordinal and flags as {@link EffectCode#TRUE_OPERAND} or {@link EffectCode#FALSE_OPERAND}.
+ * The last operand of a nesting opcode is the number of effects following it that are nested into it.
+ * @author upgcv
+ */
+public enum EffectOpcode {
+
+    /**
+     * A damage effect: first strength effect flag, target flag, strength, strength type, hit rate.
+     */
+    DAMAGE(5, false, EffectOpcode::createDamage),
+
+    /**
+     * A healing effect: first strength effect flag, target flag, strength, strength type, hit rate.
+     */
+    HEAL(5, false, EffectOpcode::createHealing),
+
+    /**
+     * An effect inflicting a status condition: target flag, status condition, hit rate.
+     */
+    INFLICT_STATUS_CONDITION(3, false, EffectOpcode::createStatusCondition),
+
+    /**
+     * An effect changing a statistic: target flag, statistic, offset, hit rate.
+     */
+    INFLICT_STAT_CHANGE(4, false, EffectOpcode::createStatChange),
+
+    /**
+     * A protection effect of a fixed duration: protection target, duration, hit rate.
+     */
+    PROTECT(3, false, EffectOpcode::createProtection),
+
+    /**
+     * A protection effect of a random duration: protection target, bottom border, upper border, hit rate.
+     */
+    PROTECT_RANDOM(4, false, EffectOpcode::createRandomProtection),
+
+    /**
+     * An effect continuing the action: hit rate.
+     */
+    CONTINUE(1, false, EffectOpcode::createContinuation),
+
+    /**
+     * A repeat effect of a fixed number of repeats: repeats, number of nested effects.
+     */
+    REPEAT(2, true, EffectOpcode::createRepeat),
+
+    /**
+     * A repeat effect of a random number of repeats: bottom border, upper border, number of nested effects.
+     */
+    REPEAT_RANDOM(3, true, EffectOpcode::createRandomRepeat);
+
+    private static final int FIRST_OPERAND = 0;
+    private static final int SECOND_OPERAND = 1;
+    private static final int THIRD_OPERAND = 2;
+    private static final int FOURTH_OPERAND = 3;
+    private static final int FIFTH_OPERAND = 4;
+
+    private final int operandCount;
+    private final boolean isNesting;
+    private final EffectFactory factory;
+
+    EffectOpcode(int operandCount, boolean isNesting, EffectFactory factory) {
+        this.operandCount = operandCount;
+        this.isNesting = isNesting;
+        this.factory = factory;
+    }
+
+    /**
+     * Gets the number of operands following this opcode, the number of nested effects included.
+     * @return the number of operands
+     */
+    public int getOperandCount() {
+        return this.operandCount;
+    }
+
+    /**
+     * Checks whether effects are nested into the effects of this opcode.
+     * @return true if the last operand is the number of nested effects, false otherwise
+     */
+    public boolean isNesting() {
+        return this.isNesting;
+    }
+
+    /**
+     * Creates the effect described by the operands.
+     * @param element the element of the action the effect belongs to
+     * @param operands the operands following this opcode
+     * @param nestedEffects the effects nested into the effect
+     * @return the created effect
+     */
+    public Effect createEffect(Element element, int[] operands, List<Effect> nestedEffects) {
+        return this.factory.create(element, operands, nestedEffects);
+    }
+
+    private static Effect createDamage(Element element, int[] operands, List<Effect> nestedEffects) {
+        return new DamageEffect(element, isSet(operands[FIRST_OPERAND]), isSet(operands[SECOND_OPERAND]),
+                operands[THIRD_OPERAND], StrengthType.values()[operands[FOURTH_OPERAND]], operands[FIFTH_OPERAND]);
+    }
+
+    private static Effect createHealing(Element element, int[] operands, List<Effect> nestedEffects) {
+        return new HealingEffect(element, isSet(operands[FIRST_OPERAND]), isSet(operands[SECOND_OPERAND]),
+                operands[THIRD_OPERAND], StrengthType.values()[operands[FOURTH_OPERAND]], operands[FIFTH_OPERAND]);
+    }
+
+    private static Effect createStatusCondition(Element element, int[] operands, List<Effect> nestedEffects) {
+        return new StateConditionEffect(isSet(operands[FIRST_OPERAND]),
+                StatusCondition.values()[operands[SECOND_OPERAND]], operands[THIRD_OPERAND]);
+    }
+
+    private static Effect createStatChange(Element element, int[] operands, List<Effect> nestedEffects) {
+        return new StatChangeEffect(isSet(operands[FIRST_OPERAND]),
+                StatisticOfMonster.values()[operands[SECOND_OPERAND]], operands[THIRD_OPERAND], operands[FOURTH_OPERAND]);
+    }
+
+    private static Effect createProtection(Element element, int[] operands, List<Effect> nestedEffects) {
+        return new ProtectionEffect(ProtectionTarget.values()[operands[FIRST_OPERAND]], operands[SECOND_OPERAND],
+                operands[THIRD_OPERAND]);
+    }
+
+    private static Effect createRandomProtection(Element element, int[] operands, List<Effect> nestedEffects) {
+        return new ProtectionEffect(ProtectionTarget.values()[operands[FIRST_OPERAND]], operands[SECOND_OPERAND],
+                operands[THIRD_OPERAND], operands[FOURTH_OPERAND]);
+    }
+
+    private static Effect createContinuation(Element element, int[] operands, List<Effect> nestedEffects) {
+        return new ContinueEffect(operands[FIRST_OPERAND]);
+    }
+
+    private static Effect createRepeat(Element element, int[] operands, List<Effect> nestedEffects) {
+        return new RepeatEffect(nestedEffects, operands[FIRST_OPERAND]);
+    }
+
+    private static Effect createRandomRepeat(Element element, int[] operands, List<Effect> nestedEffects) {
+        return new RepeatEffect(nestedEffects, operands[FIRST_OPERAND], operands[SECOND_OPERAND]);
+    }
+
+    private static boolean isSet(int flagOperand) {
+        return flagOperand == EffectCode.TRUE_OPERAND;
+    }
+}
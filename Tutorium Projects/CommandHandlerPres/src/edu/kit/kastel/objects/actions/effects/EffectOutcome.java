@@ -0,0 +1,19 @@
+package edu.kit.kastel.objects.actions.effects;
+
+/**
+ * Enum representing the outcome of an effect executed silently, without building a {@link
+ * edu.kit.kastel.commands.Result}.
+ * @author upgcv
+ */
+public enum EffectOutcome {
+
+    /**
+     * The effect was executed.
+     */
+    SUCCESS,
+
+    /**
+     * The effect missed or could not be executed.
+     */
+    FAILURE
+}
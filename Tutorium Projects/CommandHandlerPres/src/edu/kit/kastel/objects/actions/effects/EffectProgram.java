@@ -0,0 +1,220 @@
+package edu.kit.kastel.objects.actions.effects;
+
+import edu.kit.kastel.objects.Element;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class holding the effects of an action lowered into a flat sequence of {@link EffectInstruction instructions}. The
+ * program starts with a prologue determining the count of every loop, followed by its body, in which every repeat
+ * effect became a loop around the instructions of its nested effects. The program never changes after it is compiled,
+ * so all copies of an action share it. It is executed by an {@link EffectInterpreter}.
+ * @author upgcv
+ */
+public final class EffectProgram {
+    private static final String MALFORMED_CODE_MESSAGE = "Error, the effect code ends within an effect!";
+    private static final String UNKNOWN_OPCODE_MESSAGE = "Error, %d is not an effect opcode!";
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int GROWTH_FACTOR = 2;
+    private static final int OPCODE_LENGTH = 1;
+    private static final int CODE_START = 0;
+    private static final int NESTED_COUNT_OFFSET = 1;
+    private static final int EXIT_TARGET_OFFSET = 2;
+    private static final int UNRESOLVED_TARGET = -1;
+    private static final int NO_LOOPS = 0;
+
+    private final int[] instructions;
+    private final int bodyStart;
+    private final Effect[] repeatEffects;
+    private final ExecutableEffect[] executableEffects;
+
+    private EffectProgram(int[] instructions, int bodyStart, Effect[] repeatEffects,
+                          ExecutableEffect[] executableEffects) {
+        this.instructions = instructions;
+        this.bodyStart = bodyStart;
+        this.repeatEffects = repeatEffects;
+        this.executableEffects = executableEffects;
+    }
+
+    /**
+     * Compiles effects into a program.
+     * @param element the element of the action the effects belong to
+     * @param effects the effects in their order
+     * @return the compiled program
+     */
+    public static EffectProgram compile(Element element, List<Effect> effects) {
+        return compile(element, EffectCode.compile(effects));
+    }
+
+    /**
+     * Compiles effect code into a program, see {@link EffectCode}.
+     * @param element the element of the action the effects belong to
+     * @param code the opcodes and operands of the effects
+     * @return the compiled program
+     * @throws IllegalArgumentException if the code is malformed
+     */
+    public static EffectProgram compile(Element element, int[] code) {
+        return new Compiler(element, code).compile();
+    }
+
+    /**
+     * Gets a word of the program.
+     * @param position the position of the word
+     * @return the ordinal of an instruction or an operand
+     */
+    int wordAt(int position) {
+        return this.instructions[position];
+    }
+
+    /**
+     * Gets the instruction starting at a position.
+     * @param position the position of the instruction
+     * @return the instruction
+     */
+    EffectInstruction instructionAt(int position) {
+        return EffectInstruction.values()[this.instructions[position]];
+    }
+
+    /**
+     * Gets the number of words of the program.
+     * @return the position behind the last instruction
+     */
+    int getLength() {
+        return this.instructions.length;
+    }
+
+    /**
+     * Gets the position of the first instruction following the prologue.
+     * @return the start of the body
+     */
+    int getBodyStart() {
+        return this.bodyStart;
+    }
+
+    /**
+     * Gets the number of loop counters the program uses.
+     * @return the number of loops
+     */
+    int getCounterCount() {
+        return this.repeatEffects.length;
+    }
+
+    /**
+     * Gets the repeat effect a loop was compiled from, providing its count.
+     * @param counter the counter of the loop
+     * @return the repeat effect without its nested effects
+     */
+    Effect getRepeatEffect(int counter) {
+        return this.repeatEffects[counter];
+    }
+
+    /**
+     * Copies the executable effects the program executes, so an interpreter can keep their state.
+     * @return new executable effects, indexed like the operands of {@link EffectInstruction#EXECUTE}
+     */
+    ExecutableEffect[] copyExecutableEffects() {
+        ExecutableEffect[] copies = new ExecutableEffect[this.executableEffects.length];
+        for (int index = CODE_START; index < copies.length; index++) {
+            copies[index] = this.executableEffects[index].copyExecutableEffect();
+        }
+        return copies;
+    }
+
+    //lowers effect code in a single pass, the loops are counted first so the body starts behind the prologue
+    private static final class Compiler {
+        private final Element element;
+        private final int[] code;
+        private final List<Effect> repeatEffects = new ArrayList<>();
+        private final List<ExecutableEffect> executableEffects = new ArrayList<>();
+        private int[] words;
+        private int size;
+
+        private Compiler(Element element, int[] code) {
+            this.element = element;
+            this.code = code;
+        }
+
+        private EffectProgram compile() {
+            int bodyStart = countLoops() * EffectInstruction.COUNT.getLength();
+            this.words = new int[Math.max(INITIAL_CAPACITY, bodyStart)];
+            this.size = bodyStart;
+            int position = CODE_START;
+            while (position < this.code.length) {
+                position = compileEffect(position);
+            }
+            return new EffectProgram(Arrays.copyOf(this.words, this.size), bodyStart,
+                    this.repeatEffects.toArray(Effect[]::new), this.executableEffects.toArray(ExecutableEffect[]::new));
+        }
+
+        private int countLoops() {
+            int loops = NO_LOOPS;
+            int position = CODE_START;
+            while (position < this.code.length) {
+                EffectOpcode opcode = readOpcode(position);
+                if (opcode.isNesting()) {
+                    loops++;
+                }
+                position += OPCODE_LENGTH + opcode.getOperandCount();
+            }
+            return loops;
+        }
+
+        //returns the position following the compiled effect and the effects nested into it
+        private int compileEffect(int position) {
+            EffectOpcode opcode = readOpcode(position);
+            int operandsStart = position + OPCODE_LENGTH;
+            int operandsEnd = operandsStart + opcode.getOperandCount();
+            if (operandsEnd > this.code.length) {
+                throw new IllegalArgumentException(MALFORMED_CODE_MESSAGE);
+            }
+            Effect effect = opcode.createEffect(this.element, Arrays.copyOfRange(this.code, operandsStart, operandsEnd),
+                    List.of());
+            if (!opcode.isNesting()) {
+                for (ExecutableEffect executableEffect : effect.provideExecutableEffects()) {
+                    emit(EffectInstruction.EXECUTE, this.executableEffects.size());
+                    this.executableEffects.add(executableEffect);
+                }
+                return operandsEnd;
+            }
+            int counter = this.repeatEffects.size();
+            this.repeatEffects.add(effect);
+            int countPosition = counter * EffectInstruction.COUNT.getLength();
+            this.words[countPosition] = EffectInstruction.COUNT.ordinal();
+            this.words[countPosition + OPCODE_LENGTH] = counter;
+            int loopPosition = emit(EffectInstruction.LOOP, counter, UNRESOLVED_TARGET);
+            int loopBodyStart = this.size;
+            int nextPosition = operandsEnd;
+            for (int nested = CODE_START; nested < this.code[operandsEnd - NESTED_COUNT_OFFSET]; nested++) {
+                if (nextPosition >= this.code.length) {
+                    throw new IllegalArgumentException(MALFORMED_CODE_MESSAGE);
+                }
+                nextPosition = compileEffect(nextPosition);
+            }
+            emit(EffectInstruction.END_LOOP, counter, loopBodyStart);
+            this.words[loopPosition + EXIT_TARGET_OFFSET] = this.size;
+            return nextPosition;
+        }
+
+        private EffectOpcode readOpcode(int position) {
+            if (this.code[position] < CODE_START || this.code[position] >= EffectOpcode.values().length) {
+                throw new IllegalArgumentException(UNKNOWN_OPCODE_MESSAGE.formatted(this.code[position]));
+            }
+            return EffectOpcode.values()[this.code[position]];
+        }
+
+        //returns the position of the emitted instruction
+        private int emit(EffectInstruction instruction, int... operands) {
+            int position = this.size;
+            if (this.size + instruction.getLength() > this.words.length) {
+                this.words = Arrays.copyOf(this.words,
+                        Math.max(this.words.length * GROWTH_FACTOR, this.size + instruction.getLength()));
+            }
+            this.words[this.size++] = instruction.ordinal();
+            System.arraycopy(operands, CODE_START, this.words, this.size, operands.length);
+            this.size += operands.length;
+            return position;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package edu.kit.kastel.objects.actions.effects;
 
 import edu.kit.kastel.commands.Result;
+import edu.kit.kastel.commands.ResultType;
 import edu.kit.kastel.logistics.Randomizer;
+import edu.kit.kastel.logistics.events.BattleEventBuffer;
 import edu.kit.kastel.objects.monsters.Monster;
 
 /**
@@ -11,6 +13,16 @@
  */
 public interface ExecutableEffect {
 
+    /**
+     * Success rate of an effect that always succeeds, in percent.
+     */
+    double CERTAIN_SUCCESS_RATE = 100.0;
+
+    /**
+     * Success rate of an effect that never succeeds, in percent.
+     */
+    double IMPOSSIBLE_SUCCESS_RATE = 0.0;
+
     /**
      * Method which executes the current effect of an action, that was used by monster {@code user}.
      * Gives back the status of the execution of this effect and possible message to display.
@@ -23,6 +35,50 @@ public interface ExecutableEffect {
      */
     Result executeEffect(Monster user, Monster target, Randomizer randomizer);
 
+    /**
+     * Executes the current effect without building messages. Effects that produce output record it into
+     * {@code events}, the text of the events is only created if somebody renders them. Must not be used with a
+     * randomizer in debug mode.
+     * @param user the monster which uses the effect
+     * @param target the monster on which the effect is being used. If the effect doesn't need a target,
+     *               this parameter will be ignored
+     * @param randomizer the current object, deciding whether the effect succeeds
+     * @param events the buffer to record the events of this effect into
+     * @return {@link EffectOutcome#SUCCESS} if the effect was executed, {@link EffectOutcome#FAILURE} otherwise
+     */
+    default EffectOutcome executeSilently(Monster user, Monster target, Randomizer randomizer, BattleEventBuffer events) {
+        return executeEffect(user, target, randomizer).getType() == ResultType.FAILURE
+                ? EffectOutcome.FAILURE : EffectOutcome.SUCCESS;
+    }
+
+    /**
+     * Calculates the probability that this effect succeeds against the current state of the monsters, without
+     * drawing a value. This is the probability of its hit roll, unless the effect cannot be executed at all. The other
+     * random values the effect draws are not taken into account.
+     * @param user the monster which uses the effect
+     * @param target the monster on which the effect is being used. If the effect doesn't need a target,
+     *               this parameter will be ignored
+     * @return the probability between 0 and 1
+     */
+    double calcSuccessProbability(Monster user, Monster target);
+
+    /**
+     * Converts a success rate as passed to {@link Randomizer#nextSuccess(double)} into the probability of a success.
+     * @param successRate the success rate in percent, may exceed 100
+     * @return the probability between 0 and 1
+     */
+    static double toSuccessProbability(double successRate) {
+        return Math.max(Math.min(successRate, CERTAIN_SUCCESS_RATE), IMPOSSIBLE_SUCCESS_RATE)
+                / CERTAIN_SUCCESS_RATE;
+    }
+
+    /**
+     * Forgets what this effect kept from its last execution, before it is executed within a new execution of its
+     * action. Effects without such state do nothing.
+     */
+    default void resetExecution() {
+    }
+
     /**
      * Copies this executable effect.
      * @return a new Object of this executable effect
@@ -2,15 +2,18 @@
 
 import edu.kit.kastel.commands.Result;
 import edu.kit.kastel.logistics.DebugType;
+import edu.kit.kastel.logistics.events.BattleEvent;
+import edu.kit.kastel.logistics.events.BattleEventBuffer;
+import edu.kit.kastel.logistics.events.BattleEventRenderer;
+import edu.kit.kastel.logistics.events.BattleEventType;
 import edu.kit.kastel.objects.Element;
 import edu.kit.kastel.objects.monsters.Monster;
 import edu.kit.kastel.logistics.Randomizer;
 import edu.kit.kastel.objects.monsters.StatisticOfMonster;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Queue;
 
 /**
  * Class representing the healing effect.
@@ -43,8 +46,8 @@ public HealingEffect(Element element, boolean isFirstStrengthEffect, boolean req
     }
 
     @Override
-    public Queue<ExecutableEffect> provideQueueOfSelf(Randomizer randomizer) {
-        return new LinkedList<>(List.of(this.copyExecutableEffect()));
+    public List<ExecutableEffect> provideExecutableEffects() {
+        return List.of(this.copyExecutableEffect());
     }
 
     @Override
@@ -63,28 +66,36 @@ public Result executeEffect(Monster user, Monster possibleTarget, Randomizer ran
         if (possibleTotalDMGValue.isEmpty()) {
             return Result.needsDebug(randomizer.expectedValueType(), randomizer.expectedValueType() == DebugType.DOUBLE
                     ? DEBUG_NAME_OF_RANDOM_FACTOR : DEBUG_NAME_OF_CRITICAL_FACTOR,
-                    randomizer.expectedValueType() == DebugType.DOUBLE
-                            ? givePossibleCriticalHitMessage() : givePossibleEffectivenessMessage(target));
+                    givePausedEvents(target, this.isFirstStrengthEffectInAction, randomizer));
         } else {
             totalHealing = (int) Math.ceil(possibleTotalDMGValue.get());
         }
-        String ifFirstDmgOrCriticalHitHappened = randomizer.isDebugOn() ? ""
-                : givePossibleEffectivenessMessage(target) + givePossibleCriticalHitMessage();
-        Result healingResult = target.healHP(totalHealing, randomizer.isProcessFirstExecution());
-        return Result.success(ifFirstDmgOrCriticalHitHappened + healingResult.getMessage());
+        List<BattleEvent> events = new ArrayList<>();
+        addCompletedStrengthEvents(target, this.isFirstStrengthEffectInAction, randomizer, events);
+        events.addAll(target.healHP(totalHealing).getEvents());
+        return Result.success(events, BattleEventRenderer.CONSOLE);
     }
 
-    private String givePossibleEffectivenessMessage(Monster target) {
-        return (super.strengthType == StrengthType.BASE) && isFirstStrengthEffectInAction
-                && !getEffectivenessMessage(Element.getEffectivenessGrade(this.element, target.element)).isBlank()
-                ? getEffectivenessMessage(Element.getEffectivenessGrade(this.element, target.element)) + System.lineSeparator()
-                : "";
+    @Override
+    public EffectOutcome executeSilently(Monster user, Monster possibleTarget, Randomizer randomizer,
+                                         BattleEventBuffer events) {
+        Monster target = super.requiresTarget ? possibleTarget : user;
+        double userTargetInteraction =  user.getStatisticEffectiveValue(StatisticOfMonster.PRC)
+                / (super.requiresTarget ? target.getStatisticEffectiveValue(StatisticOfMonster.AGL) : TARGET_NOT_NEEDED_FACTOR);
+        if (!randomizer.nextSuccess(super.successRate * userTargetInteraction)) {
+            return EffectOutcome.FAILURE;
+        }
+        addEffectivenessEvent(target, this.isFirstStrengthEffectInAction, events);
+        int totalHealing = (int) Math.ceil(calcStrengthValueSilently(user, target, randomizer, events));
+        target.healSilently(totalHealing);
+        events.add(BattleEventType.HEAL, target.getSlot(), totalHealing);
+        return EffectOutcome.SUCCESS;
     }
 
-    private String givePossibleCriticalHitMessage() {
-        String stringToReturn = super.directHitMessage.isEmpty() ? "" : super.directHitMessage + System.lineSeparator();
-        super.directHitMessage = "";
-        return stringToReturn;
+    @Override
+    public void inflictStrengthValue(Monster user, Monster possibleTarget, int strengthValue) {
+        Monster target = super.requiresTarget ? possibleTarget : user;
+        target.healSilently(strengthValue);
     }
 
     @Override
@@ -92,6 +103,12 @@ public String getDMGValue() {
         return NO_DMG_REGEX;
     }
 
+    @Override
+    public void compileInto(EffectCode code) {
+        code.add(EffectOpcode.HEAL, EffectCode.flag(this.isFirstStrengthEffectInAction),
+                EffectCode.flag(super.requiresTarget), super.strength, super.strengthType.ordinal(), super.successRate);
+    }
+
     @Override
     public Effect copyEffect() {
         return new HealingEffect(super.element, this.isFirstStrengthEffectInAction, super.requiresTarget,
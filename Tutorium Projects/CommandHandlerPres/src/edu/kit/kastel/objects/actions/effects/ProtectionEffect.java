@@ -6,10 +6,8 @@
 import edu.kit.kastel.logistics.Randomizer;
 import edu.kit.kastel.objects.monsters.StatisticOfMonster;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Queue;
 
 /**
  * Class representing a protection effect.
@@ -61,8 +59,8 @@ private ProtectionEffect(ProtectionTarget whatToProtect, int duration, int botto
     }
 
     @Override
-    public Queue<ExecutableEffect> provideQueueOfSelf(Randomizer randomizer) {
-        return new LinkedList<>(List.of(this.copyExecutableEffect()));
+    public List<ExecutableEffect> provideExecutableEffects() {
+        return List.of(this.copyExecutableEffect());
     }
 
     @Override
@@ -96,11 +94,27 @@ public Result executeEffect(Monster user, Monster target, Randomizer randomizer)
     }
 
 
+    @Override
+    public double calcSuccessProbability(Monster user, Monster target) {
+        return ExecutableEffect.toSuccessProbability(this.successRate
+                * user.getStatisticEffectiveValue(StatisticOfMonster.PRC));
+    }
+
     @Override
     public boolean requiresTarget() {
         return false;
     }
 
+    @Override
+    public void compileInto(EffectCode code) {
+        if (this.duration == DEFAULT_DURATION) {
+            code.add(EffectOpcode.PROTECT_RANDOM, this.whatToProtect.ordinal(), this.bottomBorder, this.upperBorder,
+                    this.successRate);
+        } else {
+            code.add(EffectOpcode.PROTECT, this.whatToProtect.ordinal(), this.duration, this.successRate);
+        }
+    }
+
     @Override
     public Effect copyEffect() {
         return new ProtectionEffect(this.whatToProtect, this.duration, this.bottomBorder, this.upperBorder, this.successRate);
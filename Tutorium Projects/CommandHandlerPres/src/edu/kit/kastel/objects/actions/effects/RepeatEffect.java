@@ -3,10 +3,8 @@
 import edu.kit.kastel.logistics.Randomizer;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Queue;
 
 /**
  * Class representing a repeat effect.
@@ -15,16 +13,15 @@
 public class RepeatEffect implements Effect {
     private static final String ILLEGAL_DURATION_MESSAGE = "Error, this duration value is not allowed!";
     private static final String NO_DMG_REGEX = "--";
-    private static final int CYCLE_START_INDEX = 0;
     private static final int FIRST_EFFECT_IN_QUEUE = 0;
     private static final int DEFAULT_DURATION = 0;
 
     private final List<Effect> effects = new ArrayList<>();
     private final boolean isRandomDuration;
 
-    private int bottomBorder;
-    private int upperBorder;
-    private int repeats;
+    private final int bottomBorder;
+    private final int upperBorder;
+    private final int repeats;
 
     /**
      * Creates a repeat effect instance with provided arguments.
@@ -34,6 +31,8 @@ public class RepeatEffect implements Effect {
     public RepeatEffect(List<Effect> effects, int repeats) {
         initializeEffects(effects);
         this.repeats = repeats;
+        this.bottomBorder = DEFAULT_DURATION;
+        this.upperBorder = DEFAULT_DURATION;
         this.isRandomDuration = false;
     }
     /**
@@ -45,18 +44,16 @@ public RepeatEffect(List<Effect> effects, int repeats) {
     public RepeatEffect(List<Effect> effects, int bottomBorder, int upperBorder) {
         initializeEffects(effects);
         this.isRandomDuration = true;
+        this.repeats = DEFAULT_DURATION;
         this.upperBorder = upperBorder;
         this.bottomBorder = bottomBorder;
     }
 
     private RepeatEffect(List<Effect> effects, boolean isRandomDuration, int repeats, int bottomBorder, int upperBorder) {
         initializeEffects(effects);
-        if (isRandomDuration) {
-            this.bottomBorder = bottomBorder;
-            this.upperBorder = upperBorder;
-        } else {
-            this.repeats = repeats;
-        }
+        this.bottomBorder = bottomBorder;
+        this.upperBorder = upperBorder;
+        this.repeats = repeats;
         this.isRandomDuration = isRandomDuration;
     }
 
@@ -67,25 +64,43 @@ private void initializeEffects(List<Effect> effects) {
     }
 
     @Override
-    public Queue<ExecutableEffect> provideQueueOfSelf(Randomizer randomizer) {
-        if (isRandomDuration && !(DEFAULT_DURATION < this.bottomBorder && this.bottomBorder < this.upperBorder)) {
-            throw new IllegalArgumentException(ILLEGAL_DURATION_MESSAGE);
-        } else if (isRandomDuration) {
-            Optional<Integer> possibleRepeatNumber = randomizer.getRandomInt(this.bottomBorder, this.upperBorder);
-            if (possibleRepeatNumber.isEmpty()) {
-                return null;
-            }
-            this.repeats = possibleRepeatNumber.get();
-        }
+    public Optional<Integer> provideRepeatCount(Randomizer randomizer) {
+        validateDuration();
+        return isRandomDuration ? randomizer.getRandomInt(this.bottomBorder, this.upperBorder) : Optional.of(this.repeats);
+    }
+
+    @Override
+    public List<ExecutableEffect> provideExecutableEffects() {
         List<ExecutableEffect> listOfThisExecutableEffects = new ArrayList<>();
         for (Effect effect : this.effects) {
-            listOfThisExecutableEffects.add(effect.provideQueueOfSelf(randomizer).poll());
+            listOfThisExecutableEffects.addAll(effect.provideExecutableEffects());
         }
-        Queue<ExecutableEffect> queueToProvide = new LinkedList<>();
-        for (int i = CYCLE_START_INDEX; i < this.repeats; i++) {
-            queueToProvide.addAll(listOfThisExecutableEffects);
+        return listOfThisExecutableEffects;
+    }
+
+    @Override
+    public int drawRepeatCount(Randomizer randomizer) {
+        validateDuration();
+        return isRandomDuration ? randomizer.nextInt(this.bottomBorder, this.upperBorder) : this.repeats;
+    }
+
+    @Override
+    public List<Integer> getPossibleRepeatCounts() {
+        validateDuration();
+        if (!isRandomDuration) {
+            return List.of(this.repeats);
+        }
+        List<Integer> repeatCounts = new ArrayList<>();
+        for (int repeatCount = this.bottomBorder; repeatCount <= this.upperBorder; repeatCount++) {
+            repeatCounts.add(repeatCount);
+        }
+        return repeatCounts;
+    }
+
+    private void validateDuration() {
+        if (isRandomDuration && !(DEFAULT_DURATION < this.bottomBorder && this.bottomBorder < this.upperBorder)) {
+            throw new IllegalArgumentException(ILLEGAL_DURATION_MESSAGE);
         }
-        return queueToProvide;
     }
 
     @Override
@@ -113,6 +128,18 @@ public String getHitRateValue() {
         return effects.get(FIRST_EFFECT_IN_QUEUE).getHitRateValue();
     }
 
+    @Override
+    public void compileInto(EffectCode code) {
+        if (this.isRandomDuration) {
+            code.add(EffectOpcode.REPEAT_RANDOM, this.bottomBorder, this.upperBorder, this.effects.size());
+        } else {
+            code.add(EffectOpcode.REPEAT, this.repeats, this.effects.size());
+        }
+        for (Effect effect : this.effects) {
+            effect.compileInto(code);
+        }
+    }
+
     @Override
     public Effect copyEffect() {
         return new RepeatEffect(this.effects, this.isRandomDuration, this.repeats, this.bottomBorder, this.upperBorder);
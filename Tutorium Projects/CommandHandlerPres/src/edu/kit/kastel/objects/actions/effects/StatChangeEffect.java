@@ -6,10 +6,8 @@
 import edu.kit.kastel.objects.monsters.StatisticOfMonster;
 import edu.kit.kastel.logistics.Randomizer;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Queue;
 
 /**
  * Class representing inflictStatChange effect.
@@ -40,8 +38,8 @@ public StatChangeEffect(boolean requiresTarget, StatisticOfMonster statisticToCh
     }
 
     @Override
-    public Queue<ExecutableEffect> provideQueueOfSelf(Randomizer randomizer) {
-        return new LinkedList<>(List.of(this.copyExecutableEffect()));
+    public List<ExecutableEffect> provideExecutableEffects() {
+        return List.of(this.copyExecutableEffect());
     }
 
     @Override
@@ -55,8 +53,15 @@ public Result executeEffect(Monster user, Monster possibleTarget, Randomizer ran
         } else if (!possibleSuccessValue.get()) {
             return Result.failed();
         }
-        return target.changeStatisticOffsetValue(this.statisticToChange, this.statisticOffset, user.equals(target),
-                randomizer.isProcessFirstExecution());
+        return target.changeStatisticOffsetValue(this.statisticToChange, this.statisticOffset, user.equals(target));
+    }
+
+    @Override
+    public double calcSuccessProbability(Monster user, Monster possibleTarget) {
+        Monster target = this.requiresTarget ? possibleTarget : user;
+        double userTargetInteraction =  user.getStatisticEffectiveValue(StatisticOfMonster.PRC)
+                / (this.requiresTarget ? target.getStatisticEffectiveValue(StatisticOfMonster.AGL) : TARGET_NOT_NEEDED_FACTOR);
+        return ExecutableEffect.toSuccessProbability(this.successRate * userTargetInteraction);
     }
 
     @Override
@@ -64,6 +69,12 @@ public boolean requiresTarget() {
         return this.requiresTarget;
     }
 
+    @Override
+    public void compileInto(EffectCode code) {
+        code.add(EffectOpcode.INFLICT_STAT_CHANGE, EffectCode.flag(this.requiresTarget), this.statisticToChange.ordinal(),
+                this.statisticOffset, this.successRate);
+    }
+
     @Override
     public Effect copyEffect() {
         return new StatChangeEffect(this.requiresTarget, this.statisticToChange, this.statisticOffset, this.successRate);
@@ -7,10 +7,8 @@
 import edu.kit.kastel.logistics.Randomizer;
 import edu.kit.kastel.objects.monsters.StatisticOfMonster;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Queue;
 
 /**
  * Class representing an inflictStatusCondition effect in the game.
@@ -38,8 +36,8 @@ public StateConditionEffect(boolean requiresTarget, StatusCondition statusCondit
     }
 
     @Override
-    public Queue<ExecutableEffect> provideQueueOfSelf(Randomizer randomizer) {
-        return new LinkedList<>(List.of(this.copyExecutableEffect()));
+    public List<ExecutableEffect> provideExecutableEffects() {
+        return List.of(this.copyExecutableEffect());
     }
 
     @Override
@@ -59,11 +57,25 @@ public Result executeEffect(Monster user, Monster possibleTarget, Randomizer ran
         return target.setStatusCondition(this.statusCondition);
     }
 
+    @Override
+    public double calcSuccessProbability(Monster user, Monster possibleTarget) {
+        Monster target = this.requiresTarget ? possibleTarget : user;
+        double userTargetInteraction =  user.getStatisticEffectiveValue(StatisticOfMonster.PRC)
+                / (this.requiresTarget ? target.getStatisticEffectiveValue(StatisticOfMonster.AGL) : TARGET_NOT_NEEDED_FACTOR);
+        return ExecutableEffect.toSuccessProbability(this.successRate * userTargetInteraction);
+    }
+
     @Override
     public boolean requiresTarget() {
         return this.requiresTarget;
     }
 
+    @Override
+    public void compileInto(EffectCode code) {
+        code.add(EffectOpcode.INFLICT_STATUS_CONDITION, EffectCode.flag(this.requiresTarget),
+                this.statusCondition.ordinal(), this.successRate);
+    }
+
     @Override
     public Effect copyEffect() {
         return new StateConditionEffect(this.requiresTarget, this.statusCondition, this.successRate);
@@ -1,11 +1,20 @@
 package edu.kit.kastel.objects.actions.effects;
 
+import edu.kit.kastel.logistics.DebugType;
+import edu.kit.kastel.logistics.events.BattleEvent;
+import edu.kit.kastel.logistics.events.BattleEventBuffer;
+import edu.kit.kastel.logistics.events.BattleEventType;
+import edu.kit.kastel.objects.Effectiveness;
 import edu.kit.kastel.objects.Element;
 import edu.kit.kastel.objects.monsters.Monster;
 import edu.kit.kastel.objects.monsters.StatisticOfMonster;
 import edu.kit.kastel.logistics.Randomizer;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * Class representing a strength-related effect.
@@ -14,12 +23,7 @@
 public abstract class StrengthDefinedEffect implements Effect, ExecutableEffect {
     private static final String ILLEGAL_RELATIVE_STRENGTH_VALUE =
             "Error, this percentage as value of relative strength factor is not allowed!";
-    private static final String DIRECT_HIT_MESSAGE = "Critical hit!";
-    private static final String EFFECTIVE_AGAINST_MONSTER = "It is very effective!";
-    private static final String NOT_EFFECTIVE_AGAINST_MONSTER = "It is not very effective...";
 
-    private static final double NOT_EFFECTIVE_VALUE = 0.5;
-    private static final double VERY_EFFECTIVE_VALUE = 2.0;
     private static final int MAX_PERCENTAGE_RATE = 100;
     private static final int DIRECT_HIT_MODIFIER = 10;
     private static final int DIRECT_HIT_FACTOR = 2;
@@ -30,6 +34,11 @@ public abstract class StrengthDefinedEffect implements Effect, ExecutableEffect
     private static final double UPPER_THRESHOLD_RANDOM_FACTOR = 1.0;
     private static final double BOTTOM_THRESHOLD_RANDOM_FACTOR = 0.85;
     private static final double NORMALISATION_FACTOR = 1.0 / 3.0;
+    private static final double CERTAIN_PROBABILITY = 1.0;
+    private static final double NO_PROBABILITY = 0.0;
+    private static final int TARGET_NOT_NEEDED_FACTOR = 1;
+    private static final int NO_STRENGTH = 0;
+    private static final int PREVIOUS_VALUE_OFFSET = 1;
 
 
     /**
@@ -54,9 +63,9 @@ public abstract class StrengthDefinedEffect implements Effect, ExecutableEffect
     protected final int successRate;
 
     /**
-     * Keeps the message if the direct hit was done, and an empty line if it was not done/effect was not executed yet.
+     * Indicates if a direct hit was done that no event has been created for yet.
      */
-    protected String directHitMessage = "";
+    protected boolean isDirectHitUnannounced;
 
     /**
      * Constructs an effect, that is related to strength evaluations.
@@ -92,6 +101,77 @@ public String getHitRateValue() {
     public boolean requiresTarget() {
         return this.requiresTarget;
     }
+    @Override
+    public double calcSuccessProbability(Monster user, Monster possibleTarget) {
+        Monster target = this.requiresTarget ? possibleTarget : user;
+        double userTargetInteraction =  user.getStatisticEffectiveValue(StatisticOfMonster.PRC)
+                / (this.requiresTarget ? target.getStatisticEffectiveValue(StatisticOfMonster.AGL) : TARGET_NOT_NEEDED_FACTOR);
+        return ExecutableEffect.toSuccessProbability(this.successRate * userTargetInteraction);
+    }
+
+    /**
+     * Calculates the exact distribution of the rounded up strength value this effect inflicts once it succeeds
+     * against the current state of the monsters, without drawing a value. A value of type BASE is distributed over the
+     * critical hit and the uniform random factor, the other types have a single value.
+     * @param user the monster that uses this effect
+     * @param possibleTarget the monster on which the effect is to be used, ignored if the effect doesn't need a target
+     * @return map from the possible strength values to their probabilities, in ascending order of the values
+     */
+    public NavigableMap<Integer, Double> calcStrengthDistribution(Monster user, Monster possibleTarget) {
+        Monster target = this.requiresTarget ? possibleTarget : user;
+        NavigableMap<Integer, Double> distribution = new TreeMap<>();
+        if (!this.strengthType.equals(StrengthType.BASE)) {
+            distribution.put((int) Math.ceil(this.strengthType.equals(StrengthType.REL)
+                    ? target.getBaseHPValue() * this.strength / UPPER_THRESHOLD_RELATIVE_STRENGTH_VALUE
+                    : this.strength), CERTAIN_PROBABILITY);
+            return distribution;
+        }
+        double elementalFactor = Element.getEffectivenessGrade(this.element, target.element);
+        double statFactor = user.getStatisticEffectiveValue(StatisticOfMonster.ATK)
+                / target.getStatisticEffectiveValue(StatisticOfMonster.DEF);
+        double directHitProbability = ExecutableEffect.toSuccessProbability(Math.pow(DIRECT_HIT_MODIFIER,
+                -(target.getStatisticEffectiveValue(StatisticOfMonster.SPD) / user.getStatisticEffectiveValue(StatisticOfMonster.SPD)))
+                * MAX_PERCENTAGE_RATE);
+        double sameElementFactor = element.equals(user.element) ? SAME_ELEMENT_FACTOR : DEFAULT_MULTIPLICATION_FACTOR;
+        double strengthFactor = strength * elementalFactor * statFactor;
+        addRandomlyScaledValues(distribution, strengthFactor * DEFAULT_MULTIPLICATION_FACTOR * sameElementFactor
+                * NORMALISATION_FACTOR, CERTAIN_PROBABILITY - directHitProbability);
+        addRandomlyScaledValues(distribution, strengthFactor * DIRECT_HIT_FACTOR * sameElementFactor
+                * NORMALISATION_FACTOR, directHitProbability);
+        return distribution;
+    }
+
+    //the value scale * r rounds up to n for r in (n - 1, n] / scale, r being uniform within the random factor borders
+    private static void addRandomlyScaledValues(NavigableMap<Integer, Double> distribution, double scale,
+                                                double probability) {
+        if (probability <= NO_PROBABILITY) {
+            return;
+        }
+        if (scale <= NO_STRENGTH) {
+            distribution.merge((int) Math.ceil(scale), probability, Double::sum);
+            return;
+        }
+        double randomFactorRange = UPPER_THRESHOLD_RANDOM_FACTOR - BOTTOM_THRESHOLD_RANDOM_FACTOR;
+        int lowestValue = (int) Math.ceil(scale * BOTTOM_THRESHOLD_RANDOM_FACTOR);
+        int highestValue = (int) Math.ceil(scale * UPPER_THRESHOLD_RANDOM_FACTOR);
+        for (int value = lowestValue; value <= highestValue; value++) {
+            double lowerFactor = Math.max(BOTTOM_THRESHOLD_RANDOM_FACTOR, (value - PREVIOUS_VALUE_OFFSET) / scale);
+            double upperFactor = Math.min(UPPER_THRESHOLD_RANDOM_FACTOR, value / scale);
+            if (upperFactor > lowerFactor) {
+                distribution.merge(value, probability * (upperFactor - lowerFactor) / randomFactorRange, Double::sum);
+            }
+        }
+    }
+
+    /**
+     * Inflicts a strength value on the monster this effect is used on, like a successful silent execution with this
+     * value does, but without recording any events.
+     * @param user the monster that uses this effect
+     * @param possibleTarget the monster on which the effect is to be used, ignored if the effect doesn't need a target
+     * @param strengthValue the rounded up strength value to inflict
+     */
+    public abstract void inflictStrengthValue(Monster user, Monster possibleTarget, int strengthValue);
+
     /**
      * Calculates strength value of this effect if the type is BASE.
      * @param user the monster that uses this effect
@@ -129,6 +209,60 @@ protected Optional<Double> calcStrengthValue(Monster user, Monster target, Rando
         }
     }
 
+    /**
+     * Calculates strength value of this effect like {@link #calcStrengthValue(Monster, Monster, Randomizer)} does,
+     * but draws the values without wrapping them and records a critical hit into the event buffer.
+     * @param user the monster that uses this effect
+     * @param target the monster on which the effect is to be used
+     * @param randomizer the randomizer that gets the values, must not be in debug mode
+     * @param events the buffer to record a critical hit into
+     * @return damage/healing to be inflicted
+     */
+    protected double calcStrengthValueSilently(Monster user, Monster target, Randomizer randomizer,
+                                               BattleEventBuffer events) {
+        if (this.strengthType.equals(StrengthType.BASE)) {
+            double elementalFactor = Element.getEffectivenessGrade(this.element, target.element);
+
+            double statFactor = user.getStatisticEffectiveValue(StatisticOfMonster.ATK)
+                    / target.getStatisticEffectiveValue(StatisticOfMonster.DEF);
+
+            boolean isDirectHit = randomizer.nextSuccess(Math.pow(DIRECT_HIT_MODIFIER,
+                    -(target.getStatisticEffectiveValue(StatisticOfMonster.SPD) / user.getStatisticEffectiveValue(StatisticOfMonster.SPD)))
+                    * MAX_PERCENTAGE_RATE);
+            if (isDirectHit) {
+                events.add(BattleEventType.CRITICAL_HIT, target.getSlot());
+            }
+            double directHitFactor = isDirectHit ? DIRECT_HIT_FACTOR : DEFAULT_MULTIPLICATION_FACTOR;
+            double sameElementFactor = element.equals(user.element)
+                    ? SAME_ELEMENT_FACTOR : DEFAULT_MULTIPLICATION_FACTOR;
+            double randomFactor = randomizer.nextDouble(BOTTOM_THRESHOLD_RANDOM_FACTOR, UPPER_THRESHOLD_RANDOM_FACTOR);
+            return strength * elementalFactor * statFactor * directHitFactor
+                    * sameElementFactor * randomFactor * NORMALISATION_FACTOR;
+        } else {
+            return this.strengthType.equals(StrengthType.REL)
+                    ? target.getBaseHPValue() * this.strength / UPPER_THRESHOLD_RELATIVE_STRENGTH_VALUE
+                    : this.strength;
+        }
+    }
+
+    /**
+     * Records the effectiveness of this effect against the target, if the effect is the first strength defined one
+     * of its action and the effectiveness is worth a message.
+     * @param target the monster on which the effect is used
+     * @param isFirstStrengthEffect indicates if this effect is the first strength defined effect in its action
+     * @param events the buffer to record the effectiveness into
+     */
+    protected void addEffectivenessEvent(Monster target, boolean isFirstStrengthEffect, BattleEventBuffer events) {
+        if (this.strengthType != StrengthType.BASE || !isFirstStrengthEffect) {
+            return;
+        }
+        Effectiveness effectiveness = Element.getEffectiveness(this.element, target.element);
+        if (effectiveness == Effectiveness.NOT_VERY_EFFECTIVE) {
+            events.add(BattleEventType.NOT_VERY_EFFECTIVE, target.getSlot());
+        } else if (effectiveness == Effectiveness.VERY_EFFECTIVE) {
+            events.add(BattleEventType.VERY_EFFECTIVE, target.getSlot());
+        }
+    }
 
     private Optional<Double> calcDirectHitFactor(Monster user, Monster target, Randomizer randomizer) {
         Optional<Boolean> isDirectHit = randomizer.getSuccessOrFail(Math.pow(DIRECT_HIT_MODIFIER,
@@ -137,22 +271,83 @@ private Optional<Double> calcDirectHitFactor(Monster user, Monster target, Rando
         if (isDirectHit.isEmpty()) {
             return Optional.empty();
         }
-        this.directHitMessage = isDirectHit.get() ? DIRECT_HIT_MESSAGE : this.directHitMessage;
+        this.isDirectHitUnannounced = isDirectHit.get() || this.isDirectHitUnannounced;
         return Optional.of(isDirectHit.get() ? ((double) DIRECT_HIT_FACTOR) : ((double) DEFAULT_MULTIPLICATION_FACTOR));
     }
 
+    @Override
+    public void resetExecution() {
+        this.isDirectHitUnannounced = false;
+    }
+
+    /**
+     * Adds the event of a critical hit without consuming it. Used while the execution of this effect pauses for a
+     * value decided by the user, as the effect is executed again with the same critical hit once the value is set.
+     * @param target the monster on which the effect is used
+     * @param events the events to add the critical hit to, if one was done
+     */
+    protected void peekCriticalHitEvent(Monster target, List<BattleEvent> events) {
+        if (this.isDirectHitUnannounced) {
+            events.add(new BattleEvent.CriticalHit(target.getName()));
+        }
+    }
+
+    /**
+     * Adds the event of a critical hit and consumes it, so it is not announced again.
+     * @param target the monster on which the effect is used
+     * @param events the events to add the critical hit to, if one was done
+     */
+    protected void addCriticalHitEvent(Monster target, List<BattleEvent> events) {
+        peekCriticalHitEvent(target, events);
+        this.isDirectHitUnannounced = false;
+    }
+
+    /**
+     * Adds the event announcing the effectiveness of this effect against the target, if this effect is the first
+     * strength defined one of its action and the effectiveness is worth a message.
+     * @param target the monster on which the effect is used
+     * @param isFirstStrengthEffect indicates if this effect is the first strength defined effect in its action
+     * @param events the events to add the effectiveness to
+     */
+    protected void addEffectivenessEvent(Monster target, boolean isFirstStrengthEffect, List<BattleEvent> events) {
+        Effectiveness effectiveness = Element.getEffectiveness(this.element, target.element);
+        if (this.strengthType == StrengthType.BASE && isFirstStrengthEffect && effectiveness.isAnnounced()) {
+            events.add(new BattleEvent.EffectivenessAnnounced(target.getName(), effectiveness));
+        }
+    }
+
+    /**
+     * Adds the events that are placed while the execution of this effect pauses for its critical hit or random
+     * factor: the effectiveness before the critical hit is decided, the critical hit before the random factor is.
+     * @param target the monster on which the effect is used
+     * @param isFirstStrengthEffect indicates if this effect is the first strength defined effect in its action
+     * @param randomizer the randomizer waiting for the value
+     * @return the events to place
+     */
+    protected List<BattleEvent> givePausedEvents(Monster target, boolean isFirstStrengthEffect, Randomizer randomizer) {
+        List<BattleEvent> events = new ArrayList<>();
+        if (randomizer.expectedValueType() == DebugType.DOUBLE) {
+            peekCriticalHitEvent(target, events);
+        } else {
+            addEffectivenessEvent(target, isFirstStrengthEffect, events);
+        }
+        return events;
+    }
+
     /**
-     * This method returns a message if the grade of the effectiveness can be represented with this message.
-     * @param effectivenessGrade value of the grade
-     * @return the message if the grade corresponds a possible effectiveness message, otherwise an empty String
+     * Adds the effectiveness and critical hit events of a completed execution. In debug mode they were already placed
+     * while the execution paused, so nothing is added.
+     * @param target the monster on which the effect is used
+     * @param isFirstStrengthEffect indicates if this effect is the first strength defined effect in its action
+     * @param randomizer the randomizer of the execution
+     * @param events the events to add to
      */
-    protected static String getEffectivenessMessage(double effectivenessGrade) {
-        if (effectivenessGrade == NOT_EFFECTIVE_VALUE) {
-            return NOT_EFFECTIVE_AGAINST_MONSTER;
-        } else if (effectivenessGrade == VERY_EFFECTIVE_VALUE) {
-            return EFFECTIVE_AGAINST_MONSTER;
+    protected void addCompletedStrengthEvents(Monster target, boolean isFirstStrengthEffect, Randomizer randomizer,
+                                              List<BattleEvent> events) {
+        if (!randomizer.isDebugOn()) {
+            addEffectivenessEvent(target, isFirstStrengthEffect, events);
+            addCriticalHitEvent(target, events);
         }
-        return "";
     }
 
 }
@@ -0,0 +1,416 @@
+package edu.kit.kastel.objects.monsters;
+
+import edu.kit.kastel.objects.actions.StatusCondition;
+
+import java.util.Arrays;
+
+/**
+ * Represents the mutable state of all monsters taking part in a competition, stored as flat arrays indexed by the slot
+ * of a monster. {@link Monster} instances are views on one slot, so a round only touches these arrays and monsters never
+ * need to be copied during a competition. The effective values of the statistics are cached per slot and only
+ * calculated again once an offset, a base value or the status condition of the slot changed. Every change also updates
+ * a Zobrist hash of all values, so searches can recognize a state they reached before in constant time.
+ * @author upgcv
+ */
+public final class BattleState {
+    private static final int STATISTICS_PER_MONSTER = StatisticOfMonster.values().length;
+    private static final int NO_CACHED_STATISTICS = 0;
+    private static final int CACHED_FLAG = 1;
+    private static final long TRUE_VALUE = 1;
+    private static final long FALSE_VALUE = 0;
+    private static final long NO_HASH = 0;
+    private static final int CYCLE_START_INDEX = 0;
+
+    private final int size;
+    private final int[] healthPoints;
+    private final int[] baseHealthPoints;
+    private final int[] baseStatistics;
+    private final int[] statisticOffsets;
+    private final int[] protectionDurations;
+    private final boolean[] healthProtected;
+    private final boolean[] statisticsProtected;
+    private final boolean[] dead;
+    private final StatusCondition[] statusConditions;
+    private final double[] effectiveStatistics;
+    private final int[] cachedStatistics;
+    private long zobristHash;
+
+    /**
+     * Creates a new battle state with the given number of empty slots.
+     * @param size number of monsters the state can hold
+     */
+    public BattleState(int size) {
+        this.size = size;
+        this.healthPoints = new int[size];
+        this.baseHealthPoints = new int[size];
+        this.baseStatistics = new int[size * STATISTICS_PER_MONSTER];
+        this.statisticOffsets = new int[size * STATISTICS_PER_MONSTER];
+        this.protectionDurations = new int[size];
+        this.healthProtected = new boolean[size];
+        this.statisticsProtected = new boolean[size];
+        this.dead = new boolean[size];
+        this.statusConditions = new StatusCondition[size];
+        Arrays.fill(this.statusConditions, StatusCondition.OK);
+        this.effectiveStatistics = new double[size * STATISTICS_PER_MONSTER];
+        this.cachedStatistics = new int[size];
+        this.zobristHash = NO_HASH;
+        for (int slot = CYCLE_START_INDEX; slot < size; slot++) {
+            this.zobristHash ^= hashSlot(slot);
+        }
+    }
+
+    private BattleState(BattleState oldState) {
+        this.size = oldState.size;
+        this.healthPoints = oldState.healthPoints.clone();
+        this.baseHealthPoints = oldState.baseHealthPoints.clone();
+        this.baseStatistics = oldState.baseStatistics.clone();
+        this.statisticOffsets = oldState.statisticOffsets.clone();
+        this.protectionDurations = oldState.protectionDurations.clone();
+        this.healthProtected = oldState.healthProtected.clone();
+        this.statisticsProtected = oldState.statisticsProtected.clone();
+        this.dead = oldState.dead.clone();
+        this.statusConditions = oldState.statusConditions.clone();
+        this.effectiveStatistics = oldState.effectiveStatistics.clone();
+        this.cachedStatistics = oldState.cachedStatistics.clone();
+        this.zobristHash = oldState.zobristHash;
+    }
+
+    /**
+     * Gets the number of slots of this state.
+     * @return the number of monsters the state can hold
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Copies the whole state of a slot of another battle state into a slot of this one.
+     * @param source the state to copy from
+     * @param sourceSlot the slot to copy from
+     * @param targetSlot the slot of this state to copy to
+     */
+    public void copySlot(BattleState source, int sourceSlot, int targetSlot) {
+        this.zobristHash ^= hashSlot(targetSlot);
+        this.healthPoints[targetSlot] = source.healthPoints[sourceSlot];
+        this.baseHealthPoints[targetSlot] = source.baseHealthPoints[sourceSlot];
+        System.arraycopy(source.baseStatistics, sourceSlot * STATISTICS_PER_MONSTER,
+                this.baseStatistics, targetSlot * STATISTICS_PER_MONSTER, STATISTICS_PER_MONSTER);
+        System.arraycopy(source.statisticOffsets, sourceSlot * STATISTICS_PER_MONSTER,
+                this.statisticOffsets, targetSlot * STATISTICS_PER_MONSTER, STATISTICS_PER_MONSTER);
+        this.protectionDurations[targetSlot] = source.protectionDurations[sourceSlot];
+        this.healthProtected[targetSlot] = source.healthProtected[sourceSlot];
+        this.statisticsProtected[targetSlot] = source.statisticsProtected[sourceSlot];
+        this.dead[targetSlot] = source.dead[sourceSlot];
+        this.statusConditions[targetSlot] = source.statusConditions[sourceSlot];
+        System.arraycopy(source.effectiveStatistics, sourceSlot * STATISTICS_PER_MONSTER,
+                this.effectiveStatistics, targetSlot * STATISTICS_PER_MONSTER, STATISTICS_PER_MONSTER);
+        this.cachedStatistics[targetSlot] = source.cachedStatistics[sourceSlot];
+        this.zobristHash ^= hashSlot(targetSlot);
+    }
+
+    /**
+     * Creates a copy of this state, which only copies the arrays.
+     * @return a new, independent battle state with the same values
+     */
+    public BattleState copy() {
+        return new BattleState(this);
+    }
+
+    /**
+     * Checks whether another object is a battle state holding the same values in all of its slots. The cached
+     * effective values are not compared, as they only depend on the other values.
+     * @param other the object to compare with
+     * @return true if the object is an equal battle state, false otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof BattleState otherState)) {
+            return false;
+        }
+        return this.size == otherState.size
+                && Arrays.equals(this.healthPoints, otherState.healthPoints)
+                && Arrays.equals(this.baseHealthPoints, otherState.baseHealthPoints)
+                && Arrays.equals(this.baseStatistics, otherState.baseStatistics)
+                && Arrays.equals(this.statisticOffsets, otherState.statisticOffsets)
+                && Arrays.equals(this.protectionDurations, otherState.protectionDurations)
+                && Arrays.equals(this.healthProtected, otherState.healthProtected)
+                && Arrays.equals(this.statisticsProtected, otherState.statisticsProtected)
+                && Arrays.equals(this.dead, otherState.dead)
+                && Arrays.equals(this.statusConditions, otherState.statusConditions);
+    }
+
+    /**
+     * Gets a hash code from the values of all slots, consistent with {@link #equals(Object)}, without computing it.
+     * @return the hash code of this state
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.zobristHash);
+    }
+
+    /**
+     * Gets the Zobrist hash of the values of all slots, which is kept up to date by every change. Equal states have
+     * equal hashes, no matter in which order their values were changed, and different states almost never do.
+     * @return the 64-bit hash of this state
+     */
+    public long getZobristHash() {
+        return this.zobristHash;
+    }
+
+    /**
+     * Sets the base health points of a slot and fully heals it.
+     * @param slot the slot of the monster
+     * @param value the base health points
+     */
+    public void initializeHealthPoints(int slot, int value) {
+        rehash(slot, ZobristField.BASE_HEALTH_POINTS, this.baseHealthPoints[slot], value);
+        rehash(slot, ZobristField.HEALTH_POINTS, this.healthPoints[slot], value);
+        this.baseHealthPoints[slot] = value;
+        this.healthPoints[slot] = value;
+    }
+
+    /**
+     * Gets the current health points of a slot, which may be negative after a monster fainted.
+     * @param slot the slot of the monster
+     * @return the current health points
+     */
+    public int getHealthPoints(int slot) {
+        return this.healthPoints[slot];
+    }
+
+    /**
+     * Sets the current health points of a slot.
+     * @param slot the slot of the monster
+     * @param value the new health points
+     */
+    public void setHealthPoints(int slot, int value) {
+        rehash(slot, ZobristField.HEALTH_POINTS, this.healthPoints[slot], value);
+        this.healthPoints[slot] = value;
+    }
+
+    /**
+     * Gets the base health points of a slot.
+     * @param slot the slot of the monster
+     * @return the base health points
+     */
+    public int getBaseHealthPoints(int slot) {
+        return this.baseHealthPoints[slot];
+    }
+
+    /**
+     * Gets the base value of a statistic of a slot.
+     * @param slot the slot of the monster
+     * @param statistic the statistic to get
+     * @return the base value
+     */
+    public int getBaseStatistic(int slot, StatisticOfMonster statistic) {
+        return this.baseStatistics[slot * STATISTICS_PER_MONSTER + statistic.ordinal()];
+    }
+
+    /**
+     * Sets the base value of a statistic of a slot.
+     * @param slot the slot of the monster
+     * @param statistic the statistic to set
+     * @param value the base value
+     */
+    public void setBaseStatistic(int slot, StatisticOfMonster statistic, int value) {
+        rehash(slot, ZobristField.BASE_STATISTIC, statistic, getBaseStatistic(slot, statistic), value);
+        this.baseStatistics[slot * STATISTICS_PER_MONSTER + statistic.ordinal()] = value;
+        invalidateEffectiveStatistic(slot, statistic);
+    }
+
+    /**
+     * Gets the offset of a statistic of a slot.
+     * @param slot the slot of the monster
+     * @param statistic the statistic to get
+     * @return the offset value
+     */
+    public int getStatisticOffset(int slot, StatisticOfMonster statistic) {
+        return this.statisticOffsets[slot * STATISTICS_PER_MONSTER + statistic.ordinal()];
+    }
+
+    /**
+     * Sets the offset of a statistic of a slot.
+     * @param slot the slot of the monster
+     * @param statistic the statistic to set
+     * @param value the new offset value
+     */
+    public void setStatisticOffset(int slot, StatisticOfMonster statistic, int value) {
+        rehash(slot, ZobristField.STATISTIC_OFFSET, statistic, getStatisticOffset(slot, statistic), value);
+        this.statisticOffsets[slot * STATISTICS_PER_MONSTER + statistic.ordinal()] = value;
+        invalidateEffectiveStatistic(slot, statistic);
+    }
+
+    /**
+     * Checks whether the effective value of a statistic of a slot is cached and still valid.
+     * @param slot the slot of the monster
+     * @param statistic the statistic to check
+     * @return true if the cached value can be used, false if it has to be calculated again
+     */
+    public boolean isEffectiveStatisticCached(int slot, StatisticOfMonster statistic) {
+        return (this.cachedStatistics[slot] & flagOf(statistic)) != NO_CACHED_STATISTICS;
+    }
+
+    /**
+     * Gets the cached effective value of a statistic of a slot, only valid if
+     * {@link #isEffectiveStatisticCached(int, StatisticOfMonster)} holds.
+     * @param slot the slot of the monster
+     * @param statistic the statistic to get
+     * @return the cached effective value
+     */
+    public double getCachedEffectiveStatistic(int slot, StatisticOfMonster statistic) {
+        return this.effectiveStatistics[slot * STATISTICS_PER_MONSTER + statistic.ordinal()];
+    }
+
+    /**
+     * Caches the effective value of a statistic of a slot until its offset, base value or the status condition of
+     * the slot changes.
+     * @param slot the slot of the monster
+     * @param statistic the statistic to cache
+     * @param value the effective value
+     */
+    public void cacheEffectiveStatistic(int slot, StatisticOfMonster statistic, double value) {
+        this.effectiveStatistics[slot * STATISTICS_PER_MONSTER + statistic.ordinal()] = value;
+        this.cachedStatistics[slot] |= flagOf(statistic);
+    }
+
+    /**
+     * Checks whether the health points of a slot are protected.
+     * @param slot the slot of the monster
+     * @return true if the monster takes no damage from others, false otherwise
+     */
+    public boolean isHealthProtected(int slot) {
+        return this.healthProtected[slot];
+    }
+
+    /**
+     * Sets whether the health points of a slot are protected.
+     * @param slot the slot of the monster
+     * @param isProtected the new protection flag
+     */
+    public void setHealthProtected(int slot, boolean isProtected) {
+        rehash(slot, ZobristField.HEALTH_PROTECTED, valueOf(this.healthProtected[slot]), valueOf(isProtected));
+        this.healthProtected[slot] = isProtected;
+    }
+
+    /**
+     * Checks whether the statistics of a slot are protected.
+     * @param slot the slot of the monster
+     * @return true if others cannot decrease the statistics of the monster, false otherwise
+     */
+    public boolean isStatisticsProtected(int slot) {
+        return this.statisticsProtected[slot];
+    }
+
+    /**
+     * Sets whether the statistics of a slot are protected.
+     * @param slot the slot of the monster
+     * @param isProtected the new protection flag
+     */
+    public void setStatisticsProtected(int slot, boolean isProtected) {
+        rehash(slot, ZobristField.STATISTICS_PROTECTED, valueOf(this.statisticsProtected[slot]), valueOf(isProtected));
+        this.statisticsProtected[slot] = isProtected;
+    }
+
+    /**
+     * Gets the number of rounds the protection of a slot lasts.
+     * @param slot the slot of the monster
+     * @return the remaining protection duration
+     */
+    public int getProtectionDuration(int slot) {
+        return this.protectionDurations[slot];
+    }
+
+    /**
+     * Sets the number of rounds the protection of a slot lasts.
+     * @param slot the slot of the monster
+     * @param duration the new protection duration
+     */
+    public void setProtectionDuration(int slot, int duration) {
+        rehash(slot, ZobristField.PROTECTION_DURATION, this.protectionDurations[slot], duration);
+        this.protectionDurations[slot] = duration;
+    }
+
+    /**
+     * Checks whether the monster of a slot has fainted.
+     * @param slot the slot of the monster
+     * @return true if the monster is dead, false otherwise
+     */
+    public boolean isDead(int slot) {
+        return this.dead[slot];
+    }
+
+    /**
+     * Sets whether the monster of a slot has fainted.
+     * @param slot the slot of the monster
+     * @param isDead the new flag
+     */
+    public void setDead(int slot, boolean isDead) {
+        rehash(slot, ZobristField.DEAD, valueOf(this.dead[slot]), valueOf(isDead));
+        this.dead[slot] = isDead;
+    }
+
+    /**
+     * Gets the status condition of a slot.
+     * @param slot the slot of the monster
+     * @return the current status condition
+     */
+    public StatusCondition getStatusCondition(int slot) {
+        return this.statusConditions[slot];
+    }
+
+    /**
+     * Sets the status condition of a slot.
+     * @param slot the slot of the monster
+     * @param condition the new status condition
+     */
+    public void setStatusCondition(int slot, StatusCondition condition) {
+        if (this.statusConditions[slot] != condition) {
+            rehash(slot, ZobristField.STATUS_CONDITION, this.statusConditions[slot].ordinal(), condition.ordinal());
+            this.statusConditions[slot] = condition;
+            this.cachedStatistics[slot] = NO_CACHED_STATISTICS;
+        }
+    }
+
+    //exchanges the key of the old value for the key of the new one, an unchanged value keeps the hash
+    private void rehash(int slot, ZobristField field, long oldValue, long newValue) {
+        this.zobristHash ^= ZobristKeys.keyOf(slot, field, oldValue) ^ ZobristKeys.keyOf(slot, field, newValue);
+    }
+
+    private void rehash(int slot, ZobristField field, StatisticOfMonster statistic, long oldValue, long newValue) {
+        this.zobristHash ^= ZobristKeys.keyOf(slot, field, statistic, oldValue)
+                ^ ZobristKeys.keyOf(slot, field, statistic, newValue);
+    }
+
+    //the exclusive or of the keys of all values of a slot, the cached effective values are left out
+    private long hashSlot(int slot) {
+        long hash = ZobristKeys.keyOf(slot, ZobristField.HEALTH_POINTS, this.healthPoints[slot])
+                ^ ZobristKeys.keyOf(slot, ZobristField.BASE_HEALTH_POINTS, this.baseHealthPoints[slot])
+                ^ ZobristKeys.keyOf(slot, ZobristField.PROTECTION_DURATION, this.protectionDurations[slot])
+                ^ ZobristKeys.keyOf(slot, ZobristField.HEALTH_PROTECTED, valueOf(this.healthProtected[slot]))
+                ^ ZobristKeys.keyOf(slot, ZobristField.STATISTICS_PROTECTED, valueOf(this.statisticsProtected[slot]))
+                ^ ZobristKeys.keyOf(slot, ZobristField.DEAD, valueOf(this.dead[slot]))
+                ^ ZobristKeys.keyOf(slot, ZobristField.STATUS_CONDITION, this.statusConditions[slot].ordinal());
+        for (StatisticOfMonster statistic : StatisticOfMonster.values()) {
+            hash ^= ZobristKeys.keyOf(slot, ZobristField.BASE_STATISTIC, statistic, getBaseStatistic(slot, statistic))
+                    ^ ZobristKeys.keyOf(slot, ZobristField.STATISTIC_OFFSET, statistic,
+                    getStatisticOffset(slot, statistic));
+        }
+        return hash;
+    }
+
+    private static long valueOf(boolean flag) {
+        return flag ? TRUE_VALUE : FALSE_VALUE;
+    }
+
+    private void invalidateEffectiveStatistic(int slot, StatisticOfMonster statistic) {
+        this.cachedStatistics[slot] &= ~flagOf(statistic);
+    }
+
+    private static int flagOf(StatisticOfMonster statistic) {
+        return CACHED_FLAG << statistic.ordinal();
+    }
+}
@@ -4,13 +4,19 @@
 import edu.kit.kastel.commands.ResultType;
 import edu.kit.kastel.logistics.DebugType;
 import edu.kit.kastel.logistics.Randomizer;
+import edu.kit.kastel.logistics.events.BattleEvent;
+import edu.kit.kastel.logistics.events.BattleEventBuffer;
+import edu.kit.kastel.logistics.events.BattleEventRenderer;
+import edu.kit.kastel.logistics.events.BattleEventType;
 import edu.kit.kastel.objects.Element;
 import edu.kit.kastel.objects.actions.Action;
+import edu.kit.kastel.objects.actions.ActionTemplate;
 import edu.kit.kastel.objects.actions.StatusCondition;
 import edu.kit.kastel.objects.monsters.stats.HealthPoints;
 import edu.kit.kastel.objects.monsters.stats.Statistic;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
@@ -26,8 +32,6 @@
 public class Monster {
     private static final String DEBUG_STATE_CHECK_NAME = "end %s condition";
     private static final String IS_DEAD_STATUS = "FAINTED";
-    private static final String STAT_SET_PROTECTED_MESSAGE = "%s is now protected against status changes!";
-    private static final String STAT_SET_UNPROTECTED_MESSAGE = "%s's protection fades away...";
     private static final String SHOW_SELF_MESSAGE = "%s: ELEMENT %s, HP %d, ATK %d, DEF %d, SPD %d";
     private static final String SHOW_STATISTICS_MESSAGE = "STATS OF %s";
     private static final String SHOW_ACTIONS_MESSAGE = "ACTIONS OF %s";
@@ -46,134 +50,192 @@ public class Monster {
     private static final int NO_PROTECTION_LEFT = 0;
     private static final int NO_NUMBER_ASSIGNED = 0;
     private static final int DECREMENT_DURATION = 1;
+    private static final int SINGLE_MONSTER_STATE_SIZE = 1;
+    private static final int SINGLE_MONSTER_SLOT = 0;
     private static final double END_CONDITION_CHANCE = 1.0 / 3.0 * 100.0;
+    private static final StatisticOfMonster[] STATISTICS = StatisticOfMonster.values();
 
     /**
      * Element of this monster.
      */
     public final Element element;
     private final String name;
+    private final BattleState state;
+    private final int slot;
     private final HealthPoints healthPoints;
     private final Map<StatisticOfMonster, Statistic> statistics;
-    private final Map<String, Action> actions;
+    private final Map<String, ActionTemplate> actions;
     private final List<String> actionNames;
-    private boolean isDead;
     private int monsterNumber;
-    private int protectionDuration;
-    private StatusCondition statusCondition;
-    /**
-     * Constructs a new Monster with the specified attributes.
-     * @param name the name of the monster
-     * @param element the elemental type of the monster
-     * @param healthPoints the initial health points
-     * @param attack the attack statistic
-     * @param defence the defense statistic
-     * @param speed the speed statistic
-     */
-    public Monster(String name, Element element, int healthPoints, int attack, int defence, int speed) {
-        this.name = name;
-        this.element = element;
-        this.isDead = false;
-        this.protectionDuration = NO_PROTECTION_LEFT;
-        this.statusCondition = StatusCondition.OK;
-        this.healthPoints = new HealthPoints(healthPoints, name);
-        this.statistics = new EnumMap<>(StatisticOfMonster.class);
-        this.statistics.put(StatisticOfMonster.ATK, new Statistic(StatisticOfMonster.ATK, attack, B_MODIFIER_FOR_ATK_DEF_SPD, name));
-        this.statistics.put(StatisticOfMonster.DEF, new Statistic(StatisticOfMonster.DEF, defence, B_MODIFIER_FOR_ATK_DEF_SPD, name));
-        this.statistics.put(StatisticOfMonster.SPD, new Statistic(StatisticOfMonster.SPD, speed, B_MODIFIER_FOR_ATK_DEF_SPD, name));
-        this.statistics.put(StatisticOfMonster.PRC,
-                new Statistic(StatisticOfMonster.PRC, DEFAULT_PRC_AGL_VALUE, B_MODIFIER_FOR_PRC_AGL, name));
-        this.statistics.put(StatisticOfMonster.AGL,
-                new Statistic(StatisticOfMonster.AGL, DEFAULT_PRC_AGL_VALUE, B_MODIFIER_FOR_PRC_AGL, name));
-        this.actions = new HashMap<>();
-        this.actionNames = new ArrayList<>();
-    }
-    //creates a new monster with deep copies of all properties of the input monster
-    private Monster(Monster monster) {
+    /**
+     * Constructs a new Monster with the attributes and actions of its definition. The monster gets a battle state of
+     * its own.
+     * @param template the definition of the monster
+     */
+    public Monster(MonsterTemplate template) {
+        this.name = template.name();
+        this.element = template.element();
+        this.state = new BattleState(SINGLE_MONSTER_STATE_SIZE);
+        this.slot = SINGLE_MONSTER_SLOT;
+        this.state.initializeHealthPoints(this.slot, template.healthPoints());
+        this.state.setBaseStatistic(this.slot, StatisticOfMonster.ATK, template.attack());
+        this.state.setBaseStatistic(this.slot, StatisticOfMonster.DEF, template.defence());
+        this.state.setBaseStatistic(this.slot, StatisticOfMonster.SPD, template.speed());
+        this.state.setBaseStatistic(this.slot, StatisticOfMonster.PRC, DEFAULT_PRC_AGL_VALUE);
+        this.state.setBaseStatistic(this.slot, StatisticOfMonster.AGL, DEFAULT_PRC_AGL_VALUE);
+        this.healthPoints = new HealthPoints(this.state, this.slot, this.name);
+        this.statistics = createStatistics();
+        Map<String, ActionTemplate> actionsOfTemplate = new HashMap<>();
+        List<String> actionNamesOfTemplate = new ArrayList<>();
+        for (ActionTemplate action : template.actions()) {
+            actionsOfTemplate.put(action.getName(), action);
+            actionNamesOfTemplate.add(action.getName());
+        }
+        this.actions = Collections.unmodifiableMap(actionsOfTemplate);
+        this.actionNames = Collections.unmodifiableList(actionNamesOfTemplate);
+    }
+    //creates a new monster on the given slot holding a copy of the state of the input monster, the immutable action
+    //definitions are shared
+    private Monster(Monster monster, BattleState state, int slot) {
         this.name = monster.name;
         this.element = monster.element;
         this.monsterNumber = monster.monsterNumber;
-        this.isDead = monster.isDead;
-        this.statusCondition = monster.statusCondition;
-        this.healthPoints = monster.healthPoints.copy();
-        this.protectionDuration = monster.protectionDuration;
-        this.actions = new HashMap<>();
-        this.actionNames = new ArrayList<>();
-        for (String actionName : monster.actionNames) {
-            this.actionNames.add(actionName);
-            this.actions.put(actionName, monster.actions.get(actionName).copy());
-        }
-        this.statistics = new HashMap<>();
+        this.state = state;
+        this.slot = slot;
+        this.state.copySlot(monster.state, monster.slot, slot);
+        this.healthPoints = new HealthPoints(this.state, this.slot, getName());
+        this.statistics = createStatistics();
+        this.actions = monster.actions;
+        this.actionNames = monster.actionNames;
+    }
+    private Map<StatisticOfMonster, Statistic> createStatistics() {
+        Map<StatisticOfMonster, Statistic> statisticsOfMonster = new EnumMap<>(StatisticOfMonster.class);
         for (StatisticOfMonster stat : StatisticOfMonster.values()) {
-            this.statistics.put(stat, monster.statistics.get(stat).copy());
+            int bModifier = stat == StatisticOfMonster.PRC || stat == StatisticOfMonster.AGL
+                    ? B_MODIFIER_FOR_PRC_AGL : B_MODIFIER_FOR_ATK_DEF_SPD;
+            statisticsOfMonster.put(stat, new Statistic(stat, bModifier, this.state, this.slot, getName()));
         }
+        return statisticsOfMonster;
+    }
+    /**
+     * Creates a monster with the same properties working on a slot of the given battle state. The current state of
+     * this monster is copied into the slot once, afterward the new monster only changes the battle state.
+     * @param battleState the battle state, usually shared by all monsters of a competition
+     * @param battleSlot the slot of the battle state the new monster works on
+     * @return a new monster working on the given slot
+     */
+    public Monster bindTo(BattleState battleState, int battleSlot) {
+        return new Monster(this, battleState, battleSlot);
     }
     /**
      * Retrieves an action by its name.
      * @param actionName the name of the action
-     * @return the corresponding Action object
+     * @return a new executable Action object of the corresponding definition
      */
     public Action getAction(String actionName) {
-        return this.actions.get(actionName).copy();
+        return this.actions.get(actionName).instantiate();
     }
     /**
-     * Gets the effective value of a given statistic, considering status conditions.
+     * Retrieves the definition of an action of this monster by its name.
+     * @param actionName the name of the action
+     * @return the definition of the action, or null if the monster does not have such an action
+     */
+    public ActionTemplate getActionTemplate(String actionName) {
+        return this.actions.get(actionName);
+    }
+    /**
+     * Retrieves the names of all actions of this monster in the order they were defined.
+     * @return an unmodifiable list containing the names of the monster's actions
+     */
+    public List<String> getActionNames() {
+        return this.actionNames;
+    }
+    /**
+     * Gets the effective value of a given statistic, considering status conditions. The value is cached in the battle
+     * state until the statistic or the status condition changes.
      * @param statisticToGet the statistic to retrieve
      * @return the effective value of the statistic
      */
     public double getStatisticEffectiveValue(StatisticOfMonster statisticToGet) {
-        return this.statistics.get(statisticToGet).getEffectiveValue()
-                * this.statusCondition.getStatisticReducingFactor(statisticToGet);
+        if (this.state.isEffectiveStatisticCached(this.slot, statisticToGet)) {
+            return this.state.getCachedEffectiveStatistic(this.slot, statisticToGet);
+        }
+        double effectiveValue = this.statistics.get(statisticToGet).getEffectiveValue()
+                * getMonsterStatus().getStatisticReducingFactor(statisticToGet);
+        this.state.cacheEffectiveStatistic(this.slot, statisticToGet, effectiveValue);
+        return effectiveValue;
+    }
+    /**
+     * Writes the effective values of all statistics into an array, so loops over many monsters can reuse one array.
+     * @param destination array of at least the number of statistics, indexed by the ordinal of the statistics
+     * @return the given array
+     */
+    public double[] getEffectiveStatistics(double[] destination) {
+        for (StatisticOfMonster stat : STATISTICS) {
+            destination[stat.ordinal()] = getStatisticEffectiveValue(stat);
+        }
+        return destination;
     }
     /**
      * Changes the offset value of a statistic.
      * @param statisticToChange the statistic to modify
      * @param offsetValue the offset value to apply
      * @param isSelfCast whether the change is self-inflicted
-     * @param isFirstDebugExecution indicates if this method is being executed for the first time during this turn, while
-     *     the {@link edu.kit.kastel.logistics.Competition} is being debugged
-     * @return the result of the operation containing possible message
+     * @return the result of the operation carrying the event to display
      */
-    public Result changeStatisticOffsetValue(StatisticOfMonster statisticToChange, int offsetValue, boolean isSelfCast,
-                                             boolean isFirstDebugExecution) {
-        return this.statistics.get(statisticToChange).changeValueOffset(offsetValue, isSelfCast, isFirstDebugExecution);
+    public Result changeStatisticOffsetValue(StatisticOfMonster statisticToChange, int offsetValue, boolean isSelfCast) {
+        return this.statistics.get(statisticToChange).changeValueOffset(offsetValue, isSelfCast);
     }
     /**
      * Retrieves the current status condition of the monster.
      * @return the monster's current status condition
      */
     public StatusCondition getMonsterStatus() {
-        return this.statusCondition;
+        return this.state.getStatusCondition(this.slot);
     }
     /**
      * Checks if the monster is dead.
      * @return true if the monster is dead, false otherwise
      */
     public boolean isDead() {
-        return this.isDead;
+        return this.state.isDead(this.slot);
     }
     /**
      * Deals damage to the monster.
      * @param damage the amount of damage
      * @param isSelfCast whether the damage is self-inflicted
-     * @param isFirstDebugExecution indicates if this method is being executed for the first time during this turn, while
-     *      the {@link edu.kit.kastel.logistics.Competition} is being debugged
-     * @return the result of the damage operation containing possible message
+     * @return the result of the damage operation carrying the event to display
      */
-    public Result dealDamage(int damage, boolean isSelfCast, boolean isFirstDebugExecution) {
-        Result inflictDMGResult = this.healthPoints.inflictDamage(damage, isSelfCast, isFirstDebugExecution);
-        this.isDead = inflictDMGResult.getType() == ResultType.FAILURE;
-        return Result.success(inflictDMGResult.getMessage());
+    public Result dealDamage(int damage, boolean isSelfCast) {
+        Result inflictDMGResult = this.healthPoints.inflictDamage(damage, isSelfCast);
+        this.state.setDead(this.slot, inflictDMGResult.getType() == ResultType.FAILURE);
+        return Result.success(inflictDMGResult.getEvents(), BattleEventRenderer.CONSOLE);
+    }
+    /**
+     * Deals damage to the monster without creating a message.
+     * @param damage the amount of damage
+     * @param isSelfCast whether the damage is self-inflicted
+     * @return true if the damage was dealt, false if the monster is protected against it
+     */
+    public boolean dealDamageSilently(int damage, boolean isSelfCast) {
+        boolean isInflicted = this.healthPoints.inflictDamageSilently(damage, isSelfCast);
+        this.state.setDead(this.slot, isInflicted && this.healthPoints.isDepleted());
+        return isInflicted;
+    }
+    /**
+     * Heals the monster by a specified value without creating a message.
+     * @param value the amount of healing
+     */
+    public void healSilently(int value) {
+        this.healthPoints.healSilently(value);
     }
     /**
      * Heals the monster by a specified value.
      * @param value the amount to heal
-     * @param isFirstDebugExecution indicates if this method is being executed for the first time during this turn, while
-     *        the {@link edu.kit.kastel.logistics.Competition} is being debugged
-     * @return the result of the healing operation with a possible message
+     * @return the result of the healing operation carrying the event to display
      */
-    public Result healHP(int value, boolean isFirstDebugExecution) {
-        return this.healthPoints.heal(value, isFirstDebugExecution);
+    public Result healHP(int value) {
+        return this.healthPoints.heal(value);
 
     }
     /**
@@ -193,70 +255,84 @@ public int getBaseHPValue() {
     /**
      * Protects the monster's statistics for a given duration.
      * @param duration the duration of protection
-     * @return the result of the protection operation containing a possible message
+     * @return the result of the protection operation carrying the event to display
      */
     public Result protectHP(int duration) {
         unprotect();
-        this.protectionDuration = duration + EXTRA_ROUND_DURATION_FOR_SUBTRACTION;
+        this.state.setProtectionDuration(this.slot, duration + EXTRA_ROUND_DURATION_FOR_SUBTRACTION);
         return this.healthPoints.protect();
     }
     /**
      * Protects the monster's statistics for a given duration.
      * @param duration the duration of protection
-     * @return the result of the protection operation containing a message
+     * @return the result of the protection operation carrying the event to display
      */
     public Result protectStats(int duration) {
         unprotect();
-        this.protectionDuration = duration + EXTRA_ROUND_DURATION_FOR_SUBTRACTION;
-        for (StatisticOfMonster stat : StatisticOfMonster.values()) {
-            this.statistics.get(stat).protect();
-        }
-        return Result.success(STAT_SET_PROTECTED_MESSAGE.formatted(this.getName()));
+        this.state.setProtectionDuration(this.slot, duration + EXTRA_ROUND_DURATION_FOR_SUBTRACTION);
+        this.state.setStatisticsProtected(this.slot, true);
+        return Result.success(new BattleEvent.StatisticsProtected(this.getName()));
     }
     /**
      * Removes protection from health points and statistics.
      */
     public void unprotect() {
-        for (StatisticOfMonster stat : StatisticOfMonster.values()) {
-            this.statistics.get(stat).unprotect();
-        }
+        this.state.setStatisticsProtected(this.slot, false);
         this.healthPoints.unprotect();
     }
     /**
      * Sets the monster's status condition if monster doesn't have any.
      * @param conditionToSet the status condition to apply
-     * @return the result of the operation with a possible message
+     * @return the result of the operation carrying the event to display, if the condition was set
      */
     public Result setStatusCondition(StatusCondition conditionToSet) {
-        if (this.statusCondition.equals(StatusCondition.OK)) {
-            this.statusCondition = conditionToSet;
-            return Result.success(conditionToSet.getGetsStatusMessage().formatted(this.getName()));
+        if (getMonsterStatus().equals(StatusCondition.OK)) {
+            this.state.setStatusCondition(this.slot, conditionToSet);
+            return Result.success(new BattleEvent.StatusInflicted(this.getName(), conditionToSet));
         }
         return Result.success();
     }
     /**
      * Attempts to end the monster's current status condition based on a random chance.
      * @param randomizer the randomizer used to determine success
-     * @return the result of the status condition check containing a possible message
+     * @return the result of the status condition check carrying the event to display, if the monster has one
      */
     public Result tryEndStatCondition(Randomizer randomizer) {
-        if (this.statusCondition != StatusCondition.OK) {
-            StatusCondition previousCondition = this.statusCondition;
+        StatusCondition previousCondition = getMonsterStatus();
+        if (previousCondition != StatusCondition.OK) {
             Optional<Boolean> possibleSuccessIndicator = randomizer.getSuccessOrFail(END_CONDITION_CHANCE);
             if (possibleSuccessIndicator.isEmpty()) {
-                randomizer.setFirstBooleanForEndCondition();
                 return Result.needsDebug(DebugType.BOOLEAN, DEBUG_STATE_CHECK_NAME
-                        .formatted(this.statusCondition.toString().toLowerCase()));
+                        .formatted(previousCondition.toString().toLowerCase()));
             } else {
-                this.statusCondition = possibleSuccessIndicator.get() ? StatusCondition.OK : this.statusCondition;
-                return Result.success(this.statusCondition == StatusCondition.OK
-                        ? previousCondition.getLosesStatusMessage().formatted(this.getName())
-                        : previousCondition.getHasStatusMessage().formatted(this.getName()));
+                if (possibleSuccessIndicator.get()) {
+                    this.state.setStatusCondition(this.slot, StatusCondition.OK);
+                }
+                return Result.success(possibleSuccessIndicator.get()
+                        ? new BattleEvent.StatusEnded(this.getName(), previousCondition)
+                        : new BattleEvent.StatusPersisted(this.getName(), previousCondition));
             }
         }
-        randomizer.skipFirstBooleanValue();
         return Result.failed();
     }
+    /**
+     * Attempts to end the monster's current status condition without creating a result, drawing the same value as
+     * {@link #tryEndStatCondition(Randomizer)} does outside the debug mode.
+     * @param randomizer the randomizer used to determine success, not in debug mode
+     * @param events the buffer to record whether the status condition ended into, if the monster has one
+     */
+    public void tryEndStatConditionSilently(Randomizer randomizer, BattleEventBuffer events) {
+        StatusCondition previousCondition = getMonsterStatus();
+        if (previousCondition == StatusCondition.OK) {
+            return;
+        }
+        boolean isEnded = randomizer.nextSuccess(END_CONDITION_CHANCE);
+        if (isEnded) {
+            this.state.setStatusCondition(this.slot, StatusCondition.OK);
+        }
+        events.add(isEnded ? BattleEventType.STATUS_ENDED : BattleEventType.STATUS_PERSISTED, this.slot,
+                previousCondition.ordinal());
+    }
     /**
      * Gets a string to format to show the info of this monster.
      * @return a string to be formatted with all needed info for a show command
@@ -273,30 +349,22 @@ public String getName() {
         return this.name + (monsterNumber > NO_NUMBER_ASSIGNED ? MONSTER_NUMBER_PREFIX + this.monsterNumber : "");
     }
     /**
-     * Updates the monster's number and creates a copy of it.
+     * Gets the slot of this monster in its battle state.
+     * @return the index of the slot holding the values of this monster
+     */
+    public int getSlot() {
+        return this.slot;
+    }
+    /**
+     * Updates the monster's number, which becomes part of its name.
      * @param number the new monster number
-     * @return a copy of the updated monster
      */
-    public Monster updateMonsterNumberAndCopy(int number) {
+    public void updateMonsterNumber(int number) {
         this.monsterNumber = number;
         this.healthPoints.updateMonsterName(getName());
         for (StatisticOfMonster stat : StatisticOfMonster.values()) {
             this.statistics.get(stat).updateMonsterName(getName());
         }
-        return this.copy();
-    }
-    /**
-     * Adds a new valid action to the monster.
-     * @param newAction the action to add
-     * @return true if the action was added, false otherwise
-     */
-    public boolean addAction(Action newAction) {
-        if (newAction == null || this.actionNames.contains(newAction.getName())) {
-            return false;
-        }
-        this.actionNames.add(newAction.getName());
-        this.actions.put(newAction.getName(), newAction.copy());
-        return true;
     }
     /**
      * Returns a formatted string representing the monster's basic information.
@@ -338,23 +406,25 @@ public String getShowStatsInfo() {
     }
     /**
      * Advances the monster to the next round, updating protections.
-     * @return the result of the round advancement containing possible message
+     * @return the result of the round advancement carrying the event to display, if the protection faded
      */
     public Result nextRound() {
-        if (this.protectionDuration > NO_PROTECTION_LEFT) {
-            this.protectionDuration -= DECREMENT_DURATION;
-            if (this.protectionDuration == NO_PROTECTION_LEFT) {
+        int protectionDuration = this.state.getProtectionDuration(this.slot);
+        if (protectionDuration > NO_PROTECTION_LEFT) {
+            protectionDuration -= DECREMENT_DURATION;
+            this.state.setProtectionDuration(this.slot, protectionDuration);
+            if (protectionDuration == NO_PROTECTION_LEFT) {
                 unprotect();
-                return Result.success(STAT_SET_UNPROTECTED_MESSAGE.formatted(this.getName()));
+                return Result.success(new BattleEvent.ProtectionFaded(this.getName()));
             }
         }
         return Result.success();
     }
     /**
-     * Creates a copy of the current monster.
+     * Creates a copy of the current monster with a battle state of its own.
      * @return a new Monster object identical to this one
      */
     public Monster copy() {
-        return new Monster(this);
+        return bindTo(new BattleState(SINGLE_MONSTER_STATE_SIZE), SINGLE_MONSTER_SLOT);
     }
 }
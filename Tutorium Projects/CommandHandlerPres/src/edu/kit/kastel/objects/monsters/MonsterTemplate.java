@@ -0,0 +1,44 @@
+package edu.kit.kastel.objects.monsters;
+
+import edu.kit.kastel.objects.Element;
+import edu.kit.kastel.objects.actions.ActionTemplate;
+
+import java.util.List;
+
+/**
+ * Record class representing the immutable definition of a monster as written in a config. It can be shared freely,
+ * every competition works on its own {@link Monster} instances created by {@link #instantiate()}.
+ * @param name the name of the monster
+ * @param element the elemental type of the monster
+ * @param healthPoints the initial health points
+ * @param attack the attack statistic
+ * @param defence the defense statistic
+ * @param speed the speed statistic
+ * @param actions the actions of the monster in the order they were defined
+ * @author upgcv
+ */
+public record MonsterTemplate(String name, Element element, int healthPoints, int attack, int defence, int speed,
+                              List<ActionTemplate> actions) {
+
+    /**
+     * Constructs a new MonsterTemplate, the list of actions is copied.
+     * @param name the name of the monster
+     * @param element the elemental type of the monster
+     * @param healthPoints the initial health points
+     * @param attack the attack statistic
+     * @param defence the defense statistic
+     * @param speed the speed statistic
+     * @param actions the actions of the monster in the order they were defined
+     */
+    public MonsterTemplate {
+        actions = List.copyOf(actions);
+    }
+
+    /**
+     * Creates a new monster of this definition with full health and no changed statistics.
+     * @return a new monster ready to enter a competition
+     */
+    public Monster instantiate() {
+        return new Monster(this);
+    }
+}
@@ -0,0 +1,36 @@
+package edu.kit.kastel.objects.monsters;
+
+/**
+ * Represents the fields of a slot of a {@link BattleState} that take part in its Zobrist hash, see
+ * {@link ZobristKeys}. The cached effective values of the statistics are left out, as they only depend on the others.
+ * @author upgcv
+ */
+enum ZobristField {
+
+    /** Current health points of the monster. */
+    HEALTH_POINTS,
+
+    /** Base health points of the monster. */
+    BASE_HEALTH_POINTS,
+
+    /** Base value of one statistic of the monster. */
+    BASE_STATISTIC,
+
+    /** Offset of one statistic of the monster. */
+    STATISTIC_OFFSET,
+
+    /** Number of rounds the protection of the monster lasts. */
+    PROTECTION_DURATION,
+
+    /** Whether the health points of the monster are protected. */
+    HEALTH_PROTECTED,
+
+    /** Whether the statistics of the monster are protected. */
+    STATISTICS_PROTECTED,
+
+    /** Whether the monster has fainted. */
+    DEAD,
+
+    /** Status condition of the monster. */
+    STATUS_CONDITION
+}
@@ -0,0 +1,55 @@
+package edu.kit.kastel.objects.monsters;
+
+/**
+ * Utility class providing the keys of the Zobrist hash of a {@link BattleState}. Every value of every field of every
+ * slot has its own pseudo-random 64-bit key and the hash of a state is the exclusive or of the keys of all its values,
+ * so a change of a single value updates the hash by two exclusive ors. Health points are not bounded, so the keys are
+ * not stored in a table, but derived from the field and the value by the mixing function of a splittable generator.
+ * The keys are fixed, so equal states have equal hashes in every run.
+ * @author upgcv
+ */
+final class ZobristKeys {
+    private static final long SEED = 0x5DEECE66DL;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long FIRST_MIX_MULTIPLIER = 0xBF58476D1CE4E5B9L;
+    private static final long SECOND_MIX_MULTIPLIER = 0x94D049BB133111EBL;
+    private static final int FIRST_MIX_SHIFT = 30;
+    private static final int SECOND_MIX_SHIFT = 27;
+    private static final int FINAL_MIX_SHIFT = 31;
+    private static final int FIELD_OFFSET = 1;
+
+    private ZobristKeys() {
+        //Utility class
+    }
+
+    /**
+     * Gets the key of a value of a field of a slot.
+     * @param slot the slot of the monster
+     * @param field the field of the slot
+     * @param value the value of the field
+     * @return the pseudo-random key
+     */
+    static long keyOf(int slot, ZobristField field, long value) {
+        long fieldIndex = (long) slot * ZobristField.values().length + field.ordinal() + FIELD_OFFSET;
+        return mix(mix(SEED + fieldIndex * GOLDEN_GAMMA) + value * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Gets the key of a value of a statistic of a slot.
+     * @param slot the slot of the monster
+     * @param field the field of the slot, one per statistic
+     * @param statistic the statistic of the value
+     * @param value the value of the statistic
+     * @return the pseudo-random key
+     */
+    static long keyOf(int slot, ZobristField field, StatisticOfMonster statistic, long value) {
+        return keyOf(slot, field, mix(statistic.ordinal() + FIELD_OFFSET) ^ value);
+    }
+
+    //the finalizer of SplittableRandom, spreading every input bit over the whole output
+    private static long mix(long value) {
+        long mixed = (value ^ (value >>> FIRST_MIX_SHIFT)) * FIRST_MIX_MULTIPLIER;
+        mixed = (mixed ^ (mixed >>> SECOND_MIX_SHIFT)) * SECOND_MIX_MULTIPLIER;
+        return mixed ^ (mixed >>> FINAL_MIX_SHIFT);
+    }
+}
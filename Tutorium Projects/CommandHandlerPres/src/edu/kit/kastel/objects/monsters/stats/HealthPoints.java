@@ -1,10 +1,12 @@
 package edu.kit.kastel.objects.monsters.stats;
 
 import edu.kit.kastel.commands.Result;
+import edu.kit.kastel.logistics.events.BattleEvent;
+import edu.kit.kastel.objects.monsters.BattleState;
 
 /**
  * The {@code HealthPoints} class represents the health points (HP) of a monster, including its base value,
- * current value, and protection status against damage.
+ * current value, and protection status against damage. The values are stored in a slot of a {@link BattleState}.
  *
  * @author upgcv
  */
@@ -13,37 +15,25 @@ public class HealthPoints {
     private static final String LAST_SIGN_OF_HP_BOX = "]";
     private static final String HP_BOX_HP_SIGN = "X";
     private static final String HP_BOX_NO_HP_SIGN = "_";
-    private static final String HP_IS_PROTECTED_MESSAGE = "%s is protected and takes no damage!";
-    private static final String HP_SET_PROTECTED_MESSAGE = "%s is now protected against damage!";
-    private static final String TOOK_DMG_MESSAGE = "%s takes %d damage!";
-    private static final String HEALED_DMG_MESSAGE = "%s gains back %d health!";
     private static final int START_CYCLE_POINT = 0;
     private static final int BOTTOM_HP_BORDER = 0;
     private static final double MAX_HP_DOTS_NUMBER = 20.0;
 
-    private final int baseValue;
+    private final BattleState state;
+    private final int slot;
     private String monsterName;
-    private int value;
-    private boolean isProtected;
 
     /**
-     * Constructs a new {@code HealthPoints} object with the given HP value and monster name.
+     * Constructs a new {@code HealthPoints} object on the given slot of a battle state.
      *
-     * @param value       The base HP value of the monster.
+     * @param state       The battle state holding the values.
+     * @param slot        The slot of the monster in the battle state.
      * @param monsterName The name of the monster.
      */
-    public HealthPoints(int value, String monsterName) {
+    public HealthPoints(BattleState state, int slot, String monsterName) {
+        this.state = state;
+        this.slot = slot;
         this.monsterName = monsterName;
-        this.baseValue = value;
-        this.isProtected = false;
-        this.value = this.baseValue;
-    }
-
-    private HealthPoints(HealthPoints oldHP) {
-        this.baseValue = oldHP.baseValue;
-        this.monsterName = oldHP.monsterName;
-        this.value = oldHP.value;
-        this.isProtected = oldHP.isProtected;
     }
 
     /**
@@ -58,18 +48,18 @@ public void updateMonsterName(String newName) {
     /**
      * Protects the monster from taking damage.
      *
-     * @return A success result indicating that the monster is now protected. Can contain a message do display
+     * @return A success result indicating that the monster is now protected, carrying the event to display
      */
     public Result protect() {
-        this.isProtected = true;
-        return Result.success(HP_SET_PROTECTED_MESSAGE.formatted(this.monsterName));
+        this.state.setHealthProtected(this.slot, true);
+        return Result.success(new BattleEvent.HealthProtected(this.monsterName));
     }
 
     /**
      * Removes the protection from the monster, making it vulnerable to damage again.
      */
     public void unprotect() {
-        this.isProtected = false;
+        this.state.setHealthProtected(this.slot, false);
     }
 
     /**
@@ -78,7 +68,7 @@ public void unprotect() {
      * @return The base HP value.
      */
     public int getBaseValue() {
-        return this.baseValue;
+        return this.state.getBaseHealthPoints(this.slot);
     }
 
     /**
@@ -87,45 +77,69 @@ public int getBaseValue() {
      * @return The current HP value, that doesn't go below 0
      */
     public int getHPValue() {
-        return Math.max(this.value, BOTTOM_HP_BORDER);
+        return Math.max(this.state.getHealthPoints(this.slot), BOTTOM_HP_BORDER);
     }
 
 
     /**
      * Inflicts damage on the HP.
      *
-     * @param value                 The amount of damage to be inflicted.
-     * @param isSelfCast            {@code true} if the damage is self-inflicted, {@code false} otherwise.
-     * @param isFirstDebugExecution indicates if this method is being executed for the first time during this turn, while
-     *                              the {@link edu.kit.kastel.logistics.Competition} is being debugged
+     * @param value      The amount of damage to be inflicted.
+     * @param isSelfCast {@code true} if the damage is self-inflicted, {@code false} otherwise.
      * @return A result indicating success or failure, depending on whether the monster faints.
-     *      Can contain a message to display
+     *      Carries the event to display
      */
-    public Result inflictDamage(int value, boolean isSelfCast, boolean isFirstDebugExecution) {
-        if (this.isProtected && !isSelfCast) {
-            return Result.success(HP_IS_PROTECTED_MESSAGE.formatted(this.monsterName));
-        } else if (isFirstDebugExecution) {
-            this.value -= value;
-            if (this.value <= BOTTOM_HP_BORDER) {
-                return Result.failed(TOOK_DMG_MESSAGE.formatted(this.monsterName, value));
-            }
+    public Result inflictDamage(int value, boolean isSelfCast) {
+        if (!inflictDamageSilently(value, isSelfCast)) {
+            return Result.success(new BattleEvent.DamageBlocked(this.monsterName));
+        } else if (isDepleted()) {
+            return Result.failed(new BattleEvent.DamageDealt(this.monsterName, value));
         }
-        return Result.success(TOOK_DMG_MESSAGE.formatted(this.monsterName, value));
+        return Result.success(new BattleEvent.DamageDealt(this.monsterName, value));
+    }
+
+    /**
+     * Inflicts damage on the HP without creating a message.
+     *
+     * @param value      The amount of damage to be inflicted.
+     * @param isSelfCast {@code true} if the damage is self-inflicted, {@code false} otherwise.
+     * @return {@code true} if the damage was inflicted, {@code false} if the HP are protected against it
+     */
+    public boolean inflictDamageSilently(int value, boolean isSelfCast) {
+        if (this.state.isHealthProtected(this.slot) && !isSelfCast) {
+            return false;
+        }
+        this.state.setHealthPoints(this.slot, this.state.getHealthPoints(this.slot) - value);
+        return true;
+    }
+
+    /**
+     * Checks if no HP are left.
+     *
+     * @return {@code true} if the current HP value reached 0, {@code false} otherwise
+     */
+    public boolean isDepleted() {
+        return this.state.getHealthPoints(this.slot) <= BOTTOM_HP_BORDER;
     }
 
     /**
      * Heals the monster by a specified amount.
      *
      * @param value The amount of HP to restore.
-     * @param isFirstDebugExecution indicates if this method is being executed for the first time during this turn, while
-     *                            the {@link edu.kit.kastel.logistics.Competition} is being debugged
-     * @return A success result indicating the amount of HP restored. Can contain a message to display
+     * @return A success result indicating the amount of HP restored, carrying the event to display
      */
-    public Result heal(int value, boolean isFirstDebugExecution) {
-        if (isFirstDebugExecution) {
-            this.value = Math.min(this.baseValue, this.value + value);
-        }
-        return Result.success(HEALED_DMG_MESSAGE.formatted(this.monsterName, value));
+    public Result heal(int value) {
+        healSilently(value);
+        return Result.success(new BattleEvent.Healed(this.monsterName, value));
+    }
+
+    /**
+     * Heals the monster by a specified amount without creating a message.
+     *
+     * @param value The amount of HP to restore.
+     */
+    public void healSilently(int value) {
+        this.state.setHealthPoints(this.slot, Math.min(getBaseValue(), this.state.getHealthPoints(this.slot) + value));
     }
 
     /**
@@ -135,7 +149,7 @@ public Result heal(int value, boolean isFirstDebugExecution) {
      */
     public String getHPBoxes() {
         String lineToOut = FIRST_SIGN_OF_HP_BOX;
-        int numberOfHPDots = (int) Math.ceil(MAX_HP_DOTS_NUMBER * this.value / this.baseValue);
+        int numberOfHPDots = (int) Math.ceil(MAX_HP_DOTS_NUMBER * this.state.getHealthPoints(this.slot) / getBaseValue());
         for (int i = START_CYCLE_POINT; i < numberOfHPDots; i++) {
             lineToOut = lineToOut.concat(HP_BOX_HP_SIGN);
         }
@@ -145,15 +159,6 @@ public String getHPBoxes() {
         lineToOut += LAST_SIGN_OF_HP_BOX;
         return lineToOut;
     }
-
-    /**
-     * Creates a deep copy of this {@code HealthPoints} object.
-     *
-     * @return A new {@code HealthPoints} instance with the same values.
-     */
-    public HealthPoints copy() {
-        return new HealthPoints(this);
-    }
 }
 
 